@@ -7,11 +7,13 @@ import io.aiven.klaw.clusterapi.models.ClusterTopicRequest;
 import io.aiven.klaw.clusterapi.models.OffsetDetails;
 import io.aiven.klaw.clusterapi.models.ServiceAccountDetails;
 import io.aiven.klaw.clusterapi.models.TopicConfig;
+import io.aiven.klaw.clusterapi.models.TopicsPage;
 import io.aiven.klaw.clusterapi.models.enums.AclType;
 import io.aiven.klaw.clusterapi.models.enums.AclsNativeType;
 import io.aiven.klaw.clusterapi.models.enums.ApiResultStatus;
 import io.aiven.klaw.clusterapi.models.enums.ClusterStatus;
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
+import io.aiven.klaw.clusterapi.models.enums.RequestOperationType;
 import io.aiven.klaw.clusterapi.services.AivenApiService;
 import io.aiven.klaw.clusterapi.services.ApacheKafkaAclService;
 import io.aiven.klaw.clusterapi.services.ApacheKafkaTopicService;
@@ -20,7 +22,9 @@ import io.aiven.klaw.clusterapi.services.MonitoringService;
 import io.aiven.klaw.clusterapi.services.SchemaService;
 import io.aiven.klaw.clusterapi.services.UtilComponentsService;
 import jakarta.validation.Valid;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -34,6 +38,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -109,6 +114,51 @@ public class ClusterApiController {
     return new ResponseEntity<>(topics, HttpStatus.OK);
   }
 
+  @RequestMapping(
+      value =
+          "/getTopicsPage/{bootstrapServers}/{protocol}/{clusterName}/topicsNativeType/{aclsNativeType}",
+      method = RequestMethod.GET,
+      produces = {MediaType.APPLICATION_JSON_VALUE})
+  public ResponseEntity<?> getTopicsPage(
+      @PathVariable String bootstrapServers,
+      @Valid @PathVariable KafkaSupportedProtocol protocol,
+      @PathVariable String clusterName,
+      @PathVariable String aclsNativeType,
+      @RequestParam(value = "topicNamePrefix", required = false) String topicNamePrefix,
+      @RequestParam(value = "topicNamePattern", required = false) String topicNamePattern,
+      @RequestParam(value = "pageToken", required = false) String pageToken,
+      @RequestParam(value = "pageSize", defaultValue = "1000") int pageSize)
+      throws Exception {
+    TopicsPage topicsPage;
+    try {
+      if (AclsNativeType.CONFLUENT_CLOUD.name().equals(aclsNativeType)) {
+        topicsPage =
+            ApacheKafkaTopicService.getTopicsPage(
+                confluentCloudApiService.listTopics(bootstrapServers, protocol, clusterName),
+                topicNamePrefix,
+                topicNamePattern,
+                pageToken,
+                pageSize);
+      } else {
+        topicsPage =
+            apacheKafkaTopicService.loadTopicsPage(
+                bootstrapServers,
+                protocol,
+                clusterName,
+                topicNamePrefix,
+                topicNamePattern,
+                pageToken,
+                pageSize);
+      }
+    } catch (IllegalArgumentException e) {
+      log.error("Invalid topics page request: {}", e.getMessage());
+      return new ResponseEntity<>(
+          ApiResponse.builder().success(false).message(e.getMessage()).build(),
+          HttpStatus.BAD_REQUEST);
+    }
+    return new ResponseEntity<>(topicsPage, HttpStatus.OK);
+  }
+
   @RequestMapping(
       value =
           "/getAcls/{bootstrapServers}/{aclsNativeType}/{protocol}/{clusterName}/{projectName}/{serviceName}",
@@ -251,6 +301,40 @@ public class ClusterApiController {
     }
   }
 
+  @PostMapping(value = "/createTopics/batch")
+  public ResponseEntity<ApiResponse> createTopicsBatch(
+      @RequestBody @Valid List<ClusterTopicRequest> clusterTopicRequests) {
+    try {
+      log.info("createTopicsBatch {} topics", clusterTopicRequests.size());
+      Map<String, String> results;
+      if (isConfluentCloud(clusterTopicRequests)) {
+        results = callPerTopic(clusterTopicRequests, confluentCloudApiService::createTopic);
+      } else {
+        results = apacheKafkaTopicService.createTopics(clusterTopicRequests);
+      }
+      return new ResponseEntity<>(getBatchResponse(results), HttpStatus.OK);
+    } catch (Exception e) {
+      return handleException(e);
+    }
+  }
+
+  @PostMapping(value = "/deleteTopics/batch")
+  public ResponseEntity<ApiResponse> deleteTopicsBatch(
+      @RequestBody @Valid List<ClusterTopicRequest> clusterTopicRequests) {
+    try {
+      log.info("deleteTopicsBatch {} topics", clusterTopicRequests.size());
+      Map<String, String> results;
+      if (isConfluentCloud(clusterTopicRequests)) {
+        results = callPerTopic(clusterTopicRequests, confluentCloudApiService::deleteTopic);
+      } else {
+        results = apacheKafkaTopicService.deleteTopics(clusterTopicRequests);
+      }
+      return new ResponseEntity<>(getBatchResponse(results), HttpStatus.OK);
+    } catch (Exception e) {
+      return handleException(e);
+    }
+  }
+
   @PostMapping(value = "/createAcls")
   public ResponseEntity<ApiResponse> createAcls(
       @RequestBody @Valid ClusterAclRequest clusterAclRequest) {
@@ -354,6 +438,53 @@ public class ClusterApiController {
         HttpStatus.INTERNAL_SERVER_ERROR);
   }
 
+  /**
+   * Creates and deletes the acls of several requests of one cluster. Data of the response holds the
+   * result of each request, in the order of the requests. Aiven acls are not supported, as their
+   * results carry the id of each acl.
+   */
+  @PostMapping(value = "/acls/batch")
+  public ResponseEntity<ApiResponse> updateAclsBatch(
+      @RequestBody @Valid List<ClusterAclRequest> clusterAclRequests) {
+    try {
+      log.info("updateAclsBatch {} requests", clusterAclRequests.size());
+      String aclNativeType =
+          clusterAclRequests.isEmpty()
+              ? AclsNativeType.NATIVE.name()
+              : clusterAclRequests.get(0).getAclNativeType();
+      if (clusterAclRequests.stream()
+          .anyMatch(request -> !aclNativeType.equals(request.getAclNativeType()))) {
+        throw new Exception("Acl requests of a batch must be on the same cluster.");
+      }
+
+      List<String> results;
+      if (AclsNativeType.NATIVE.name().equals(aclNativeType)) {
+        results = apacheKafkaAclService.updateAcls(clusterAclRequests);
+      } else if (AclsNativeType.CONFLUENT_CLOUD.name().equals(aclNativeType)) {
+        results = updateConfluentCloudAcls(clusterAclRequests);
+      } else {
+        return new ResponseEntity<>(
+            ApiResponse.builder().success(false).message("Not a valid request").build(),
+            HttpStatus.INTERNAL_SERVER_ERROR);
+      }
+
+      long failures =
+          results.stream().filter(r -> !ApiResultStatus.SUCCESS.value.equals(r)).count();
+      return new ResponseEntity<>(
+          ApiResponse.builder()
+              .success(failures == 0)
+              .message(
+                  failures == 0
+                      ? ApiResultStatus.SUCCESS.value
+                      : failures + " of " + results.size() + " acl requests failed.")
+              .data(results)
+              .build(),
+          HttpStatus.OK);
+    } catch (Exception e) {
+      return handleException(e);
+    }
+  }
+
   /**
    * Register a schema on schema registry. If force register is enabled - Get subject compatibility
    * - Set subject compatibility to NONE, if it's not NONE or NOT SET - Register schema - If subject
@@ -388,6 +519,66 @@ public class ClusterApiController {
     }
   }
 
+  private static boolean isConfluentCloud(List<ClusterTopicRequest> clusterTopicRequests) {
+    return !clusterTopicRequests.isEmpty()
+        && AclsNativeType.CONFLUENT_CLOUD == clusterTopicRequests.get(0).getAclsNativeType();
+  }
+
+  // confluent cloud has no batch api, its topics are executed one by one
+  private static Map<String, String> callPerTopic(
+      List<ClusterTopicRequest> clusterTopicRequests, TopicOperation topicOperation) {
+    Map<String, String> results = new LinkedHashMap<>();
+    for (ClusterTopicRequest clusterTopicRequest : clusterTopicRequests) {
+      String result;
+      try {
+        result = topicOperation.execute(clusterTopicRequest).getMessage();
+      } catch (Exception e) {
+        log.error("Exception:", e);
+        result = e.getMessage();
+      }
+      results.put(clusterTopicRequest.getTopicName(), result);
+    }
+    return results;
+  }
+
+  // confluent cloud has no batch api, its acls are executed one by one
+  private List<String> updateConfluentCloudAcls(List<ClusterAclRequest> clusterAclRequests) {
+    List<String> results = new ArrayList<>();
+    for (ClusterAclRequest clusterAclRequest : clusterAclRequests) {
+      String result;
+      try {
+        if (RequestOperationType.CREATE == clusterAclRequest.getRequestOperationType()) {
+          result = confluentCloudApiService.createAcls(clusterAclRequest).get("result");
+        } else {
+          result = confluentCloudApiService.deleteAcls(clusterAclRequest);
+        }
+      } catch (Exception e) {
+        log.error("Exception:", e);
+        result = e.getMessage();
+      }
+      results.add(result);
+    }
+    return results;
+  }
+
+  // data of the response holds the result of each topic by topic name
+  private static ApiResponse getBatchResponse(Map<String, String> results) {
+    long failures =
+        results.values().stream().filter(r -> !ApiResultStatus.SUCCESS.value.equals(r)).count();
+    return ApiResponse.builder()
+        .success(failures == 0)
+        .message(
+            failures == 0
+                ? ApiResultStatus.SUCCESS.value
+                : failures + " of " + results.size() + " topics failed.")
+        .data(results)
+        .build();
+  }
+
+  private interface TopicOperation {
+    ApiResponse execute(ClusterTopicRequest clusterTopicRequest) throws Exception;
+  }
+
   private static ResponseEntity<ApiResponse> handleException(Exception e) {
     log.error("Exception:", e);
     return new ResponseEntity<>(
@@ -0,0 +1,25 @@
+package io.aiven.klaw.clusterapi.models;
+
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class AdminClientStatus {
+  private String key;
+
+  private String state;
+
+  private int consecutiveFailures;
+
+  private String lastError;
+
+  private Instant createdTime;
+
+  private Instant lastUsedTime;
+
+  private Instant lastCheckTime;
+
+  private Instant nextReconnectTime;
+}
@@ -0,0 +1,18 @@
+package io.aiven.klaw.clusterapi.models;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TopicsPage {
+  private List<TopicConfig> topics;
+
+  // null on the last page
+  private String nextPageToken;
+}
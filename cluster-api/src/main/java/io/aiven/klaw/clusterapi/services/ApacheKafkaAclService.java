@@ -3,22 +3,29 @@ package io.aiven.klaw.clusterapi.services;
 import io.aiven.klaw.clusterapi.models.ClusterAclRequest;
 import io.aiven.klaw.clusterapi.models.enums.AclIPPrincipleType;
 import io.aiven.klaw.clusterapi.models.enums.AclPatternType;
+import io.aiven.klaw.clusterapi.models.enums.AclType;
 import io.aiven.klaw.clusterapi.models.enums.ApiResultStatus;
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
 import io.aiven.klaw.clusterapi.models.enums.RequestOperationType;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationBulkhead;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.DescribeAclsResult;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.acl.AccessControlEntry;
 import org.apache.kafka.common.acl.AccessControlEntryFilter;
 import org.apache.kafka.common.acl.AclBinding;
@@ -37,13 +44,26 @@ public class ApacheKafkaAclService {
 
   private static final long TIME_OUT_SECS_FOR_ACLS = 5;
 
+  private static final long TIME_OUT_SECS_FOR_ACL_BATCH = 30;
+
   private final ClusterApiUtils clusterApiUtils;
 
-  public ApacheKafkaAclService(ClusterApiUtils clusterApiUtils) {
+  private final ClusterOperationBulkhead clusterOperationBulkhead;
+
+  public ApacheKafkaAclService(
+      ClusterApiUtils clusterApiUtils, ClusterOperationBulkhead clusterOperationBulkhead) {
     this.clusterApiUtils = clusterApiUtils;
+    this.clusterOperationBulkhead = clusterOperationBulkhead;
+  }
+
+  // reads only, loads of different clusters run in parallel
+  public Set<Map<String, String>> loadAcls(
+      String environment, KafkaSupportedProtocol protocol, String clusterName) throws Exception {
+    return clusterOperationBulkhead.call(
+        environment, () -> loadAclsOfCluster(environment, protocol, clusterName));
   }
 
-  public synchronized Set<Map<String, String>> loadAcls(
+  private Set<Map<String, String>> loadAclsOfCluster(
       String environment, KafkaSupportedProtocol protocol, String clusterName) throws Exception {
     log.info("loadAcls {} {}", environment, protocol);
     Set<Map<String, String>> acls = new HashSet<>();
@@ -89,7 +109,191 @@ public class ApacheKafkaAclService {
     }
   }
 
-  public synchronized String updateProducerAcl(ClusterAclRequest clusterAclRequest) {
+  /**
+   * Applies the acl requests of one cluster. The bindings of all requests are diffed against the
+   * acls of the cluster, read with a single describeAcls call, and applied with a single createAcls
+   * and a single deleteAcls call. Existing bindings are not created again and missing bindings are
+   * not deleted. When requests of a batch create and delete the same binding, the last one wins.
+   *
+   * @return result of each request in the order of the requests, {@link ApiResultStatus#SUCCESS} or
+   *     the error
+   */
+  public List<String> updateAcls(List<ClusterAclRequest> clusterAclRequests) throws Exception {
+    if (clusterAclRequests.isEmpty()) {
+      return new ArrayList<>();
+    }
+    return clusterOperationBulkhead.call(
+        clusterAclRequests.get(0).getEnv(), () -> updateAclsOnCluster(clusterAclRequests));
+  }
+
+  private List<String> updateAclsOnCluster(List<ClusterAclRequest> clusterAclRequests)
+      throws Exception {
+    ClusterAclRequest clusterRequest = clusterAclRequests.get(0);
+    log.info("updateAcls {} requests on {}", clusterAclRequests.size(), clusterRequest.getEnv());
+    for (ClusterAclRequest clusterAclRequest : clusterAclRequests) {
+      if (!Objects.equals(clusterRequest.getEnv(), clusterAclRequest.getEnv())
+          || !Objects.equals(clusterRequest.getClusterName(), clusterAclRequest.getClusterName())
+          || clusterRequest.getProtocol() != clusterAclRequest.getProtocol()) {
+        throw new Exception("Acl requests of a batch must be on the same cluster.");
+      }
+    }
+    AdminClient client =
+        clusterApiUtils.getAdminClient(
+            clusterRequest.getEnv(), clusterRequest.getProtocol(), clusterRequest.getClusterName());
+    if (client == null) {
+      throw new Exception("Cannot connect to cluster.");
+    }
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIME_OUT_SECS_FOR_ACL_BATCH);
+    Set<AclBinding> existingBindings =
+        new HashSet<>(
+            client
+                .describeAcls(AclBindingFilter.ANY)
+                .values()
+                .get(remainingNanos(deadline), TimeUnit.NANOSECONDS));
+
+    List<Set<AclBinding>> bindingsOfRequests = new ArrayList<>();
+    Map<AclBinding, RequestOperationType> operations = new LinkedHashMap<>();
+    for (ClusterAclRequest clusterAclRequest : clusterAclRequests) {
+      Set<AclBinding> aclBindings = getAclBindings(clusterAclRequest);
+      bindingsOfRequests.add(aclBindings);
+      for (AclBinding aclBinding : aclBindings) {
+        operations.put(aclBinding, clusterAclRequest.getRequestOperationType());
+      }
+    }
+
+    List<AclBinding> bindingsToCreate = new ArrayList<>();
+    Map<AclBindingFilter, AclBinding> bindingsToDelete = new LinkedHashMap<>();
+    operations.forEach(
+        (aclBinding, operation) -> {
+          boolean exists = existingBindings.contains(aclBinding);
+          if (RequestOperationType.CREATE == operation && !exists) {
+            bindingsToCreate.add(aclBinding);
+          } else if (RequestOperationType.DELETE == operation && exists) {
+            bindingsToDelete.put(aclBinding.toFilter(), aclBinding);
+          }
+        });
+
+    Map<AclBinding, String> errors = new HashMap<>();
+    if (!bindingsToCreate.isEmpty()) {
+      client
+          .createAcls(bindingsToCreate)
+          .values()
+          .forEach((aclBinding, result) -> awaitAcl(aclBinding, result, deadline, errors));
+    }
+    if (!bindingsToDelete.isEmpty()) {
+      client
+          .deleteAcls(bindingsToDelete.keySet())
+          .values()
+          .forEach(
+              (filter, result) -> awaitAcl(bindingsToDelete.get(filter), result, deadline, errors));
+    }
+
+    List<String> results = new ArrayList<>();
+    for (Set<AclBinding> aclBindings : bindingsOfRequests) {
+      if (aclBindings.isEmpty()) {
+        results.add(ApiResultStatus.FAILURE.value);
+        continue;
+      }
+      results.add(
+          aclBindings.stream()
+              .map(errors::get)
+              .filter(Objects::nonNull)
+              .findFirst()
+              .orElse(ApiResultStatus.SUCCESS.value));
+    }
+    return results;
+  }
+
+  private static void awaitAcl(
+      AclBinding aclBinding, KafkaFuture<?> result, long deadline, Map<AclBinding, String> errors) {
+    try {
+      result.get(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+    } catch (ExecutionException e) {
+      log.error("Unable to update acl {}, {}", aclBinding, e.getCause().getMessage());
+      errors.put(aclBinding, e.getMessage());
+    } catch (TimeoutException e) {
+      log.error("Timed out updating acl {}", aclBinding);
+      errors.put(aclBinding, "Timed out updating acl of " + aclBinding.pattern().name());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      errors.put(aclBinding, "Interrupted updating acl of " + aclBinding.pattern().name());
+    }
+  }
+
+  private static long remainingNanos(long deadline) {
+    return Math.max(0, deadline - System.nanoTime());
+  }
+
+  // bindings of a request, as created by updateProducerAcl and updateConsumerAcl
+  private static Set<AclBinding> getAclBindings(ClusterAclRequest clusterAclRequest) {
+    boolean producer = AclType.PRODUCER.value.equals(clusterAclRequest.getAclType());
+    PatternType patternType =
+        producer && clusterAclRequest.isPrefixAcl() ? PatternType.PREFIXED : PatternType.LITERAL;
+
+    // principal by host
+    Map<String, String> principals = new LinkedHashMap<>();
+    String aclSsl = clusterAclRequest.getAclSsl();
+    if (aclSsl != null
+        && aclSsl.trim().length() > 0
+        && (producer || !aclSsl.equals("User:*"))
+        && AclIPPrincipleType.PRINCIPAL.name().equals(clusterAclRequest.getAclIpPrincipleType())) {
+      principals.put("*", "User:" + aclSsl.trim());
+    }
+    String aclIp = clusterAclRequest.getAclIp();
+    if (aclIp != null && aclIp.trim().length() > 0) {
+      principals.put(aclIp.trim(), "User:*");
+    }
+
+    Set<AclBinding> aclBindings = new LinkedHashSet<>();
+    principals.forEach(
+        (host, principal) -> {
+          ResourcePattern topicPattern =
+              new ResourcePattern(
+                  ResourceType.TOPIC, clusterAclRequest.getTopicName(), patternType);
+          if (producer) {
+            aclBindings.add(getAclBinding(topicPattern, principal, host, AclOperation.WRITE));
+            aclBindings.add(getAclBinding(topicPattern, principal, host, AclOperation.DESCRIBE));
+            String transactionalId = clusterAclRequest.getTransactionalId();
+            if (transactionalId != null && transactionalId.trim().length() > 0) {
+              aclBindings.add(
+                  getAclBinding(
+                      new ResourcePattern(
+                          ResourceType.TRANSACTIONAL_ID, transactionalId.trim(), patternType),
+                      principal,
+                      host,
+                      AclOperation.WRITE));
+            }
+          } else {
+            aclBindings.add(getAclBinding(topicPattern, principal, host, AclOperation.READ));
+            aclBindings.add(getAclBinding(topicPattern, principal, host, AclOperation.DESCRIBE));
+            aclBindings.add(
+                getAclBinding(
+                    new ResourcePattern(
+                        ResourceType.GROUP, clusterAclRequest.getConsumerGroup(), patternType),
+                    principal,
+                    host,
+                    AclOperation.READ));
+          }
+        });
+    return aclBindings;
+  }
+
+  private static AclBinding getAclBinding(
+      ResourcePattern resourcePattern, String principal, String host, AclOperation operation) {
+    return new AclBinding(
+        resourcePattern,
+        new AccessControlEntry(principal, host, operation, AclPermissionType.ALLOW));
+  }
+
+  // creating an existing acl binding or deleting a missing one is a no-op in kafka, so acl updates
+  // need no serialisation
+  public String updateProducerAcl(ClusterAclRequest clusterAclRequest) {
+    return callInClusterSlot(
+        clusterAclRequest, () -> updateProducerAclOnCluster(clusterAclRequest));
+  }
+
+  private String updateProducerAclOnCluster(ClusterAclRequest clusterAclRequest) {
     log.info("updateProducerAclRequest {}", clusterAclRequest);
     AdminClient client;
     try {
@@ -275,7 +479,21 @@ public class ApacheKafkaAclService {
     }
   }
 
-  public synchronized String updateConsumerAcl(ClusterAclRequest clusterAclRequest) {
+  public String updateConsumerAcl(ClusterAclRequest clusterAclRequest) {
+    return callInClusterSlot(
+        clusterAclRequest, () -> updateConsumerAclOnCluster(clusterAclRequest));
+  }
+
+  private String callInClusterSlot(ClusterAclRequest clusterAclRequest, Callable<String> action) {
+    try {
+      return clusterOperationBulkhead.call(clusterAclRequest.getEnv(), action);
+    } catch (Exception e) {
+      log.error("Exception: ", e);
+      return ApiResultStatus.FAILURE.value;
+    }
+  }
+
+  private String updateConsumerAclOnCluster(ClusterAclRequest clusterAclRequest) {
     log.info("updateConsumerAclRequest {} ", clusterAclRequest);
     AdminClient client;
     String resultStr = "";
@@ -1,21 +1,38 @@
 package io.aiven.klaw.clusterapi.services;
 
+import com.google.common.util.concurrent.Striped;
 import io.aiven.klaw.clusterapi.models.ApiResponse;
 import io.aiven.klaw.clusterapi.models.ClusterTopicRequest;
 import io.aiven.klaw.clusterapi.models.TopicConfig;
+import io.aiven.klaw.clusterapi.models.TopicsPage;
 import io.aiven.klaw.clusterapi.models.enums.ApiResultStatus;
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationBulkhead;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.CreateTopicsResult;
@@ -27,6 +44,9 @@ import org.apache.kafka.clients.admin.NewPartitions;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -35,16 +55,102 @@ public class ApacheKafkaTopicService {
 
   private static final long TIME_OUT_SECS_FOR_TOPICS = 5;
 
+  private static final long TIME_OUT_SECS_FOR_TOPIC_BATCH = 30;
+
+  private static final int TOPICS_DESCRIBE_CHUNK_SIZE = 500;
+
+  private static final int TOPICS_DESCRIBE_PARALLELISM = 4;
+
+  public static final int MAX_TOPICS_PAGE_SIZE = 10000;
+
+  private static final int TOPIC_LOCK_STRIPES = 64;
+
   private final ClusterApiUtils clusterApiUtils;
 
   private final SchemaService schemaService;
 
-  public ApacheKafkaTopicService(ClusterApiUtils clusterApiUtils, SchemaService schemaService) {
+  private final ClusterOperationBulkhead clusterOperationBulkhead;
+
+  // serialises the writes of a topic of a cluster, so that an update deleting and recreating the
+  // topic is not interleaved with other writes of it, while writes of other topics run in parallel
+  private final Striped<Lock> topicLocks = Striped.lock(TOPIC_LOCK_STRIPES);
+
+  public ApacheKafkaTopicService(
+      ClusterApiUtils clusterApiUtils,
+      SchemaService schemaService,
+      ClusterOperationBulkhead clusterOperationBulkhead) {
     this.clusterApiUtils = clusterApiUtils;
     this.schemaService = schemaService;
+    this.clusterOperationBulkhead = clusterOperationBulkhead;
   }
 
-  public synchronized Set<TopicConfig> loadTopics(
+  // reads only, loads of different clusters run in parallel
+  public Set<TopicConfig> loadTopics(
+      String environment, KafkaSupportedProtocol protocol, String clusterIdentification)
+      throws Exception {
+    return clusterOperationBulkhead.call(
+        environment, () -> loadTopicsOfCluster(environment, protocol, clusterIdentification));
+  }
+
+  /**
+   * A page of the topics of the cluster, sorted by name. Topic names are filtered on the prefix and
+   * the regex before they are described, so that only the topics of the page are described.
+   *
+   * @param topicNamePrefix optional prefix of the topic names
+   * @param topicNamePattern optional regex the topic names match entirely
+   * @param pageToken next page token of the previous page, null for the first page
+   * @param pageSize max topics of the page, from 1 to {@link #MAX_TOPICS_PAGE_SIZE}
+   * @throws IllegalArgumentException if the page size, the regex or the page token is invalid
+   */
+  public TopicsPage loadTopicsPage(
+      String environment,
+      KafkaSupportedProtocol protocol,
+      String clusterIdentification,
+      String topicNamePrefix,
+      String topicNamePattern,
+      String pageToken,
+      int pageSize)
+      throws Exception {
+    validatePageSize(pageSize);
+    Predicate<String> topicNameFilter = getTopicNameFilter(topicNamePrefix, topicNamePattern);
+    String lastTopicName = decodePageToken(pageToken);
+    return clusterOperationBulkhead.call(
+        environment,
+        () ->
+            loadTopicsPageOfCluster(
+                environment,
+                protocol,
+                clusterIdentification,
+                topicNameFilter,
+                lastTopicName,
+                pageSize));
+  }
+
+  /** Filters and pages topics already loaded from a cluster, like {@link #loadTopicsPage}. */
+  public static TopicsPage getTopicsPage(
+      Collection<TopicConfig> topics,
+      String topicNamePrefix,
+      String topicNamePattern,
+      String pageToken,
+      int pageSize) {
+    validatePageSize(pageSize);
+    Predicate<String> topicNameFilter = getTopicNameFilter(topicNamePrefix, topicNamePattern);
+    String lastTopicName = decodePageToken(pageToken);
+    List<TopicConfig> filteredTopics =
+        topics.stream()
+            .filter(topic -> topicNameFilter.test(topic.getTopicName()))
+            .sorted(Comparator.comparing(TopicConfig::getTopicName))
+            .toList();
+    List<String> topicNames = filteredTopics.stream().map(TopicConfig::getTopicName).toList();
+    int from = getPageStart(topicNames, lastTopicName);
+    int to = Math.min(from + pageSize, topicNames.size());
+    return TopicsPage.builder()
+        .topics(filteredTopics.subList(from, to))
+        .nextPageToken(getNextPageToken(topicNames, to))
+        .build();
+  }
+
+  private Set<TopicConfig> loadTopicsOfCluster(
       String environment, KafkaSupportedProtocol protocol, String clusterIdentification)
       throws Exception {
     log.info("loadTopics {} {}", environment, protocol);
@@ -56,45 +162,173 @@ public class ApacheKafkaTopicService {
     }
 
     try {
-      Map<String, TopicDescription> topicDescriptionsPerAdminClient =
-          loadTopicDescriptionsMap(client);
-
-      Set<String> keySet = topicDescriptionsPerAdminClient.keySet();
-      keySet.remove("_schemas");
-      List<String> lstK = new ArrayList<>(keySet);
-      TopicConfig topicConfig;
-      for (String topicName : lstK) {
-        if (topicName.startsWith("_confluent") || topicName.startsWith("__connect")) {
-          continue;
-        }
-        topicConfig = new TopicConfig();
-        topicConfig.setTopicName(topicName);
-        TopicDescription topicDescription = topicDescriptionsPerAdminClient.get(topicName);
-        topicConfig.setReplicationFactor(
-            "" + topicDescription.partitions().get(0).replicas().size());
-        topicConfig.setPartitions("" + topicDescription.partitions().size());
-        topics.add(topicConfig);
-      }
-
+      topics.addAll(describeTopics(client, loadTopicNames(client, topicName -> true)));
     } catch (InterruptedException | ExecutionException | TimeoutException e) {
       log.error("Exception:", e);
     }
     return topics;
   }
 
-  private Map<String, TopicDescription> loadTopicDescriptionsMap(AdminClient client)
-      throws InterruptedException, ExecutionException, TimeoutException {
+  private TopicsPage loadTopicsPageOfCluster(
+      String environment,
+      KafkaSupportedProtocol protocol,
+      String clusterIdentification,
+      Predicate<String> topicNameFilter,
+      String lastTopicName,
+      int pageSize)
+      throws Exception {
+    log.info("loadTopicsPage {} {} {}", environment, protocol, lastTopicName);
+    AdminClient client =
+        clusterApiUtils.getAdminClient(environment, protocol, clusterIdentification);
+    if (client == null) {
+      throw new Exception("Cannot connect to cluster.");
+    }
+
+    List<String> topicNames = loadTopicNames(client, topicNameFilter);
+    int from = getPageStart(topicNames, lastTopicName);
+    int to = Math.min(from + pageSize, topicNames.size());
+    return TopicsPage.builder()
+        .topics(describeTopics(client, topicNames.subList(from, to)))
+        .nextPageToken(getNextPageToken(topicNames, to))
+        .build();
+  }
+
+  // sorted names of the topics of the cluster, without the internal ones
+  private List<String> loadTopicNames(AdminClient client, Predicate<String> topicNameFilter)
+      throws InterruptedException, ExecutionException {
     ListTopicsOptions listTopicsOptions = new ListTopicsOptions();
     listTopicsOptions = listTopicsOptions.listInternal(false);
 
     ListTopicsResult topicsResult = client.listTopics(listTopicsOptions);
-    DescribeTopicsResult describeTopicsResult =
-        client.describeTopics(new ArrayList<>(topicsResult.names().get()));
+    return topicsResult.names().get().stream()
+        .filter(
+            topicName ->
+                !topicName.equals("_schemas")
+                    && !topicName.startsWith("_confluent")
+                    && !topicName.startsWith("__connect"))
+        .filter(topicNameFilter)
+        .sorted()
+        .toList();
+  }
+
+  /**
+   * Describes the topics per {@link #TOPICS_DESCRIBE_CHUNK_SIZE} topics, with at most {@link
+   * #TOPICS_DESCRIBE_PARALLELISM} describes in flight. Each describe has its own timeout, so the
+   * time to load the topics of a cluster grows with its number of topics. Topics deleted since they
+   * were listed are skipped.
+   */
+  private List<TopicConfig> describeTopics(AdminClient client, List<String> topicNames)
+      throws InterruptedException, ExecutionException, TimeoutException {
+    Map<String, TopicDescription> topicDescriptions = new HashMap<>();
+    Deque<Map<String, KafkaFuture<TopicDescription>>> describesInFlight = new ArrayDeque<>();
+    for (int from = 0; from < topicNames.size(); from += TOPICS_DESCRIBE_CHUNK_SIZE) {
+      if (describesInFlight.size() == TOPICS_DESCRIBE_PARALLELISM) {
+        awaitTopicDescriptions(describesInFlight.remove(), topicDescriptions);
+      }
+      List<String> chunk =
+          topicNames.subList(from, Math.min(from + TOPICS_DESCRIBE_CHUNK_SIZE, topicNames.size()));
+      describesInFlight.add(client.describeTopics(chunk).topicNameValues());
+    }
+    while (!describesInFlight.isEmpty()) {
+      awaitTopicDescriptions(describesInFlight.remove(), topicDescriptions);
+    }
+
+    List<TopicConfig> topics = new ArrayList<>(topicNames.size());
+    for (String topicName : topicNames) {
+      TopicDescription topicDescription = topicDescriptions.get(topicName);
+      if (topicDescription == null) {
+        continue;
+      }
+      TopicConfig topicConfig = new TopicConfig();
+      topicConfig.setTopicName(topicName);
+      topicConfig.setReplicationFactor("" + topicDescription.partitions().get(0).replicas().size());
+      topicConfig.setPartitions("" + topicDescription.partitions().size());
+      topics.add(topicConfig);
+    }
+    return topics;
+  }
+
+  private static void awaitTopicDescriptions(
+      Map<String, KafkaFuture<TopicDescription>> describe,
+      Map<String, TopicDescription> topicDescriptions)
+      throws InterruptedException, ExecutionException, TimeoutException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIME_OUT_SECS_FOR_TOPICS);
+    for (Map.Entry<String, KafkaFuture<TopicDescription>> topicDescription : describe.entrySet()) {
+      try {
+        topicDescriptions.put(
+            topicDescription.getKey(),
+            topicDescription.getValue().get(remainingNanos(deadline), TimeUnit.NANOSECONDS));
+      } catch (ExecutionException e) {
+        if (!(e.getCause() instanceof UnknownTopicOrPartitionException)) {
+          throw e;
+        }
+        log.info("Topic {} deleted before it was described", topicDescription.getKey());
+      }
+    }
+  }
+
+  private static void validatePageSize(int pageSize) {
+    if (pageSize < 1 || pageSize > MAX_TOPICS_PAGE_SIZE) {
+      throw new IllegalArgumentException(
+          "Page size must be between 1 and " + MAX_TOPICS_PAGE_SIZE + ".");
+    }
+  }
+
+  private static Predicate<String> getTopicNameFilter(
+      String topicNamePrefix, String topicNamePattern) {
+    Predicate<String> topicNameFilter = topicName -> true;
+    if (topicNamePrefix != null && !topicNamePrefix.isEmpty()) {
+      topicNameFilter = topicNameFilter.and(topicName -> topicName.startsWith(topicNamePrefix));
+    }
+    if (topicNamePattern != null && !topicNamePattern.isEmpty()) {
+      Pattern pattern;
+      try {
+        pattern = Pattern.compile(topicNamePattern);
+      } catch (PatternSyntaxException e) {
+        throw new IllegalArgumentException(
+            "Invalid topic name pattern : " + e.getDescription() + ".", e);
+      }
+      topicNameFilter = topicNameFilter.and(topicName -> pattern.matcher(topicName).matches());
+    }
+    return topicNameFilter;
+  }
+
+  // last topic name of the previous page, null for the first page
+  private static String decodePageToken(String pageToken) {
+    if (pageToken == null || pageToken.isEmpty()) {
+      return null;
+    }
+    try {
+      return new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid page token.", e);
+    }
+  }
+
+  // a page starts after the last topic name of the previous page, also when that topic is deleted
+  // in between
+  private static int getPageStart(List<String> sortedTopicNames, String lastTopicName) {
+    if (lastTopicName == null) {
+      return 0;
+    }
+    int index = Collections.binarySearch(sortedTopicNames, lastTopicName);
+    return index >= 0 ? index + 1 : -index - 1;
+  }
+
+  private static String getNextPageToken(List<String> sortedTopicNames, int pageEnd) {
+    if (pageEnd == 0 || pageEnd >= sortedTopicNames.size()) {
+      return null;
+    }
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(sortedTopicNames.get(pageEnd - 1).getBytes(StandardCharsets.UTF_8));
+  }
 
-    return describeTopicsResult.all().get(TIME_OUT_SECS_FOR_TOPICS, TimeUnit.SECONDS);
+  public ApiResponse createTopic(ClusterTopicRequest clusterTopicRequest) throws Exception {
+    return callWithTopicLock(clusterTopicRequest, () -> createTopicOnCluster(clusterTopicRequest));
   }
 
-  public synchronized ApiResponse createTopic(ClusterTopicRequest clusterTopicRequest)
+  private ApiResponse createTopicOnCluster(ClusterTopicRequest clusterTopicRequest)
       throws Exception {
     log.info("createTopic {}", clusterTopicRequest);
     AdminClient client =
@@ -171,7 +405,11 @@ public class ApacheKafkaTopicService {
             == clusterTopicRequest.getReplicationFactor();
   }
 
-  public synchronized ApiResponse updateTopic(ClusterTopicRequest clusterTopicRequest)
+  public ApiResponse updateTopic(ClusterTopicRequest clusterTopicRequest) throws Exception {
+    return callWithTopicLock(clusterTopicRequest, () -> updateTopicOnCluster(clusterTopicRequest));
+  }
+
+  private ApiResponse updateTopicOnCluster(ClusterTopicRequest clusterTopicRequest)
       throws Exception {
     log.info("updateTopic Name: {}", clusterTopicRequest);
 
@@ -194,9 +432,9 @@ public class ApacheKafkaTopicService {
             .get(clusterTopicRequest.getTopicName());
 
     if (result.partitions().size() > clusterTopicRequest.getPartitions()) {
-      // delete topic and recreate
-      deleteTopic(clusterTopicRequest);
-      createTopic(clusterTopicRequest);
+      // delete topic and recreate, the lock and slot of this update are held
+      deleteTopicOnCluster(clusterTopicRequest);
+      createTopicOnCluster(clusterTopicRequest);
     } else {
       Map<String, NewPartitions> newPartitionSet = new HashMap<>();
       newPartitionSet.put(
@@ -209,7 +447,11 @@ public class ApacheKafkaTopicService {
     return ApiResponse.builder().success(true).message(ApiResultStatus.SUCCESS.value).build();
   }
 
-  public synchronized ApiResponse deleteTopic(ClusterTopicRequest clusterTopicRequest)
+  public ApiResponse deleteTopic(ClusterTopicRequest clusterTopicRequest) throws Exception {
+    return callWithTopicLock(clusterTopicRequest, () -> deleteTopicOnCluster(clusterTopicRequest));
+  }
+
+  private ApiResponse deleteTopicOnCluster(ClusterTopicRequest clusterTopicRequest)
       throws Exception {
     log.info("deleteTopic Topic {}", clusterTopicRequest);
 
@@ -259,4 +501,185 @@ public class ApacheKafkaTopicService {
       throw e;
     }
   }
+
+  /**
+   * Creates the topics of one cluster with a single createTopics call. A topic which already exists
+   * with the requested partitions and replication factor is created successfully.
+   *
+   * @return result of each topic by topic name, {@link ApiResultStatus#SUCCESS} or the error
+   */
+  public Map<String, String> createTopics(List<ClusterTopicRequest> clusterTopicRequests)
+      throws Exception {
+    if (clusterTopicRequests.isEmpty()) {
+      return new LinkedHashMap<>();
+    }
+    return callWithTopicLocks(
+        clusterTopicRequests, () -> createTopicsOnCluster(clusterTopicRequests));
+  }
+
+  private Map<String, String> createTopicsOnCluster(List<ClusterTopicRequest> clusterTopicRequests)
+      throws Exception {
+    ClusterTopicRequest clusterRequest = clusterTopicRequests.get(0);
+    log.info("createTopics {} topics on {}", clusterTopicRequests.size(), clusterRequest.getEnv());
+    Map<String, ClusterTopicRequest> requestsByTopic = getRequestsByTopic(clusterTopicRequests);
+    AdminClient client =
+        clusterApiUtils.getAdminClient(
+            clusterRequest.getEnv(), clusterRequest.getProtocol(), clusterRequest.getClusterName());
+    if (client == null) {
+      throw new Exception("Cannot connect to cluster.");
+    }
+
+    List<NewTopic> newTopics = new ArrayList<>();
+    for (ClusterTopicRequest clusterTopicRequest : requestsByTopic.values()) {
+      newTopics.add(
+          new NewTopic(
+                  clusterTopicRequest.getTopicName(),
+                  clusterTopicRequest.getPartitions(),
+                  clusterTopicRequest.getReplicationFactor())
+              .configs(clusterTopicRequest.getAdvancedTopicConfiguration()));
+    }
+    Map<String, KafkaFuture<Void>> createResults = client.createTopics(newTopics).values();
+
+    Map<String, String> results = new LinkedHashMap<>();
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIME_OUT_SECS_FOR_TOPIC_BATCH);
+    for (ClusterTopicRequest clusterTopicRequest : requestsByTopic.values()) {
+      String topicName = clusterTopicRequest.getTopicName();
+      try {
+        createResults.get(topicName).get(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+        results.put(topicName, ApiResultStatus.SUCCESS.value);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof TopicExistsException
+            && existsWithSameConfig(clusterTopicRequest, client)) {
+          results.put(topicName, ApiResultStatus.SUCCESS.value);
+        } else {
+          log.error("Unable to create topic {}, {}", topicName, e.getCause().getMessage());
+          results.put(topicName, e.getMessage());
+        }
+      } catch (TimeoutException e) {
+        log.error("Timed out creating topic {}", topicName);
+        results.put(topicName, "Timed out creating topic " + topicName);
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Deletes the topics of one cluster with a single deleteTopics call. A topic which does not exist
+   * is deleted successfully.
+   *
+   * @return result of each topic by topic name, {@link ApiResultStatus#SUCCESS} or the error
+   */
+  public Map<String, String> deleteTopics(List<ClusterTopicRequest> clusterTopicRequests)
+      throws Exception {
+    if (clusterTopicRequests.isEmpty()) {
+      return new LinkedHashMap<>();
+    }
+    return callWithTopicLocks(
+        clusterTopicRequests, () -> deleteTopicsOnCluster(clusterTopicRequests));
+  }
+
+  private Map<String, String> deleteTopicsOnCluster(List<ClusterTopicRequest> clusterTopicRequests)
+      throws Exception {
+    ClusterTopicRequest clusterRequest = clusterTopicRequests.get(0);
+    log.info("deleteTopics {} topics on {}", clusterTopicRequests.size(), clusterRequest.getEnv());
+    Map<String, ClusterTopicRequest> requestsByTopic = getRequestsByTopic(clusterTopicRequests);
+    AdminClient client =
+        clusterApiUtils.getAdminClient(
+            clusterRequest.getEnv(), clusterRequest.getProtocol(), clusterRequest.getClusterName());
+    if (client == null) {
+      throw new Exception("Cannot connect to cluster.");
+    }
+
+    Map<String, KafkaFuture<Void>> deleteResults =
+        client.deleteTopics(new ArrayList<>(requestsByTopic.keySet())).values();
+
+    Map<String, String> results = new LinkedHashMap<>();
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIME_OUT_SECS_FOR_TOPIC_BATCH);
+    for (ClusterTopicRequest clusterTopicRequest : requestsByTopic.values()) {
+      String topicName = clusterTopicRequest.getTopicName();
+      try {
+        deleteResults.get(topicName).get(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+      } catch (ExecutionException e) {
+        if (!(e.getCause() instanceof UnknownTopicOrPartitionException)) {
+          log.error("Unable to delete topic {}, {}", topicName, e.getCause().getMessage());
+          results.put(topicName, e.getMessage());
+          continue;
+        }
+      } catch (TimeoutException e) {
+        log.error("Timed out deleting topic {}", topicName);
+        results.put(topicName, "Timed out deleting topic " + topicName);
+        continue;
+      }
+
+      // delete associated schema if requested
+      if (Boolean.TRUE.equals(clusterTopicRequest.getDeleteAssociatedSchema())) {
+        String schemaDeletionStatus = schemaService.deleteSchema(clusterTopicRequest).getMessage();
+        log.info("Schema deletion status of {} : {}", topicName, schemaDeletionStatus);
+      }
+      results.put(topicName, ApiResultStatus.SUCCESS.value);
+    }
+    return results;
+  }
+
+  private boolean existsWithSameConfig(
+      ClusterTopicRequest clusterTopicRequest, AdminClient adminClient) {
+    try {
+      return checkIfTopicExistsWithSameConfig(clusterTopicRequest, adminClient);
+    } catch (ExecutionException | TimeoutException e) {
+      log.error("Unable to describe topic {}", clusterTopicRequest.getTopicName(), e);
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  // requests of a batch by topic name, a topic requested twice is executed once
+  private Map<String, ClusterTopicRequest> getRequestsByTopic(
+      List<ClusterTopicRequest> clusterTopicRequests) throws Exception {
+    ClusterTopicRequest clusterRequest = clusterTopicRequests.get(0);
+    Map<String, ClusterTopicRequest> requestsByTopic = new LinkedHashMap<>();
+    for (ClusterTopicRequest clusterTopicRequest : clusterTopicRequests) {
+      if (!Objects.equals(clusterRequest.getEnv(), clusterTopicRequest.getEnv())
+          || !Objects.equals(clusterRequest.getClusterName(), clusterTopicRequest.getClusterName())
+          || clusterRequest.getProtocol() != clusterTopicRequest.getProtocol()) {
+        throw new Exception("Topics of a batch must be on the same cluster.");
+      }
+      requestsByTopic.putIfAbsent(clusterTopicRequest.getTopicName(), clusterTopicRequest);
+    }
+    return requestsByTopic;
+  }
+
+  private static long remainingNanos(long deadline) {
+    return Math.max(0, deadline - System.nanoTime());
+  }
+
+  private ApiResponse callWithTopicLock(
+      ClusterTopicRequest clusterTopicRequest, Callable<ApiResponse> action) throws Exception {
+    Lock lock =
+        topicLocks.get(clusterTopicRequest.getEnv() + "/" + clusterTopicRequest.getTopicName());
+    lock.lock();
+    try {
+      return clusterOperationBulkhead.call(clusterTopicRequest.getEnv(), action);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // locks of all topics of a batch, acquired in stripe order so that batches cannot deadlock
+  private <T> T callWithTopicLocks(
+      List<ClusterTopicRequest> clusterTopicRequests, Callable<T> action) throws Exception {
+    List<String> topicKeys =
+        clusterTopicRequests.stream()
+            .map(request -> request.getEnv() + "/" + request.getTopicName())
+            .collect(Collectors.toList());
+    List<Lock> locks = new ArrayList<>();
+    topicLocks.bulkGet(topicKeys).forEach(locks::add);
+    locks.forEach(Lock::lock);
+    try {
+      return clusterOperationBulkhead.call(clusterTopicRequests.get(0).getEnv(), action);
+    } finally {
+      locks.forEach(Lock::unlock);
+    }
+  }
 }
@@ -1,5 +1,6 @@
 package io.aiven.klaw.clusterapi.services;
 
+import com.google.common.util.concurrent.Striped;
 import io.aiven.klaw.clusterapi.models.ApiResponse;
 import io.aiven.klaw.clusterapi.models.ClusterSchemaRequest;
 import io.aiven.klaw.clusterapi.models.ClusterTopicRequest;
@@ -9,12 +10,14 @@ import io.aiven.klaw.clusterapi.models.enums.ClusterStatus;
 import io.aiven.klaw.clusterapi.models.enums.KafkaClustersType;
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationBulkhead;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.beans.factory.annotation.Value;
@@ -57,13 +60,38 @@ public class SchemaService {
   @Value("${klaw.schemaregistry.compatibility.default:BACKWARD}")
   private String defaultSchemaCompatibility;
 
+  private static final int SUBJECT_LOCK_STRIPES = 64;
+
   final ClusterApiUtils clusterApiUtils;
 
-  public SchemaService(ClusterApiUtils clusterApiUtils) {
+  private final ClusterOperationBulkhead clusterOperationBulkhead;
+
+  // a forced registration relaxes the compatibility of the subject and then restores it, so
+  // registrations of a subject are serialised while other subjects are registered in parallel
+  private final Striped<Lock> subjectLocks = Striped.lock(SUBJECT_LOCK_STRIPES);
+
+  public SchemaService(
+      ClusterApiUtils clusterApiUtils, ClusterOperationBulkhead clusterOperationBulkhead) {
     this.clusterApiUtils = clusterApiUtils;
+    this.clusterOperationBulkhead = clusterOperationBulkhead;
+  }
+
+  public ApiResponse registerSchema(ClusterSchemaRequest clusterSchemaRequest) {
+    Lock lock =
+        subjectLocks.get(clusterSchemaRequest.getEnv() + "/" + clusterSchemaRequest.getTopicName());
+    lock.lock();
+    try {
+      return clusterOperationBulkhead.call(
+          clusterSchemaRequest.getEnv(), () -> registerSchemaOnRegistry(clusterSchemaRequest));
+    } catch (Exception e) {
+      log.error("Exception:", e);
+      return ApiResponse.builder().success(false).message("Failure in registering schema.").build();
+    } finally {
+      lock.unlock();
+    }
   }
 
-  public synchronized ApiResponse registerSchema(ClusterSchemaRequest clusterSchemaRequest) {
+  private ApiResponse registerSchemaOnRegistry(ClusterSchemaRequest clusterSchemaRequest) {
     String schemaCompatibility = null;
     boolean schemaCompatibilitySetOnSubject = false;
     try {
@@ -0,0 +1,283 @@
+package io.aiven.klaw.clusterapi.utils;
+
+import io.aiven.klaw.clusterapi.models.AdminClientStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.DescribeClusterOptions;
+import org.apache.kafka.common.KafkaFuture;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pool of admin clients, one per cluster connection. A client is verified when it is created, and
+ * then checked in the background so that requests get a healthy client without a round trip to the
+ * cluster. A client which fails its check is reconnected with an exponential backoff, and requests
+ * fail fast until it is reconnected. Clients which are not used for klaw.adminclient.idle.timeout
+ * are closed.
+ */
+@Component
+@Slf4j
+public class AdminClientPool {
+
+  public enum ClientState {
+    NEW,
+    HEALTHY,
+    UNHEALTHY
+  }
+
+  @Value("${klaw.adminclient.health.interval:PT30S}")
+  private Duration healthCheckInterval;
+
+  @Value("${klaw.adminclient.health.timeout:PT5S}")
+  private Duration healthCheckTimeout;
+
+  @Value("${klaw.adminclient.idle.timeout:PT30M}")
+  private Duration idleTimeout;
+
+  @Value("${klaw.adminclient.reconnect.backoff.initial:PT5S}")
+  private Duration initialBackoff;
+
+  @Value("${klaw.adminclient.reconnect.backoff.max:PT5M}")
+  private Duration maxBackoff;
+
+  private final Map<String, PooledAdminClient> adminClients = new ConcurrentHashMap<>();
+
+  private LongSupplier clock = System::currentTimeMillis;
+
+  private ScheduledExecutorService healthCheckExecutor;
+
+  @PostConstruct
+  public void init() {
+    healthCheckExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "klaw-adminclient-health");
+              thread.setDaemon(true);
+              return thread;
+            });
+    healthCheckExecutor.scheduleWithFixedDelay(
+        this::runHealthChecks,
+        healthCheckInterval.toMillis(),
+        healthCheckInterval.toMillis(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (healthCheckExecutor != null) {
+      healthCheckExecutor.shutdownNow();
+    }
+    adminClients.values().forEach(this::evict);
+    adminClients.clear();
+  }
+
+  /**
+   * Returns the client of the given key, creating and verifying it on first use. Properties are
+   * only read when a client has to be created.
+   *
+   * @throws Exception when the cluster cannot be reached, or a reconnection is backing off
+   */
+  public AdminClient getAdminClient(String adminClientKey, Supplier<Properties> properties)
+      throws Exception {
+    while (true) {
+      PooledAdminClient pooled =
+          adminClients.computeIfAbsent(adminClientKey, PooledAdminClient::new);
+      synchronized (pooled) {
+        if (pooled.evicted) {
+          // evicted between lookup and lock, the next lookup creates a new entry
+          continue;
+        }
+        long now = clock.getAsLong();
+        pooled.lastUsedMillis = now;
+        if (pooled.state == ClientState.HEALTHY) {
+          return pooled.adminClient;
+        }
+        if (pooled.state == ClientState.UNHEALTHY && now < pooled.nextReconnectMillis) {
+          throw new Exception(
+              "Cluster is unreachable, reconnecting at "
+                  + Instant.ofEpochMilli(pooled.nextReconnectMillis));
+        }
+        if (pooled.properties == null) {
+          pooled.properties = properties.get();
+        }
+        connect(pooled);
+        if (pooled.state != ClientState.HEALTHY) {
+          throw new Exception("Cluster is unreachable : " + pooled.lastError);
+        }
+        return pooled.adminClient;
+      }
+    }
+  }
+
+  /**
+   * Evicts idle clients, checks healthy clients asynchronously and reconnects unhealthy clients
+   * whose backoff has elapsed.
+   */
+  void runHealthChecks() {
+    for (PooledAdminClient pooled : adminClients.values()) {
+      try {
+        long now = clock.getAsLong();
+        synchronized (pooled) {
+          if (now - pooled.lastUsedMillis > idleTimeout.toMillis()) {
+            log.info("Closing admin client {}, idle since {}", pooled.key, pooled.lastUsedMillis);
+            adminClients.remove(pooled.key, pooled);
+            evict(pooled);
+          } else if (pooled.state == ClientState.UNHEALTHY && now >= pooled.nextReconnectMillis) {
+            connect(pooled);
+          } else if (pooled.state == ClientState.HEALTHY) {
+            checkHealth(pooled);
+          }
+        }
+      } catch (Exception e) {
+        log.error("Error checking admin client {}", pooled.key, e);
+      }
+    }
+  }
+
+  public List<AdminClientStatus> getStatus() {
+    return adminClients.values().stream()
+        .map(PooledAdminClient::getStatus)
+        .sorted(Comparator.comparing(AdminClientStatus::getKey))
+        .collect(Collectors.toList());
+  }
+
+  // called with the lock of the entry held
+  private void connect(PooledAdminClient pooled) {
+    closeQuietly(pooled.adminClient);
+    pooled.adminClient = null;
+    try {
+      AdminClient adminClient = AdminClient.create(pooled.properties);
+      pooled.adminClient = adminClient;
+      describeCluster(adminClient).get(healthCheckTimeout.toMillis(), TimeUnit.MILLISECONDS);
+      markHealthy(pooled);
+    } catch (Exception e) {
+      markUnhealthy(pooled, e);
+    }
+  }
+
+  // called with the lock of the entry held, the result is applied without blocking the checks
+  private void checkHealth(PooledAdminClient pooled) {
+    AdminClient adminClient = pooled.adminClient;
+    describeCluster(adminClient)
+        .whenComplete(
+            (clusterId, error) -> {
+              synchronized (pooled) {
+                // ignore the result when the client was replaced meanwhile
+                if (pooled.adminClient != adminClient || pooled.evicted) {
+                  return;
+                }
+                if (error == null) {
+                  markHealthy(pooled);
+                } else {
+                  markUnhealthy(pooled, error);
+                }
+              }
+            });
+  }
+
+  private KafkaFuture<String> describeCluster(AdminClient adminClient) {
+    return adminClient
+        .describeCluster(
+            new DescribeClusterOptions().timeoutMs((int) healthCheckTimeout.toMillis()))
+        .clusterId();
+  }
+
+  private void markHealthy(PooledAdminClient pooled) {
+    pooled.state = ClientState.HEALTHY;
+    pooled.failures = 0;
+    pooled.lastError = null;
+    pooled.lastCheckMillis = clock.getAsLong();
+  }
+
+  private void markUnhealthy(PooledAdminClient pooled, Throwable error) {
+    long now = clock.getAsLong();
+    pooled.state = ClientState.UNHEALTHY;
+    pooled.failures++;
+    pooled.lastError = error.getMessage();
+    pooled.lastCheckMillis = now;
+    long backoff = initialBackoff.toMillis() << Math.min(pooled.failures - 1, 20);
+    pooled.nextReconnectMillis = now + Math.min(backoff, maxBackoff.toMillis());
+    log.error(
+        "Admin client {} is unhealthy, {} consecutive failures, reconnecting in {} ms",
+        pooled.key,
+        pooled.failures,
+        pooled.nextReconnectMillis - now,
+        error);
+  }
+
+  private void evict(PooledAdminClient pooled) {
+    synchronized (pooled) {
+      pooled.evicted = true;
+      closeQuietly(pooled.adminClient);
+      pooled.adminClient = null;
+    }
+  }
+
+  private void closeQuietly(AdminClient adminClient) {
+    if (adminClient == null) {
+      return;
+    }
+    try {
+      adminClient.close(Duration.ZERO);
+    } catch (Exception e) {
+      log.warn("Error closing admin client", e);
+    }
+  }
+
+  private final class PooledAdminClient {
+    private final String key;
+
+    private final long createdMillis = clock.getAsLong();
+
+    private Properties properties;
+
+    private AdminClient adminClient;
+
+    private ClientState state = ClientState.NEW;
+
+    private boolean evicted;
+
+    private int failures;
+
+    private String lastError;
+
+    private long lastUsedMillis = createdMillis;
+
+    private long lastCheckMillis;
+
+    private long nextReconnectMillis;
+
+    private PooledAdminClient(String key) {
+      this.key = key;
+    }
+
+    private synchronized AdminClientStatus getStatus() {
+      return AdminClientStatus.builder()
+          .key(key)
+          .state(state.name())
+          .consecutiveFailures(failures)
+          .lastError(lastError)
+          .createdTime(Instant.ofEpochMilli(createdMillis))
+          .lastUsedTime(Instant.ofEpochMilli(lastUsedMillis))
+          .lastCheckTime(lastCheckMillis == 0 ? null : Instant.ofEpochMilli(lastCheckMillis))
+          .nextReconnectTime(
+              state == ClientState.UNHEALTHY ? Instant.ofEpochMilli(nextReconnectMillis) : null)
+          .build();
+    }
+  }
+}
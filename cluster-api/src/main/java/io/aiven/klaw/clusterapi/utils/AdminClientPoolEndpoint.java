@@ -0,0 +1,24 @@
+package io.aiven.klaw.clusterapi.utils;
+
+import io.aiven.klaw.clusterapi.models.AdminClientStatus;
+import java.util.List;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/** Exposes the state of the pooled admin clients on /actuator/adminclients. */
+@Component
+@Endpoint(id = "adminclients")
+public class AdminClientPoolEndpoint {
+
+  private final AdminClientPool adminClientPool;
+
+  public AdminClientPoolEndpoint(AdminClientPool adminClientPool) {
+    this.adminClientPool = adminClientPool;
+  }
+
+  @ReadOperation
+  public List<AdminClientStatus> adminClients() {
+    return adminClientPool.getStatus();
+  }
+}
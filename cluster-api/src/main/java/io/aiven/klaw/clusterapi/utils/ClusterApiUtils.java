@@ -9,9 +9,9 @@ import io.aiven.klaw.clusterapi.models.enums.KafkaClustersType;
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.kafka.clients.CommonClientConfigs;
@@ -53,7 +53,7 @@ public class ClusterApiUtils {
   }
 
   private final Environment env;
-  private final Map<String, AdminClient> adminClientsMap;
+  private final AdminClientPool adminClientPool;
 
   private final Map<String, RestTemplate> restTemplateMap;
 
@@ -62,17 +62,20 @@ public class ClusterApiUtils {
   @Autowired private SslContextConfig sslContextConfig;
 
   @Autowired
-  public ClusterApiUtils(Environment env, AdminClientProperties adminClientProperties) {
-    this(env, adminClientProperties, new HashMap<>(), new HashMap<>());
+  public ClusterApiUtils(
+      Environment env,
+      AdminClientProperties adminClientProperties,
+      AdminClientPool adminClientPool) {
+    this(env, adminClientProperties, adminClientPool, new ConcurrentHashMap<>());
   }
 
   ClusterApiUtils(
       Environment env,
       AdminClientProperties adminClientProperties,
-      Map<String, AdminClient> adminClientsMap,
+      AdminClientPool adminClientPool,
       Map<String, RestTemplate> restTemplateMap) {
     this.env = env;
-    this.adminClientsMap = adminClientsMap;
+    this.adminClientPool = adminClientPool;
     this.adminClientProperties = adminClientProperties;
     this.restTemplateMap = restTemplateMap;
   }
@@ -96,104 +99,33 @@ public class ClusterApiUtils {
     log.info(
         "Host : {} Protocol {} clusterIdentification {}", envHost, protocol, clusterIdentification);
 
-    AdminClient adminClient = null;
     String adminClientKey = protocol + clusterIdentification + getHash(envHost);
-
     try {
-      switch (protocol) {
-        case PLAINTEXT:
-          if (!adminClientsMap.containsKey(adminClientKey)) {
-            adminClient = AdminClient.create(getPlainProperties(envHost));
-          } else {
-            adminClient = adminClientsMap.get(adminClientKey);
-          }
-          break;
-
-        case SSL:
-          if (!adminClientsMap.containsKey(adminClientKey)) {
-            adminClient = AdminClient.create(getSslProperties(envHost, clusterIdentification));
-          } else {
-            adminClient = adminClientsMap.get(adminClientKey);
-          }
-          break;
-
-        case SASL_PLAIN:
-          if (!adminClientsMap.containsKey(adminClientKey)) {
-            adminClient =
-                AdminClient.create(getSaslPlainProperties(envHost, clusterIdentification));
-          } else {
-            adminClient = adminClientsMap.get(adminClientKey);
-          }
-          break;
-
-        case SASL_SSL_PLAIN_MECHANISM:
-          if (!adminClientsMap.containsKey(adminClientKey)) {
-            adminClient =
-                AdminClient.create(
-                    getSaslSsl_PlainMechanismProperties(envHost, clusterIdentification));
-          } else {
-            adminClient = adminClientsMap.get(adminClientKey);
-          }
-
-          break;
-
-        case SASL_SSL_SCRAM_MECHANISM_256:
-          if (!adminClientsMap.containsKey(adminClientKey)) {
-            adminClient =
-                AdminClient.create(
-                    getSaslSsl_ScramMechanismProperties(envHost, clusterIdentification, SHA_256));
-          } else {
-            adminClient = adminClientsMap.get(adminClientKey);
-          }
-
-          break;
-
-        case SASL_SSL_SCRAM_MECHANISM_512:
-          if (!adminClientsMap.containsKey(adminClientKey)) {
-            adminClient =
-                AdminClient.create(
-                    getSaslSsl_ScramMechanismProperties(envHost, clusterIdentification, SHA_512));
-          } else {
-            adminClient = adminClientsMap.get(adminClientKey);
-          }
-
-          break;
-
-        case SASL_SSL_GSSAPI_MECHANISM:
-          if (!adminClientsMap.containsKey(adminClientKey)) {
-            adminClient =
-                AdminClient.create(
-                    getSaslSsl_GSSAPIMechanismProperties(envHost, clusterIdentification));
-          } else {
-            adminClient = adminClientsMap.get(adminClientKey);
-          }
-          break;
-      }
-    } catch (Exception exception) {
-      log.error("Unable to create Admin client ", exception);
-      exception.printStackTrace();
-      throw new Exception("Cannot connect to cluster. Please contact Administrator.");
-    }
-
-    if (adminClient == null) {
-      log.error("Cannot create Admin Client {} {}", envHost, protocol);
-      throw new Exception("Cannot connect to cluster. Please contact Administrator.");
-    }
-
-    try {
-      adminClient.listTopics().names().get();
-      if (!adminClientsMap.containsKey(adminClientKey)) {
-        adminClientsMap.put(adminClientKey, adminClient);
-      }
-      return adminClient;
+      return adminClientPool.getAdminClient(
+          adminClientKey, () -> getAdminClientProperties(envHost, protocol, clusterIdentification));
     } catch (Exception e) {
-      adminClientsMap.remove(adminClientKey);
-      adminClient.close();
       log.error("Cannot create Admin Client {} {} {}", envHost, protocol, clusterIdentification, e);
       throw new Exception("Cannot connect to cluster. Please contact Administrator.");
     }
   }
 
+  private Properties getAdminClientProperties(
+      String envHost, KafkaSupportedProtocol protocol, String clusterIdentification) {
+    return switch (protocol) {
+      case PLAINTEXT -> getPlainProperties(envHost);
+      case SSL -> getSslProperties(envHost, clusterIdentification);
+      case SASL_PLAIN -> getSaslPlainProperties(envHost, clusterIdentification);
+      case SASL_SSL_PLAIN_MECHANISM -> getSaslSsl_PlainMechanismProperties(
+          envHost, clusterIdentification);
+      case SASL_SSL_SCRAM_MECHANISM_256 -> getSaslSsl_ScramMechanismProperties(
+          envHost, clusterIdentification, SHA_256);
+      case SASL_SSL_SCRAM_MECHANISM_512 -> getSaslSsl_ScramMechanismProperties(
+          envHost, clusterIdentification, SHA_512);
+      case SASL_SSL_GSSAPI_MECHANISM -> getSaslSsl_GSSAPIMechanismProperties(
+          envHost, clusterIdentification);
+    };
+  }
+
   public Properties getPlainProperties(String environment) {
     Properties props = new Properties();
 
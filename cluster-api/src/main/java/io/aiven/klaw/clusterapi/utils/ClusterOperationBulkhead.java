@@ -0,0 +1,60 @@
+package io.aiven.klaw.clusterapi.utils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits the operations in flight on each cluster, so that a slow cluster cannot take all the
+ * request threads, while operations on other clusters run in parallel. An operation waits at most
+ * klaw.cluster.operations.acquire.timeout for a slot of its cluster, and fails when none is free.
+ */
+@Component
+@Slf4j
+public class ClusterOperationBulkhead {
+
+  private final int maxInFlight;
+
+  private final Duration acquireTimeout;
+
+  private final Map<String, Semaphore> clusterPermits = new ConcurrentHashMap<>();
+
+  public ClusterOperationBulkhead(
+      @Value("${klaw.cluster.operations.max.inflight:8}") int maxInFlight,
+      @Value("${klaw.cluster.operations.acquire.timeout:PT30S}") Duration acquireTimeout) {
+    this.maxInFlight = Math.max(1, maxInFlight);
+    this.acquireTimeout = acquireTimeout;
+  }
+
+  /**
+   * Runs the operation in a slot of the cluster.
+   *
+   * @param cluster bootstrap servers or url identifying the cluster
+   * @throws Exception thrown by the operation, or when no slot is free within the timeout
+   */
+  public <T> T call(String cluster, Callable<T> operation) throws Exception {
+    Semaphore permits =
+        clusterPermits.computeIfAbsent(cluster, k -> new Semaphore(maxInFlight, true));
+    if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+      log.error("No free slot for an operation on cluster {}", cluster);
+      throw new Exception("Too many operations in progress on the cluster. Please try again.");
+    }
+    try {
+      return operation.call();
+    } finally {
+      permits.release();
+    }
+  }
+
+  /** Operations currently in flight on the cluster. */
+  public int getInFlight(String cluster) {
+    Semaphore permits = clusterPermits.get(cluster);
+    return permits == null ? 0 : maxInFlight - permits.availablePermits();
+  }
+}
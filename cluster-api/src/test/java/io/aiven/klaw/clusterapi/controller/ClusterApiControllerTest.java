@@ -3,6 +3,7 @@ package io.aiven.klaw.clusterapi.controller;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -15,6 +16,7 @@ import io.aiven.klaw.clusterapi.models.ApiResponse;
 import io.aiven.klaw.clusterapi.models.ClusterAclRequest;
 import io.aiven.klaw.clusterapi.models.ClusterSchemaRequest;
 import io.aiven.klaw.clusterapi.models.ClusterTopicRequest;
+import io.aiven.klaw.clusterapi.models.TopicsPage;
 import io.aiven.klaw.clusterapi.models.enums.AclType;
 import io.aiven.klaw.clusterapi.models.enums.AclsNativeType;
 import io.aiven.klaw.clusterapi.models.enums.ApiResultStatus;
@@ -29,6 +31,8 @@ import io.aiven.klaw.clusterapi.services.SchemaService;
 import io.aiven.klaw.clusterapi.services.UtilComponentsService;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -139,6 +143,71 @@ public class ClusterApiControllerTest {
         .andExpect(jsonPath("$", hasSize(1)));
   }
 
+  @Test
+  public void getTopicsPage() throws Exception {
+    String clusterName = "testCluster";
+    String bootstrapServers = "localhost:9092";
+
+    when(apacheKafkaTopicService.loadTopicsPage(
+            bootstrapServers,
+            KafkaSupportedProtocol.PLAINTEXT,
+            clusterName,
+            "testtopic",
+            null,
+            "dGVzdHRvcGljMA",
+            100))
+        .thenReturn(
+            TopicsPage.builder()
+                .topics(List.copyOf(utilMethods.getTopics()))
+                .nextPageToken("dGVzdHRvcGljMQ")
+                .build());
+
+    String urlTemplate =
+        String.join(
+            "/",
+            "/topics",
+            "getTopicsPage",
+            bootstrapServers,
+            KafkaSupportedProtocol.PLAINTEXT.getValue(),
+            clusterName,
+            "topicsNativeType",
+            AclsNativeType.NATIVE.value);
+    mvc.perform(
+            get(urlTemplate)
+                .param("topicNamePrefix", "testtopic")
+                .param("pageToken", "dGVzdHRvcGljMA")
+                .param("pageSize", "100"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$.topics", hasSize(1)))
+        .andExpect(jsonPath("$.nextPageToken").value("dGVzdHRvcGljMQ"));
+  }
+
+  @Test
+  public void getTopicsPageOfInvalidRequest() throws Exception {
+    String clusterName = "testCluster";
+    String bootstrapServers = "localhost:9092";
+
+    when(apacheKafkaTopicService.loadTopicsPage(
+            bootstrapServers, KafkaSupportedProtocol.PLAINTEXT, clusterName, null, null, null, 0))
+        .thenThrow(new IllegalArgumentException("Page size must be between 1 and 10000."));
+
+    String urlTemplate =
+        String.join(
+            "/",
+            "/topics",
+            "getTopicsPage",
+            bootstrapServers,
+            KafkaSupportedProtocol.PLAINTEXT.getValue(),
+            clusterName,
+            "topicsNativeType",
+            AclsNativeType.NATIVE.value);
+    mvc.perform(get(urlTemplate).param("pageSize", "0"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.success").value(false))
+        .andExpect(jsonPath("$.message").value("Page size must be between 1 and 10000."));
+  }
+
   @Test
   public void getAcls() throws Exception {
     String clusterName = "testCluster";
@@ -205,6 +274,67 @@ public class ClusterApiControllerTest {
         .andExpect(content().string(containsString(ApiResultStatus.SUCCESS.value)));
   }
 
+  @Test
+  public void createTopicsBatch() throws Exception {
+    ClusterTopicRequest topicReq1 = utilMethods.getTopicRequest();
+    ClusterTopicRequest topicReq2 = topicReq1.toBuilder().topicName("testtopic2").build();
+    String jsonReq = new ObjectMapper().writer().writeValueAsString(List.of(topicReq1, topicReq2));
+    Map<String, String> results = new LinkedHashMap<>();
+    results.put(topicReq1.getTopicName(), ApiResultStatus.SUCCESS.value);
+    results.put("testtopic2", "InvalidReplicationFactorException");
+
+    when(apacheKafkaTopicService.createTopics(anyList())).thenReturn(results);
+
+    mvc.perform(
+            post("/topics/createTopics/batch")
+                .content(jsonReq)
+                .contentType(MediaType.APPLICATION_JSON)
+                .characterEncoding(StandardCharsets.UTF_8))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.success").value(false))
+        .andExpect(jsonPath("$.message").value("1 of 2 topics failed."))
+        .andExpect(jsonPath("$.data.testtopic2").value("InvalidReplicationFactorException"));
+  }
+
+  @Test
+  public void deleteTopicsBatchConfluentCloud() throws Exception {
+    ClusterTopicRequest topicReq = utilMethods.getConfluentCloudTopicRequest();
+    String jsonReq = new ObjectMapper().writer().writeValueAsString(List.of(topicReq));
+
+    when(confluentCloudApiService.deleteTopic(any(ClusterTopicRequest.class)))
+        .thenReturn(ApiResponse.builder().message(ApiResultStatus.SUCCESS.value).build());
+
+    mvc.perform(
+            post("/topics/deleteTopics/batch")
+                .content(jsonReq)
+                .contentType(MediaType.APPLICATION_JSON)
+                .characterEncoding(StandardCharsets.UTF_8))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.success").value(true))
+        .andExpect(jsonPath("$.data." + topicReq.getTopicName()).value("success"));
+  }
+
+  @Test
+  public void updateAclsBatch() throws Exception {
+    ClusterAclRequest producerRequest = utilMethods.getAclRequest(AclType.PRODUCER.value);
+    ClusterAclRequest consumerRequest = utilMethods.getAclRequest(AclType.CONSUMER.value);
+    String jsonReq =
+        new ObjectMapper().writer().writeValueAsString(List.of(producerRequest, consumerRequest));
+
+    when(apacheKafkaAclService.updateAcls(anyList()))
+        .thenReturn(List.of(ApiResultStatus.SUCCESS.value, "No authorizer"));
+
+    mvc.perform(
+            post("/topics/acls/batch")
+                .content(jsonReq)
+                .contentType(MediaType.APPLICATION_JSON)
+                .characterEncoding(StandardCharsets.UTF_8))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.success").value(false))
+        .andExpect(jsonPath("$.message").value("1 of 2 acl requests failed."))
+        .andExpect(jsonPath("$.data[1]").value("No authorizer"));
+  }
+
   @Test
   public void createAclsProducer() throws Exception {
     ClusterAclRequest clusterAclRequest = utilMethods.getAclRequest(AclType.PRODUCER.value);
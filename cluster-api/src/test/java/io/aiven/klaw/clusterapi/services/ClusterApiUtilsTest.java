@@ -5,6 +5,7 @@ import static org.mockito.Mockito.when;
 
 import io.aiven.klaw.clusterapi.config.SslContextConfig;
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
+import io.aiven.klaw.clusterapi.utils.AdminClientPool;
 import io.aiven.klaw.clusterapi.utils.AdminClientProperties;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -23,6 +24,7 @@ public class ClusterApiUtilsTest {
 
   @Mock Environment env;
   @Mock private AdminClientProperties adminClientProperties;
+  @Mock private AdminClientPool adminClientPool;
   private ClusterApiUtils clusterApiUtils;
 
   @Mock private HttpComponentsClientHttpRequestFactory httpComponentsClientHttpRequestFactory;
@@ -31,7 +33,7 @@ public class ClusterApiUtilsTest {
 
   @BeforeEach
   public void setUp() {
-    clusterApiUtils = new ClusterApiUtils(env, adminClientProperties);
+    clusterApiUtils = new ClusterApiUtils(env, adminClientProperties, adminClientPool);
     ReflectionTestUtils.setField(clusterApiUtils, "sslContextConfig", sslContextConfig);
   }
 
@@ -11,6 +11,8 @@ import static org.mockito.Mockito.when;
 import io.aiven.klaw.clusterapi.models.ClusterSchemaRequest;
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationBulkhead;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import org.apache.commons.lang3.tuple.Pair;
@@ -52,7 +54,8 @@ class SchemaServiceRegisterSchemaTest {
   @BeforeEach
   public void setUp() {
 
-    schemaService = new SchemaService(clusterApiUtil);
+    schemaService =
+        new SchemaService(clusterApiUtil, new ClusterOperationBulkhead(8, Duration.ofSeconds(30)));
   }
 
   @Test
@@ -19,6 +19,7 @@ import io.aiven.klaw.clusterapi.models.enums.ApiResultStatus;
 import io.aiven.klaw.clusterapi.models.enums.KafkaClustersType;
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationBulkhead;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -35,7 +36,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestTemplate;
 
-@RestClientTest(SchemaService.class)
+@RestClientTest({SchemaService.class, ClusterOperationBulkhead.class})
 class SchemaServiceTest {
   public static final String TOPIC_COMPATIBILITY_URI_TEMPLATE =
       "/compatibility/subjects/{topic_name}-value/versions/latest";
@@ -50,11 +51,12 @@ class SchemaServiceTest {
   @Autowired ObjectMapper objectMapper;
   private MockRestServiceServer mockRestServiceServer;
   @MockBean private ClusterApiUtils getAdminClient;
+  @Autowired ClusterOperationBulkhead clusterOperationBulkhead;
 
   @BeforeEach
   public void setUp() {
     restTemplate = new RestTemplate();
-    schemaService = new SchemaService(getAdminClient);
+    schemaService = new SchemaService(getAdminClient, clusterOperationBulkhead);
     mockRestServiceServer = MockRestServiceServer.bindTo(restTemplate).build();
   }
 
@@ -3,6 +3,10 @@ package io.aiven.klaw.clusterapi.services;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.aiven.klaw.clusterapi.UtilMethods;
@@ -11,11 +15,15 @@ import io.aiven.klaw.clusterapi.models.ClusterAclRequest;
 import io.aiven.klaw.clusterapi.models.ClusterSchemaRequest;
 import io.aiven.klaw.clusterapi.models.ClusterTopicRequest;
 import io.aiven.klaw.clusterapi.models.TopicConfig;
+import io.aiven.klaw.clusterapi.models.TopicsPage;
 import io.aiven.klaw.clusterapi.models.enums.AclType;
 import io.aiven.klaw.clusterapi.models.enums.ApiResultStatus;
 import io.aiven.klaw.clusterapi.models.enums.ClusterStatus;
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
+import io.aiven.klaw.clusterapi.models.enums.RequestOperationType;
 import io.aiven.klaw.clusterapi.utils.ClusterApiUtils;
+import io.aiven.klaw.clusterapi.utils.ClusterOperationBulkhead;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -29,6 +37,8 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.CreateAclsResult;
 import org.apache.kafka.clients.admin.CreateTopicsResult;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
+import org.apache.kafka.clients.admin.DeleteTopicsResult;
 import org.apache.kafka.clients.admin.DescribeAclsResult;
 import org.apache.kafka.clients.admin.DescribeTopicsResult;
 import org.apache.kafka.clients.admin.ListTopicsResult;
@@ -41,6 +51,13 @@ import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
 import org.apache.kafka.common.acl.AclOperation;
 import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.errors.InvalidReplicationFactorException;
+import org.apache.kafka.common.errors.SecurityDisabledException;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.apache.kafka.common.resource.PatternType;
+import org.apache.kafka.common.resource.ResourcePattern;
+import org.apache.kafka.common.resource.ResourceType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -68,8 +85,6 @@ public class UtilComponentsServiceTest {
 
   @Mock private KafkaFuture<Set<String>> kafkaFuture;
 
-  @Mock private KafkaFuture<Map<String, TopicDescription>> kafkaFutureTopicdesc;
-
   @Mock private KafkaFuture<Collection<AclBinding>> kafkaFutureCollection;
 
   @Mock private DescribeTopicsResult describeTopicsResult;
@@ -104,9 +119,12 @@ public class UtilComponentsServiceTest {
   public void setUp() {
     confluentCloudApiService = new ConfluentCloudApiService(env, clusterApiUtils);
     utilComponentsService = new UtilComponentsService(env, clusterApiUtils);
-    apacheKafkaAclService = new ApacheKafkaAclService(clusterApiUtils);
-    apacheKafkaTopicService = new ApacheKafkaTopicService(clusterApiUtils, schemaService);
-    schemaService = new SchemaService(clusterApiUtils);
+    ClusterOperationBulkhead clusterOperationBulkhead =
+        new ClusterOperationBulkhead(8, Duration.ofSeconds(30));
+    apacheKafkaAclService = new ApacheKafkaAclService(clusterApiUtils, clusterOperationBulkhead);
+    apacheKafkaTopicService =
+        new ApacheKafkaTopicService(clusterApiUtils, schemaService, clusterOperationBulkhead);
+    schemaService = new SchemaService(clusterApiUtils, clusterOperationBulkhead);
     utilMethods = new UtilMethods();
   }
 
@@ -188,7 +206,7 @@ public class UtilComponentsServiceTest {
 
   @Test
   public void loadTopics() throws Exception {
-    Set<String> list = new HashSet<>();
+    Set<String> list = new HashSet<>(Set.of("testtopic1", "testtopic2"));
     when(clusterApiUtils.getAdminClient(
             anyString(), eq(KafkaSupportedProtocol.PLAINTEXT), anyString()))
         .thenReturn(adminClient);
@@ -198,8 +216,7 @@ public class UtilComponentsServiceTest {
 
     // Mockito seems to have trouble with stubbing default methods.
     when(adminClient.describeTopics(anyCollection())).thenReturn(describeTopicsResult);
-    when(describeTopicsResult.all()).thenReturn(kafkaFutureTopicdesc);
-    when(kafkaFutureTopicdesc.get(anyLong(), any(TimeUnit.class))).thenReturn(getTopicDescs());
+    when(describeTopicsResult.topicNameValues()).thenReturn(getTopicDescFutures(getTopicDescs()));
 
     Set<TopicConfig> result =
         apacheKafkaTopicService.loadTopics("localhost", KafkaSupportedProtocol.PLAINTEXT, "");
@@ -218,6 +235,99 @@ public class UtilComponentsServiceTest {
     assertThat(result).contains(topicConfig).contains(topicConfig1);
   }
 
+  @Test
+  public void loadTopicsDescribesTopicsInChunks() throws Exception {
+    Set<String> topicNames = new HashSet<>();
+    for (int i = 0; i < 1200; i++) {
+      topicNames.add("topic" + i);
+    }
+    stubTopicsOfCluster(topicNames);
+
+    Set<TopicConfig> result =
+        apacheKafkaTopicService.loadTopics("localhost", KafkaSupportedProtocol.PLAINTEXT, "");
+
+    assertThat(result).hasSize(1200);
+    verify(adminClient, times(3)).describeTopics(anyCollection());
+  }
+
+  @Test
+  public void loadTopicsPageDescribesOnlyFilteredTopicsOfThePage() throws Exception {
+    stubTopicsOfCluster(Set.of("orders-2", "payments-1", "orders-1", "orders-3", "_schemas"));
+
+    TopicsPage firstPage =
+        apacheKafkaTopicService.loadTopicsPage(
+            "localhost", KafkaSupportedProtocol.PLAINTEXT, "", "orders", null, null, 2);
+    TopicsPage lastPage =
+        apacheKafkaTopicService.loadTopicsPage(
+            "localhost",
+            KafkaSupportedProtocol.PLAINTEXT,
+            "",
+            "orders",
+            null,
+            firstPage.getNextPageToken(),
+            2);
+
+    assertThat(firstPage.getTopics())
+        .extracting(TopicConfig::getTopicName)
+        .containsExactly("orders-1", "orders-2");
+    assertThat(firstPage.getNextPageToken()).isNotNull();
+    assertThat(lastPage.getTopics())
+        .extracting(TopicConfig::getTopicName)
+        .containsExactly("orders-3");
+    assertThat(lastPage.getNextPageToken()).isNull();
+    verify(adminClient).describeTopics(List.of("orders-1", "orders-2"));
+    verify(adminClient).describeTopics(List.of("orders-3"));
+  }
+
+  @Test
+  public void loadTopicsPageSkipsTopicsDeletedBeforeTheyAreDescribed() throws Exception {
+    stubTopicsOfCluster(Set.of("orders-1", "orders-2", "orders-3"), Set.of("orders-2"));
+
+    TopicsPage topicsPage =
+        apacheKafkaTopicService.loadTopicsPage(
+            "localhost", KafkaSupportedProtocol.PLAINTEXT, "", null, null, null, 10);
+
+    assertThat(topicsPage.getTopics())
+        .extracting(TopicConfig::getTopicName)
+        .containsExactly("orders-1", "orders-3");
+    assertThat(topicsPage.getNextPageToken()).isNull();
+  }
+
+  @Test
+  public void loadTopicsPageRejectsInvalidRequests() throws Exception {
+    assertThatThrownBy(() -> loadTopicsPage(null, null, 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Page size must be between 1 and 10000.");
+    assertThatThrownBy(() -> loadTopicsPage(null, null, -1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> loadTopicsPage(null, null, 10001))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> loadTopicsPage("orders-[", null, 10))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Invalid topic name pattern");
+    assertThatThrownBy(() -> loadTopicsPage(null, "not%base64", 10))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid page token.");
+    verify(clusterApiUtils, never()).getAdminClient(anyString(), any(), anyString());
+  }
+
+  @Test
+  public void getTopicsPageFiltersTopicsOnPattern() {
+    Set<TopicConfig> topics = new HashSet<>();
+    for (String topicName : List.of("orders-eu", "orders-us", "payments-eu")) {
+      TopicConfig topicConfig = new TopicConfig();
+      topicConfig.setTopicName(topicName);
+      topics.add(topicConfig);
+    }
+
+    TopicsPage topicsPage = ApacheKafkaTopicService.getTopicsPage(topics, null, ".*-eu", null, 10);
+
+    assertThat(topicsPage.getTopics())
+        .extracting(TopicConfig::getTopicName)
+        .containsExactly("orders-eu", "payments-eu");
+    assertThat(topicsPage.getNextPageToken()).isNull();
+  }
+
   @Test
   public void createTopicSuccess() throws Exception {
     ClusterTopicRequest clusterTopicRequest =
@@ -300,6 +410,63 @@ public class UtilComponentsServiceTest {
         .isInstanceOf(RuntimeException.class);
   }
 
+  @Test
+  public void createTopicsBatchReportsResultOfEachTopic() throws Exception {
+    ClusterTopicRequest topicRequest1 = utilMethods.getTopicRequest();
+    ClusterTopicRequest topicRequest2 = topicRequest1.toBuilder().topicName("testtopic2").build();
+    KafkaFutureImpl<Void> failedFuture = new KafkaFutureImpl<>();
+    failedFuture.completeExceptionally(
+        new InvalidReplicationFactorException("Replication factor: 3 larger than brokers: 1."));
+    when(clusterApiUtils.getAdminClient(any(), eq(KafkaSupportedProtocol.PLAINTEXT), anyString()))
+        .thenReturn(adminClient);
+    when(adminClient.createTopics(anyCollection())).thenReturn(createTopicsResult);
+    when(createTopicsResult.values())
+        .thenReturn(
+            Map.of("testtopic", KafkaFuture.completedFuture(null), "testtopic2", failedFuture));
+
+    Map<String, String> results =
+        apacheKafkaTopicService.createTopics(List.of(topicRequest1, topicRequest2));
+
+    assertThat(results).containsEntry("testtopic", ApiResultStatus.SUCCESS.value);
+    assertThat(results.get("testtopic2")).contains("InvalidReplicationFactorException");
+  }
+
+  @Test
+  public void deleteTopicsBatchTreatsUnknownTopicAsDeleted() throws Exception {
+    ClusterTopicRequest topicRequest1 =
+        utilMethods.getTopicRequest().toBuilder().deleteAssociatedSchema(false).build();
+    ClusterTopicRequest topicRequest2 = topicRequest1.toBuilder().topicName("testtopic2").build();
+    KafkaFutureImpl<Void> unknownTopicFuture = new KafkaFutureImpl<>();
+    unknownTopicFuture.completeExceptionally(
+        new UnknownTopicOrPartitionException("This server does not host this topic-partition."));
+    DeleteTopicsResult deleteTopicsResult = mock(DeleteTopicsResult.class);
+    when(clusterApiUtils.getAdminClient(any(), eq(KafkaSupportedProtocol.PLAINTEXT), anyString()))
+        .thenReturn(adminClient);
+    when(adminClient.deleteTopics(anyCollection())).thenReturn(deleteTopicsResult);
+    when(deleteTopicsResult.values())
+        .thenReturn(
+            Map.of(
+                "testtopic", KafkaFuture.completedFuture(null), "testtopic2", unknownTopicFuture));
+
+    Map<String, String> results =
+        apacheKafkaTopicService.deleteTopics(List.of(topicRequest1, topicRequest2));
+
+    assertThat(results)
+        .containsEntry("testtopic", ApiResultStatus.SUCCESS.value)
+        .containsEntry("testtopic2", ApiResultStatus.SUCCESS.value);
+  }
+
+  @Test
+  public void createTopicsBatchOfSeveralClustersIsRejected() {
+    ClusterTopicRequest topicRequest1 = utilMethods.getTopicRequest();
+    ClusterTopicRequest topicRequest2 =
+        topicRequest1.toBuilder().topicName("testtopic2").env("otherhost").build();
+
+    assertThatThrownBy(
+            () -> apacheKafkaTopicService.createTopics(List.of(topicRequest1, topicRequest2)))
+        .hasMessage("Topics of a batch must be on the same cluster.");
+  }
+
   @Test
   public void createProducerAcl1() throws Exception {
     ClusterAclRequest clusterAclRequest = utilMethods.getAclRequest(AclType.CONSUMER.value);
@@ -364,6 +531,71 @@ public class UtilComponentsServiceTest {
     assertThat(result).isEqualTo(ApiResultStatus.SUCCESS.value);
   }
 
+  @Test
+  public void updateAclsBatchAppliesOnlyTheDifferenceToTheCluster() throws Exception {
+    ClusterAclRequest producerRequest = utilMethods.getAclRequest(AclType.PRODUCER.value);
+    ClusterAclRequest consumerRequest =
+        ClusterAclRequest.builder()
+            .env("localhost")
+            .protocol(KafkaSupportedProtocol.PLAINTEXT)
+            .clusterName("clusterName")
+            .topicName("othertopic")
+            .consumerGroup("congroup1")
+            .aclType(AclType.CONSUMER.value)
+            .aclIp("11.12.33.122")
+            .aclIpPrincipleType("IP_ADDRESS")
+            .requestOperationType(RequestOperationType.DELETE)
+            .aclNativeType("NATIVE")
+            .build();
+    AclBinding existingWrite = getIpAclBinding("testtopic", AclOperation.WRITE);
+    AclBinding missingDescribe = getIpAclBinding("testtopic", AclOperation.DESCRIBE);
+    AclBinding existingRead = getIpAclBinding("othertopic", AclOperation.READ);
+    when(clusterApiUtils.getAdminClient(
+            anyString(), eq(KafkaSupportedProtocol.PLAINTEXT), anyString()))
+        .thenReturn(adminClient);
+    when(adminClient.describeAcls(AclBindingFilter.ANY)).thenReturn(describeAclsResult);
+    when(describeAclsResult.values())
+        .thenReturn(KafkaFuture.completedFuture(List.of(existingWrite, existingRead)));
+    when(adminClient.createAcls(List.of(missingDescribe))).thenReturn(createAclsResult);
+    when(createAclsResult.values())
+        .thenReturn(Map.of(missingDescribe, KafkaFuture.completedFuture(null)));
+    DeleteAclsResult deleteAclsResult = mock(DeleteAclsResult.class);
+    KafkaFutureImpl<DeleteAclsResult.FilterResults> deleteFailed = new KafkaFutureImpl<>();
+    deleteFailed.completeExceptionally(new SecurityDisabledException("No authorizer"));
+    when(adminClient.deleteAcls(Set.of(existingRead.toFilter()))).thenReturn(deleteAclsResult);
+    when(deleteAclsResult.values()).thenReturn(Map.of(existingRead.toFilter(), deleteFailed));
+
+    List<String> results =
+        apacheKafkaAclService.updateAcls(List.of(producerRequest, consumerRequest));
+
+    assertThat(results.get(0)).isEqualTo(ApiResultStatus.SUCCESS.value);
+    assertThat(results.get(1)).contains("No authorizer");
+    verify(adminClient, times(1)).describeAcls(any(AclBindingFilter.class));
+  }
+
+  @Test
+  public void updateAclsBatchOfSeveralClustersIsRejected() {
+    ClusterAclRequest aclRequest1 = utilMethods.getAclRequest(AclType.PRODUCER.value);
+    ClusterAclRequest aclRequest2 =
+        ClusterAclRequest.builder()
+            .env("otherhost")
+            .protocol(KafkaSupportedProtocol.PLAINTEXT)
+            .clusterName("clusterName")
+            .topicName("testtopic")
+            .aclType(AclType.PRODUCER.value)
+            .requestOperationType(RequestOperationType.CREATE)
+            .build();
+
+    assertThatThrownBy(() -> apacheKafkaAclService.updateAcls(List.of(aclRequest1, aclRequest2)))
+        .hasMessage("Acl requests of a batch must be on the same cluster.");
+  }
+
+  private AclBinding getIpAclBinding(String topicName, AclOperation operation) {
+    return new AclBinding(
+        new ResourcePattern(ResourceType.TOPIC, topicName, PatternType.LITERAL),
+        new AccessControlEntry("User:*", "11.12.33.122", operation, AclPermissionType.ALLOW));
+  }
+
   @Test
   public void postSchema1() {
     ClusterSchemaRequest clusterSchemaRequest = utilMethods.getSchema();
@@ -391,6 +623,68 @@ public class UtilComponentsServiceTest {
     assertThat(resultResp.getMessage()).isEqualTo("Cannot retrieve SchemaRegistry Url");
   }
 
+  private TopicsPage loadTopicsPage(String topicNamePattern, String pageToken, int pageSize)
+      throws Exception {
+    return apacheKafkaTopicService.loadTopicsPage(
+        "localhost",
+        KafkaSupportedProtocol.PLAINTEXT,
+        "",
+        null,
+        topicNamePattern,
+        pageToken,
+        pageSize);
+  }
+
+  private void stubTopicsOfCluster(Set<String> topicNames) throws Exception {
+    stubTopicsOfCluster(topicNames, Set.of());
+  }
+
+  // deleted topics are listed, and fail when they are described
+  private void stubTopicsOfCluster(Set<String> topicNames, Set<String> deletedTopicNames)
+      throws Exception {
+    when(clusterApiUtils.getAdminClient(
+            anyString(), eq(KafkaSupportedProtocol.PLAINTEXT), anyString()))
+        .thenReturn(adminClient);
+    when(adminClient.listTopics(any())).thenReturn(listTopicsResult);
+    when(listTopicsResult.names()).thenReturn(KafkaFuture.completedFuture(topicNames));
+    when(adminClient.describeTopics(anyCollection()))
+        .thenAnswer(
+            invocation -> {
+              Collection<String> describedTopicNames = invocation.getArgument(0);
+              Map<String, KafkaFuture<TopicDescription>> topicDescFutures =
+                  getTopicDescFutures(getTopicDescs(describedTopicNames));
+              for (String deletedTopicName : deletedTopicNames) {
+                KafkaFutureImpl<TopicDescription> deleted = new KafkaFutureImpl<>();
+                deleted.completeExceptionally(new UnknownTopicOrPartitionException("deleted"));
+                topicDescFutures.replace(deletedTopicName, deleted);
+              }
+              DescribeTopicsResult result = mock(DescribeTopicsResult.class);
+              when(result.topicNameValues()).thenReturn(topicDescFutures);
+              return result;
+            });
+  }
+
+  private static Map<String, KafkaFuture<TopicDescription>> getTopicDescFutures(
+      Map<String, TopicDescription> topicDescs) {
+    Map<String, KafkaFuture<TopicDescription>> topicDescFutures = new HashMap<>();
+    topicDescs.forEach(
+        (topicName, topicDesc) ->
+            topicDescFutures.put(topicName, KafkaFuture.completedFuture(topicDesc)));
+    return topicDescFutures;
+  }
+
+  private Map<String, TopicDescription> getTopicDescs(Collection<String> topicNames) {
+    Node node = new Node(1, "localhost", 1);
+    TopicPartitionInfo topicPartitionInfo =
+        new TopicPartitionInfo(0, node, List.of(node), List.of(node));
+    Map<String, TopicDescription> mapResults = new HashMap<>();
+    for (String topicName : topicNames) {
+      mapResults.put(
+          topicName, new TopicDescription(topicName, false, List.of(topicPartitionInfo)));
+    }
+    return mapResults;
+  }
+
   private Map<String, TopicDescription> getTopicDescs() {
     Node node = new Node(1, "localhost", 1);
 
@@ -0,0 +1,122 @@
+package io.aiven.klaw.clusterapi.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.aiven.klaw.clusterapi.models.AdminClientStatus;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.DescribeClusterOptions;
+import org.apache.kafka.clients.admin.DescribeClusterResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class AdminClientPoolTest {
+
+  private static final String KEY = "PLAINTEXTcluster1";
+
+  @Mock private AdminClient adminClient;
+
+  @Mock private DescribeClusterResult describeClusterResult;
+
+  private final AtomicLong now = new AtomicLong(1_000_000L);
+
+  private AdminClientPool adminClientPool;
+
+  @BeforeEach
+  public void setUp() {
+    adminClientPool = new AdminClientPool();
+    ReflectionTestUtils.setField(adminClientPool, "healthCheckTimeout", Duration.ofSeconds(5));
+    ReflectionTestUtils.setField(adminClientPool, "idleTimeout", Duration.ofMinutes(30));
+    ReflectionTestUtils.setField(adminClientPool, "initialBackoff", Duration.ofSeconds(5));
+    ReflectionTestUtils.setField(adminClientPool, "maxBackoff", Duration.ofMinutes(5));
+    ReflectionTestUtils.setField(adminClientPool, "clock", (LongSupplier) now::get);
+    when(adminClient.describeCluster(any(DescribeClusterOptions.class)))
+        .thenReturn(describeClusterResult);
+  }
+
+  @Test
+  public void clientIsCreatedAndVerifiedOnce() throws Exception {
+    when(describeClusterResult.clusterId()).thenReturn(KafkaFuture.completedFuture("cluster"));
+    try (MockedStatic<AdminClient> mocked = mockStatic(AdminClient.class)) {
+      mocked.when(() -> AdminClient.create(any(Properties.class))).thenReturn(adminClient);
+
+      assertThat(adminClientPool.getAdminClient(KEY, Properties::new)).isSameAs(adminClient);
+      assertThat(adminClientPool.getAdminClient(KEY, Properties::new)).isSameAs(adminClient);
+
+      mocked.verify(() -> AdminClient.create(any(Properties.class)), times(1));
+      verify(adminClient, times(1)).describeCluster(any(DescribeClusterOptions.class));
+      assertThat(adminClientPool.getStatus())
+          .extracting(AdminClientStatus::getState)
+          .containsExactly(AdminClientPool.ClientState.HEALTHY.name());
+    }
+  }
+
+  @Test
+  public void unreachableClusterFailsFastUntilReconnected() throws Exception {
+    when(describeClusterResult.clusterId())
+        .thenReturn(failedFuture(), KafkaFuture.completedFuture("cluster"));
+    try (MockedStatic<AdminClient> mocked = mockStatic(AdminClient.class)) {
+      mocked.when(() -> AdminClient.create(any(Properties.class))).thenReturn(adminClient);
+
+      assertThatThrownBy(() -> adminClientPool.getAdminClient(KEY, Properties::new))
+          .hasMessageContaining("Cluster is unreachable");
+      // backing off, no new connection
+      assertThatThrownBy(() -> adminClientPool.getAdminClient(KEY, Properties::new))
+          .hasMessageContaining("reconnecting at");
+      mocked.verify(() -> AdminClient.create(any(Properties.class)), times(1));
+
+      now.addAndGet(Duration.ofSeconds(5).toMillis());
+      adminClientPool.runHealthChecks();
+
+      mocked.verify(() -> AdminClient.create(any(Properties.class)), times(2));
+      assertThat(adminClientPool.getAdminClient(KEY, Properties::new)).isSameAs(adminClient);
+    }
+  }
+
+  @Test
+  public void failedHealthCheckMarksClientUnhealthyAndIdleClientIsClosed() throws Exception {
+    when(describeClusterResult.clusterId())
+        .thenReturn(KafkaFuture.completedFuture("cluster"), failedFuture());
+    try (MockedStatic<AdminClient> mocked = mockStatic(AdminClient.class)) {
+      mocked.when(() -> AdminClient.create(any(Properties.class))).thenReturn(adminClient);
+      adminClientPool.getAdminClient(KEY, Properties::new);
+
+      adminClientPool.runHealthChecks();
+
+      AdminClientStatus status = adminClientPool.getStatus().get(0);
+      assertThat(status.getState()).isEqualTo(AdminClientPool.ClientState.UNHEALTHY.name());
+      assertThat(status.getConsecutiveFailures()).isEqualTo(1);
+      assertThat(status.getNextReconnectTime()).isNotNull();
+
+      now.addAndGet(Duration.ofMinutes(31).toMillis());
+      adminClientPool.runHealthChecks();
+
+      assertThat(adminClientPool.getStatus()).isEmpty();
+      verify(adminClient).close(Duration.ZERO);
+    }
+  }
+
+  private KafkaFuture<String> failedFuture() {
+    KafkaFutureImpl<String> future = new KafkaFutureImpl<>();
+    future.completeExceptionally(new TimeoutException("Timed out waiting for a node assignment."));
+    return future;
+  }
+}
@@ -0,0 +1,62 @@
+package io.aiven.klaw.clusterapi.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class ClusterOperationBulkheadTest {
+
+  private final ClusterOperationBulkhead clusterOperationBulkhead =
+      new ClusterOperationBulkhead(1, Duration.ofMillis(50));
+
+  @Test
+  public void operationFailsWhenClusterHasNoFreeSlot() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<String> slowOperation =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return clusterOperationBulkhead.call(
+                    "cluster1:9092",
+                    () -> {
+                      started.countDown();
+                      release.await();
+                      return "slow";
+                    });
+              } catch (Exception e) {
+                throw new RuntimeException(e);
+              }
+            });
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    assertThat(clusterOperationBulkhead.getInFlight("cluster1:9092")).isEqualTo(1);
+    assertThatThrownBy(() -> clusterOperationBulkhead.call("cluster1:9092", () -> "blocked"))
+        .hasMessageContaining("Too many operations");
+    // other clusters are not affected
+    assertThat(clusterOperationBulkhead.call("cluster2:9092", () -> "other")).isEqualTo("other");
+
+    release.countDown();
+    assertThat(slowOperation.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+    assertThat(clusterOperationBulkhead.getInFlight("cluster1:9092")).isZero();
+  }
+
+  @Test
+  public void slotIsReleasedWhenOperationFails() throws Exception {
+    assertThatThrownBy(
+            () ->
+                clusterOperationBulkhead.call(
+                    "cluster1:9092",
+                    () -> {
+                      throw new Exception("Cannot connect to cluster.");
+                    }))
+        .hasMessage("Cannot connect to cluster.");
+
+    assertThat(clusterOperationBulkhead.call("cluster1:9092", () -> "ok")).isEqualTo("ok");
+  }
+}
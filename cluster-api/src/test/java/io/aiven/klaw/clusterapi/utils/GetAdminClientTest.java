@@ -6,13 +6,12 @@ import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 
 import io.aiven.klaw.clusterapi.models.enums.KafkaSupportedProtocol;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Properties;
-import java.util.Set;
 import org.apache.kafka.clients.admin.AdminClient;
-import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.DescribeClusterOptions;
+import org.apache.kafka.clients.admin.DescribeClusterResult;
 import org.apache.kafka.common.KafkaFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
@@ -22,6 +21,7 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.env.Environment;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.RestTemplate;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,17 +34,17 @@ public class GetAdminClientTest {
 
   @Mock AdminClient adminClient;
   ClusterApiUtils getAdminClient;
-  @Mock private ListTopicsResult listTopicsResult;
-  @Mock private KafkaFuture<Set<String>> kafkaFuture;
-  @Mock private HashMap<String, AdminClient> adminClientsMap;
+  @Mock private DescribeClusterResult describeClusterResult;
 
   @Mock private Map<String, RestTemplate> restTemplateMap;
   @Mock private AdminClientProperties adminClientProperties;
 
   @BeforeEach
   public void setUp() {
+    AdminClientPool adminClientPool = new AdminClientPool();
+    ReflectionTestUtils.setField(adminClientPool, "healthCheckTimeout", Duration.ofSeconds(5));
     getAdminClient =
-        new ClusterApiUtils(env, adminClientProperties, adminClientsMap, restTemplateMap);
+        new ClusterApiUtils(env, adminClientProperties, adminClientPool, restTemplateMap);
     when(adminClientProperties.getRetriesConfig()).thenReturn("3");
     when(adminClientProperties.getRequestTimeOutMs()).thenReturn("15000");
     when(adminClientProperties.getRetryBackOffMsConfig()).thenReturn("15000");
@@ -56,10 +56,9 @@ public class GetAdminClientTest {
       mocked.when(() -> AdminClient.create(any(Properties.class))).thenReturn(adminClient);
       // Commented out to avoid UnnecessaryStubbingException
       // when(env.getProperty(any())).thenReturn("null");
-      when(adminClient.listTopics()).thenReturn(listTopicsResult);
-      when(listTopicsResult.names()).thenReturn(kafkaFuture);
-      Set<String> setStr = new HashSet<>();
-      when(kafkaFuture.get()).thenReturn(setStr);
+      when(adminClient.describeCluster(any(DescribeClusterOptions.class)))
+          .thenReturn(describeClusterResult);
+      when(describeClusterResult.clusterId()).thenReturn(KafkaFuture.completedFuture("cluster"));
 
       AdminClient result =
           getAdminClient.getAdminClient(LOCALHOST_9092, KafkaSupportedProtocol.PLAINTEXT, "");
@@ -74,10 +73,9 @@ public class GetAdminClientTest {
       mocked.when(() -> AdminClient.create(any(Properties.class))).thenReturn(adminClient);
       // Commented out to avoid UnnecessaryStubbingException
       // when(env.getProperty(any())).thenReturn("true");
-      when(adminClient.listTopics()).thenReturn(listTopicsResult);
-      when(listTopicsResult.names()).thenReturn(kafkaFuture);
-      Set<String> setStr = new HashSet<>();
-      when(kafkaFuture.get()).thenReturn(setStr);
+      when(adminClient.describeCluster(any(DescribeClusterOptions.class)))
+          .thenReturn(describeClusterResult);
+      when(describeClusterResult.clusterId()).thenReturn(KafkaFuture.completedFuture("cluster"));
 
       AdminClient result =
           getAdminClient.getAdminClient(LOCALHOST_9092, KafkaSupportedProtocol.PLAINTEXT, "");
@@ -92,10 +90,9 @@ public class GetAdminClientTest {
       mocked.when(() -> AdminClient.create(any(Properties.class))).thenReturn(adminClient);
       // Commented out to avoid UnnecessaryStubbingException
       when(env.getProperty(any())).thenReturn("false");
-      when(adminClient.listTopics()).thenReturn(listTopicsResult);
-      when(listTopicsResult.names()).thenReturn(kafkaFuture);
-      Set<String> setStr = new HashSet<>();
-      when(kafkaFuture.get()).thenReturn(setStr);
+      when(adminClient.describeCluster(any(DescribeClusterOptions.class)))
+          .thenReturn(describeClusterResult);
+      when(describeClusterResult.clusterId()).thenReturn(KafkaFuture.completedFuture("cluster"));
 
       AdminClient result =
           getAdminClient.getAdminClient(LOCALHOST_9092, KafkaSupportedProtocol.PLAINTEXT, "");
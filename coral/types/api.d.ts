@@ -279,6 +279,9 @@ export type paths = {
   "/getTeamDetails": {
     get: operations["getTeamDetails"];
   };
+  "/getTopicReconResults": {
+    get: operations["getTopicReconResults"];
+  };
   "/getSyncTopics": {
     get: operations["getSyncTopics"];
   };
@@ -447,6 +450,9 @@ export type paths = {
   "/getActivityLogPerEnv": {
     get: operations["showActivityLog"];
   };
+  "/getActivityLogPage": {
+    get: operations["getActivityLogPage"];
+  };
   "/getActivityLogForTeamOverview": {
     get: operations["getActivityLogForTeamOverview"];
   };
@@ -1050,6 +1056,22 @@ export type components = {
       display?: boolean;
       position?: string;
     };
+    TopicReconResultResponse: {
+      envId?: string;
+      envName?: string;
+      /** Format: date-time */
+      reconTime?: string;
+      status?: string;
+      /** Format: int32 */
+      addedCount?: number;
+      /** Format: int32 */
+      deletedCount?: number;
+      /** Format: int32 */
+      changedCount?: number;
+      /** Format: int32 */
+      matchedCount?: number;
+      details?: string;
+    };
     SyncTopicsList: {
       resultSet?: (components["schemas"]["TopicRequestsResponseModel"])[];
       /** Format: int32 */
@@ -1341,6 +1363,10 @@ export type components = {
       currentPage?: string;
       allPageNos?: (string)[];
     };
+    ActivityLogPage: {
+      entries?: (components["schemas"]["ActivityLog"])[];
+      nextPageToken?: string;
+    };
     AclsCountPerEnv: {
       status?: string;
       aclsCount?: string;
@@ -2474,6 +2500,9 @@ export type operations = {
   };
   resetMemoryCache: {
     parameters: {
+      query?: {
+        entityValue?: string;
+      };
       path: {
         tenantName: string;
         entityType: string;
@@ -2794,6 +2823,16 @@ export type operations = {
       };
     };
   };
+  getTopicReconResults: {
+    responses: {
+      /** @description OK */
+      200: {
+        content: {
+          "application/json": (components["schemas"]["TopicReconResultResponse"])[];
+        };
+      };
+    };
+  };
   getSyncTopics: {
     parameters: {
       query: {
@@ -2803,6 +2842,7 @@ export type operations = {
         topicnamesearch?: string;
         showAllTopics?: string;
         isBulkOption?: string;
+        refresh?: boolean;
       };
     };
     responses: {
@@ -3551,6 +3591,26 @@ export type operations = {
       };
     };
   };
+  getActivityLogPage: {
+    parameters: {
+      query?: {
+        env?: string;
+        fromDate?: string;
+        toDate?: string;
+        archived?: boolean;
+        pageToken?: string;
+        pageSize?: number;
+      };
+    };
+    responses: {
+      /** @description OK */
+      200: {
+        content: {
+          "application/json": components["schemas"]["ActivityLogPage"];
+        };
+      };
+    };
+  };
   getActivityLogForTeamOverview: {
     parameters: {
       query: {
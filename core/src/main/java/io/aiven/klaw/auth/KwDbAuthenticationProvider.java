@@ -0,0 +1,155 @@
+package io.aiven.klaw.auth;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.UserInfo;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jasypt.exceptions.EncryptionOperationNotPossibleException;
+import org.jasypt.util.text.BasicTextEncryptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.AbstractUserDetailsAuthenticationProvider;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Authenticates database users on login, instead of loading the credentials of all users into an in
+ * memory user store at startup. The user is read from the database and the presented password is
+ * compared with the decrypted stored password. Verified credentials are kept in a bounded cache
+ * keyed on the stored password, so repeated logins do not decrypt it again, and a password change
+ * in the database invalidates the cached credential.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression(
+    "'${klaw.login.authentication.type:}' == 'db' and ${klaw.login.db.lazy.enabled:false}")
+public class KwDbAuthenticationProvider extends AbstractUserDetailsAuthenticationProvider {
+
+  @Value("${klaw.jasypt.encryptor.secretkey}")
+  private String encryptorSecretKey;
+
+  @Value("${klaw.login.db.credentials.cache.size:1000}")
+  private int credentialsCacheSize;
+
+  @Autowired private ManageDatabase manageDatabase;
+
+  // decryption is thread safe once the encryptor is initialized
+  private BasicTextEncryptor textEncryptor;
+
+  // key is username, least recently verified credentials are evicted first
+  private Map<String, VerifiedCredential> verifiedCredentials;
+
+  // salts the digests of verified passwords, which are only kept in memory of this instance
+  private final byte[] digestSalt = new byte[16];
+
+  @Override
+  protected void doAfterPropertiesSet() {
+    textEncryptor = new BasicTextEncryptor();
+    textEncryptor.setPasswordCharArray(encryptorSecretKey.toCharArray());
+    new SecureRandom().nextBytes(digestSalt);
+    verifiedCredentials =
+        Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+              @Override
+              protected boolean removeEldestEntry(Map.Entry<String, VerifiedCredential> eldest) {
+                return size() > credentialsCacheSize;
+              }
+            });
+    log.info("Db authentication configured, users are loaded on login.");
+  }
+
+  @Override
+  protected UserDetails retrieveUser(
+      String username, UsernamePasswordAuthenticationToken authentication)
+      throws AuthenticationException {
+    UserInfo userInfo = manageDatabase.getHandleDbRequests().getUsersInfo(username);
+    if (userInfo == null) {
+      throw new UsernameNotFoundException("User not found " + username);
+    }
+
+    return User.withUsername(userInfo.getUsername())
+        .password(userInfo.getPwd() == null ? "" : userInfo.getPwd())
+        .authorities(
+            userInfo.getRole() == null
+                ? AuthorityUtils.NO_AUTHORITIES
+                : AuthorityUtils.createAuthorityList(userInfo.getRole()))
+        .build();
+  }
+
+  @Override
+  protected void additionalAuthenticationChecks(
+      UserDetails userDetails, UsernamePasswordAuthenticationToken authentication)
+      throws AuthenticationException {
+    // password of the user as stored in the database, encrypted
+    String storedPwd = userDetails.getPassword();
+    if (authentication.getCredentials() == null || storedPwd == null || storedPwd.isEmpty()) {
+      // users without a password cannot login with db authentication
+      throw badCredentials();
+    }
+
+    String presentedPwd = authentication.getCredentials().toString();
+    byte[] presentedPwdDigest = digest(presentedPwd);
+    VerifiedCredential verifiedCredential = verifiedCredentials.get(userDetails.getUsername());
+    if (verifiedCredential != null
+        && verifiedCredential.storedPwd.equals(storedPwd)
+        && MessageDigest.isEqual(verifiedCredential.pwdDigest, presentedPwdDigest)) {
+      return;
+    }
+
+    String decodedPwd;
+    try {
+      decodedPwd = textEncryptor.decrypt(storedPwd);
+    } catch (EncryptionOperationNotPossibleException e) {
+      log.error("Error : User {} not loaded. Check password.", userDetails.getUsername());
+      throw badCredentials();
+    }
+
+    if (!MessageDigest.isEqual(
+        decodedPwd.getBytes(StandardCharsets.UTF_8),
+        presentedPwd.getBytes(StandardCharsets.UTF_8))) {
+      throw badCredentials();
+    }
+    verifiedCredentials.put(
+        userDetails.getUsername(), new VerifiedCredential(storedPwd, presentedPwdDigest));
+  }
+
+  public int getVerifiedCredentialsCount() {
+    return verifiedCredentials.size();
+  }
+
+  private BadCredentialsException badCredentials() {
+    return new BadCredentialsException(
+        messages.getMessage(
+            "AbstractUserDetailsAuthenticationProvider.badCredentials", "Bad credentials"));
+  }
+
+  private byte[] digest(String pwd) {
+    try {
+      MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+      messageDigest.update(digestSalt);
+      return messageDigest.digest(pwd.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @AllArgsConstructor
+  private static final class VerifiedCredential {
+    private final String storedPwd;
+    private final byte[] pwdDigest;
+  }
+}
@@ -0,0 +1,148 @@
+package io.aiven.klaw.cache;
+
+import io.aiven.klaw.dao.Acl;
+import io.aiven.klaw.model.enums.AclPatternType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable view over the acls (subscriptions) of one tenant, indexed by environment and topic,
+ * consumer group, team and principal. Like {@link TopicCatalog}, a new catalog is built on every
+ * reload of the acls of the tenant.
+ */
+public final class AclCatalog {
+
+  private static final AclCatalog EMPTY = new AclCatalog(Collections.emptyList());
+
+  private final List<Acl> allAcls;
+
+  // key is env id, value is acls of that env
+  private final Map<String, List<Acl>> aclsByEnv;
+
+  // key is env id, value is acls of that env by topic name
+  private final Map<String, Map<String, List<Acl>>> aclsByEnvAndTopic;
+
+  // key is env id, value is the prefixed acls of that env
+  private final Map<String, List<Acl>> prefixedAclsByEnv;
+
+  // key is env id, value is the prefixed acls of that env by their resource name
+  private final Map<String, PrefixTrie<Acl>> prefixedAclTrieByEnv;
+
+  // key is consumer group, value is acls of that consumer group
+  private final Map<String, List<Acl>> aclsByConsumerGroup;
+
+  // key is team id, value is acls owned by that team
+  private final Map<Integer, List<Acl>> aclsByTeam;
+
+  // key is principal (ssl/sasl principal or ip address), value is acls of that principal
+  private final Map<String, List<Acl>> aclsByPrincipal;
+
+  private AclCatalog(List<Acl> acls) {
+    Map<String, List<Acl>> byEnv = new LinkedHashMap<>();
+    Map<String, Map<String, List<Acl>>> byEnvAndTopic = new LinkedHashMap<>();
+    Map<String, List<Acl>> prefixedByEnv = new LinkedHashMap<>();
+    Map<String, PrefixTrie<Acl>> prefixedTrieByEnv = new HashMap<>();
+    Map<String, List<Acl>> byConsumerGroup = new LinkedHashMap<>();
+    Map<Integer, List<Acl>> byTeam = new LinkedHashMap<>();
+    Map<String, List<Acl>> byPrincipal = new LinkedHashMap<>();
+
+    for (Acl acl : acls) {
+      byEnv.computeIfAbsent(acl.getEnvironment(), k -> new ArrayList<>()).add(acl);
+      byEnvAndTopic
+          .computeIfAbsent(acl.getEnvironment(), k -> new LinkedHashMap<>())
+          .computeIfAbsent(acl.getTopicname(), k -> new ArrayList<>())
+          .add(acl);
+      if (AclPatternType.PREFIXED.value.equals(acl.getAclPatternType())) {
+        prefixedByEnv.computeIfAbsent(acl.getEnvironment(), k -> new ArrayList<>()).add(acl);
+        if (acl.getTopicname() != null) {
+          prefixedTrieByEnv
+              .computeIfAbsent(acl.getEnvironment(), k -> new PrefixTrie<>())
+              .put(acl.getTopicname(), acl);
+        }
+      }
+      if (acl.getConsumergroup() != null) {
+        byConsumerGroup.computeIfAbsent(acl.getConsumergroup(), k -> new ArrayList<>()).add(acl);
+      }
+      byTeam.computeIfAbsent(acl.getTeamId(), k -> new ArrayList<>()).add(acl);
+      if (acl.getAclssl() != null) {
+        byPrincipal.computeIfAbsent(acl.getAclssl(), k -> new ArrayList<>()).add(acl);
+      }
+      if (acl.getAclip() != null && !acl.getAclip().equals(acl.getAclssl())) {
+        byPrincipal.computeIfAbsent(acl.getAclip(), k -> new ArrayList<>()).add(acl);
+      }
+    }
+
+    this.allAcls = Collections.unmodifiableList(new ArrayList<>(acls));
+    this.aclsByEnv = freezeLists(byEnv);
+    byEnvAndTopic.replaceAll((env, aclsByTopic) -> freezeLists(aclsByTopic));
+    this.aclsByEnvAndTopic = Collections.unmodifiableMap(byEnvAndTopic);
+    this.prefixedAclsByEnv = freezeLists(prefixedByEnv);
+    this.prefixedAclTrieByEnv = Collections.unmodifiableMap(prefixedTrieByEnv);
+    this.aclsByConsumerGroup = freezeLists(byConsumerGroup);
+    this.aclsByTeam = freezeLists(byTeam);
+    this.aclsByPrincipal = freezeLists(byPrincipal);
+  }
+
+  public static AclCatalog of(List<Acl> acls) {
+    if (acls == null || acls.isEmpty()) {
+      return EMPTY;
+    }
+    return new AclCatalog(acls);
+  }
+
+  public static AclCatalog empty() {
+    return EMPTY;
+  }
+
+  public List<Acl> getAllAcls() {
+    return allAcls;
+  }
+
+  public int size() {
+    return allAcls.size();
+  }
+
+  public List<Acl> getAclsByEnv(String envId) {
+    return aclsByEnv.getOrDefault(envId, Collections.emptyList());
+  }
+
+  public List<Acl> getAcls(String envId, String topicName) {
+    return aclsByEnvAndTopic
+        .getOrDefault(envId, Collections.emptyMap())
+        .getOrDefault(topicName, Collections.emptyList());
+  }
+
+  public List<Acl> getPrefixedAclsByEnv(String envId) {
+    return prefixedAclsByEnv.getOrDefault(envId, Collections.emptyList());
+  }
+
+  /** Returns the prefixed acls of the env whose prefix the given topic name starts with. */
+  public List<Acl> getPrefixedAclsMatching(String envId, String topicName) {
+    PrefixTrie<Acl> prefixedAclTrie = prefixedAclTrieByEnv.get(envId);
+    if (prefixedAclTrie == null) {
+      return Collections.emptyList();
+    }
+    return prefixedAclTrie.getValuesOfPrefixesOf(topicName);
+  }
+
+  public List<Acl> getAclsByConsumerGroup(String consumerGroup) {
+    return aclsByConsumerGroup.getOrDefault(consumerGroup, Collections.emptyList());
+  }
+
+  public List<Acl> getAclsByTeam(Integer teamId) {
+    return aclsByTeam.getOrDefault(teamId, Collections.emptyList());
+  }
+
+  public List<Acl> getAclsByPrincipal(String principal) {
+    return aclsByPrincipal.getOrDefault(principal, Collections.emptyList());
+  }
+
+  private static <K, V> Map<K, List<V>> freezeLists(Map<K, List<V>> map) {
+    map.replaceAll((k, v) -> Collections.unmodifiableList(v));
+    return Collections.unmodifiableMap(map);
+  }
+}
@@ -0,0 +1,60 @@
+package io.aiven.klaw.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Character trie mapping prefixes (like the resource names of prefixed acls) to values. Finding the
+ * values of all prefixes of a name walks the name once, so its cost depends on the length of the
+ * name and not on the number of prefixes. Values are added while building; a trie published in a
+ * catalog is not modified anymore.
+ */
+public final class PrefixTrie<V> {
+
+  private final Node<V> root = new Node<>();
+
+  private int size;
+
+  public void put(String prefix, V value) {
+    Node<V> node = root;
+    for (int i = 0; i < prefix.length(); i++) {
+      node = node.children.computeIfAbsent(prefix.charAt(i), k -> new Node<>());
+    }
+    node.values.add(value);
+    size++;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /** Returns the values of all prefixes the given name starts with, shortest prefix first. */
+  public List<V> getValuesOfPrefixesOf(String name) {
+    if (size == 0 || name == null) {
+      return Collections.emptyList();
+    }
+
+    List<V> values = new ArrayList<>(root.values);
+    Node<V> node = root;
+    for (int i = 0; i < name.length(); i++) {
+      node = node.children.get(name.charAt(i));
+      if (node == null) {
+        break;
+      }
+      values.addAll(node.values);
+    }
+    return values;
+  }
+
+  private static final class Node<V> {
+    private final Map<Character, Node<V>> children = new HashMap<>(4);
+    private final List<V> values = new ArrayList<>(1);
+  }
+}
@@ -0,0 +1,94 @@
+package io.aiven.klaw.cache;
+
+import io.aiven.klaw.dao.Env;
+import io.aiven.klaw.dao.KwClusters;
+import io.aiven.klaw.dao.KwTenants;
+import io.aiven.klaw.dao.Team;
+import io.aiven.klaw.dao.UserInfo;
+import io.aiven.klaw.model.KwTenantConfigModel;
+import io.aiven.klaw.model.enums.PermissionType;
+import io.aiven.klaw.model.response.EnvParams;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Immutable snapshot of the cached metadata of one tenant. Snapshots are never modified once
+ * published : a reload builds the next snapshot with {@link #toBuilder()} and replaces the previous
+ * one, so a reader holding a snapshot always sees values loaded together. The cached entities are
+ * shared by all readers and are copied before they are modified.
+ */
+@Getter
+@Builder(toBuilder = true)
+public final class TenantSnapshot {
+
+  private final int tenantId;
+
+  private final KwTenants tenant;
+
+  private final KwTenantConfigModel tenantConfig;
+
+  // key is property name, value is map of property attributes
+  private final Map<String, Map<String, String>> kwProperties;
+
+  // key rolename, value list of permissions
+  @Builder.Default
+  private final Map<String, List<String>> rolesPermissions = Collections.emptyMap();
+
+  // key rolename, value permissions of the role compiled into an EnumSet
+  @Builder.Default
+  private final Map<String, Set<PermissionType>> rolesPermissionTypes = Collections.emptyMap();
+
+  // key clusterid
+  @Builder.Default private final Map<Integer, KwClusters> kafkaClusters = Collections.emptyMap();
+
+  @Builder.Default
+  private final Map<Integer, KwClusters> schemaRegClusters = Collections.emptyMap();
+
+  @Builder.Default
+  private final Map<Integer, KwClusters> kafkaConnectClusters = Collections.emptyMap();
+
+  @Builder.Default private final Map<Integer, KwClusters> allClusters = Collections.emptyMap();
+
+  @Builder.Default private final List<Env> kafkaEnvs = Collections.emptyList();
+
+  @Builder.Default private final List<Env> schemaRegEnvs = Collections.emptyList();
+
+  @Builder.Default private final List<Env> kafkaConnectEnvs = Collections.emptyList();
+
+  @Builder.Default private final List<Env> allEnvs = Collections.emptyList();
+
+  // key env id, params of kafka envs
+  @Builder.Default private final Map<String, EnvParams> envParams = Collections.emptyMap();
+
+  // ids of all envs (kafka, schema registry, kafka connect)
+  @Builder.Default private final List<String> envIds = Collections.emptyList();
+
+  @Builder.Default private final List<Team> teams = Collections.emptyList();
+
+  // key is teamId, value is allowed envs
+  @Builder.Default
+  private final Map<Integer, List<String>> teamsAndAllowedEnvs = Collections.emptyMap();
+
+  // key is teamId, value is team name
+  @Builder.Default private final Map<Integer, String> teamIdAndName = Collections.emptyMap();
+
+  @Builder.Default private final Set<String> serviceAccounts = Collections.emptySet();
+
+  @Builder.Default private final List<UserInfo> users = Collections.emptyList();
+
+  @Builder.Default private final TopicCatalog topicCatalog = TopicCatalog.empty();
+
+  @Builder.Default private final AclCatalog aclCatalog = AclCatalog.empty();
+
+  public static TenantSnapshot empty(int tenantId) {
+    return TenantSnapshot.builder().tenantId(tenantId).build();
+  }
+
+  public String getTenantName() {
+    return tenant == null ? null : tenant.getTenantName();
+  }
+}
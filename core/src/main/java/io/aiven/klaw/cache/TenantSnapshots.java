@@ -0,0 +1,83 @@
+package io.aiven.klaw.cache;
+
+import io.aiven.klaw.model.KwTenantConfigModel;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable set of the snapshots of all tenants, as published together. The views over all tenants
+ * are derived once when the set is built, so reading them does not copy the snapshots on every
+ * call.
+ */
+public final class TenantSnapshots {
+
+  private static final TenantSnapshots EMPTY = new TenantSnapshots(Collections.emptyMap());
+
+  // key tenantId
+  private final Map<Integer, TenantSnapshot> snapshotsByTenant;
+
+  // snapshots of the tenants which are loaded
+  private final List<TenantSnapshot> tenantSnapshots;
+
+  // key tenantId, value tenant name
+  private final Map<Integer, String> tenantMap;
+
+  // key tenantId, value config of tenants which have one
+  private final Map<Integer, KwTenantConfigModel> tenantConfig;
+
+  private TenantSnapshots(Map<Integer, TenantSnapshot> snapshots) {
+    Map<Integer, String> names = new HashMap<>();
+    Map<Integer, KwTenantConfigModel> configs = new HashMap<>();
+    List<TenantSnapshot> loadedSnapshots =
+        snapshots.values().stream().filter(snapshot -> snapshot.getTenant() != null).toList();
+    for (TenantSnapshot tenantSnapshot : loadedSnapshots) {
+      names.put(tenantSnapshot.getTenantId(), tenantSnapshot.getTenantName());
+      if (tenantSnapshot.getTenantConfig() != null) {
+        configs.put(tenantSnapshot.getTenantId(), tenantSnapshot.getTenantConfig());
+      }
+    }
+
+    this.snapshotsByTenant = Collections.unmodifiableMap(new HashMap<>(snapshots));
+    this.tenantSnapshots = loadedSnapshots;
+    this.tenantMap = Collections.unmodifiableMap(names);
+    this.tenantConfig = Collections.unmodifiableMap(configs);
+  }
+
+  public static TenantSnapshots empty() {
+    return EMPTY;
+  }
+
+  /** Returns the snapshot of the tenant, or null if the tenant has none. */
+  public TenantSnapshot get(int tenantId) {
+    return snapshotsByTenant.get(tenantId);
+  }
+
+  /** Returns a new set with the snapshot of the tenant added or replaced. */
+  public TenantSnapshots with(TenantSnapshot tenantSnapshot) {
+    Map<Integer, TenantSnapshot> nextSnapshots = new HashMap<>(snapshotsByTenant);
+    nextSnapshots.put(tenantSnapshot.getTenantId(), tenantSnapshot);
+    return new TenantSnapshots(nextSnapshots);
+  }
+
+  /** Returns a new set without the snapshot of the tenant. */
+  public TenantSnapshots without(int tenantId) {
+    Map<Integer, TenantSnapshot> nextSnapshots = new HashMap<>(snapshotsByTenant);
+    nextSnapshots.remove(tenantId);
+    return new TenantSnapshots(nextSnapshots);
+  }
+
+  public Collection<TenantSnapshot> getTenantSnapshots() {
+    return tenantSnapshots;
+  }
+
+  public Map<Integer, String> getTenantMap() {
+    return tenantMap;
+  }
+
+  public Map<Integer, KwTenantConfigModel> getTenantConfig() {
+    return tenantConfig;
+  }
+}
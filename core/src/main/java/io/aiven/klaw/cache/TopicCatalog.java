@@ -0,0 +1,213 @@
+package io.aiven.klaw.cache;
+
+import io.aiven.klaw.dao.Topic;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Immutable view over the topics of one tenant, indexed by topic name, environment and team. A new
+ * catalog is built whenever the topics of a tenant are reloaded, so readers holding a reference
+ * always see a consistent set of indexes.
+ */
+public final class TopicCatalog {
+
+  private static final TopicCatalog EMPTY = new TopicCatalog(Collections.emptyList());
+
+  private final List<Topic> allTopics;
+
+  // key is topic name, value is topics with that name across environments
+  private final Map<String, List<Topic>> topicsByName;
+
+  // key is env id, value is topics of that env
+  private final Map<String, List<Topic>> topicsByEnv;
+
+  // key is team id, value is topics owned by that team
+  private final Map<Integer, List<Topic>> topicsByTeam;
+
+  // key is topic name, value is env ids the topic exists on
+  private final Map<String, Set<String>> envsByTopicName;
+
+  // topic names in sorted order, to find the topics starting with a prefix
+  private final NavigableSet<String> sortedTopicNames;
+
+  // built on the first search, and derived from the index of the previous catalog on updates
+  private volatile TrigramIndex trigramIndex;
+
+  private TopicCatalog(List<Topic> topics) {
+    Map<String, List<Topic>> byName = new LinkedHashMap<>();
+    Map<String, List<Topic>> byEnv = new LinkedHashMap<>();
+    Map<Integer, List<Topic>> byTeam = new LinkedHashMap<>();
+    Map<String, Set<String>> envsByName = new LinkedHashMap<>();
+
+    for (Topic topic : topics) {
+      byName.computeIfAbsent(topic.getTopicname(), k -> new ArrayList<>()).add(topic);
+      byEnv.computeIfAbsent(topic.getEnvironment(), k -> new ArrayList<>()).add(topic);
+      byTeam.computeIfAbsent(topic.getTeamId(), k -> new ArrayList<>()).add(topic);
+      envsByName
+          .computeIfAbsent(topic.getTopicname(), k -> new LinkedHashSet<>())
+          .add(topic.getEnvironment());
+    }
+
+    this.allTopics = Collections.unmodifiableList(new ArrayList<>(topics));
+    this.topicsByName = freezeLists(byName);
+    this.topicsByEnv = freezeLists(byEnv);
+    this.topicsByTeam = freezeLists(byTeam);
+    this.envsByTopicName = freezeSets(envsByName);
+    NavigableSet<String> sortedNames = new TreeSet<>();
+    byName.keySet().stream().filter(Objects::nonNull).forEach(sortedNames::add);
+    this.sortedTopicNames = Collections.unmodifiableNavigableSet(sortedNames);
+  }
+
+  public static TopicCatalog of(List<Topic> topics) {
+    if (topics == null || topics.isEmpty()) {
+      return EMPTY;
+    }
+    return new TopicCatalog(topics);
+  }
+
+  public static TopicCatalog empty() {
+    return EMPTY;
+  }
+
+  public List<Topic> getAllTopics() {
+    return allTopics;
+  }
+
+  public int size() {
+    return allTopics.size();
+  }
+
+  public List<Topic> getTopicsByName(String topicName) {
+    return topicsByName.getOrDefault(topicName, Collections.emptyList());
+  }
+
+  public List<Topic> getTopicsByEnv(String envId) {
+    return topicsByEnv.getOrDefault(envId, Collections.emptyList());
+  }
+
+  public List<Topic> getTopicsByTeam(Integer teamId) {
+    return topicsByTeam.getOrDefault(teamId, Collections.emptyList());
+  }
+
+  public Set<String> getEnvsForTopicName(String topicName) {
+    return envsByTopicName.getOrDefault(topicName, Collections.emptySet());
+  }
+
+  public Set<String> getTopicNames() {
+    return topicsByName.keySet();
+  }
+
+  /**
+   * Returns the topics of all environments whose name starts with the given prefix, by looking up
+   * the range of sorted topic names starting with it.
+   */
+  public List<Topic> getTopicsWithPrefix(String prefix) {
+    List<Topic> topics = new ArrayList<>();
+    for (String topicName : sortedTopicNames.tailSet(prefix, true)) {
+      if (!topicName.startsWith(prefix)) {
+        break;
+      }
+      topics.addAll(topicsByName.get(topicName));
+    }
+    return topics;
+  }
+
+  /**
+   * Returns the names of the topics which may contain the search string in their name or
+   * documentation, ignoring case, or null if the search string is too short to be looked up.
+   */
+  public Set<String> getCandidateTopicNames(String search) {
+    return getTrigramIndex().getCandidateTopicNames(search);
+  }
+
+  private TrigramIndex getTrigramIndex() {
+    TrigramIndex index = trigramIndex;
+    if (index == null) {
+      synchronized (this) {
+        index = trigramIndex;
+        if (index == null) {
+          index = TrigramIndex.of(allTopics);
+          trigramIndex = index;
+        }
+      }
+    }
+    return index;
+  }
+
+  // carries the search index over to the updated catalog, for the topic names which changed
+  private TopicCatalog withTrigramIndexOf(TopicCatalog previous, Set<String> changedTopicNames) {
+    TrigramIndex previousIndex = previous.trigramIndex;
+    if (previousIndex != null && this != EMPTY) {
+      List<Topic> changedTopics = new ArrayList<>();
+      changedTopicNames.forEach(topicName -> changedTopics.addAll(getTopicsByName(topicName)));
+      trigramIndex = previousIndex.withTopicsOfNames(changedTopicNames, changedTopics);
+    }
+    return this;
+  }
+
+  /**
+   * Returns a new catalog with the given topics inserted or replaced (matched on topic id) and the
+   * given topic ids removed. This catalog is left untouched.
+   */
+  public TopicCatalog withTopics(Collection<Topic> upsertedTopics, Collection<Integer> deletedIds) {
+    Set<Integer> removedIds = new HashSet<>();
+    if (deletedIds != null) {
+      removedIds.addAll(deletedIds);
+    }
+    if (upsertedTopics != null) {
+      upsertedTopics.forEach(topic -> removedIds.add(topic.getTopicid()));
+    }
+
+    Set<String> changedTopicNames = new HashSet<>();
+    List<Topic> topics = new ArrayList<>(allTopics.size());
+    for (Topic topic : allTopics) {
+      if (!removedIds.contains(topic.getTopicid())) {
+        topics.add(topic);
+      } else {
+        changedTopicNames.add(topic.getTopicname());
+      }
+    }
+    if (upsertedTopics != null) {
+      topics.addAll(upsertedTopics);
+      upsertedTopics.forEach(topic -> changedTopicNames.add(topic.getTopicname()));
+    }
+    return of(topics).withTrigramIndexOf(this, changedTopicNames);
+  }
+
+  /**
+   * Returns a new catalog in which all topics named topicName are replaced by the given topics. An
+   * empty list removes the topic from every environment.
+   */
+  public TopicCatalog withTopicsForName(String topicName, List<Topic> topicsOfName) {
+    List<Topic> topics = new ArrayList<>(allTopics.size());
+    for (Topic topic : allTopics) {
+      if (!Objects.equals(topic.getTopicname(), topicName)) {
+        topics.add(topic);
+      }
+    }
+    if (topicsOfName != null) {
+      topics.addAll(topicsOfName);
+    }
+    return of(topics).withTrigramIndexOf(this, Set.of(topicName));
+  }
+
+  private static <K, V> Map<K, List<V>> freezeLists(Map<K, List<V>> map) {
+    map.replaceAll((k, v) -> Collections.unmodifiableList(v));
+    return Collections.unmodifiableMap(map);
+  }
+
+  private static <K, V> Map<K, Set<V>> freezeSets(Map<K, Set<V>> map) {
+    map.replaceAll((k, v) -> Collections.unmodifiableSet(v));
+    return Collections.unmodifiableMap(map);
+  }
+}
@@ -0,0 +1,160 @@
+package io.aiven.klaw.cache;
+
+import io.aiven.klaw.dao.Topic;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable inverted index from the trigrams (three character substrings) of the lower cased topic
+ * names and documentation to the names of the topics containing them. A topic containing a search
+ * string contains all trigrams of it, so intersecting their topic names gives the candidates of a
+ * substring search without scanning every topic. Candidates still have to be checked, as having all
+ * trigrams does not mean containing the search string.
+ */
+public final class TrigramIndex {
+
+  private static final int GRAM_LENGTH = 3;
+
+  // key is trigram, value is names of topics with that trigram in their name or documentation
+  private final Map<String, Set<String>> topicNamesByTrigram;
+
+  // key is topic name, value is trigrams of that topic, to remove them when the topic changes
+  private final Map<String, Set<String>> trigramsByTopicName;
+
+  private TrigramIndex(
+      Map<String, Set<String>> topicNamesByTrigram, Map<String, Set<String>> trigramsByTopicName) {
+    this.topicNamesByTrigram = topicNamesByTrigram;
+    this.trigramsByTopicName = trigramsByTopicName;
+  }
+
+  public static TrigramIndex of(Collection<Topic> topics) {
+    TrigramIndex trigramIndex = new TrigramIndex(new HashMap<>(), new HashMap<>());
+    trigramIndex.addTopics(topics);
+    return trigramIndex;
+  }
+
+  /**
+   * Returns a new index in which the trigrams of the given topic names are replaced by the trigrams
+   * of the given topics, which are all topics now having one of those names. Only the trigrams of
+   * the changed topics are computed again, and this index is left untouched.
+   */
+  public TrigramIndex withTopicsOfNames(Set<String> topicNames, Collection<Topic> topicsOfNames) {
+    TrigramIndex trigramIndex =
+        new TrigramIndex(new HashMap<>(topicNamesByTrigram), new HashMap<>(trigramsByTopicName));
+    // posting sets shared with this index are copied before they are modified
+    Set<String> copiedTrigrams = new HashSet<>();
+    for (String topicName : topicNames) {
+      Set<String> trigrams = trigramIndex.trigramsByTopicName.remove(topicName);
+      if (trigrams == null) {
+        continue;
+      }
+      for (String trigram : trigrams) {
+        Set<String> names = trigramIndex.getPostingsForUpdate(trigram, copiedTrigrams);
+        names.remove(topicName);
+        if (names.isEmpty()) {
+          trigramIndex.topicNamesByTrigram.remove(trigram);
+          copiedTrigrams.remove(trigram);
+        }
+      }
+    }
+
+    for (Topic topic : topicsOfNames) {
+      if (!topicNames.contains(topic.getTopicname())) {
+        continue;
+      }
+      for (String trigram : trigramIndex.indexTopic(topic)) {
+        trigramIndex.getPostingsForUpdate(trigram, copiedTrigrams).add(topic.getTopicname());
+      }
+    }
+    return trigramIndex;
+  }
+
+  /**
+   * Returns the names of the topics which may contain the search string in their name or
+   * documentation, ignoring case, or null if the search string is shorter than a trigram and cannot
+   * be looked up.
+   */
+  public Set<String> getCandidateTopicNames(String search) {
+    Set<String> searchTrigrams = getTrigrams(search);
+    if (searchTrigrams.isEmpty()) {
+      return null;
+    }
+
+    // start from the rarest trigram, to keep the intersection small
+    Set<String> rarestPostings = null;
+    for (String trigram : searchTrigrams) {
+      Set<String> postings = topicNamesByTrigram.get(trigram);
+      if (postings == null) {
+        return Collections.emptySet();
+      }
+      if (rarestPostings == null || postings.size() < rarestPostings.size()) {
+        rarestPostings = postings;
+      }
+    }
+
+    Set<String> candidates = new HashSet<>(rarestPostings);
+    for (String trigram : searchTrigrams) {
+      Set<String> postings = topicNamesByTrigram.get(trigram);
+      if (postings != rarestPostings) {
+        candidates.retainAll(postings);
+      }
+    }
+    return candidates;
+  }
+
+  public int getTrigramCount() {
+    return topicNamesByTrigram.size();
+  }
+
+  private void addTopics(Collection<Topic> topics) {
+    for (Topic topic : topics) {
+      for (String trigram : indexTopic(topic)) {
+        topicNamesByTrigram
+            .computeIfAbsent(trigram, k -> new HashSet<>())
+            .add(topic.getTopicname());
+      }
+    }
+  }
+
+  // records the trigrams of the topic for its name and returns the ones not indexed for it yet
+  private Set<String> indexTopic(Topic topic) {
+    if (topic.getTopicname() == null) {
+      return Collections.emptySet();
+    }
+    Set<String> trigrams = getTrigrams(topic.getTopicname());
+    trigrams.addAll(getTrigrams(topic.getDocumentation()));
+
+    Set<String> indexedTrigrams =
+        trigramsByTopicName.computeIfAbsent(topic.getTopicname(), k -> new HashSet<>());
+    trigrams.removeAll(indexedTrigrams);
+    indexedTrigrams.addAll(trigrams);
+    return trigrams;
+  }
+
+  private Set<String> getPostingsForUpdate(String trigram, Set<String> copiedTrigrams) {
+    if (copiedTrigrams.add(trigram)) {
+      Set<String> postings = topicNamesByTrigram.get(trigram);
+      Set<String> copy = postings == null ? new HashSet<>() : new HashSet<>(postings);
+      topicNamesByTrigram.put(trigram, copy);
+      return copy;
+    }
+    return topicNamesByTrigram.get(trigram);
+  }
+
+  private static Set<String> getTrigrams(String text) {
+    if (text == null || text.length() < GRAM_LENGTH) {
+      return new LinkedHashSet<>();
+    }
+    String lowerCaseText = text.toLowerCase();
+    Set<String> trigrams = new LinkedHashSet<>();
+    for (int i = 0; i + GRAM_LENGTH <= lowerCaseText.length(); i++) {
+      trigrams.add(lowerCaseText.substring(i, i + GRAM_LENGTH));
+    }
+    return trigrams;
+  }
+}
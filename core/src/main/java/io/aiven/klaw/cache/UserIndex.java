@@ -0,0 +1,56 @@
+package io.aiven.klaw.cache;
+
+import io.aiven.klaw.dao.UserInfo;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable index of the users of all tenants, keyed by username. Usernames are unique across
+ * tenants, so the index resolves the tenant and team of a user without scanning every user.
+ */
+public final class UserIndex {
+
+  private static final UserIndex EMPTY = new UserIndex(Collections.emptyList());
+
+  private final List<UserInfo> allUsers;
+
+  // key is username
+  private final Map<String, UserInfo> usersByName;
+
+  private UserIndex(List<UserInfo> users) {
+    Map<String, UserInfo> byName = new HashMap<>(Math.max(16, users.size() * 2));
+    for (UserInfo userInfo : users) {
+      // keep the first entry, as the previous linear lookup did
+      byName.putIfAbsent(userInfo.getUsername(), userInfo);
+    }
+    this.allUsers = Collections.unmodifiableList(new ArrayList<>(users));
+    this.usersByName = Collections.unmodifiableMap(byName);
+  }
+
+  public static UserIndex of(List<UserInfo> users) {
+    if (users == null || users.isEmpty()) {
+      return EMPTY;
+    }
+    return new UserIndex(users);
+  }
+
+  public static UserIndex empty() {
+    return EMPTY;
+  }
+
+  public List<UserInfo> getAllUsers() {
+    return allUsers;
+  }
+
+  public int size() {
+    return allUsers.size();
+  }
+
+  /** Returns the cached user with the given username, or null if there is none. */
+  public UserInfo getUser(String username) {
+    return username == null ? null : usersByName.get(username);
+  }
+}
@@ -101,6 +101,16 @@ public class DataSourceConfig {
     properties.put(
         "hibernate.jdbc.lob.non_contextual_creation",
         environment.getProperty("spring.jpa.hibernate.jdbc.lob.non_contextual_creation"));
+    // inserts and updates of the same entity are sent in jdbc batches
+    properties.put(
+        "hibernate.jdbc.batch_size",
+        environment.getProperty("spring.jpa.properties.hibernate.jdbc.batch_size", "50"));
+    properties.put(
+        "hibernate.order_inserts",
+        environment.getProperty("spring.jpa.properties.hibernate.order_inserts", "true"));
+    properties.put(
+        "hibernate.order_updates",
+        environment.getProperty("spring.jpa.properties.hibernate.order_updates", "true"));
 
     return properties;
   }
@@ -4,6 +4,11 @@ import static io.aiven.klaw.model.enums.AuthenticationType.DATABASE;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.aiven.klaw.cache.AclCatalog;
+import io.aiven.klaw.cache.TenantSnapshot;
+import io.aiven.klaw.cache.TenantSnapshots;
+import io.aiven.klaw.cache.TopicCatalog;
+import io.aiven.klaw.cache.UserIndex;
 import io.aiven.klaw.dao.Env;
 import io.aiven.klaw.dao.KwClusters;
 import io.aiven.klaw.dao.KwProperties;
@@ -20,13 +25,16 @@ import io.aiven.klaw.model.KwTenantConfigModel;
 import io.aiven.klaw.model.TenantConfig;
 import io.aiven.klaw.model.enums.ApiResultStatus;
 import io.aiven.klaw.model.enums.KafkaClustersType;
+import io.aiven.klaw.model.enums.PermissionType;
 import io.aiven.klaw.model.enums.RequestStatus;
 import io.aiven.klaw.model.requests.EnvModel;
 import io.aiven.klaw.model.response.EnvParams;
 import io.aiven.klaw.service.DefaultDataService;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -34,6 +42,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.BeansException;
@@ -45,6 +55,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
 
 @Configuration
 @Slf4j
@@ -54,61 +65,18 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
 
   @Autowired HandleDbRequestsJdbc handleDbRequests;
 
-  private static Map<Integer, Map<String, EnvParams>> envParamsMapPerTenant;
+  // immutable snapshots of the cached metadata of all tenants. The set is never modified in
+  // place, a reload publishes a new set with the next snapshot of the tenant.
+  private static final AtomicReference<TenantSnapshots> tenantSnapshots =
+      new AtomicReference<>(TenantSnapshots.empty());
 
-  private static Map<Integer, Map<String, Map<String, String>>> kwPropertiesMapPerTenant;
-
-  private static Map<Integer, List<Team>> teamsPerTenant;
-
-  private static Map<Integer, List<UserInfo>> usersPerTenant;
-
-  private static List<UserInfo> allUsersAllTenants;
-
-  private static Set<String> serviceAccounts;
-
-  // key is tenant id, value is list of envs
-  private static Map<Integer, List<String>> envsOfTenantsMap;
-
-  // key is tenantid id, value is hashmap of teamId and allowed envs
-  private static Map<Integer, Map<Integer, List<String>>> teamsAndAllowedEnvsPerTenant;
-
-  // key is tenantid id, value is hashmap of team Id as key and teamname as value
-  private static Map<Integer, Map<Integer, String>> teamIdAndNamePerTenant;
+  // users of all tenants, indexed by username
+  private static volatile UserIndex userIndex = UserIndex.empty();
 
   // EnvModel lists for status
   private static Map<Integer, List<EnvModel>> envModelsClustersStatus;
 
-  // key tenantId, value tenant name
-  private static Map<Integer, String> tenantMap;
-
-  // key tenantId, value tenant full config
-  private static Map<Integer, KwTenants> tenantFullMap;
-
-  // key rolename, value list of permissions per tenant
-  private static Map<Integer, Map<String, List<String>>> rolesPermsMapPerTenant;
-
-  // key tenantId, sub key clusterid Pertenant
-  private static Map<Integer, Map<Integer, KwClusters>> kwAllClustersPertenant;
-
-  // key tenantId, sub key clusterid Pertenant
-  private static Map<Integer, Map<Integer, KwClusters>> kwKafkaClustersPertenant;
-
-  // key tenantId, sub key clusterid Pertenant
-  private static Map<Integer, Map<Integer, KwClusters>> kwSchemaRegClustersPertenant;
-
-  // key tenantId, sub key clusterid Pertenant
-  private static Map<Integer, Map<Integer, KwClusters>> kwKafkaConnectClustersPertenant;
-
-  private static Map<Integer, List<Env>> kafkaEnvListPerTenant = new HashMap<>();
-  private static Map<Integer, List<Env>> schemaRegEnvListPerTenant = new HashMap<>();
-  private static Map<Integer, List<Env>> kafkaConnectEnvListPerTenant = new HashMap<>();
-  private static Map<Integer, List<Env>> allEnvListPerTenant = new HashMap<>();
-
-  private static Map<Integer, KwTenantConfigModel> tenantConfig = new HashMap<>();
-
-  private static Map<Integer, List<Topic>> topicsPerTenant = new HashMap<>();
-
-  private static List<String> reqStatusList;
+  private static volatile List<String> reqStatusList = Collections.emptyList();
 
   @Autowired private DefaultDataService defaultDataService;
 
@@ -277,14 +245,35 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
     return handleDbRequests.getAllUsersAllTenants();
   }
 
+  private TenantSnapshot getTenantSnapshot(int tenantId) {
+    TenantSnapshot tenantSnapshot = tenantSnapshots.get().get(tenantId);
+    return tenantSnapshot != null ? tenantSnapshot : TenantSnapshot.empty(tenantId);
+  }
+
+  // builds the next snapshot of the tenant from the current one and publishes it atomically.
+  // updater can be invoked more than once on concurrent updates, so it should not have side effects
+  private void updateTenantSnapshot(int tenantId, UnaryOperator<TenantSnapshot> updater) {
+    tenantSnapshots.updateAndGet(
+        snapshots -> {
+          TenantSnapshot tenantSnapshot = snapshots.get(tenantId);
+          return snapshots.with(
+              updater.apply(
+                  tenantSnapshot != null ? tenantSnapshot : TenantSnapshot.empty(tenantId)));
+        });
+  }
+
+  private Collection<TenantSnapshot> getTenantSnapshots() {
+    return tenantSnapshots.get().getTenantSnapshots();
+  }
+
   public List<Env> getKafkaEnvListAllTenants(int tenantId) {
-    return kafkaEnvListPerTenant.get(tenantId);
+    return getTenantSnapshot(tenantId).getKafkaEnvs();
   }
 
   public Integer getAllTeamsSize() {
     int allTeamSize = 0;
-    for (Integer tenantId : tenantMap.keySet()) {
-      allTeamSize += teamIdAndNamePerTenant.get(tenantId).size();
+    for (TenantSnapshot tenantSnapshot : getTenantSnapshots()) {
+      allTeamSize += tenantSnapshot.getTeamIdAndName().size();
       allTeamSize = allTeamSize - 1; // removing "All teams"
     }
     return allTeamSize;
@@ -292,91 +281,95 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
 
   public Integer getAllClustersSize() {
     int allClustersSize = 0;
-    for (Integer tenantId : tenantMap.keySet()) {
-      allClustersSize += kwKafkaClustersPertenant.get(tenantId).size();
+    for (TenantSnapshot tenantSnapshot : getTenantSnapshots()) {
+      allClustersSize += tenantSnapshot.getKafkaClusters().size();
     }
     return allClustersSize;
   }
 
   public List<Env> getKafkaEnvList(int tenantId) {
-    if (kafkaEnvListPerTenant.get(tenantId).isEmpty()) {
+    List<Env> kafkaEnvs = getTenantSnapshot(tenantId).getKafkaEnvs();
+    if (kafkaEnvs.isEmpty()) {
       return new ArrayList<>();
     }
-    return kafkaEnvListPerTenant.get(tenantId);
+    return kafkaEnvs;
   }
 
   public List<Env> getSchemaRegEnvList(int tenantId) {
-    if (schemaRegEnvListPerTenant.get(tenantId).isEmpty()) {
+    List<Env> schemaRegEnvs = getTenantSnapshot(tenantId).getSchemaRegEnvs();
+    if (schemaRegEnvs.isEmpty()) {
       return new ArrayList<>();
     }
-    return schemaRegEnvListPerTenant.get(tenantId);
+    return schemaRegEnvs;
   }
 
   public List<Env> getKafkaConnectEnvList(int tenantId) {
-    if (kafkaConnectEnvListPerTenant.get(tenantId).isEmpty()) {
+    List<Env> kafkaConnectEnvs = getTenantSnapshot(tenantId).getKafkaConnectEnvs();
+    if (kafkaConnectEnvs.isEmpty()) {
       return new ArrayList<>();
     }
-    return kafkaConnectEnvListPerTenant.get(tenantId);
+    return kafkaConnectEnvs;
   }
 
   public List<Env> getAllEnvList(int tenantId) {
-    if (allEnvListPerTenant.get(tenantId).isEmpty()) {
+    List<Env> allEnvs = getTenantSnapshot(tenantId).getAllEnvs();
+    if (allEnvs.isEmpty()) {
       return new ArrayList<>();
     }
-    return allEnvListPerTenant.get(tenantId);
+    return allEnvs;
   }
 
   private Integer getTenantIdFromName(String tenantName) {
-    return tenantMap.entrySet().stream()
-        .filter(obj -> Objects.equals(obj.getValue(), tenantName))
+    return getTenantSnapshots().stream()
+        .filter(tenantSnapshot -> Objects.equals(tenantSnapshot.getTenantName(), tenantName))
         .findFirst()
         .get()
-        .getKey();
+        .getTenantId();
   }
 
   public Map<String, EnvParams> getEnvParamsMap(Integer tenantId) {
-    return envParamsMapPerTenant.get(tenantId);
+    return getTenantSnapshot(tenantId).getEnvParams();
   }
 
   public List<String> getTeamsAndAllowedEnvs(Integer teamId, int tenantId) {
-    return teamsAndAllowedEnvsPerTenant.get(tenantId).get(teamId);
+    return getTenantSnapshot(tenantId).getTeamsAndAllowedEnvs().get(teamId);
   }
 
   // return team ids
   public Set<Integer> getTeamsForTenant(int tenantId) {
-    return teamsAndAllowedEnvsPerTenant.get(tenantId).keySet();
+    return getTenantSnapshot(tenantId).getTeamsAndAllowedEnvs().keySet();
   }
 
   // return teams
   public List<Team> getTeamObjForTenant(int tenantId) {
-    return teamsPerTenant.get(tenantId);
+    return getTenantSnapshot(tenantId).getTeams();
   }
 
   public Set<String> getAllServiceAccounts(int tenantId) {
-    return serviceAccounts;
+    return getTenantSnapshot(tenantId).getServiceAccounts();
   }
 
-  private void updateAllServiceAccounts(int tenantId) {
-    serviceAccounts = new HashSet<>();
-    getTeamObjForTenant(tenantId)
-        .forEach(
-            a -> {
-              if (a.getServiceAccounts() != null
-                  && a.getServiceAccounts().getServiceAccountsList() != null) {
-                serviceAccounts.addAll(a.getServiceAccounts().getServiceAccountsList());
-              }
-            });
+  private Set<String> getAllServiceAccounts(List<Team> teams) {
+    Set<String> serviceAccounts = new HashSet<>();
+    teams.forEach(
+        a -> {
+          if (a.getServiceAccounts() != null
+              && a.getServiceAccounts().getServiceAccountsList() != null) {
+            serviceAccounts.addAll(a.getServiceAccounts().getServiceAccountsList());
+          }
+        });
+    return Collections.unmodifiableSet(serviceAccounts);
   }
 
   public List<String> getTeamNamesForTenant(int tenantId) {
-    return teamsPerTenant.get(tenantId).stream().map(Team::getTeamname).toList();
+    return getTenantSnapshot(tenantId).getTeams().stream().map(Team::getTeamname).toList();
   }
 
   public Integer getTeamIdFromTeamName(int tenantId, String teamName) {
     Optional<Map.Entry<Integer, String>> optionalTeam;
     if (teamName != null) {
       optionalTeam =
-          teamIdAndNamePerTenant.get(tenantId).entrySet().stream()
+          getTenantSnapshot(tenantId).getTeamIdAndName().entrySet().stream()
               .filter(a -> Objects.equals(a.getValue(), teamName))
               .findFirst();
     } else {
@@ -388,47 +381,59 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
   }
 
   public String getTeamNameFromTeamId(int tenantId, int teamId) {
-    return teamIdAndNamePerTenant
-        .getOrDefault(tenantId, Collections.emptyMap())
+    return getTenantSnapshot(tenantId)
+        .getTeamIdAndName()
         .getOrDefault(teamId, ""); // empty string in case of unknown team
   }
 
+  // key is tenant id, value is list of envs
   public Map<Integer, List<String>> getEnvsOfTenantsMap() {
-    return envsOfTenantsMap;
+    Map<Integer, List<String>> envsOfTenantsMap = new HashMap<>();
+    getTenantSnapshots()
+        .forEach(
+            tenantSnapshot ->
+                envsOfTenantsMap.put(tenantSnapshot.getTenantId(), tenantSnapshot.getEnvIds()));
+    return Collections.unmodifiableMap(envsOfTenantsMap);
   }
 
+  // key tenantId, value tenant name
   public Map<Integer, String> getTenantMap() {
-    return tenantMap;
+    return tenantSnapshots.get().getTenantMap();
   }
 
   public Map<Integer, KwClusters> getClusters(KafkaClustersType clusterType, int tenantId) {
+    TenantSnapshot tenantSnapshot = getTenantSnapshot(tenantId);
     return switch (clusterType) {
-      case SCHEMA_REGISTRY -> kwSchemaRegClustersPertenant.get(tenantId);
-      case KAFKA_CONNECT -> kwKafkaConnectClustersPertenant.get(tenantId);
-      case KAFKA -> kwKafkaClustersPertenant.get(tenantId);
-      default -> kwAllClustersPertenant.get(tenantId);
+      case SCHEMA_REGISTRY -> tenantSnapshot.getSchemaRegClusters();
+      case KAFKA_CONNECT -> tenantSnapshot.getKafkaConnectClusters();
+      case KAFKA -> tenantSnapshot.getKafkaClusters();
+      default -> tenantSnapshot.getAllClusters();
     };
   }
 
   public Map<String, Map<String, String>> getKwPropertiesMap(int tenantId) {
-    return kwPropertiesMapPerTenant.get(tenantId);
+    return getTenantSnapshot(tenantId).getKwProperties();
   }
 
   public String getKwPropertyValue(String kwKey, int tenantId) {
-    if (kwPropertiesMapPerTenant.get(tenantId) != null) {
-      return kwPropertiesMapPerTenant.get(tenantId).get(kwKey).get("kwvalue");
+    Map<String, Map<String, String>> kwProperties = getTenantSnapshot(tenantId).getKwProperties();
+    if (kwProperties != null) {
+      return kwProperties.get(kwKey).get("kwvalue");
     } else {
       return "";
     }
   }
 
   public List<UserInfo> selectAllCachedUserInfo() {
-    return allUsersAllTenants;
+    return userIndex.getAllUsers();
+  }
+
+  public UserInfo getCachedUserInfo(String username) {
+    return userIndex.getUser(username);
   }
 
   private void loadEnvsForAllTenants() {
-    envsOfTenantsMap = new HashMap<>(); // key is tenantid, value is list of envs
-    for (Integer tenantId : tenantMap.keySet()) {
+    for (Integer tenantId : getTenantMap().keySet()) {
       loadEnvsForOneTenant(tenantId);
     }
   }
@@ -453,21 +458,16 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
     envList1.addAll(envList2);
     envList1.addAll(envList3);
 
-    envsOfTenantsMap.put(tenantId, envList1);
+    List<String> envIds = Collections.unmodifiableList(envList1);
+    updateTenantSnapshot(
+        tenantId, tenantSnapshot -> tenantSnapshot.toBuilder().envIds(envIds).build());
   }
 
   private void loadTenantTeamsUsersForAllTenants() {
-    teamsAndAllowedEnvsPerTenant = new HashMap<>();
-    teamIdAndNamePerTenant = new HashMap<>();
-    teamsPerTenant = new HashMap<>();
-    usersPerTenant = new HashMap<>();
-    allUsersAllTenants = new ArrayList<>();
-
     List<Team> allTeams;
 
-    for (Integer tenantId : tenantMap.keySet()) {
+    for (Integer tenantId : getTenantMap().keySet()) {
       allTeams = handleDbRequests.getAllTeams(tenantId);
-      teamsPerTenant.put(tenantId, allTeams);
       loadTenantTeamsForOneTenant(allTeams, tenantId);
     }
 
@@ -475,60 +475,132 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
   }
 
   public void loadUsersForAllTenants() {
-    List<UserInfo> allUsers;
-    allUsersAllTenants = new ArrayList<>();
-    for (Integer tenantId : tenantMap.keySet()) {
-      allUsers = handleDbRequests.getAllUsersInfo(tenantId);
-      usersPerTenant.put(tenantId, allUsers);
-      allUsersAllTenants.addAll(allUsers);
+    List<UserInfo> allUsers = new ArrayList<>();
+    for (Integer tenantId : getTenantMap().keySet()) {
+      List<UserInfo> tenantUsers =
+          Collections.unmodifiableList(handleDbRequests.getAllUsersInfo(tenantId));
+      updateTenantSnapshot(
+          tenantId, tenantSnapshot -> tenantSnapshot.toBuilder().users(tenantUsers).build());
+      allUsers.addAll(tenantUsers);
     }
+    userIndex = UserIndex.of(allUsers);
   }
 
   public void loadTopicsForAllTenants() {
-    for (Integer tenantId : tenantMap.keySet()) {
-      topicsPerTenant.put(tenantId, handleDbRequests.getAllTopics(tenantId));
+    for (Integer tenantId : getTenantMap().keySet()) {
+      loadTopicsForOneTenant(tenantId);
     }
   }
 
   public void loadTopicsForOneTenant(int tenantId) {
-    topicsPerTenant.put(tenantId, handleDbRequests.getAllTopics(tenantId));
+    TopicCatalog topicCatalog = TopicCatalog.of(handleDbRequests.getAllTopics(tenantId));
+    updateTenantSnapshot(
+        tenantId, tenantSnapshot -> tenantSnapshot.toBuilder().topicCatalog(topicCatalog).build());
+  }
+
+  // reload only the rows of one topic (all envs), instead of all topics of the tenant
+  public void loadTopicsForOneTenant(int tenantId, String topicName) {
+    List<Topic> topicsOfName = handleDbRequests.getTopics(topicName, tenantId);
+    updateTenantSnapshot(
+        tenantId,
+        tenantSnapshot ->
+            tenantSnapshot.toBuilder()
+                .topicCatalog(
+                    tenantSnapshot.getTopicCatalog().withTopicsForName(topicName, topicsOfName))
+                .build());
+  }
+
+  // apply topics which are already committed to the database, without reading them back
+  public void updateTopicsForOneTenant(
+      int tenantId, List<Topic> upsertedTopics, List<Integer> deletedTopicIds) {
+    List<Topic> upserted = List.copyOf(upsertedTopics);
+    List<Integer> deleted = List.copyOf(deletedTopicIds);
+    updateTenantSnapshot(
+        tenantId,
+        tenantSnapshot ->
+            tenantSnapshot.toBuilder()
+                .topicCatalog(tenantSnapshot.getTopicCatalog().withTopics(upserted, deleted))
+                .build());
+  }
+
+  // full reload of topics, to correct any drift of the incremental updates from the database
+  @Scheduled(
+      fixedRateString = "${klaw.topics.cache.reload.interval:PT1H}",
+      initialDelayString = "${klaw.topics.cache.reload.interval:PT1H}")
+  public void reloadTopicsForAllTenants() {
+    log.info("Scheduled job (klaw.topics.cache.reload.interval) : Reload topics cache");
+    try {
+      loadTopicsForAllTenants();
+    } catch (Exception e) {
+      log.error("Error in reloading topics ", e);
+    }
   }
 
   public List<Topic> getTopicsForTenant(int tenantId) {
-    return topicsPerTenant.get(tenantId);
+    return getTopicCatalog(tenantId).getAllTopics();
+  }
+
+  public TopicCatalog getTopicCatalog(int tenantId) {
+    return getTenantSnapshot(tenantId).getTopicCatalog();
+  }
+
+  public void loadAclsForAllTenants() {
+    for (Integer tenantId : getTenantMap().keySet()) {
+      loadAclsForOneTenant(tenantId);
+    }
+  }
+
+  public void loadAclsForOneTenant(int tenantId) {
+    AclCatalog aclCatalog = AclCatalog.of(handleDbRequests.getAllAclsForTenant(tenantId));
+    updateTenantSnapshot(
+        tenantId, tenantSnapshot -> tenantSnapshot.toBuilder().aclCatalog(aclCatalog).build());
+  }
+
+  public AclCatalog getAclCatalog(int tenantId) {
+    return getTenantSnapshot(tenantId).getAclCatalog();
   }
 
   public void loadTenantTeamsForOneTenant(List<Team> allTeams, Integer tenantId) {
     if (allTeams == null) {
       allTeams = handleDbRequests.getAllTeams(tenantId);
-      teamsPerTenant.put(tenantId, allTeams);
     }
 
-    Map<Integer, List<String>> teamsAndAllowedEnvs = new HashMap<>();
-    Map<Integer, String> teamsAndNames = new HashMap<>();
-
     List<Team> teamList =
         allTeams.stream().filter(team -> Objects.equals(team.getTenantId(), tenantId)).toList();
-
-    for (Team team : teamList) {
-      teamsAndAllowedEnvs.put(team.getTeamId(), envsOfTenantsMap.get(tenantId));
-      teamsAndNames.put(team.getTeamId(), team.getTeamname());
-    }
-    teamsAndNames.put(1, "All teams");
-
-    teamsAndAllowedEnvsPerTenant.put(tenantId, teamsAndAllowedEnvs);
-    teamIdAndNamePerTenant.put(tenantId, teamsAndNames);
-    updateAllServiceAccounts(tenantId);
+    List<Team> tenantTeams = Collections.unmodifiableList(allTeams);
+    Set<String> serviceAccounts = getAllServiceAccounts(tenantTeams);
+
+    updateTenantSnapshot(
+        tenantId,
+        tenantSnapshot -> {
+          Map<Integer, List<String>> teamsAndAllowedEnvs = new HashMap<>();
+          Map<Integer, String> teamsAndNames = new HashMap<>();
+
+          for (Team team : teamList) {
+            teamsAndAllowedEnvs.put(team.getTeamId(), tenantSnapshot.getEnvIds());
+            teamsAndNames.put(team.getTeamId(), team.getTeamname());
+          }
+          teamsAndNames.put(1, "All teams");
+
+          return tenantSnapshot.toBuilder()
+              .teams(tenantTeams)
+              .teamsAndAllowedEnvs(Collections.unmodifiableMap(teamsAndAllowedEnvs))
+              .teamIdAndName(Collections.unmodifiableMap(teamsAndNames))
+              .serviceAccounts(serviceAccounts)
+              .build();
+        });
   }
 
   public Map<Integer, KwTenantConfigModel> getTenantConfig() {
-    return tenantConfig;
+    return tenantSnapshots.get().getTenantConfig();
   }
 
   public void setTenantConfig(TenantConfig config) {
     KwTenantConfigModel tenantModel = config.getTenantModel();
     if (tenantModel != null) {
-      tenantConfig.put(getTenantIdFromName(tenantModel.getTenantName()), tenantModel);
+      updateTenantSnapshot(
+          getTenantIdFromName(tenantModel.getTenantName()),
+          tenantSnapshot -> tenantSnapshot.toBuilder().tenantConfig(tenantModel).build());
     }
   }
 
@@ -539,8 +611,7 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
       log.info("Klaw Properties not loaded into database. Shutting down !!");
       shutdownApp();
     }
-    kwPropertiesMapPerTenant = new HashMap<>();
-    for (Integer tenantId : tenantMap.keySet()) {
+    for (Integer tenantId : getTenantMap().keySet()) {
       loadKwPropsPerOneTenant(kwPropertiesMap, tenantId);
     }
   }
@@ -551,29 +622,36 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
       kwPropertiesMap = handleDbRequests.getAllKwProperties();
     }
 
-    kwPropertiesMapPerTenant.put(tenantId, kwPropertiesMap.get(tenantId));
+    Map<String, Map<String, String>> kwProperties = kwPropertiesMap.get(tenantId);
+    updateTenantSnapshot(
+        tenantId,
+        tenantSnapshot ->
+            tenantSnapshot.toBuilder()
+                .kwProperties(
+                    kwProperties == null ? null : Collections.unmodifiableMap(kwProperties))
+                .build());
     updateKwTenantConfigPerTenant(tenantId);
   }
 
   private void loadTenants() {
     List<KwTenants> tenants = handleDbRequests.getTenants();
-    tenantMap = new HashMap<>();
-    tenantFullMap = new HashMap<>();
-    tenants.forEach(tenant -> tenantMap.put(tenant.getTenantId(), tenant.getTenantName()));
-    tenants.forEach(tenant -> tenantFullMap.put(tenant.getTenantId(), tenant));
+    tenants.forEach(
+        tenant ->
+            updateTenantSnapshot(
+                tenant.getTenantId(),
+                tenantSnapshot -> tenantSnapshot.toBuilder().tenant(tenant).build()));
   }
 
   public void loadOneTenant(int tenantId) {
     Optional<KwTenants> tenants = handleDbRequests.getMyTenants(tenantId);
     tenants.ifPresent(
-        kwTenants -> {
-          tenantFullMap.put(kwTenants.getTenantId(), kwTenants);
-          tenantMap.put(tenantId, kwTenants.getTenantName());
-        });
+        kwTenants ->
+            updateTenantSnapshot(
+                tenantId, tenantSnapshot -> tenantSnapshot.toBuilder().tenant(kwTenants).build()));
   }
 
   public KwTenants getTenantFullConfig(int tenantId) {
-    return tenantFullMap.get(tenantId);
+    return getTenantSnapshot(tenantId).getTenant();
   }
 
   private void loadClustersForAllTenants() {
@@ -581,12 +659,7 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
     List<KwClusters> schemaRegistryClusters;
     List<KwClusters> kafkaConnectClusters;
 
-    kwKafkaClustersPertenant = new HashMap<>();
-    kwSchemaRegClustersPertenant = new HashMap<>();
-    kwKafkaConnectClustersPertenant = new HashMap<>();
-    kwAllClustersPertenant = new HashMap<>();
-
-    for (Integer tenantId : tenantMap.keySet()) {
+    for (Integer tenantId : getTenantMap().keySet()) {
       kafkaClusters = handleDbRequests.getAllClusters(KafkaClustersType.KAFKA, tenantId);
       schemaRegistryClusters =
           handleDbRequests.getAllClusters(KafkaClustersType.SCHEMA_REGISTRY, tenantId);
@@ -625,23 +698,28 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
           kwKafkaClusters.put(cluster.getClusterId(), cluster);
           kwAllClusters.put(cluster.getClusterId(), cluster);
         });
-    kwKafkaClustersPertenant.put(tenantId, kwKafkaClusters);
 
     schemaRegistryClusters.forEach(
         cluster -> {
           kwSchemaRegClusters.put(cluster.getClusterId(), cluster);
           kwAllClusters.put(cluster.getClusterId(), cluster);
         });
-    kwSchemaRegClustersPertenant.put(tenantId, kwSchemaRegClusters);
 
     kafkaConnectClusters.forEach(
         cluster -> {
           kwKafkaConnectClusters.put(cluster.getClusterId(), cluster);
           kwAllClusters.put(cluster.getClusterId(), cluster);
         });
-    kwKafkaConnectClustersPertenant.put(tenantId, kwKafkaConnectClusters);
 
-    kwAllClustersPertenant.put(tenantId, kwAllClusters);
+    updateTenantSnapshot(
+        tenantId,
+        tenantSnapshot ->
+            tenantSnapshot.toBuilder()
+                .kafkaClusters(Collections.unmodifiableMap(kwKafkaClusters))
+                .schemaRegClusters(Collections.unmodifiableMap(kwSchemaRegClusters))
+                .kafkaConnectClusters(Collections.unmodifiableMap(kwKafkaConnectClusters))
+                .allClusters(Collections.unmodifiableMap(kwAllClusters))
+                .build());
   }
 
   public void updateStaticDataForTenant(int tenantId) {
@@ -655,6 +733,7 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
     loadUsersForAllTenants();
 
     loadTopicsForOneTenant(tenantId);
+    loadAclsForOneTenant(tenantId);
   }
 
   private void updateStaticDataToMemory() {
@@ -669,19 +748,19 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
     loadTenantTeamsUsersForAllTenants();
 
     loadTopicsForAllTenants();
+    loadAclsForAllTenants();
   }
 
   private void loadRequestTypeStatuses() {
-    reqStatusList = new ArrayList<>();
+    List<String> requestStatuses = new ArrayList<>();
     for (RequestStatus requestStatus : RequestStatus.values()) {
-      reqStatusList.add(requestStatus.name());
+      requestStatuses.add(requestStatus.name());
     }
+    reqStatusList = Collections.unmodifiableList(requestStatuses);
   }
 
   private void loadEnvironmentsMapForAllTenants() {
-    envParamsMapPerTenant = new HashMap<>();
-
-    for (Integer tenantId : tenantMap.keySet()) {
+    for (Integer tenantId : getTenantMap().keySet()) {
       loadEnvMapForOneTenant(tenantId);
     }
     log.info("Finished loading cluster parameters.");
@@ -691,25 +770,20 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
     List<Env> kafkaEnvList =
         handleDbRequests.getAllKafkaEnvs(tenantId).stream()
             .filter(env -> "true".equals(env.getEnvExists()))
-            .collect(Collectors.toList());
+            .toList();
     List<Env> schemaEnvList =
         handleDbRequests.getAllSchemaRegEnvs(tenantId).stream()
             .filter(env -> "true".equals(env.getEnvExists()))
-            .collect(Collectors.toList());
+            .toList();
     List<Env> kafkaConnectEnvList =
         handleDbRequests.getAllKafkaConnectEnvs(tenantId).stream()
             .filter(env -> "true".equals(env.getEnvExists()))
-            .collect(Collectors.toList());
+            .toList();
     List<Env> allEnvList = new ArrayList<>();
     allEnvList.addAll(kafkaEnvList);
     allEnvList.addAll(schemaEnvList);
     allEnvList.addAll(kafkaConnectEnvList);
 
-    kafkaEnvListPerTenant.put(tenantId, kafkaEnvList);
-    schemaRegEnvListPerTenant.put(tenantId, schemaEnvList);
-    kafkaConnectEnvListPerTenant.put(tenantId, kafkaConnectEnvList);
-    allEnvListPerTenant.put(tenantId, allEnvList);
-
     List<Env> kafkaEnvTenantList =
         kafkaEnvList.stream()
             .filter(kafkaEnv -> Objects.equals(kafkaEnv.getTenantId(), tenantId))
@@ -719,18 +793,27 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
     for (Env env : kafkaEnvTenantList) {
       envParamsMap.put(env.getId(), env.getParams());
     }
-    envParamsMapPerTenant.put(tenantId, envParamsMap);
+
+    updateTenantSnapshot(
+        tenantId,
+        tenantSnapshot ->
+            tenantSnapshot.toBuilder()
+                .kafkaEnvs(kafkaEnvList)
+                .schemaRegEnvs(schemaEnvList)
+                .kafkaConnectEnvs(kafkaConnectEnvList)
+                .allEnvs(Collections.unmodifiableList(allEnvList))
+                .envParams(Collections.unmodifiableMap(envParamsMap))
+                .build());
   }
 
   public Map<String, List<String>> getRolesPermissionsPerTenant(int tenantId) {
-    return rolesPermsMapPerTenant.get(tenantId);
+    return getTenantSnapshot(tenantId).getRolesPermissions();
   }
 
   public void loadRolesForAllTenants() {
     log.info("Load roles and permissions.");
-    rolesPermsMapPerTenant = new HashMap<>();
     List<KwRolesPermissions> rolesPermissions = handleDbRequests.getRolesPermissions();
-    for (Integer tenantId : tenantMap.keySet()) {
+    for (Integer tenantId : getTenantMap().keySet()) {
       loadRolesPermissionsOneTenant(rolesPermissions, tenantId);
     }
   }
@@ -754,7 +837,43 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
       tmpList.add(rolesPermission.getPermission());
       rolesPermsMap.put(rolesPermission.getRoleId(), tmpList);
     }
-    rolesPermsMapPerTenant.put(tenantId, rolesPermsMap);
+    rolesPermsMap.replaceAll((roleId, permissions) -> Collections.unmodifiableList(permissions));
+
+    Map<String, Set<PermissionType>> rolesPermTypesMap = new HashMap<>();
+    rolesPermsMap.forEach(
+        (roleId, permissions) ->
+            rolesPermTypesMap.put(roleId, compilePermissionTypes(roleId, permissions)));
+
+    updateTenantSnapshot(
+        tenantId,
+        tenantSnapshot ->
+            tenantSnapshot.toBuilder()
+                .rolesPermissions(Collections.unmodifiableMap(rolesPermsMap))
+                .rolesPermissionTypes(Collections.unmodifiableMap(rolesPermTypesMap))
+                .build());
+  }
+
+  private static Set<PermissionType> compilePermissionTypes(
+      String roleId, List<String> permissions) {
+    Set<PermissionType> permissionTypes = EnumSet.noneOf(PermissionType.class);
+    for (String permission : permissions) {
+      try {
+        permissionTypes.add(PermissionType.valueOf(permission));
+      } catch (IllegalArgumentException e) {
+        log.warn("Ignoring unknown permission {} of role {}", permission, roleId);
+      }
+    }
+    return Collections.unmodifiableSet(permissionTypes);
+  }
+
+  /** Returns the permissions of the role in the tenant, or an empty set if the role is unknown. */
+  public Set<PermissionType> getPermissionTypesOfRole(int tenantId, String roleId) {
+    if (roleId == null) {
+      return Collections.emptySet();
+    }
+    return getTenantSnapshot(tenantId)
+        .getRolesPermissionTypes()
+        .getOrDefault(roleId, Collections.emptySet());
   }
 
   public Map<Integer, List<EnvModel>> getEnvModelsClustersStatusAllTenants() {
@@ -768,10 +887,10 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
   public void updateKwTenantConfigPerTenant(Integer tenantId) {
     try {
       String TENANT_CONFIG = "klaw.tenant.config";
-      if (kwPropertiesMapPerTenant.get(tenantId) != null) {
-        if (kwPropertiesMapPerTenant.get(tenantId).get(TENANT_CONFIG) != null) {
-          String kwTenantConfig =
-              kwPropertiesMapPerTenant.get(tenantId).get(TENANT_CONFIG).get("kwvalue");
+      Map<String, Map<String, String>> kwProperties = getTenantSnapshot(tenantId).getKwProperties();
+      if (kwProperties != null) {
+        if (kwProperties.get(TENANT_CONFIG) != null) {
+          String kwTenantConfig = kwProperties.get(TENANT_CONFIG).get("kwvalue");
           TenantConfig dynamicObj;
           OBJECT_MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
@@ -799,17 +918,7 @@ public class ManageDatabase implements ApplicationContextAware, InitializingBean
   // delete clusters of tenant
   // delete tenant
   public String deleteTenant(int tenantId) {
-    tenantMap.remove(tenantId);
-    teamsAndAllowedEnvsPerTenant.remove(tenantId);
-    usersPerTenant.remove(tenantId);
-    kwPropertiesMapPerTenant.remove(tenantId);
-    rolesPermsMapPerTenant.remove(tenantId);
-    envParamsMapPerTenant.remove(tenantId);
-
-    kwKafkaClustersPertenant.remove(tenantId);
-    kwSchemaRegClustersPertenant.remove(tenantId);
-    kwKafkaConnectClustersPertenant.remove(tenantId);
-    kwAllClustersPertenant.remove(tenantId);
+    tenantSnapshots.updateAndGet(snapshots -> snapshots.without(tenantId));
 
     return ApiResultStatus.SUCCESS.value;
   }
@@ -7,6 +7,7 @@ import static io.aiven.klaw.model.enums.AuthenticationType.DATABASE;
 
 import io.aiven.klaw.auth.KwAuthenticationFailureHandler;
 import io.aiven.klaw.auth.KwAuthenticationSuccessHandler;
+import io.aiven.klaw.auth.KwDbAuthenticationProvider;
 import io.aiven.klaw.dao.UserInfo;
 import java.util.Collections;
 import java.util.Iterator;
@@ -16,6 +17,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.jasypt.util.text.BasicTextEncryptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -66,6 +68,10 @@ public class SecurityConfigNoSSO {
 
   @Autowired LdapTemplate ldapTemplate;
 
+  // only created when db users are authenticated on login, see klaw.login.db.lazy.enabled
+  @Autowired(required = false)
+  private KwDbAuthenticationProvider kwDbAuthenticationProvider;
+
   private void shutdownApp() {
     // TODO
   }
@@ -109,6 +115,9 @@ public class SecurityConfigNoSSO {
       authenticationManager =
           new ProviderManager(
               Collections.singletonList(activeDirectoryLdapAuthenticationProvider()));
+    } else if (kwDbAuthenticationProvider != null) {
+      authenticationManager =
+          new ProviderManager(Collections.singletonList(kwDbAuthenticationProvider));
     } else {
       authenticationManager = authenticationConfiguration.getAuthenticationManager();
     }
@@ -127,7 +136,9 @@ public class SecurityConfigNoSSO {
     return provider;
   }
 
-  @ConditionalOnProperty(name = "klaw.login.authentication.type", havingValue = "db")
+  // all users are loaded at startup, unless they are loaded on login by KwDbAuthenticationProvider
+  @ConditionalOnExpression(
+      "'${klaw.login.authentication.type:}' == 'db' and !${klaw.login.db.lazy.enabled:false}")
   @Bean
   public InMemoryUserDetailsManager inMemoryUserDetailsManager() throws Exception {
     final Properties globalUsers = new Properties();
@@ -7,6 +7,7 @@ import io.aiven.klaw.model.SyncTopicUpdates;
 import io.aiven.klaw.model.SyncTopicsBulk;
 import io.aiven.klaw.model.TopicInfo;
 import io.aiven.klaw.model.response.SyncTopicsList;
+import io.aiven.klaw.model.response.TopicReconResultResponse;
 import io.aiven.klaw.service.TopicSyncControllerService;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -71,6 +72,14 @@ public class TopicSyncController {
         topicSyncControllerService.updateSyncBackTopics(syncBackTopics), HttpStatus.OK);
   }
 
+  @RequestMapping(
+      value = "/getTopicReconResults",
+      method = RequestMethod.GET,
+      produces = {MediaType.APPLICATION_JSON_VALUE})
+  public ResponseEntity<List<TopicReconResultResponse>> getTopicReconResults() {
+    return new ResponseEntity<>(topicSyncControllerService.getTopicReconResults(), HttpStatus.OK);
+  }
+
   @RequestMapping(
       value = "/getSyncTopics",
       method = RequestMethod.GET,
@@ -83,8 +92,12 @@ public class TopicSyncController {
       @RequestParam(value = "showAllTopics", defaultValue = "false", required = false)
           String showAllTopics,
       @RequestParam(value = "isBulkOption", defaultValue = "false", required = false)
-          String isBulkOption)
+          String isBulkOption,
+      @RequestParam(value = "refresh", defaultValue = "false", required = false) boolean refresh)
       throws Exception {
+    if (refresh) {
+      topicSyncControllerService.refreshClusterTopics(envId);
+    }
     if (Boolean.parseBoolean(showAllTopics))
       return new ResponseEntity<>(
           topicSyncControllerService.getSyncTopics(
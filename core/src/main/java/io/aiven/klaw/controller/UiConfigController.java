@@ -1,11 +1,16 @@
 package io.aiven.klaw.controller;
 
 import io.aiven.klaw.dao.ActivityLog;
+import io.aiven.klaw.error.KlawValidationException;
 import io.aiven.klaw.model.ApiResponse;
+import io.aiven.klaw.model.response.ActivityLogPage;
 import io.aiven.klaw.model.response.DbAuthInfo;
 import io.aiven.klaw.service.UiConfigControllerService;
+import java.time.LocalDate;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -57,4 +62,24 @@ public class UiConfigController {
     return new ResponseEntity<>(
         uiConfigControllerService.showActivityLog(env, pageNo, currentPage), HttpStatus.OK);
   }
+
+  @RequestMapping(
+      value = "/getActivityLogPage",
+      method = RequestMethod.GET,
+      produces = {MediaType.APPLICATION_JSON_VALUE})
+  public ResponseEntity<ActivityLogPage> getActivityLogPage(
+      @RequestParam(value = "env", defaultValue = "") String env,
+      @RequestParam(value = "fromDate", required = false) @DateTimeFormat(iso = ISO.DATE)
+          LocalDate fromDate,
+      @RequestParam(value = "toDate", required = false) @DateTimeFormat(iso = ISO.DATE)
+          LocalDate toDate,
+      @RequestParam(value = "archived", defaultValue = "false") boolean archived,
+      @RequestParam(value = "pageToken", required = false) String pageToken,
+      @RequestParam(value = "pageSize", defaultValue = "50") int pageSize)
+      throws KlawValidationException {
+    return new ResponseEntity<>(
+        uiConfigControllerService.getActivityLogPage(
+            env, fromDate, toDate, archived, pageToken, pageSize),
+        HttpStatus.OK);
+  }
 }
@@ -74,8 +74,9 @@ public class UtilController {
   public ResponseEntity<Map<String, String>> resetMemoryCache(
       @PathVariable String tenantName,
       @PathVariable String entityType,
-      @PathVariable String operationType) {
-    utilControllerService.resetCache(tenantName, entityType, operationType);
+      @PathVariable String operationType,
+      @RequestParam(value = "entityValue", required = false) String entityValue) {
+    utilControllerService.resetCache(tenantName, entityType, operationType, entityValue);
     return new ResponseEntity<>(new HashMap<>(), HttpStatus.OK);
   }
 
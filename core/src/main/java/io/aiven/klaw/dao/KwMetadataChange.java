@@ -0,0 +1,46 @@
+package io.aiven.klaw.dao;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.sql.Timestamp;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@ToString
+@Getter
+@Setter
+@Entity
+@Table(name = "kwmetadatachanges")
+public class KwMetadataChange implements Serializable {
+
+  // increasing version of the change, assigned by the database
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "version", nullable = false)
+  private long version;
+
+  @Column(name = "tenantid")
+  private int tenantId;
+
+  @Column(name = "entitytype")
+  private String entityType;
+
+  @Column(name = "operationtype")
+  private String operationType;
+
+  @Column(name = "entityvalue")
+  private String entityValue;
+
+  // klaw instance which published the change
+  @Column(name = "instanceid")
+  private String instanceId;
+
+  @Column(name = "createdtime")
+  private Timestamp createdTime;
+}
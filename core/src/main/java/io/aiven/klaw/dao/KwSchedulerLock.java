@@ -0,0 +1,34 @@
+package io.aiven.klaw.dao;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.sql.Timestamp;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/** Lock of a scheduled job, so that the job runs on one klaw instance at a time. */
+@ToString
+@Getter
+@Setter
+@Entity
+@Table(name = "kwschedulerlocks")
+public class KwSchedulerLock implements Serializable {
+
+  @Id
+  @Column(name = "lockname")
+  private String lockName;
+
+  // the lock is free from this time on, also when the instance holding it is gone
+  @Column(name = "lockeduntil")
+  private Timestamp lockedUntil;
+
+  @Column(name = "lockedat")
+  private Timestamp lockedAt;
+
+  @Column(name = "lockedby")
+  private String lockedBy;
+}
@@ -0,0 +1,52 @@
+package io.aiven.klaw.dao;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.sql.Timestamp;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/** Result of the last scheduled reconciliation of the topics of an env. */
+@ToString
+@Getter
+@Setter
+@Entity
+@IdClass(TopicReconResultID.class)
+@Table(name = "kwtopicrecon")
+public class TopicReconResult implements Serializable {
+
+  @Id
+  @Column(name = "tenantid")
+  private int tenantId;
+
+  @Id
+  @Column(name = "env")
+  private String env;
+
+  @Column(name = "recontime")
+  private Timestamp reconTime;
+
+  @Column(name = "status")
+  private String status;
+
+  @Column(name = "addedcount")
+  private int addedCount;
+
+  @Column(name = "deletedcount")
+  private int deletedCount;
+
+  @Column(name = "changedcount")
+  private int changedCount;
+
+  @Column(name = "matchedcount")
+  private int matchedCount;
+
+  // one line per topic which is not matched, or the error of a failed reconciliation
+  @Column(name = "details")
+  private String details;
+}
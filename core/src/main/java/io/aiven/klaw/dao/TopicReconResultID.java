@@ -0,0 +1,23 @@
+package io.aiven.klaw.dao;
+
+import java.io.Serializable;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@EqualsAndHashCode
+public class TopicReconResultID implements Serializable {
+
+  private Integer tenantId;
+
+  private String env;
+
+  public TopicReconResultID() {}
+
+  public TopicReconResultID(Integer tenantId, String env) {
+    this.tenantId = tenantId;
+    this.env = env;
+  }
+}
@@ -425,6 +425,11 @@ public class KlawErrorMessages {
 
   public static final String TEAMS_ERR_119 = "Failure. Team already exists.";
 
+  // Ui config service
+  public static final String UI_CONFIG_ERR_101 = "Invalid page token.";
+
+  public static final String UI_CONFIG_ERR_102 = "From date cannot be after to date.";
+
   // security config
   public static final String SEC_CONFIG_ERR_101 = "Please check if insert scripts are executed.";
 
@@ -6,9 +6,11 @@ import io.aiven.klaw.model.enums.KafkaClustersType;
 import io.aiven.klaw.model.enums.RequestMode;
 import io.aiven.klaw.model.enums.RequestOperationType;
 import io.aiven.klaw.model.response.DashboardStats;
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 
 public interface HandleDbRequests {
 
@@ -127,6 +129,8 @@ public interface HandleDbRequests {
 
   List<Acl> getUniqueConsumerGroups(int tenantId);
 
+  List<Acl> getAllAclsForTenant(int tenantId);
+
   Acl getSyncAclsFromReqNo(int reqNo, int tenantId);
 
   List<AclRequests> getAllAclRequests(
@@ -213,7 +217,28 @@ public interface HandleDbRequests {
 
   Env getEnvDetails(String env, int tenantId);
 
-  List<ActivityLog> getActivityLog(String user, String env, boolean allReqs, int tenantId);
+  List<ActivityLog> getActivityLog(
+      String user,
+      String env,
+      boolean allReqs,
+      Timestamp fromTime,
+      Timestamp beforeTime,
+      int beforeReqNo,
+      Pageable pageable,
+      int tenantId);
+
+  List<ActivityLog> getArchivedActivityLog(
+      String user,
+      String env,
+      boolean allReqs,
+      Timestamp fromTime,
+      Timestamp beforeTime,
+      int beforeReqNo,
+      Pageable pageable,
+      int tenantId);
+
+  long countActivityLog(
+      String user, String env, boolean allReqs, Timestamp fromTime, Timestamp toTime, int tenantId);
 
   Map<Integer, Map<String, Map<String, String>>> getAllKwProperties();
 
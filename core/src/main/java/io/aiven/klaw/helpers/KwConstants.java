@@ -96,9 +96,13 @@ public class KwConstants {
   public static final String URI_CREATE_ACLS = "/topics/createAcls";
   public static final String URI_DELETE_ACLS = "/topics/deleteAcls";
   public static final String URI_GET_TOPICS = "/topics/getTopics/";
+  public static final String URI_GET_TOPICS_PAGE = "/topics/getTopicsPage/";
   public static final String URI_CREATE_TOPICS = "/topics/createTopics";
   public static final String URI_UPDATE_TOPICS = "/topics/updateTopics";
   public static final String URI_DELETE_TOPICS = "/topics/deleteTopics";
+  public static final String URI_CREATE_TOPICS_BATCH = "/topics/createTopics/batch";
+  public static final String URI_DELETE_TOPICS_BATCH = "/topics/deleteTopics/batch";
+  public static final String URI_ACLS_BATCH = "/topics/acls/batch";
   public static final String URI_POST_CONNECTOR = "/topics/postConnector";
   public static final String URI_UPDATE_CONNECTOR = "/topics/updateConnector";
   public static final String URI_DELETE_CONNECTOR = "/topics/deleteConnector";
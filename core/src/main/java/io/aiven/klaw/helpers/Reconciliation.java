@@ -0,0 +1,141 @@
+package io.aiven.klaw.helpers;
+
+import io.aiven.klaw.model.enums.ReconStatus;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Reconciles the entities found on a cluster with the entities stored in klaw, by key (e.g. topic
+ * name). Each side is indexed once, so the result is computed in O(N+M) instead of searching one
+ * list for every entity of the other. When several stored entities have the same key, the first one
+ * is matched.
+ *
+ * @param <C> type of the cluster entities
+ * @param <S> type of the stored entities
+ */
+public final class Reconciliation<C, S> {
+
+  /** A cluster entity with its status, and the stored entity of the same key if there is one. */
+  @Getter
+  @AllArgsConstructor(access = AccessLevel.PRIVATE)
+  public static final class Result<C, S> {
+    private final ReconStatus status;
+
+    private final C clusterEntity;
+
+    private final S storedEntity;
+  }
+
+  // results of the cluster entities, in the order of the cluster entities
+  private final List<Result<C, S>> clusterResults;
+
+  // stored entities whose key is not on the cluster, in the order of the stored entities
+  private final List<S> deleted;
+
+  private final Map<ReconStatus, List<Result<C, S>>> resultsByStatus =
+      new EnumMap<>(ReconStatus.class);
+
+  private Reconciliation(List<Result<C, S>> clusterResults, List<S> deleted) {
+    this.clusterResults = Collections.unmodifiableList(clusterResults);
+    this.deleted = Collections.unmodifiableList(deleted);
+    for (Result<C, S> result : clusterResults) {
+      resultsByStatus.computeIfAbsent(result.status, s -> new ArrayList<>()).add(result);
+    }
+  }
+
+  /**
+   * @param clusterKey key of a cluster entity
+   * @param storedKey key of a stored entity, matched with the keys of the cluster entities
+   * @param isChanged whether a cluster entity and the stored entity of the same key differ
+   */
+  public static <K, C, S> Reconciliation<C, S> reconcile(
+      Collection<C> clusterEntities,
+      Function<C, K> clusterKey,
+      Collection<S> storedEntities,
+      Function<S, K> storedKey,
+      BiPredicate<C, S> isChanged) {
+    Map<K, S> storedByKey = new HashMap<>(Math.max(16, storedEntities.size() * 2));
+    for (S storedEntity : storedEntities) {
+      storedByKey.putIfAbsent(storedKey.apply(storedEntity), storedEntity);
+    }
+
+    Set<K> clusterKeys = new HashSet<>(Math.max(16, clusterEntities.size() * 2));
+    List<Result<C, S>> clusterResults = new ArrayList<>(clusterEntities.size());
+    for (C clusterEntity : clusterEntities) {
+      K key = clusterKey.apply(clusterEntity);
+      clusterKeys.add(key);
+      S storedEntity = storedByKey.get(key);
+      ReconStatus status;
+      if (storedEntity == null) {
+        status = ReconStatus.ADDED;
+      } else if (isChanged.test(clusterEntity, storedEntity)) {
+        status = ReconStatus.CHANGED;
+      } else {
+        status = ReconStatus.MATCHED;
+      }
+      clusterResults.add(new Result<>(status, clusterEntity, storedEntity));
+    }
+
+    List<S> deleted = new ArrayList<>();
+    for (S storedEntity : storedEntities) {
+      if (!clusterKeys.contains(storedKey.apply(storedEntity))) {
+        deleted.add(storedEntity);
+      }
+    }
+    return new Reconciliation<>(clusterResults, deleted);
+  }
+
+  /**
+   * Reconciliation restricted to the cluster entities and the stored entities accepted by the
+   * filters, e.g. a search on the name. The statuses are not recomputed.
+   */
+  public Reconciliation<C, S> filter(Predicate<C> clusterFilter, Predicate<S> storedFilter) {
+    List<Result<C, S>> filteredResults = new ArrayList<>();
+    for (Result<C, S> result : clusterResults) {
+      if (clusterFilter.test(result.clusterEntity)) {
+        filteredResults.add(result);
+      }
+    }
+    List<S> filteredDeleted = new ArrayList<>();
+    for (S storedEntity : deleted) {
+      if (storedFilter.test(storedEntity)) {
+        filteredDeleted.add(storedEntity);
+      }
+    }
+    return new Reconciliation<>(filteredResults, filteredDeleted);
+  }
+
+  /** Results of all cluster entities (ADDED, CHANGED or MATCHED), in cluster order. */
+  public List<Result<C, S>> getClusterResults() {
+    return clusterResults;
+  }
+
+  /** Results of the cluster entities with the given status. Empty for DELETED. */
+  public List<Result<C, S>> getResults(ReconStatus status) {
+    return Collections.unmodifiableList(resultsByStatus.getOrDefault(status, List.of()));
+  }
+
+  /** Stored entities which are not on the cluster. */
+  public List<S> getDeleted() {
+    return deleted;
+  }
+
+  public int count(ReconStatus status) {
+    return status == ReconStatus.DELETED
+        ? deleted.size()
+        : resultsByStatus.getOrDefault(status, List.of()).size();
+  }
+}
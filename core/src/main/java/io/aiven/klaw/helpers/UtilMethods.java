@@ -1,5 +1,19 @@
 package io.aiven.klaw.helpers;
 
+import static org.springframework.beans.BeanUtils.copyProperties;
+
+import io.aiven.klaw.cache.PrefixTrie;
+import io.aiven.klaw.dao.Acl;
+import io.aiven.klaw.dao.Topic;
+import io.aiven.klaw.model.enums.AclPatternType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
@@ -20,4 +34,106 @@ public class UtilMethods {
     return getUserName(
         SecurityContextHolder.getContext().getAuthentication().getPrincipal(), preferredUsername);
   }
+
+  /**
+   * Returns one topic per topic name of the given acls, with the environments of the acls. Names of
+   * prefixed acls are suffixed with --PREFIXED--.
+   */
+  public static List<Topic> getTopicsFromAcls(List<Acl> acls) {
+    List<Topic> topics = new ArrayList<>();
+    String aclPatternType;
+    Topic t;
+    Map<String, List<String>> topicEnvMap = new HashMap<>();
+    String tmpTopicName;
+    List<String> envList;
+
+    for (Acl acl : acls) {
+      t = new Topic();
+      tmpTopicName = acl.getTopicname();
+      aclPatternType = acl.getAclPatternType();
+
+      if (aclPatternType != null && aclPatternType.equals(AclPatternType.PREFIXED.value))
+        tmpTopicName = tmpTopicName + "--" + AclPatternType.PREFIXED.value + "--";
+
+      t.setEnvironment(acl.getEnvironment());
+      t.setTopicname(tmpTopicName);
+
+      if (topicEnvMap.containsKey(tmpTopicName)) {
+        envList = topicEnvMap.get(tmpTopicName);
+        if (!envList.contains(acl.getEnvironment())) {
+          envList.add(acl.getEnvironment());
+          topicEnvMap.put(tmpTopicName, envList);
+        }
+      } else {
+        envList = new ArrayList<>();
+        envList.add(acl.getEnvironment());
+        topicEnvMap.put(tmpTopicName, envList);
+      }
+
+      topics.add(t);
+    }
+
+    for (Topic topic : topics) {
+      topic.setEnvironmentsList(topicEnvMap.get(topic.getTopicname()));
+    }
+
+    topics =
+        topics.stream()
+            .collect(
+                Collectors.collectingAndThen(
+                    Collectors.toCollection(
+                        () -> new TreeSet<>(Comparator.comparing(Topic::getTopicname))),
+                    ArrayList::new));
+
+    return topics;
+  }
+
+  /**
+   * Returns the topics matching the topics of acls returned by getTopicsFromAcls, by name for
+   * literal acls and by prefix for prefixed acls, on an environment of the acl. The environments of
+   * a matched topic are replaced by the environments of the acl, on a copy of the topic so that the
+   * given topics are not modified. If there are no acl topics, all topics are returned.
+   */
+  public static List<Topic> filterTopicsMatchingAclTopics(
+      List<Topic> aclTopics, List<Topic> topics) {
+    if (aclTopics.isEmpty()) {
+      return topics;
+    }
+
+    String prefixedSuffix = "--" + AclPatternType.PREFIXED.value + "--";
+    // values are positions in aclTopics, to match acl topics in their original order
+    Map<String, Integer> literalAclTopics = new HashMap<>();
+    PrefixTrie<Integer> prefixedAclTopics = new PrefixTrie<>();
+    for (int i = 0; i < aclTopics.size(); i++) {
+      String aclTopicName = aclTopics.get(i).getTopicname();
+      if (aclTopicName.endsWith(prefixedSuffix)) {
+        prefixedAclTopics.put(
+            aclTopicName.substring(0, aclTopicName.length() - prefixedSuffix.length()), i);
+      } else {
+        literalAclTopics.putIfAbsent(aclTopicName, i);
+      }
+    }
+
+    List<Topic> matchingTopics = new ArrayList<>();
+    for (Topic topic : topics) {
+      List<Integer> matchingAclTopics =
+          new ArrayList<>(prefixedAclTopics.getValuesOfPrefixesOf(topic.getTopicname()));
+      Integer literalAclTopic = literalAclTopics.get(topic.getTopicname());
+      if (literalAclTopic != null) {
+        matchingAclTopics.add(literalAclTopic);
+      }
+      Collections.sort(matchingAclTopics);
+
+      for (Integer matchingAclTopic : matchingAclTopics) {
+        Topic aclTopic = aclTopics.get(matchingAclTopic);
+        if (topic.getEnvironmentsList().contains(aclTopic.getEnvironment())) {
+          Topic matchingTopic = new Topic();
+          copyProperties(topic, matchingTopic);
+          matchingTopic.setEnvironmentsList(aclTopic.getEnvironmentsList());
+          matchingTopics.add(matchingTopic);
+        }
+      }
+    }
+    return matchingTopics;
+  }
 }
@@ -0,0 +1,255 @@
+package io.aiven.klaw.helpers.db.rdbms;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.aiven.klaw.dao.ActivityLog;
+import io.aiven.klaw.repository.ActivityLogRepo;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes activity logs behind the requests they are logged for. Entries are buffered in a bounded
+ * queue and inserted in batches by a background worker, so that user actions do not wait for the
+ * audit insert. When the queue is full, the entry is written synchronously instead of being
+ * dropped. Entries which cannot be inserted, or are still queued when the database is no longer
+ * available on shutdown, are appended to a fallback file, which is replayed on the next startup.
+ */
+@Component
+@Slf4j
+public class ActivityLogWriter {
+
+  static final String FALLBACK_FILE_NAME = "kwactivitylog-pending.jsonl";
+
+  private static final ObjectMapper OBJECT_MAPPER =
+      new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+  private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+  @Value("${klaw.activitylog.writebehind.enabled:true}")
+  private boolean writeBehindEnabled;
+
+  @Value("${klaw.activitylog.queue.capacity:10000}")
+  private int queueCapacity;
+
+  @Value("${klaw.activitylog.flush.batch.size:200}")
+  private int flushBatchSize;
+
+  @Value("${klaw.activitylog.flush.interval:PT0.5S}")
+  private Duration flushInterval;
+
+  @Value("${klaw.activitylog.fallback.file.path:${klaw.export.file.path:./target}}")
+  private String fallbackFilePath;
+
+  @Autowired(required = false)
+  private ActivityLogRepo activityLogRepo;
+
+  @Autowired private BatchEntityWriter batchEntityWriter;
+
+  @Autowired(required = false)
+  private MeterRegistry meterRegistry;
+
+  private BlockingQueue<ActivityLog> queue;
+
+  private ScheduledExecutorService flushExecutor;
+
+  private volatile boolean shuttingDown;
+
+  // writers queue under the read lock and shutdown sets the flag under the write lock, so no entry
+  // is queued after the final flush
+  private final ReadWriteLock shutdownLock = new ReentrantReadWriteLock();
+
+  private final AtomicLong flushedCount = new AtomicLong();
+
+  private final AtomicLong synchronousCount = new AtomicLong();
+
+  private final AtomicLong fallbackCount = new AtomicLong();
+
+  @PostConstruct
+  public void init() {
+    queue = new ArrayBlockingQueue<>(queueCapacity);
+    registerMetrics();
+    replayFallbackFile();
+
+    if (writeBehindEnabled) {
+      flushExecutor =
+          Executors.newSingleThreadScheduledExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, "klaw-activitylog-writer");
+                thread.setDaemon(true);
+                return thread;
+              });
+      flushExecutor.scheduleWithFixedDelay(
+          this::flush, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Queues the activity log for the next batch insert. It is inserted synchronously when write
+   * behind is disabled, the queue is full or the application is shutting down.
+   */
+  public void write(ActivityLog activityLog) {
+    if (writeBehindEnabled && offer(activityLog)) {
+      return;
+    }
+
+    if (writeBehindEnabled && !shuttingDown) {
+      log.warn("Activity log queue is full, writing {} synchronously", activityLog.getReq_no());
+    }
+    activityLogRepo.save(activityLog);
+    synchronousCount.incrementAndGet();
+  }
+
+  private boolean offer(ActivityLog activityLog) {
+    shutdownLock.readLock().lock();
+    try {
+      return !shuttingDown && queue.offer(activityLog);
+    } finally {
+      shutdownLock.readLock().unlock();
+    }
+  }
+
+  /** Inserts the queued activity logs, in batches of the flush batch size. */
+  public void flush() {
+    try {
+      List<ActivityLog> batch = new ArrayList<>(flushBatchSize);
+      while (queue.drainTo(batch, flushBatchSize) > 0) {
+        insertBatch(batch);
+        batch = new ArrayList<>(flushBatchSize);
+      }
+    } catch (Exception e) {
+      // the scheduled flush must not end, or the queue would no longer be drained
+      log.error("Error flushing activity logs", e);
+    }
+  }
+
+  public int getQueueDepth() {
+    return queue.size();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    // waits for the writers which are queueing an entry
+    shutdownLock.writeLock().lock();
+    try {
+      shuttingDown = true;
+    } finally {
+      shutdownLock.writeLock().unlock();
+    }
+    if (flushExecutor != null) {
+      flushExecutor.shutdown();
+      try {
+        if (!flushExecutor.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+          log.warn("Activity log writer did not finish its flush before shutdown");
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    // entries queued after the last scheduled flush, no entry is queued after this one
+    flush();
+  }
+
+  private void insertBatch(List<ActivityLog> batch) {
+    try {
+      batchEntityWriter.insertAll(batch);
+      flushedCount.addAndGet(batch.size());
+    } catch (Exception e) {
+      log.error(
+          "Error inserting {} activity logs, writing them to the fallback file", batch.size(), e);
+      appendToFallbackFile(batch);
+    }
+  }
+
+  private synchronized void appendToFallbackFile(List<ActivityLog> activityLogs) {
+    Path fallbackFile = getFallbackFile();
+    try {
+      Files.createDirectories(fallbackFile.getParent());
+      try (BufferedWriter writer =
+          Files.newBufferedWriter(
+              fallbackFile,
+              StandardCharsets.UTF_8,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.APPEND)) {
+        for (ActivityLog activityLog : activityLogs) {
+          writer.write(OBJECT_MAPPER.writeValueAsString(activityLog));
+          writer.newLine();
+        }
+      }
+      fallbackCount.addAndGet(activityLogs.size());
+    } catch (IOException e) {
+      // last resort, the entries are at least kept in the application log
+      log.error(
+          "Error writing activity logs to {}, lost entries : {}", fallbackFile, activityLogs, e);
+    }
+  }
+
+  private synchronized void replayFallbackFile() {
+    Path fallbackFile = getFallbackFile();
+    if (!Files.exists(fallbackFile)) {
+      return;
+    }
+
+    try {
+      List<ActivityLog> activityLogs = new ArrayList<>();
+      for (String line : Files.readAllLines(fallbackFile, StandardCharsets.UTF_8)) {
+        if (!line.isBlank()) {
+          activityLogs.add(OBJECT_MAPPER.readValue(line, ActivityLog.class));
+        }
+      }
+      // saved and not inserted, entries of a batch may have been stored before the batch failed
+      activityLogRepo.saveAll(activityLogs);
+      Files.delete(fallbackFile);
+      log.info("Replayed {} activity logs from {}", activityLogs.size(), fallbackFile);
+    } catch (Exception e) {
+      log.error("Error replaying activity logs from {}, keeping the file", fallbackFile, e);
+    }
+  }
+
+  private Path getFallbackFile() {
+    return Paths.get(fallbackFilePath, FALLBACK_FILE_NAME).toAbsolutePath();
+  }
+
+  private void registerMetrics() {
+    if (meterRegistry == null) {
+      return;
+    }
+    Gauge.builder("klaw.activitylog.queue.depth", queue, Collection::size)
+        .description("Activity logs waiting to be inserted")
+        .register(meterRegistry);
+    FunctionCounter.builder("klaw.activitylog.flushed", flushedCount, AtomicLong::get)
+        .description("Activity logs inserted in batches")
+        .register(meterRegistry);
+    FunctionCounter.builder("klaw.activitylog.synchronous", synchronousCount, AtomicLong::get)
+        .description("Activity logs inserted synchronously, when the queue was full or disabled")
+        .register(meterRegistry);
+    FunctionCounter.builder("klaw.activitylog.fallback", fallbackCount, AtomicLong::get)
+        .description("Activity logs written to the fallback file")
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,76 @@
+package io.aiven.klaw.helpers.db.rdbms;
+
+import com.google.common.collect.Lists;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Writes lists of entities in chunks, each chunk in one transaction. The entities of a chunk which
+ * are already stored are loaded with one query before they are merged, and the new entities are
+ * persisted without being looked up, so that hibernate sends the inserts and updates of a chunk in
+ * jdbc batches (hibernate.jdbc.batch_size) instead of a select and a write per entity.
+ */
+@Component
+@Slf4j
+public class BatchEntityWriter {
+
+  @Value("${klaw.db.batch.chunk.size:500}")
+  private int chunkSize;
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Autowired(required = false)
+  private PlatformTransactionManager transactionManager;
+
+  private TransactionTemplate transactionTemplate;
+
+  @PostConstruct
+  public void init() {
+    transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * Saves the entities in chunks. For each chunk, loadStoredKeys is called in the transaction of
+   * the chunk, loads the stored entities of the chunk with one query and returns their keys; it may
+   * also assign new keys to entities of the chunk. Entities with a stored key are then merged and
+   * the others are inserted.
+   *
+   * @return number of saved entities
+   */
+  public <T, K> int saveAll(
+      List<T> entities, Function<List<T>, Set<K>> loadStoredKeys, Function<T, K> keyOf) {
+    int saved = 0;
+    for (List<T> chunk : Lists.partition(entities, chunkSize)) {
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            Set<K> storedKeys = loadStoredKeys.apply(chunk);
+            for (T entity : chunk) {
+              if (storedKeys.contains(keyOf.apply(entity))) {
+                entityManager.merge(entity);
+              } else {
+                entityManager.persist(entity);
+              }
+            }
+            entityManager.flush();
+          });
+      saved += chunk.size();
+      log.debug("Saved {} of {} entities", saved, entities.size());
+    }
+    return saved;
+  }
+
+  /** Inserts the entities, which must all be new, in chunks. */
+  public <T> int insertAll(List<T> entities) {
+    return saveAll(entities, chunk -> Set.of(), entity -> entity);
+  }
+}
@@ -62,6 +62,9 @@ public class DeleteDataJdbc {
   @Autowired(required = false)
   private TenantRepo tenantRepo;
 
+  @Autowired(required = false)
+  private TopicReconResultRepo topicReconResultRepo;
+
   public DeleteDataJdbc() {}
 
   public DeleteDataJdbc(
@@ -321,6 +324,8 @@ public class DeleteDataJdbc {
     kafkaConnectorRepo.deleteAll(kafkaConnectorRepo.findAllByTenantId(tenantId));
     kafkaConnectorRequestsRepo.deleteAll(kafkaConnectorRequestsRepo.findAllByTenantId(tenantId));
 
+    topicReconResultRepo.deleteAll(topicReconResultRepo.findAllByTenantId(tenantId));
+
     return ApiResultStatus.SUCCESS.value;
   }
 }
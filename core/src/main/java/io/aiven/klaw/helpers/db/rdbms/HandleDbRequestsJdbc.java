@@ -8,12 +8,14 @@ import io.aiven.klaw.model.enums.RequestMode;
 import io.aiven.klaw.model.enums.RequestOperationType;
 import io.aiven.klaw.model.enums.RequestStatus;
 import io.aiven.klaw.model.response.DashboardStats;
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Pageable;
 
 @Configuration
 public class HandleDbRequestsJdbc implements HandleDbRequests {
@@ -300,6 +302,11 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
     return jdbcSelectHelper.getUniqueConsumerGroups(tenantId);
   }
 
+  @Override
+  public List<Acl> getAllAclsForTenant(int tenantId) {
+    return jdbcSelectHelper.selectAllAclsForTenant(tenantId);
+  }
+
   @Override
   public Acl getSyncAclsFromReqNo(int reqNo, int tenantId) {
     return jdbcSelectHelper.selectSyncAclsFromReqNo(reqNo, tenantId);
@@ -501,8 +508,42 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
     return jdbcSelectHelper.selectEnvDetails(env, tenantId);
   }
 
-  public List<ActivityLog> getActivityLog(String user, String env, boolean allReqs, int tenantId) {
-    return jdbcSelectHelper.selectActivityLog(user, env, allReqs, tenantId);
+  public List<ActivityLog> getActivityLog(
+      String user,
+      String env,
+      boolean allReqs,
+      Timestamp fromTime,
+      Timestamp beforeTime,
+      int beforeReqNo,
+      Pageable pageable,
+      int tenantId) {
+    return jdbcSelectHelper.selectActivityLog(
+        user, env, allReqs, fromTime, beforeTime, beforeReqNo, pageable, tenantId);
+  }
+
+  @Override
+  public List<ActivityLog> getArchivedActivityLog(
+      String user,
+      String env,
+      boolean allReqs,
+      Timestamp fromTime,
+      Timestamp beforeTime,
+      int beforeReqNo,
+      Pageable pageable,
+      int tenantId) {
+    return jdbcSelectHelper.selectArchivedActivityLog(
+        user, env, allReqs, fromTime, beforeTime, beforeReqNo, pageable, tenantId);
+  }
+
+  @Override
+  public long countActivityLog(
+      String user,
+      String env,
+      boolean allReqs,
+      Timestamp fromTime,
+      Timestamp toTime,
+      int tenantId) {
+    return jdbcSelectHelper.countActivityLog(user, env, allReqs, fromTime, toTime, tenantId);
   }
 
   @Override
@@ -532,12 +573,12 @@ public class HandleDbRequestsJdbc implements HandleDbRequests {
 
   @Override
   public Integer getNextTopicRequestId(String idType, int tenantId) {
-    return jdbcSelectHelper.getNextTopicRequestId(idType, tenantId);
+    return jdbcInsertHelper.getNextTopicRequestId(idType, tenantId);
   }
 
   @Override
   public Integer getNextConnectorRequestId(String idType, int tenantId) {
-    return jdbcSelectHelper.getNextConnectorRequestId(idType, tenantId);
+    return jdbcInsertHelper.getNextConnectorRequestId(idType, tenantId);
   }
 
   @Override
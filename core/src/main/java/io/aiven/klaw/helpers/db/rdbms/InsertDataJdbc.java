@@ -2,13 +2,19 @@ package io.aiven.klaw.helpers.db.rdbms;
 
 import io.aiven.klaw.dao.*;
 import io.aiven.klaw.model.enums.ApiResultStatus;
+import io.aiven.klaw.model.enums.RequestEntityType;
 import io.aiven.klaw.model.enums.RequestStatus;
+import io.aiven.klaw.model.enums.SequenceType;
 import io.aiven.klaw.repository.*;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -17,6 +23,8 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class InsertDataJdbc {
 
+  private static final int SOT_LOCK_STRIPES = 64;
+
   @Autowired(required = false)
   private UserInfoRepo userInfoRepo;
 
@@ -76,9 +84,18 @@ public class InsertDataJdbc {
 
   @Autowired private SelectDataJdbc jdbcSelectHelper;
 
+  @Autowired private KwSequenceGenerator kwSequenceGenerator;
+
+  @Autowired private BatchEntityWriter batchEntityWriter;
+
+  @Autowired private ActivityLogWriter activityLogWriter;
+
+  // serialises the SOT writes of an entity type per tenant, instead of all writes of all tenants
+  private final TenantEntityLocks sotLocks = new TenantEntityLocks(SOT_LOCK_STRIPES);
+
   public InsertDataJdbc() {}
 
-  public synchronized Map<String, String> insertIntoRequestTopic(TopicRequest topicRequest) {
+  public Map<String, String> insertIntoRequestTopic(TopicRequest topicRequest) {
     log.debug("insertIntoRequestTopic {}", topicRequest);
 
     Map<String, String> hashMap = new HashMap<>();
@@ -113,8 +130,7 @@ public class InsertDataJdbc {
     return hashMap;
   }
 
-  public synchronized Map<String, String> insertIntoRequestConnector(
-      KafkaConnectorRequest connectorRequest) {
+  public Map<String, String> insertIntoRequestConnector(KafkaConnectorRequest connectorRequest) {
     log.debug("insertIntoRequestConnector {}", connectorRequest);
 
     Map<String, String> hashMap = new HashMap<>();
@@ -150,55 +166,86 @@ public class InsertDataJdbc {
     return hashMap;
   }
 
-  public synchronized String insertIntoTopicSOT(List<Topic> topics, boolean isSyncTopics) {
-    topics.forEach(
-        topic -> {
-          log.debug("insertIntoTopicSOT {}", topic.getTopicname());
-          if (!topic.isExistingTopic()) {
-            TopicID topicID = new TopicID();
-            topicID.setTenantId(topic.getTenantId());
-            topicID.setTopicid(topic.getTopicid());
+  public String insertIntoTopicSOT(List<Topic> topics, boolean isSyncTopics) {
+    return sotLocks.callWithLocks(
+        getTenantIds(topics, Topic::getTenantId),
+        RequestEntityType.TOPIC,
+        () -> saveTopicsToSOT(topics));
+  }
 
-            if (topicRepo.existsById(topicID)) {
+  private String saveTopicsToSOT(List<Topic> topics) {
+    log.debug("insertIntoTopicSOT {} topics", topics.size());
+    batchEntityWriter.saveAll(
+        topics,
+        chunk -> {
+          Set<TopicID> storedIds = new HashSet<>();
+          groupIdsByTenant(chunk, Topic::getTenantId, Topic::getTopicid)
+              .forEach(
+                  (tenantId, topicIds) ->
+                      topicRepo
+                          .findAllByTenantIdAndTopicidIn(tenantId, topicIds)
+                          .forEach(t -> storedIds.add(new TopicID(t.getTopicid(), tenantId))));
+          for (Topic topic : chunk) {
+            // a new topic must not overwrite a stored topic with the same id
+            if (!topic.isExistingTopic()
+                && storedIds.contains(new TopicID(topic.getTopicid(), topic.getTenantId()))) {
               topic.setTopicid(getNextTopicRequestId("TOPIC_ID", topic.getTenantId()));
             }
           }
-          topicRepo.save(topic);
-        });
+          return storedIds;
+        },
+        topic -> new TopicID(topic.getTopicid(), topic.getTenantId()));
 
     return ApiResultStatus.SUCCESS.value;
   }
 
-  public synchronized String insertIntoConnectorSOT(
+  public String insertIntoConnectorSOT(
       List<KwKafkaConnector> kafkaConnectors, boolean isSyncTopics) {
+    return sotLocks.callWithLocks(
+        getTenantIds(kafkaConnectors, KwKafkaConnector::getTenantId),
+        RequestEntityType.CONNECTOR,
+        () -> saveConnectorsToSOT(kafkaConnectors));
+  }
 
-    kafkaConnectors.forEach(
-        connector -> {
-          log.debug("insertIntoConnectorSOT {}", connector.getConnectorName());
-          if (!connector.isExistingConnector()) {
-            KwKafkaConnectorID kwKafkaConnectorID = new KwKafkaConnectorID();
-            kwKafkaConnectorID.setConnectorId(connector.getConnectorId());
-            kwKafkaConnectorID.setTenantId(connector.getTenantId());
-
-            if (kafkaConnectorRepo.existsById(kwKafkaConnectorID)) {
+  private String saveConnectorsToSOT(List<KwKafkaConnector> kafkaConnectors) {
+    log.debug("insertIntoConnectorSOT {} connectors", kafkaConnectors.size());
+    batchEntityWriter.saveAll(
+        kafkaConnectors,
+        chunk -> {
+          Set<KwKafkaConnectorID> storedIds = new HashSet<>();
+          groupIdsByTenant(chunk, KwKafkaConnector::getTenantId, KwKafkaConnector::getConnectorId)
+              .forEach(
+                  (tenantId, connectorIds) ->
+                      kafkaConnectorRepo
+                          .findAllByTenantIdAndConnectorIdIn(tenantId, connectorIds)
+                          .forEach(
+                              c ->
+                                  storedIds.add(
+                                      new KwKafkaConnectorID(c.getConnectorId(), tenantId))));
+          for (KwKafkaConnector connector : chunk) {
+            // a new connector must not overwrite a stored connector with the same id
+            if (!connector.isExistingConnector()
+                && storedIds.contains(
+                    new KwKafkaConnectorID(connector.getConnectorId(), connector.getTenantId()))) {
               connector.setConnectorId(
                   getNextConnectorRequestId("CONNECTOR_ID", connector.getTenantId()));
             }
           }
-          kafkaConnectorRepo.save(connector);
-        });
+          return storedIds;
+        },
+        connector -> new KwKafkaConnectorID(connector.getConnectorId(), connector.getTenantId()));
 
     return ApiResultStatus.SUCCESS.value;
   }
 
   private String insertIntoActivityLog(ActivityLog activityLog) {
     log.debug("insertIntoActivityLog {}", activityLog.getActivityName());
-    activityLogRepo.save(activityLog);
+    activityLogWriter.write(activityLog);
 
     return ApiResultStatus.SUCCESS.value;
   }
 
-  synchronized Map<String, String> insertIntoRequestAcl(AclRequests aclReq) {
+  Map<String, String> insertIntoRequestAcl(AclRequests aclReq) {
     log.debug("insertIntoRequestAcl {}", aclReq.getTopicname());
     Map<String, String> hashMap = new HashMap<>();
     Integer aclId = getNextAclRequestId(aclReq.getTenantId());
@@ -241,20 +288,35 @@ public class InsertDataJdbc {
     return hashMap;
   }
 
-  public synchronized String insertIntoAclsSOT(List<Acl> acls, boolean isSyncAcls) {
+  public String insertIntoAclsSOT(List<Acl> acls, boolean isSyncAcls) {
+    return sotLocks.callWithLocks(
+        getTenantIds(acls, Acl::getTenantId), RequestEntityType.ACL, () -> saveAclsToSOT(acls));
+  }
 
-    acls.forEach(
-        acl -> {
-          log.debug("insertIntoAclsSOT {}", acl.getTopicname());
-          if (acl.getReq_no() == null) {
-            acl.setReq_no(getNextAclId(acl.getTenantId()));
-          }
-          aclRepo.save(acl);
-        });
+  private String saveAclsToSOT(List<Acl> acls) {
+    log.debug("insertIntoAclsSOT {} acls", acls.size());
+    for (Acl acl : acls) {
+      if (acl.getReq_no() == null) {
+        acl.setReq_no(getNextAclId(acl.getTenantId()));
+      }
+    }
+    batchEntityWriter.saveAll(
+        acls,
+        chunk -> {
+          Set<AclID> storedIds = new HashSet<>();
+          groupIdsByTenant(chunk, Acl::getTenantId, Acl::getReq_no)
+              .forEach(
+                  (tenantId, aclIds) ->
+                      aclRepo
+                          .findAllByTenantIdAndAclIds(tenantId, aclIds)
+                          .forEach(a -> storedIds.add(new AclID(a.getReq_no(), tenantId))));
+          return storedIds;
+        },
+        acl -> new AclID(acl.getReq_no(), acl.getTenantId()));
     return ApiResultStatus.SUCCESS.value;
   }
 
-  public synchronized String insertIntoRequestSchema(SchemaRequest schemaRequest) {
+  public String insertIntoRequestSchema(SchemaRequest schemaRequest) {
     log.debug("insertIntoRequestSchema {}", schemaRequest.getTopicname());
 
     schemaRequest.setReq_no(getNextSchemaRequestId("SCHEMA_REQ_ID", schemaRequest.getTenantId()));
@@ -283,15 +345,34 @@ public class InsertDataJdbc {
     return ApiResultStatus.SUCCESS.value;
   }
 
-  public synchronized String insertIntoMessageSchemaSOT(List<MessageSchema> schemas) {
+  public String insertIntoMessageSchemaSOT(List<MessageSchema> schemas) {
+    return sotLocks.callWithLocks(
+        getTenantIds(schemas, MessageSchema::getTenantId),
+        RequestEntityType.SCHEMA,
+        () -> saveSchemasToSOT(schemas));
+  }
 
+  private String saveSchemasToSOT(List<MessageSchema> schemas) {
+    log.debug("insertIntoMessageSchemaSOT {} schemas", schemas.size());
     for (MessageSchema mSchema : schemas) {
-      log.debug("insertIntoMessageSchemaSOT {}", mSchema.getTopicname());
       if (mSchema.getReq_no() == null) {
         mSchema.setReq_no(getNextSchemaRequestId("SCHEMA_ID", mSchema.getTenantId()));
       }
-      messageSchemaRepo.save(mSchema);
     }
+    batchEntityWriter.saveAll(
+        schemas,
+        chunk -> {
+          Set<MessageSchemaID> storedIds = new HashSet<>();
+          groupIdsByTenant(chunk, MessageSchema::getTenantId, MessageSchema::getReq_no)
+              .forEach(
+                  (tenantId, schemaIds) ->
+                      messageSchemaRepo
+                          .findAllByTenantIdAndSchemaIds(tenantId, schemaIds)
+                          .forEach(
+                              m -> storedIds.add(new MessageSchemaID(m.getReq_no(), tenantId))));
+          return storedIds;
+        },
+        mSchema -> new MessageSchemaID(mSchema.getReq_no(), mSchema.getTenantId()));
     return ApiResultStatus.SUCCESS.value;
   }
 
@@ -375,70 +456,61 @@ public class InsertDataJdbc {
   }
 
   public Integer getNextAclRequestId(int tenantId) {
-    Integer aclReqId = aclRequestsRepo.getNextAclRequestId(tenantId);
-    if (aclReqId == null) {
-      return 1001;
-    } else {
-      return aclReqId + 1;
-    }
+    return kwSequenceGenerator.nextId(
+        tenantId, SequenceType.ACL_REQUEST, () -> aclRequestsRepo.getNextAclRequestId(tenantId));
   }
 
   public Integer getNextAclId(int tenantId) {
-    Integer aclId = aclRepo.getNextAclId(tenantId);
-    if (aclId == null) {
-      return 1001;
-    } else {
-      return aclId + 1;
-    }
+    return kwSequenceGenerator.nextId(
+        tenantId, SequenceType.ACL, () -> aclRepo.getNextAclId(tenantId));
   }
 
-  public synchronized Integer getNextActivityLogRequestId(int tenantId) {
-    Integer activityLogId = activityLogRepo.getNextActivityLogRequestId(tenantId);
-
-    if (activityLogId == null) {
-      return 1001;
-    } else {
-      return activityLogId + 1;
-    }
+  public Integer getNextActivityLogRequestId(int tenantId) {
+    return kwSequenceGenerator.nextId(
+        tenantId,
+        SequenceType.ACTIVITY_LOG,
+        () -> activityLogRepo.getNextActivityLogRequestId(tenantId));
   }
 
   public Integer getNextTopicRequestId(String idType, int tenantId) {
-    Integer topicId = null;
     if ("TOPIC_REQ_ID".equals(idType)) {
-      topicId = topicRequestsRepo.getNextTopicRequestId(tenantId);
+      return kwSequenceGenerator.nextId(
+          tenantId,
+          SequenceType.TOPIC_REQUEST,
+          () -> topicRequestsRepo.getNextTopicRequestId(tenantId));
     } else if ("TOPIC_ID".equals(idType)) {
-      topicId = topicRepo.getNextTopicRequestId(tenantId);
+      return kwSequenceGenerator.nextId(
+          tenantId, SequenceType.TOPIC, () -> topicRepo.getNextTopicRequestId(tenantId));
     }
-
-    return topicId == null ? 1001 : topicId + 1;
+    return 1001;
   }
 
   public Integer getNextConnectorRequestId(String idType, int tenantId) {
-    Integer topicId;
-    if (idType.equals("CONNECTOR_REQ_ID")) {
-      topicId = kafkaConnectorRequestsRepo.getNextConnectorRequestId(tenantId);
-    } else if (idType.equals("CONNECTOR_ID")) {
-      topicId = kafkaConnectorRepo.getNextConnectorRequestId(tenantId);
-    } else {
-      topicId = null;
-    }
-
-    if (topicId == null) {
-      return 1001;
-    } else {
-      return topicId + 1;
+    if ("CONNECTOR_REQ_ID".equals(idType)) {
+      return kwSequenceGenerator.nextId(
+          tenantId,
+          SequenceType.CONNECTOR_REQUEST,
+          () -> kafkaConnectorRequestsRepo.getNextConnectorRequestId(tenantId));
+    } else if ("CONNECTOR_ID".equals(idType)) {
+      return kwSequenceGenerator.nextId(
+          tenantId,
+          SequenceType.CONNECTOR,
+          () -> kafkaConnectorRepo.getNextConnectorRequestId(tenantId));
     }
+    return 1001;
   }
 
   public Integer getNextSchemaRequestId(String idType, int tenantId) {
-    Integer schemaReqId = null;
     if ("SCHEMA_REQ_ID".equals(idType)) {
-      schemaReqId = schemaRequestRepo.getNextSchemaRequestId(tenantId);
+      return kwSequenceGenerator.nextId(
+          tenantId,
+          SequenceType.SCHEMA_REQUEST,
+          () -> schemaRequestRepo.getNextSchemaRequestId(tenantId));
     } else if ("SCHEMA_ID".equals(idType)) {
-      schemaReqId = messageSchemaRepo.getNextSchemaId(tenantId);
+      return kwSequenceGenerator.nextId(
+          tenantId, SequenceType.SCHEMA, () -> messageSchemaRepo.getNextSchemaId(tenantId));
     }
-
-    return schemaReqId == null ? 1001 : schemaReqId + 1;
+    return 1001;
   }
 
   public String addNewTenant(KwTenants kwTenants) {
@@ -479,14 +551,40 @@ public class InsertDataJdbc {
 
   public String insertDefaultRolesPermissions(List<KwRolesPermissions> kwRolesPermissionsList) {
 
+    // the max id of each tenant is read once, and incremented for the permissions of the tenant
+    Map<Integer, Integer> nextIdByTenant = new HashMap<>();
     for (KwRolesPermissions kwRolesPermissions : kwRolesPermissionsList) {
-      kwRolesPermissions.setId(getNextRolePermissionId(kwRolesPermissions.getTenantId()));
-      kwRolesPermsRepo.save(kwRolesPermissions);
+      int id =
+          nextIdByTenant.compute(
+              kwRolesPermissions.getTenantId(),
+              (tenantId, nextId) ->
+                  nextId == null ? getNextRolePermissionId(tenantId) : nextId + 1);
+      kwRolesPermissions.setId(id);
     }
+    batchEntityWriter.insertAll(kwRolesPermissionsList);
 
     return ApiResultStatus.SUCCESS.value;
   }
 
+  private static <T> Set<Integer> getTenantIds(List<T> entities, Function<T, Integer> getTenantId) {
+    Set<Integer> tenantIds = new HashSet<>();
+    for (T entity : entities) {
+      tenantIds.add(getTenantId.apply(entity));
+    }
+    return tenantIds;
+  }
+
+  private static <T> Map<Integer, List<Integer>> groupIdsByTenant(
+      List<T> entities, Function<T, Integer> getTenantId, Function<T, Integer> getId) {
+    Map<Integer, List<Integer>> idsByTenant = new HashMap<>();
+    for (T entity : entities) {
+      idsByTenant
+          .computeIfAbsent(getTenantId.apply(entity), k -> new ArrayList<>())
+          .add(getId.apply(entity));
+    }
+    return idsByTenant;
+  }
+
   public Integer getNextRolePermissionId(int tenantId) {
     Integer maxId = kwRolesPermsRepo.getMaxRolePermissionId(tenantId);
     if (maxId == null) {
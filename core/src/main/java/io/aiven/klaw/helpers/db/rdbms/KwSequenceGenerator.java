@@ -0,0 +1,177 @@
+package io.aiven.klaw.helpers.db.rdbms;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.aiven.klaw.model.enums.SequenceType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Allocates ids per tenant and sequence type in blocks (hi/lo). A block of ids is reserved by
+ * moving the next value of the sequence row in the kwsequences table forward, with the row locked,
+ * and the ids of the block are then handed out from memory. Instances of klaw sharing the database
+ * reserve distinct blocks, so ids are unique across instances without serialising the inserts.
+ *
+ * <p>Blocks are reserved on a small pool of connections of their own. The inserts requesting ids
+ * usually hold a connection of the main pool already, and reserving the block on a second
+ * connection of the same pool could wait forever once all of its connections are held by such
+ * inserts.
+ */
+@Component
+@Slf4j
+public class KwSequenceGenerator {
+
+  private static final int FIRST_ID = 1001;
+
+  private static final int MAX_ALLOCATION_ATTEMPTS = 3;
+
+  private static final String SELECT_SEQUENCE_FOR_UPDATE =
+      "select nextvalue from kwsequences where tenantid = ? and sequencename = ? for update";
+
+  private static final String UPDATE_SEQUENCE =
+      "update kwsequences set nextvalue = ? where tenantid = ? and sequencename = ?";
+
+  private static final String INSERT_SEQUENCE =
+      "insert into kwsequences (tenantid, sequencename, nextvalue) values (?, ?, ?)";
+
+  @Value("${klaw.db.sequence.block.size:50}")
+  private int blockSize;
+
+  @Value("${klaw.db.sequence.pool.size:2}")
+  private int poolSize;
+
+  @Autowired private Environment environment;
+
+  // dedicated to reserving blocks, separate from the pool of the entity manager
+  private DataSource dataSource;
+
+  private JdbcTemplate jdbcTemplate;
+
+  private TransactionTemplate transactionTemplate;
+
+  // key is tenant id and sequence type, value is the block of ids reserved by this instance
+  private final Map<SequenceKey, IdBlock> idBlocks = new ConcurrentHashMap<>();
+
+  @PostConstruct
+  public void init() {
+    if (dataSource == null) {
+      if (!"rdbms".equals(environment.getProperty("klaw.db.storetype"))) {
+        return;
+      }
+      dataSource = createDataSource();
+    }
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+  }
+
+  @PreDestroy
+  public void close() {
+    if (dataSource instanceof HikariDataSource hikariDataSource) {
+      hikariDataSource.close();
+    }
+  }
+
+  /**
+   * Returns the next id of the sequence of the tenant. The max id supplier returns the highest id
+   * stored for the sequence (or null), and is only read when a new block is reserved, so that the
+   * sequence always continues after ids which were assigned without it.
+   */
+  public int nextId(int tenantId, SequenceType sequenceType, Supplier<Integer> maxIdSupplier) {
+    IdBlock idBlock =
+        idBlocks.computeIfAbsent(
+            new SequenceKey(sequenceType.name(), tenantId), k -> new IdBlock());
+    synchronized (idBlock) {
+      if (idBlock.next >= idBlock.limit) {
+        idBlock.next = reserveBlock(tenantId, sequenceType, maxIdSupplier);
+        idBlock.limit = idBlock.next + blockSize;
+      }
+      return idBlock.next++;
+    }
+  }
+
+  private int reserveBlock(
+      int tenantId, SequenceType sequenceType, Supplier<Integer> maxIdSupplier) {
+    // read on the connection of the caller, before a connection of the sequence pool is taken,
+    // so that no connection of one pool is held while waiting for the other
+    Integer maxId = maxIdSupplier.get();
+    for (int attempt = 1; ; attempt++) {
+      try {
+        Integer firstId =
+            transactionTemplate.execute(status -> updateSequence(tenantId, sequenceType, maxId));
+        log.debug(
+            "Reserved ids {} to {} of sequence {} for tenant {}",
+            firstId,
+            firstId + blockSize - 1,
+            sequenceType,
+            tenantId);
+        return firstId;
+      } catch (DataAccessException | TransactionException e) {
+        // the sequence row was created by another instance at the same time, it is locked and
+        // moved forward on the next attempt
+        if (attempt >= MAX_ALLOCATION_ATTEMPTS) {
+          throw e;
+        }
+        log.info(
+            "Retrying to reserve ids of sequence {} for tenant {} : {}",
+            sequenceType,
+            tenantId,
+            e.getMessage());
+      }
+    }
+  }
+
+  private int updateSequence(int tenantId, SequenceType sequenceType, Integer maxId) {
+    List<Integer> nextValues =
+        jdbcTemplate.queryForList(
+            SELECT_SEQUENCE_FOR_UPDATE, Integer.class, tenantId, sequenceType.name());
+    int firstId = maxId == null ? FIRST_ID : maxId + 1;
+
+    if (nextValues.isEmpty()) {
+      jdbcTemplate.update(INSERT_SEQUENCE, tenantId, sequenceType.name(), firstId + blockSize);
+    } else {
+      firstId = Math.max(firstId, nextValues.get(0));
+      jdbcTemplate.update(UPDATE_SEQUENCE, firstId + blockSize, tenantId, sequenceType.name());
+    }
+    return firstId;
+  }
+
+  private DataSource createDataSource() {
+    HikariDataSource sequenceDataSource = new HikariDataSource();
+    sequenceDataSource.setPoolName("klaw-sequences");
+    sequenceDataSource.setDriverClassName(
+        environment.getProperty("spring.datasource.driver.class"));
+    sequenceDataSource.setJdbcUrl(environment.getProperty("spring.datasource.url"));
+    sequenceDataSource.setUsername(environment.getProperty("spring.datasource.username"));
+    sequenceDataSource.setPassword(environment.getProperty("spring.datasource.password"));
+    sequenceDataSource.setConnectionTimeout(
+        Long.parseLong(
+            Objects.requireNonNull(
+                environment.getProperty("spring.datasource.hikari.connectionTimeout"))));
+    sequenceDataSource.setMinimumIdle(0);
+    sequenceDataSource.setMaximumPoolSize(poolSize);
+    return sequenceDataSource;
+  }
+
+  private record SequenceKey(String name, int tenantId) {}
+
+  private static final class IdBlock {
+    // next id to hand out, the block is used up when it reaches the limit
+    private int next;
+    private int limit;
+  }
+}
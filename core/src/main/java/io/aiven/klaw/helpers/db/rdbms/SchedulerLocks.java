@@ -0,0 +1,96 @@
+package io.aiven.klaw.helpers.db.rdbms;
+
+import io.aiven.klaw.repository.KwSchedulerLockRepo;
+import jakarta.annotation.PostConstruct;
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Locks of scheduled jobs in the kwschedulerlocks table, so that a job scheduled on every klaw
+ * instance sharing the database runs on one of them. A lock is held until a time instead of until
+ * it is released, so it is freed also when the instance holding it stops. The clocks of the
+ * instances are expected to be in sync.
+ */
+@Component
+@Slf4j
+public class SchedulerLocks {
+
+  // identifies this instance as the holder of its locks
+  private final String instanceId =
+      ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID();
+
+  @Autowired(required = false)
+  private KwSchedulerLockRepo kwSchedulerLockRepo;
+
+  @Autowired(required = false)
+  private PlatformTransactionManager transactionManager;
+
+  private TransactionTemplate transactionTemplate;
+
+  @PostConstruct
+  public void init() {
+    transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * Runs the task if the lock is free, and does nothing otherwise. The lock is held for at most
+   * lockAtMostFor, in case it is not released. After the task it is kept until lockAtLeastFor after
+   * it was taken, so that instances running the same schedule a little later skip the task.
+   *
+   * @return true if the task was run
+   */
+  public boolean runLocked(
+      String lockName, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable task) {
+    if (kwSchedulerLockRepo == null) {
+      // without a database there is no other instance to lock against
+      task.run();
+      return true;
+    }
+    Timestamp lockedAt = new Timestamp(System.currentTimeMillis());
+    if (!tryLock(lockName, lockedAt, lockAtMostFor)) {
+      log.info("Skipping {}, it is locked by another instance", lockName);
+      return false;
+    }
+    try {
+      task.run();
+    } finally {
+      Timestamp lockedUntil =
+          new Timestamp(
+              Math.max(System.currentTimeMillis(), lockedAt.getTime() + lockAtLeastFor.toMillis()));
+      transactionTemplate.executeWithoutResult(
+          status -> kwSchedulerLockRepo.unlock(lockName, lockedUntil, instanceId));
+    }
+    return true;
+  }
+
+  private boolean tryLock(String lockName, Timestamp lockedAt, Duration lockAtMostFor) {
+    Timestamp lockedUntil = new Timestamp(lockedAt.getTime() + lockAtMostFor.toMillis());
+    try {
+      Boolean locked =
+          transactionTemplate.execute(
+              status -> {
+                if (kwSchedulerLockRepo.lockIfFree(lockName, lockedUntil, lockedAt, instanceId)
+                    > 0) {
+                  return true;
+                }
+                if (kwSchedulerLockRepo.existsById(lockName)) {
+                  return false;
+                }
+                kwSchedulerLockRepo.insertLock(lockName, lockedUntil, lockedAt, instanceId);
+                return true;
+              });
+      return Boolean.TRUE.equals(locked);
+    } catch (DataIntegrityViolationException e) {
+      // the lock was created by another instance at the same time
+      return false;
+    }
+  }
+}
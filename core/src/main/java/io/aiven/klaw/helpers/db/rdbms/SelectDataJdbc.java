@@ -2,6 +2,7 @@ package io.aiven.klaw.helpers.db.rdbms;
 
 import com.google.common.collect.Lists;
 import io.aiven.klaw.dao.*;
+import io.aiven.klaw.helpers.UtilMethods;
 import io.aiven.klaw.model.enums.AclPatternType;
 import io.aiven.klaw.model.enums.AclType;
 import io.aiven.klaw.model.enums.KafkaClustersType;
@@ -10,20 +11,21 @@ import io.aiven.klaw.model.enums.RequestOperationType;
 import io.aiven.klaw.model.enums.RequestStatus;
 import io.aiven.klaw.model.response.DashboardStats;
 import io.aiven.klaw.repository.*;
+import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.TreeSet;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -415,8 +417,7 @@ public class SelectDataJdbc {
   public List<Topic> selectAllTopicsByTopictypeAndTeamname(
       String isProducerConsumer, Integer teamId, int tenantId) {
     log.debug("selectAllByTopictypeAndTeamname {} {}", isProducerConsumer, teamId);
-    List<Topic> topics = new ArrayList<>();
-    String topicType, aclPatternType;
+    String topicType;
     if (isProducerConsumer != null && isProducerConsumer.equals(AclType.PRODUCER.value)) {
       topicType = AclType.PRODUCER.value;
     } else {
@@ -424,50 +425,7 @@ public class SelectDataJdbc {
     }
 
     List<Acl> acls = aclRepo.findAllByAclTypeAndTeamIdAndTenantId(topicType, teamId, tenantId);
-    Topic t;
-    Map<String, List<String>> topicEnvMap = new HashMap<>();
-    String tmpTopicName;
-    List<String> envList;
-
-    for (Acl acl : acls) {
-      t = new Topic();
-      tmpTopicName = acl.getTopicname();
-      aclPatternType = acl.getAclPatternType();
-
-      if (aclPatternType != null && aclPatternType.equals(AclPatternType.PREFIXED.value))
-        tmpTopicName = tmpTopicName + "--" + AclPatternType.PREFIXED.value + "--";
-
-      t.setEnvironment(acl.getEnvironment());
-      t.setTopicname(tmpTopicName);
-
-      if (topicEnvMap.containsKey(tmpTopicName)) {
-        envList = topicEnvMap.get(tmpTopicName);
-        if (!envList.contains(acl.getEnvironment())) {
-          envList.add(acl.getEnvironment());
-          topicEnvMap.put(tmpTopicName, envList);
-        }
-      } else {
-        envList = new ArrayList<>();
-        envList.add(acl.getEnvironment());
-        topicEnvMap.put(tmpTopicName, envList);
-      }
-
-      topics.add(t);
-    }
-
-    for (Topic topic : topics) {
-      topic.setEnvironmentsList(topicEnvMap.get(topic.getTopicname()));
-    }
-
-    topics =
-        topics.stream()
-            .collect(
-                Collectors.collectingAndThen(
-                    Collectors.toCollection(
-                        () -> new TreeSet<>(Comparator.comparing(Topic::getTopicname))),
-                    ArrayList::new));
-
-    return topics;
+    return UtilMethods.getTopicsFromAcls(acls);
   }
 
   public List<Acl> selectSyncAcls(String env, int tenantId) {
@@ -886,27 +844,63 @@ public class SelectDataJdbc {
     return userRec.orElse(null);
   }
 
+  /**
+   * Returns a page of the activity log of the tenant, newest first. Only activities from fromTime
+   * and before the (beforeTime, beforeReqNo) key are returned, which is the key of the last row of
+   * the previous page, or the end of the time range and Integer.MIN_VALUE for the first page. The
+   * activities of the team of the user are returned, or of all teams when allReqs is set.
+   */
   public List<ActivityLog> selectActivityLog(
-      String username, String env, boolean allReqs, int tenantId) {
+      String username,
+      String env,
+      boolean allReqs,
+      Timestamp fromTime,
+      Timestamp beforeTime,
+      int beforeReqNo,
+      Pageable pageable,
+      int tenantId) {
     log.debug("selectActivityLog {}", username);
-    List<ActivityLog> activityList;
+    List<ActivityLog> activityList =
+        activityLogRepo.findActivityLogPage(
+            tenantId,
+            getActivityLogEnv(env),
+            getActivityLogTeamId(username, allReqs),
+            fromTime,
+            beforeTime,
+            beforeReqNo,
+            pageable);
 
-    if (allReqs) {
-      if (env == null || env.isBlank()) {
-        activityList = Lists.newArrayList(activityLogRepo.findAllByTenantId(tenantId));
-      } else {
-        activityList = activityLogRepo.findAllByEnvAndTenantId(env, tenantId);
-      }
-    } else {
-      final UserInfo userInfo = selectUserInfo(username);
-      if (env == null || env.isBlank()) {
-        activityList = activityLogRepo.findAllByTeamIdAndTenantId(userInfo.getTeamId(), tenantId);
-      } else {
-        activityList =
-            activityLogRepo.findAllByEnvAndTeamIdAndTenantId(env, userInfo.getTeamId(), tenantId);
-      }
+    for (ActivityLog row : activityList) {
+      row.setActivityTimeString(
+          DATE_TIME_FORMATTER.format(row.getActivityTime().toLocalDateTime()));
     }
 
+    return activityList;
+  }
+
+  /** Same as selectActivityLog, on the activity logs moved to the archive by retention. */
+  public List<ActivityLog> selectArchivedActivityLog(
+      String username,
+      String env,
+      boolean allReqs,
+      Timestamp fromTime,
+      Timestamp beforeTime,
+      int beforeReqNo,
+      Pageable pageable,
+      int tenantId) {
+    log.debug("selectArchivedActivityLog {}", username);
+    Integer teamId = getActivityLogTeamId(username, allReqs);
+    String activityLogEnv = getActivityLogEnv(env);
+    List<ActivityLog> activityList =
+        activityLogRepo.findArchivedActivityLogPage(
+            tenantId,
+            activityLogEnv == null ? "" : activityLogEnv,
+            teamId == null ? -1 : teamId,
+            fromTime,
+            beforeTime,
+            beforeReqNo,
+            pageable);
+
     for (ActivityLog row : activityList) {
       row.setActivityTimeString(
           DATE_TIME_FORMATTER.format(row.getActivityTime().toLocalDateTime()));
@@ -915,6 +909,29 @@ public class SelectDataJdbc {
     return activityList;
   }
 
+  public long countActivityLog(
+      String username,
+      String env,
+      boolean allReqs,
+      Timestamp fromTime,
+      Timestamp toTime,
+      int tenantId) {
+    return activityLogRepo.countActivityLog(
+        tenantId,
+        getActivityLogEnv(env),
+        getActivityLogTeamId(username, allReqs),
+        fromTime,
+        toTime);
+  }
+
+  private String getActivityLogEnv(String env) {
+    return env == null || env.isBlank() ? null : env;
+  }
+
+  private Integer getActivityLogTeamId(String username, boolean allReqs) {
+    return allReqs ? null : selectUserInfo(username).getTeamId();
+  }
+
   public List<Team> selectTeamsOfUsers(String username, int tenantId) {
     log.debug("selectTeamsOfUsers {}", username);
     List<Team> allTeams = selectAllTeams(tenantId);
@@ -1010,6 +1027,10 @@ public class SelectDataJdbc {
     return aclRepo.findAllByTenantId(tenantId);
   }
 
+  public List<Acl> selectAllAclsForTenant(int tenantId) {
+    return aclRepo.findAllByTenantId(tenantId);
+  }
+
   public Team selectTeamDetails(Integer teamId, int tenantId) {
     TeamID teamID = new TeamID(teamId, tenantId);
     Optional<Team> teamList = teamRepo.findById(teamID);
@@ -1029,9 +1050,9 @@ public class SelectDataJdbc {
       Integer teamId, int numberOfDays, int tenantId) {
     List<Map<String, String>> totalActivityLogCount = new ArrayList<>();
     try {
-      List<Object[]> activityCount = activityLogRepo.findActivityLogForTeamId(teamId, tenantId);
-      if (activityCount.size() > numberOfDays)
-        activityCount = activityCount.subList(0, numberOfDays - 1);
+      List<Object[]> activityCount =
+          activityLogRepo.findActivityLogForTeamId(
+              teamId, tenantId, getStartOfLastDays(numberOfDays));
       Map<String, String> hashMap;
       for (Object[] actvty : activityCount) {
         hashMap = new HashMap<>();
@@ -1051,10 +1072,8 @@ public class SelectDataJdbc {
     List<Map<String, String>> totalActivityLogCount = new ArrayList<>();
     try {
       List<Object[]> activityCount =
-          activityLogRepo.findActivityLogForLastDays(envIdList, tenantId);
-      if (activityCount.size() > numberOfDays) {
-        activityCount = activityCount.subList(0, numberOfDays - 1);
-      }
+          activityLogRepo.findActivityLogForLastDays(
+              envIdList, tenantId, getStartOfLastDays(numberOfDays));
       Map<String, String> hashMap;
       for (Object[] actvty : activityCount) {
         hashMap = new HashMap<>();
@@ -1069,6 +1088,11 @@ public class SelectDataJdbc {
     return totalActivityLogCount;
   }
 
+  // start of the first of the last number of days, today included
+  private Timestamp getStartOfLastDays(int numberOfDays) {
+    return Timestamp.valueOf(LocalDate.now().minusDays(numberOfDays - 1).atStartOfDay());
+  }
+
   public List<Map<String, String>> selectTopicsCountByEnv(Integer tenantId) {
     List<Map<String, String>> totalTopicCount = new ArrayList<>();
     try {
@@ -1274,33 +1298,6 @@ public class SelectDataJdbc {
     return kwPropertiesRepo.findAllByTenantId(tenantId);
   }
 
-  public Integer getNextTopicRequestId(String idType, int tenantId) {
-    Integer topicId;
-    if (idType.equals("TOPIC_REQ_ID")) {
-      topicId = topicRequestsRepo.getNextTopicRequestId(tenantId);
-    } else if (idType.equals("TOPIC_ID")) {
-      topicId = topicRepo.getNextTopicRequestId(tenantId);
-    } else {
-      topicId = null;
-    }
-
-    if (topicId == null) {
-      return 1001;
-    } else {
-      return topicId + 1;
-    }
-  }
-
-  public Integer getNextConnectorRequestId(String idType, int tenantId) {
-    Integer connectorId = null;
-    if ("CONNECTOR_REQ_ID".equals(idType)) {
-      connectorId = kafkaConnectorRequestsRepo.getNextConnectorRequestId(tenantId);
-    } else if ("CONNECTOR_ID".equals(idType)) {
-      connectorId = kafkaConnectorRepo.getNextConnectorRequestId(tenantId);
-    }
-    return (connectorId == null) ? 1001 : connectorId + 1;
-  }
-
   public List<KwTenants> getTenants() {
     return Lists.newArrayList(tenantRepo.findAll());
   }
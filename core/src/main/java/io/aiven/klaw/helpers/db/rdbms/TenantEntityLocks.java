@@ -0,0 +1,42 @@
+package io.aiven.klaw.helpers.db.rdbms;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Striped;
+import io.aiven.klaw.model.enums.RequestEntityType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
+
+/**
+ * Striped locks keyed by tenant and entity type. Writes of the same entity type of a tenant are
+ * serialised, while writes of other tenants or entity types only wait for each other when their
+ * keys share a stripe.
+ */
+public final class TenantEntityLocks {
+
+  private final Striped<Lock> locks;
+
+  public TenantEntityLocks(int stripes) {
+    locks = Striped.lock(stripes);
+  }
+
+  /** Runs the action holding the locks of the entity type of all given tenants. */
+  public <T> T callWithLocks(
+      Collection<Integer> tenantIds, RequestEntityType entityType, Supplier<T> action) {
+    List<String> keys = new ArrayList<>();
+    for (Integer tenantId : tenantIds) {
+      keys.add(tenantId + "-" + entityType.value);
+    }
+
+    // locks are returned in a fixed order, so that writes locking several tenants cannot deadlock
+    List<Lock> tenantLocks = Lists.newArrayList(locks.bulkGet(keys));
+    tenantLocks.forEach(Lock::lock);
+    try {
+      return action.get();
+    } finally {
+      Lists.reverse(tenantLocks).forEach(Lock::unlock);
+    }
+  }
+}
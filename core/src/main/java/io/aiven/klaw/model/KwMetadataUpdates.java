@@ -19,5 +19,8 @@ public class KwMetadataUpdates implements Serializable {
 
   private String operationType;
 
+  // optional, name of the changed entity (ex : topic name), to update only that entity in cache
+  private String entityValue;
+
   private Timestamp createdTime;
 }
@@ -0,0 +1,34 @@
+package io.aiven.klaw.model;
+
+import io.aiven.klaw.model.enums.PermissionType;
+import java.util.Collections;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * User details of the principal of the current request, resolved once per request so that
+ * permission checks do not look up the user, tenant and role again.
+ */
+@ToString
+@Getter
+@Builder
+public class PrincipalContext {
+
+  private final String userName;
+
+  private final int tenantId;
+
+  private final Integer teamId;
+
+  private final String role;
+
+  // permissions granted to the role in the tenant
+  @ToString.Exclude @Builder.Default
+  private final Set<PermissionType> permissions = Collections.emptySet();
+
+  public boolean hasPermission(PermissionType permissionType) {
+    return permissions.contains(permissionType);
+  }
+}
@@ -0,0 +1,13 @@
+package io.aiven.klaw.model.enums;
+
+/** State of an entity on a cluster compared with the entity stored in klaw. */
+public enum ReconStatus {
+  // on the cluster only
+  ADDED,
+  // stored only
+  DELETED,
+  // on both, with a different configuration
+  CHANGED,
+  // on both, with the same configuration
+  MATCHED
+}
@@ -0,0 +1,14 @@
+package io.aiven.klaw.model.enums;
+
+/** Ids allocated per tenant from the kwsequences table. */
+public enum SequenceType {
+  TOPIC_REQUEST,
+  TOPIC,
+  CONNECTOR_REQUEST,
+  CONNECTOR,
+  ACL_REQUEST,
+  ACL,
+  SCHEMA_REQUEST,
+  SCHEMA,
+  ACTIVITY_LOG
+}
@@ -0,0 +1,14 @@
+package io.aiven.klaw.model.response;
+
+import io.aiven.klaw.dao.ActivityLog;
+import java.util.List;
+import lombok.Data;
+
+/** A page of the activity log, newest first. */
+@Data
+public class ActivityLogPage {
+  private List<ActivityLog> entries;
+
+  // token to request the next page with, not set on the last page
+  private String nextPageToken;
+}
@@ -0,0 +1,23 @@
+package io.aiven.klaw.model.response;
+
+import java.util.concurrent.TimeUnit;
+import lombok.Data;
+
+/** Number of entities written by a sync and the rate at which they were written. */
+@Data
+public class SyncWriteSummary {
+  private int writtenCount;
+
+  private long elapsedMillis;
+
+  private long writtenPerSecond;
+
+  public static SyncWriteSummary of(int writtenCount, long startNanos) {
+    long elapsedNanos = Math.max(1, System.nanoTime() - startNanos);
+    SyncWriteSummary syncWriteSummary = new SyncWriteSummary();
+    syncWriteSummary.setWrittenCount(writtenCount);
+    syncWriteSummary.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    syncWriteSummary.setWrittenPerSecond(writtenCount * TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
+    return syncWriteSummary;
+  }
+}
@@ -0,0 +1,17 @@
+package io.aiven.klaw.model.response;
+
+import java.sql.Timestamp;
+import lombok.Data;
+
+@Data
+public class TopicReconResultResponse {
+  private String envId;
+  private String envName;
+  private Timestamp reconTime;
+  private String status;
+  private int addedCount;
+  private int deletedCount;
+  private int changedCount;
+  private int matchedCount;
+  private String details;
+}
@@ -0,0 +1,12 @@
+package io.aiven.klaw.model.response;
+
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class TopicsPage {
+  private List<TopicConfig> topics;
+
+  // null on the last page
+  private String nextPageToken;
+}
@@ -25,6 +25,12 @@ public interface AclRepo extends CrudRepository<Acl, AclID> {
 
   List<Acl> findAllByTenantId(int tenantId);
 
+  @Query(
+      value = "select * from kwacls where tenantid = :tenantId and aclid in :aclIds",
+      nativeQuery = true)
+  List<Acl> findAllByTenantIdAndAclIds(
+      @Param("tenantId") Integer tenantId, @Param("aclIds") List<Integer> aclIds);
+
   @Query(
       value = "select count(*) from kwacls where env = :envId and tenantid = :tenantId",
       nativeQuery = true)
@@ -2,8 +2,13 @@ package io.aiven.klaw.repository;
 
 import io.aiven.klaw.dao.ActivityLog;
 import io.aiven.klaw.dao.ActivityLogID;
+import jakarta.persistence.LockModeType;
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
@@ -11,28 +16,27 @@ import org.springframework.data.repository.query.Param;
 public interface ActivityLogRepo extends CrudRepository<ActivityLog, ActivityLogID> {
   Optional<ActivityLog> findById(ActivityLogID activityLogID);
 
-  List<ActivityLog> findAllByEnvAndTenantId(String env, int tenantId);
-
-  List<ActivityLog> findAllByEnvAndTeamIdAndTenantId(String env, Integer teamId, int tenantId);
-
-  List<ActivityLog> findAllByTeamIdAndTenantId(Integer team, int tenantId);
-
   @Query(
       value =
           "select date(activitytime), count(*) from kwactivitylog where"
-              + " teamid = :teamIdVar and tenantid = :tenantId group by date(activitytime) order by date(activitytime) asc",
+              + " teamid = :teamIdVar and tenantid = :tenantId and activitytime >= :fromTime"
+              + " group by date(activitytime) order by date(activitytime) asc",
       nativeQuery = true)
   List<Object[]> findActivityLogForTeamId(
-      @Param("teamIdVar") Integer teamIdVar, @Param("tenantId") Integer tenantId);
+      @Param("teamIdVar") Integer teamIdVar,
+      @Param("tenantId") Integer tenantId,
+      @Param("fromTime") Timestamp fromTime);
 
   @Query(
       value =
           "select date(activitytime), count(*) from kwactivitylog where "
-              + " env in :envId and tenantid = :tenantId"
+              + " env in :envId and tenantid = :tenantId and activitytime >= :fromTime"
               + " group by date(activitytime) order by date(activitytime) asc;",
       nativeQuery = true)
   List<Object[]> findActivityLogForLastDays(
-      @Param("envId") String[] envId, @Param("tenantId") Integer tenantId);
+      @Param("envId") String[] envId,
+      @Param("tenantId") Integer tenantId,
+      @Param("fromTime") Timestamp fromTime);
 
   @Query(
       value = "select max(kwreqno) from kwactivitylog where tenantid = :tenantId",
@@ -40,4 +44,81 @@ public interface ActivityLogRepo extends CrudRepository<ActivityLog, ActivityLog
   Integer getNextActivityLogRequestId(@Param("tenantId") Integer tenantId);
 
   List<ActivityLog> findAllByTenantId(int tenantId);
+
+  // newest first, starting after the (beforeTime, beforeReqNo) key of the last row of the previous
+  // page. Served by the kwactivitylog_tenant_time_idx index
+  @Query(
+      "select a from ActivityLog a where a.tenantId = :tenantId"
+          + " and (:env is null or a.env = :env) and (:teamId is null or a.teamId = :teamId)"
+          + " and a.activityTime >= :fromTime"
+          + " and (a.activityTime < :beforeTime"
+          + " or (a.activityTime = :beforeTime and a.req_no < :beforeReqNo))"
+          + " order by a.activityTime desc, a.req_no desc")
+  List<ActivityLog> findActivityLogPage(
+      @Param("tenantId") int tenantId,
+      @Param("env") String env,
+      @Param("teamId") Integer teamId,
+      @Param("fromTime") Timestamp fromTime,
+      @Param("beforeTime") Timestamp beforeTime,
+      @Param("beforeReqNo") int beforeReqNo,
+      Pageable pageable);
+
+  @Query(
+      "select count(a) from ActivityLog a where a.tenantId = :tenantId"
+          + " and (:env is null or a.env = :env) and (:teamId is null or a.teamId = :teamId)"
+          + " and a.activityTime >= :fromTime and a.activityTime < :toTime")
+  long countActivityLog(
+      @Param("tenantId") int tenantId,
+      @Param("env") String env,
+      @Param("teamId") Integer teamId,
+      @Param("fromTime") Timestamp fromTime,
+      @Param("toTime") Timestamp toTime);
+
+  // same order as findActivityLogPage, in the archive table. Env "" and team id -1 are not filtered
+  @Query(
+      value =
+          "select * from kwactivitylog_archive where tenantid = :tenantId"
+              + " and (:env = '' or env = :env) and (:teamId < 0 or teamid = :teamId)"
+              + " and activitytime >= :fromTime"
+              + " and (activitytime < :beforeTime"
+              + " or (activitytime = :beforeTime and kwreqno < :beforeReqNo))"
+              + " order by activitytime desc, kwreqno desc",
+      nativeQuery = true)
+  List<ActivityLog> findArchivedActivityLogPage(
+      @Param("tenantId") int tenantId,
+      @Param("env") String env,
+      @Param("teamId") int teamId,
+      @Param("fromTime") Timestamp fromTime,
+      @Param("beforeTime") Timestamp beforeTime,
+      @Param("beforeReqNo") int beforeReqNo,
+      Pageable pageable);
+
+  // oldest first, locked until they are archived so that instances do not archive the same rows
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query(
+      "select a from ActivityLog a where a.tenantId = :tenantId and a.activityTime < :beforeTime"
+          + " order by a.activityTime asc, a.req_no asc")
+  List<ActivityLog> findActivityLogBeforeForUpdate(
+      @Param("tenantId") int tenantId,
+      @Param("beforeTime") Timestamp beforeTime,
+      Pageable pageable);
+
+  @Modifying
+  @Query(
+      value =
+          "insert into kwactivitylog_archive"
+              + " (kwreqno, tenantid, activityname, activitytype, activitytime, details, userid,"
+              + " teamid, env)"
+              + " select kwreqno, tenantid, activityname, activitytype, activitytime, details,"
+              + " userid, teamid, env from kwactivitylog"
+              + " where tenantid = :tenantId and kwreqno in :reqNos",
+      nativeQuery = true)
+  int copyToArchive(@Param("tenantId") int tenantId, @Param("reqNos") List<Integer> reqNos);
+
+  @Modifying
+  @Query(
+      value = "delete from kwactivitylog where tenantid = :tenantId and kwreqno in :reqNos",
+      nativeQuery = true)
+  int deleteByTenantIdAndReqNos(
+      @Param("tenantId") int tenantId, @Param("reqNos") List<Integer> reqNos);
 }
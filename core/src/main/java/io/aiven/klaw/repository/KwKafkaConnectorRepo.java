@@ -13,6 +13,9 @@ public interface KwKafkaConnectorRepo extends CrudRepository<KwKafkaConnector, K
 
   List<KwKafkaConnector> findAllByTenantId(int tenantId);
 
+  List<KwKafkaConnector> findAllByTenantIdAndConnectorIdIn(
+      Integer tenantId, List<Integer> connectorIds);
+
   List<KwKafkaConnector> findAllByEnvironmentAndTenantId(String env, int tenantId);
 
   List<KwKafkaConnector> findAllByTeamIdAndTenantId(Integer teamId, int tenantId);
@@ -0,0 +1,24 @@
+package io.aiven.klaw.repository;
+
+import io.aiven.klaw.dao.KwMetadataChange;
+import java.sql.Timestamp;
+import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface KwMetadataChangeRepo extends CrudRepository<KwMetadataChange, Long> {
+
+  KwMetadataChange findTopByOrderByVersionDesc();
+
+  List<KwMetadataChange> findAllByVersionGreaterThanOrderByVersionAsc(long version);
+
+  KwMetadataChange findTopByCreatedTimeBeforeOrderByVersionDesc(Timestamp createdTime);
+
+  @Transactional
+  @Modifying
+  @Query("delete from KwMetadataChange c where c.version <= :version")
+  int deleteAllUpToVersion(@Param("version") long version);
+}
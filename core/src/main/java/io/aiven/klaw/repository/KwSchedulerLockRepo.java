@@ -0,0 +1,43 @@
+package io.aiven.klaw.repository;
+
+import io.aiven.klaw.dao.KwSchedulerLock;
+import java.sql.Timestamp;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+public interface KwSchedulerLockRepo extends CrudRepository<KwSchedulerLock, String> {
+
+  // fails with a duplicate key when another instance created the lock at the same time
+  @Modifying
+  @Query(
+      value =
+          "insert into kwschedulerlocks (lockname, lockeduntil, lockedat, lockedby)"
+              + " values (:lockName, :lockedUntil, :now, :lockedBy)",
+      nativeQuery = true)
+  int insertLock(
+      @Param("lockName") String lockName,
+      @Param("lockedUntil") Timestamp lockedUntil,
+      @Param("now") Timestamp now,
+      @Param("lockedBy") String lockedBy);
+
+  @Modifying
+  @Query(
+      "update KwSchedulerLock l set l.lockedUntil = :lockedUntil, l.lockedAt = :now,"
+          + " l.lockedBy = :lockedBy where l.lockName = :lockName and l.lockedUntil <= :now")
+  int lockIfFree(
+      @Param("lockName") String lockName,
+      @Param("lockedUntil") Timestamp lockedUntil,
+      @Param("now") Timestamp now,
+      @Param("lockedBy") String lockedBy);
+
+  @Modifying
+  @Query(
+      "update KwSchedulerLock l set l.lockedUntil = :lockedUntil"
+          + " where l.lockName = :lockName and l.lockedBy = :lockedBy")
+  int unlock(
+      @Param("lockName") String lockName,
+      @Param("lockedUntil") Timestamp lockedUntil,
+      @Param("lockedBy") String lockedBy);
+}
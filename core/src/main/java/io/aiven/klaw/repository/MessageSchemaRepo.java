@@ -13,6 +13,13 @@ public interface MessageSchemaRepo extends CrudRepository<MessageSchema, Message
 
   List<MessageSchema> findAllByTenantId(int tenantId);
 
+  @Query(
+      value =
+          "select * from kwavroschemas where tenantid = :tenantId and avroschemaid in :schemaIds",
+      nativeQuery = true)
+  List<MessageSchema> findAllByTenantIdAndSchemaIds(
+      @Param("tenantId") Integer tenantId, @Param("schemaIds") List<Integer> schemaIds);
+
   @Query(
       value = "select count(*) from kwavroschemas where env = :envId and tenantid = :tenantId",
       nativeQuery = true)
@@ -0,0 +1,10 @@
+package io.aiven.klaw.repository;
+
+import io.aiven.klaw.dao.TopicReconResult;
+import io.aiven.klaw.dao.TopicReconResultID;
+import java.util.List;
+import org.springframework.data.repository.CrudRepository;
+
+public interface TopicReconResultRepo extends CrudRepository<TopicReconResult, TopicReconResultID> {
+  List<TopicReconResult> findAllByTenantId(int tenantId);
+}
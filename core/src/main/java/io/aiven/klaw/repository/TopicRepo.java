@@ -15,6 +15,8 @@ public interface TopicRepo extends CrudRepository<Topic, TopicID> {
 
   List<Topic> findAllByTenantIdAndTopicnameIn(int tenantId, List<String> topicsNamesList);
 
+  List<Topic> findAllByTenantIdAndTopicidIn(Integer tenantId, List<Integer> topicIds);
+
   List<Topic> findAllByEnvironmentAndTenantId(String env, int tenantId);
 
   List<Topic> findAllByTeamIdAndTenantId(Integer teamId, int tenantId);
@@ -7,6 +7,7 @@ import static io.aiven.klaw.error.KlawErrorMessages.ACL_ERR_104;
 import static io.aiven.klaw.error.KlawErrorMessages.ACL_ERR_105;
 import static io.aiven.klaw.error.KlawErrorMessages.ACL_ERR_106;
 import static io.aiven.klaw.error.KlawErrorMessages.REQ_ERR_101;
+import static io.aiven.klaw.error.KlawErrorMessages.REQ_SER_ERR_101;
 import static io.aiven.klaw.model.enums.MailType.ACL_DELETE_REQUESTED;
 import static io.aiven.klaw.model.enums.MailType.ACL_REQUESTED;
 import static io.aiven.klaw.model.enums.MailType.ACL_REQUEST_APPROVED;
@@ -49,6 +50,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -633,8 +635,142 @@ public class AclControllerService {
     // set back all ips, principals
     aclReq.setAcl_ip(allIps);
     aclReq.setAcl_ssl(allSsl);
-    String updateAclReqStatus;
-    updateAclReqStatus =
+    ApiResponse apiResponse = completeAclRequest(userDetails, dbHandle, aclReq, response, tenantId);
+    if (apiResponse.isSuccess()) {
+      commonUtilsService.updateMetadata(tenantId, EntityType.ACLS, MetadataOperationType.UPDATE);
+    }
+    return apiResponse;
+  }
+
+  /**
+   * Approves several acl requests. The acls of all requests of an env are applied on the cluster in
+   * batches, requests of Aiven clusters are approved one by one.
+   *
+   * @return response of each request, in the order of the request ids
+   */
+  public List<ApiResponse> approveAclRequests(List<String> reqIds) {
+    log.info("approveAclRequests {}", reqIds);
+    final String userDetails = getCurrentUserName();
+    int tenantId = commonUtilsService.getTenantId(userDetails);
+    if (commonUtilsService.isNotAuthorizedUser(
+        getPrincipal(), PermissionType.APPROVE_SUBSCRIPTIONS)) {
+      ApiResponse notAuthorized =
+          ApiResponse.builder()
+              .success(false)
+              .message(ApiResultStatus.NOT_AUTHORIZED.value)
+              .build();
+      return reqIds.stream().map(reqId -> notAuthorized).collect(Collectors.toList());
+    }
+
+    HandleDbRequests dbHandle = manageDatabase.getHandleDbRequests();
+    ApiResponse[] responses = new ApiResponse[reqIds.size()];
+    // requests to apply in a batch by env, with the index of their response
+    Map<String, Map<Integer, AclRequests>> batches = new LinkedHashMap<>();
+    // requests approved one by one after the batches, by the index of their response
+    Map<Integer, String> singleRequests = new LinkedHashMap<>();
+    for (int i = 0; i < reqIds.size(); i++) {
+      String reqId = reqIds.get(i);
+      try {
+        AclRequests aclReq = dbHandle.getAcl(Integer.parseInt(reqId), tenantId);
+        ApiResponse aclValidationResponse = validateAclRequest(aclReq, userDetails);
+        if (!aclValidationResponse.isSuccess()) {
+          responses[i] = aclValidationResponse;
+        } else if (KafkaFlavors.AIVEN_FOR_APACHE_KAFKA.value.equals(
+            getKafkaFlavor(aclReq.getEnvironment(), tenantId))) {
+          singleRequests.put(i, reqId);
+        } else {
+          batches
+              .computeIfAbsent(aclReq.getEnvironment(), k -> new LinkedHashMap<>())
+              .put(i, aclReq);
+        }
+      } catch (Exception e) {
+        log.error("approveAclRequests {}", reqId, e);
+        responses[i] = getApprovalFailure(reqId);
+      }
+    }
+
+    batches.forEach(
+        (envId, batch) ->
+            approveAclRequestsInBatch(userDetails, tenantId, dbHandle, envId, batch, responses));
+    singleRequests.forEach(
+        (i, reqId) -> {
+          try {
+            responses[i] = approveAclRequests(reqId);
+          } catch (Exception e) {
+            log.error("approveAclRequests {}", reqId, e);
+            responses[i] = getApprovalFailure(reqId);
+          }
+        });
+    return Arrays.asList(responses);
+  }
+
+  private void approveAclRequestsInBatch(
+      String userDetails,
+      int tenantId,
+      HandleDbRequests dbHandle,
+      String envId,
+      Map<Integer, AclRequests> batch,
+      ApiResponse[] responses) {
+    List<String> results;
+    try {
+      results =
+          clusterApiService.approveAclRequests(envId, new ArrayList<>(batch.values()), tenantId);
+    } catch (KlawException e) {
+      log.error("approveAclRequests {}", envId, e);
+      batch.forEach(
+          (i, aclReq) -> responses[i] = getApprovalFailure(String.valueOf(aclReq.getReq_no())));
+      return;
+    }
+
+    boolean approved = false;
+    int j = 0;
+    for (Map.Entry<Integer, AclRequests> entry : batch.entrySet()) {
+      String result = results.get(j++);
+      AclRequests aclReq = entry.getValue();
+      try {
+        ResponseEntity<ApiResponse> response =
+            ResponseEntity.ok(
+                ApiResponse.builder()
+                    .success(ApiResultStatus.SUCCESS.value.equals(result))
+                    .message(result)
+                    .build());
+        responses[entry.getKey()] =
+            completeAclRequest(userDetails, dbHandle, aclReq, response, tenantId);
+        approved |= responses[entry.getKey()].isSuccess();
+      } catch (Exception e) {
+        log.error("approveAclRequests {}", aclReq.getReq_no(), e);
+        responses[entry.getKey()] = getApprovalFailure(String.valueOf(aclReq.getReq_no()));
+      }
+    }
+
+    // one reload of the acls of the tenant for the batch, instead of one per request
+    if (approved) {
+      commonUtilsService.updateMetadata(tenantId, EntityType.ACLS, MetadataOperationType.UPDATE);
+    }
+  }
+
+  private String getKafkaFlavor(String envId, int tenantId) {
+    return manageDatabase
+        .getClusters(KafkaClustersType.KAFKA, tenantId)
+        .get(getEnvDetails(envId, tenantId).getClusterId())
+        .getKafkaFlavor();
+  }
+
+  private static ApiResponse getApprovalFailure(String reqId) {
+    return ApiResponse.builder()
+        .success(false)
+        .message(String.format(REQ_SER_ERR_101, reqId))
+        .build();
+  }
+
+  // records the result of a request applied on the cluster and notifies the requestor
+  private ApiResponse completeAclRequest(
+      String userDetails,
+      HandleDbRequests dbHandle,
+      AclRequests aclReq,
+      ResponseEntity<ApiResponse> response,
+      int tenantId) {
+    String updateAclReqStatus =
         handleAclRequestClusterApiResponse(userDetails, dbHandle, aclReq, response, tenantId);
 
     MailType notifyUserType = ACL_REQUEST_APPROVED;
@@ -728,7 +864,8 @@ public class AclControllerService {
       }
       // Update team with service account
       manageDatabase.getHandleDbRequests().updateTeam(optionalTeam.get());
-      commonUtilsService.updateMetadata(tenantId, EntityType.TEAM, MetadataOperationType.UPDATE);
+      commonUtilsService.updateMetadataAsync(
+          tenantId, EntityType.TEAM, MetadataOperationType.UPDATE, null);
     }
   }
 
@@ -815,12 +952,11 @@ public class AclControllerService {
   }
 
   private boolean validateTeamConsumerGroup(Integer teamId, String consumerGroup, int tenantId) {
-    List<Acl> acls = manageDatabase.getHandleDbRequests().getUniqueConsumerGroups(tenantId);
-
-    for (Acl acl : acls) {
-      if (!Objects.equals(acl.getTeamId(), teamId)
-          && acl.getConsumergroup() != null
-          && Objects.equals(acl.getConsumergroup(), consumerGroup)) {
+    if (consumerGroup == null) {
+      return false;
+    }
+    for (Acl acl : manageDatabase.getAclCatalog(tenantId).getAclsByConsumerGroup(consumerGroup)) {
+      if (!Objects.equals(acl.getTeamId(), teamId)) {
         return true;
       }
     }
@@ -21,11 +21,14 @@ import io.aiven.klaw.model.enums.AclPatternType;
 import io.aiven.klaw.model.enums.AclPermissionType;
 import io.aiven.klaw.model.enums.AclType;
 import io.aiven.klaw.model.enums.ApiResultStatus;
+import io.aiven.klaw.model.enums.EntityType;
 import io.aiven.klaw.model.enums.KafkaClustersType;
 import io.aiven.klaw.model.enums.KafkaFlavors;
 import io.aiven.klaw.model.enums.KafkaSupportedProtocol;
+import io.aiven.klaw.model.enums.MetadataOperationType;
 import io.aiven.klaw.model.enums.PermissionType;
 import io.aiven.klaw.model.enums.RequestOperationType;
+import io.aiven.klaw.model.response.SyncWriteSummary;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -119,10 +122,12 @@ public class AclSyncControllerService {
 
     try {
       if (!listTopics.isEmpty()) {
-        return ApiResponse.builder()
-            .success(true)
-            .message(manageDatabase.getHandleDbRequests().addToSyncacls(listTopics))
-            .build();
+        long startNanos = System.nanoTime();
+        String result = manageDatabase.getHandleDbRequests().addToSyncacls(listTopics);
+        SyncWriteSummary syncWriteSummary = SyncWriteSummary.of(listTopics.size(), startNanos);
+        log.info("Synced acls of tenant {} : {}", tenantId, syncWriteSummary);
+        commonUtilsService.updateMetadata(tenantId, EntityType.ACLS, MetadataOperationType.UPDATE);
+        return ApiResponse.builder().success(true).message(result).data(syncWriteSummary).build();
       }
       return ApiResponse.builder().success(false).message(SYNC_ERR_101).build();
     } catch (Exception e) {
@@ -174,6 +179,7 @@ public class AclSyncControllerService {
           approveSyncBackAcls(syncBackAcls, resultMap, logArray, acl, tenantId);
         }
       }
+      commonUtilsService.updateMetadata(tenantId, EntityType.ACLS, MetadataOperationType.UPDATE);
     } catch (Exception e) {
       log.error("Error ", e);
       throw new KlawException(e.getMessage());
@@ -0,0 +1,108 @@
+package io.aiven.klaw.service;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.ActivityLog;
+import io.aiven.klaw.repository.ActivityLogRepo;
+import jakarta.annotation.PostConstruct;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves activity logs older than the retention period to the kwactivitylog_archive table, so that
+ * the activity log pages and charts only read recent rows. Rows are copied and deleted in chunks,
+ * each chunk in one transaction. Archived activity logs are still returned by the activity log page
+ * api on request.
+ */
+@Service
+@Slf4j
+public class ActivityLogRetentionService {
+
+  // activity logs are kept this number of days, retention is disabled when not positive
+  @Value("${klaw.activitylog.retention.days:0}")
+  private int retentionDays;
+
+  @Value("${klaw.activitylog.retention.chunk.size:500}")
+  private int chunkSize;
+
+  @Autowired(required = false)
+  private ActivityLogRepo activityLogRepo;
+
+  @Autowired(required = false)
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired private ManageDatabase manageDatabase;
+
+  private TransactionTemplate transactionTemplate;
+
+  @PostConstruct
+  public void init() {
+    transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @Scheduled(cron = "${klaw.activitylog.retention.cron:0 30 1 * * ?}")
+  public void archiveActivityLogScheduler() {
+    if (retentionDays <= 0) {
+      return;
+    }
+    try {
+      archiveActivityLog();
+    } catch (Exception e) {
+      log.error("Error archiving activity logs", e);
+    }
+  }
+
+  /**
+   * Archives the activity logs of all tenants from before the start of the retention period.
+   *
+   * @return number of archived activity logs
+   */
+  public int archiveActivityLog() {
+    Timestamp beforeTime =
+        Timestamp.valueOf(LocalDate.now().minusDays(retentionDays).atStartOfDay());
+    int archived = 0;
+    for (Integer tenantId : new ArrayList<>(manageDatabase.getTenantMap().keySet())) {
+      int archivedOfTenant = 0;
+      int archivedOfChunk;
+      do {
+        archivedOfChunk = transactionTemplate.execute(status -> archiveChunk(tenantId, beforeTime));
+        archivedOfTenant += archivedOfChunk;
+      } while (archivedOfChunk == chunkSize);
+
+      if (archivedOfTenant > 0) {
+        log.info(
+            "Archived {} activity logs of tenant {} from before {}",
+            archivedOfTenant,
+            tenantId,
+            beforeTime);
+      }
+      archived += archivedOfTenant;
+    }
+    return archived;
+  }
+
+  private int archiveChunk(int tenantId, Timestamp beforeTime) {
+    List<ActivityLog> expired =
+        activityLogRepo.findActivityLogBeforeForUpdate(
+            tenantId, beforeTime, PageRequest.of(0, chunkSize));
+    if (expired.isEmpty()) {
+      return 0;
+    }
+
+    List<Integer> reqNos =
+        expired.stream().map(ActivityLog::getReq_no).collect(Collectors.toList());
+    activityLogRepo.copyToArchive(tenantId, reqNos);
+    activityLogRepo.deleteByTenantIdAndReqNos(tenantId, reqNos);
+    return expired.size();
+  }
+}
@@ -264,10 +264,9 @@ public abstract class BaseOverviewService {
       String env, String topicNameSearch, boolean regex, int tenantId) {
     List<Acl> aclsFromSOT;
     if (!regex) {
-      aclsFromSOT =
-          manageDatabase.getHandleDbRequests().getSyncAcls(env, topicNameSearch, tenantId);
+      aclsFromSOT = manageDatabase.getAclCatalog(tenantId).getAcls(env, topicNameSearch);
     } else {
-      aclsFromSOT = manageDatabase.getHandleDbRequests().getSyncAcls(env, tenantId);
+      aclsFromSOT = manageDatabase.getAclCatalog(tenantId).getAclsByEnv(env);
       List<Acl> topicFilteredList = aclsFromSOT;
       // Filter topics on topic name for search
       if (topicNameSearch != null && topicNameSearch.length() > 0) {
@@ -3,6 +3,7 @@ package io.aiven.klaw.service;
 import static io.aiven.klaw.error.KlawErrorMessages.*;
 import static io.aiven.klaw.helpers.KwConstants.*;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.aiven.klaw.config.ManageDatabase;
@@ -10,12 +11,14 @@ import io.aiven.klaw.dao.AclRequests;
 import io.aiven.klaw.dao.Env;
 import io.aiven.klaw.dao.KwClusters;
 import io.aiven.klaw.dao.SchemaRequest;
+import io.aiven.klaw.dao.TopicRequest;
 import io.aiven.klaw.error.KlawException;
 import io.aiven.klaw.model.ApiResponse;
 import io.aiven.klaw.model.cluster.ClusterAclRequest;
 import io.aiven.klaw.model.cluster.ClusterConnectorRequest;
 import io.aiven.klaw.model.cluster.ClusterSchemaRequest;
 import io.aiven.klaw.model.cluster.ClusterTopicRequest;
+import io.aiven.klaw.model.enums.AclIPPrincipleType;
 import io.aiven.klaw.model.enums.AclPatternType;
 import io.aiven.klaw.model.enums.AclType;
 import io.aiven.klaw.model.enums.AclsNativeType;
@@ -28,6 +31,7 @@ import io.aiven.klaw.model.enums.RequestOperationType;
 import io.aiven.klaw.model.response.OffsetDetails;
 import io.aiven.klaw.model.response.ServiceAccountDetails;
 import io.aiven.klaw.model.response.TopicConfig;
+import io.aiven.klaw.model.response.TopicsPage;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import jakarta.annotation.PostConstruct;
@@ -46,15 +50,18 @@ import java.security.cert.X509Certificate;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import javax.crypto.spec.SecretKeySpec;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.binary.Base64;
@@ -93,6 +100,15 @@ public class ClusterApiService {
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
   private static final String URL_DELIMITER = "/";
 
+  // topics per call to the batch endpoints of the cluster api
+  static final int TOPIC_BATCH_SIZE = 200;
+
+  // acl requests per call to the batch endpoint of the cluster api
+  static final int ACL_BATCH_SIZE = 200;
+
+  // topics per page fetched from the cluster api
+  static final int TOPICS_PAGE_SIZE = 2000;
+
   @Autowired private ManageDatabase manageDatabase;
 
   @Value("${server.ssl.key-store:null}")
@@ -110,7 +126,6 @@ public class ClusterApiService {
   @Value("${klaw.clusterapi.access.base64.secret:#{''}}")
   private String clusterApiAccessBase64Secret;
 
-  private static String clusterConnUrl;
   protected static HttpComponentsClientHttpRequestFactory requestFactory;
   RestTemplate httpRestTemplate, httpsRestTemplate;
 
@@ -118,7 +133,7 @@ public class ClusterApiService {
     this.manageDatabase = manageDatabase;
   }
 
-  private RestTemplate getRestTemplate() {
+  private RestTemplate getRestTemplate(String clusterConnUrl) {
     if (clusterConnUrl.toLowerCase().startsWith("https")) {
       if (this.httpsRestTemplate == null) {
         this.httpsRestTemplate = new RestTemplate(requestFactory);
@@ -132,18 +147,21 @@ public class ClusterApiService {
     }
   }
 
-  private void getClusterApiProperties(int tenantId) {
-    clusterConnUrl = manageDatabase.getKwPropertyValue(CLUSTER_CONN_URL_KEY, tenantId);
+  // returns the cluster api url of the tenant. It is not kept in a field, as requests of several
+  // tenants are handled in parallel
+  private String getClusterApiProperties(int tenantId) {
+    String tenantClusterConnUrl = manageDatabase.getKwPropertyValue(CLUSTER_CONN_URL_KEY, tenantId);
     if (clusterApiAccessBase64Secret.isBlank()) {
       log.info(
           "CONFIGURE CLUSTER API SECRET FOR CLUSTER OPERATIONS. klaw.clusterapi.access.base64.secret");
     }
+    return tenantClusterConnUrl;
   }
 
   public String getClusterApiStatus(String clusterApiUrl, boolean testConnection, int tenantId) {
     log.info(
         "getClusterApiStatus clusterApiUrl {} testConnection{}", clusterApiUrl, testConnection);
-    getClusterApiProperties(tenantId);
+    String clusterConnUrl = getClusterApiProperties(tenantId);
     try {
       String uriClusterApiStatus = URI_CLUSTER_API;
       String uri;
@@ -154,7 +172,7 @@ public class ClusterApiService {
       }
 
       ResponseEntity<ClusterStatus> resultBody =
-          getRestTemplate().exchange(uri, HttpMethod.GET, getHttpEntity(), ClusterStatus.class);
+          getRestTemplate(uri).exchange(uri, HttpMethod.GET, getHttpEntity(), ClusterStatus.class);
       return Objects.requireNonNull(resultBody.getBody()).value;
     } catch (Exception e) {
       log.error("Error from getClusterApiStatus ", e);
@@ -170,7 +188,7 @@ public class ClusterApiService {
       String kafkaFlavor,
       int tenantId) {
     log.debug("getKafkaClusterStatus {} {}", bootstrapHost, protocol);
-    getClusterApiProperties(tenantId);
+    String clusterConnUrl = getClusterApiProperties(tenantId);
 
     try {
       String uri =
@@ -187,7 +205,8 @@ public class ClusterApiService {
                   kafkaFlavor);
 
       ResponseEntity<ClusterStatus> resultBody =
-          getRestTemplate().exchange(uri, HttpMethod.GET, getHttpEntity(), ClusterStatus.class);
+          getRestTemplate(clusterConnUrl)
+              .exchange(uri, HttpMethod.GET, getHttpEntity(), ClusterStatus.class);
       return Objects.requireNonNull(resultBody.getBody()).value;
     } catch (Exception e) {
       log.error("Error from getKafkaClusterStatus ", e);
@@ -204,7 +223,7 @@ public class ClusterApiService {
       int tenantId)
       throws KlawException {
     log.info("getConsumerOffsets {} {} {} {}", bootstrapHost, protocol, topic, consumerGroupId);
-    getClusterApiProperties(tenantId);
+    String clusterConnUrl = getClusterApiProperties(tenantId);
     List<OffsetDetails> offsetDetailsList;
     try {
       String url = URI_GET_CONSUMER_OFFSETS;
@@ -217,7 +236,7 @@ public class ClusterApiService {
                   URL_DELIMITER, protocol.getName(), clusterIdentification, consumerGroupId, topic);
 
       ResponseEntity<List<OffsetDetails>> resultBody =
-          getRestTemplate()
+          getRestTemplate(clusterConnUrl)
               .exchange(
                   url, HttpMethod.GET, getHttpEntity(), new ParameterizedTypeReference<>() {});
 
@@ -240,7 +259,7 @@ public class ClusterApiService {
       throws KlawException {
     log.info(
         "getTopicEvents {} {} {} {} {}", bootstrapHost, protocol, topic, offsetId, consumerGroupId);
-    getClusterApiProperties(tenantId);
+    String clusterConnUrl = getClusterApiProperties(tenantId);
     Map<String, String> eventsMap;
     try {
       String url = URI_GET_TOPIC_CONTENTS;
@@ -258,7 +277,7 @@ public class ClusterApiService {
                   offsetId);
 
       ResponseEntity<Map<String, String>> resultBody =
-          getRestTemplate()
+          getRestTemplate(clusterConnUrl)
               .exchange(
                   url, HttpMethod.GET, getHttpEntity(), new ParameterizedTypeReference<>() {});
 
@@ -274,7 +293,7 @@ public class ClusterApiService {
       String bootstrapHost, Env envSelected, KafkaSupportedProtocol protocol, int tenantId)
       throws KlawException {
     log.info("getAcls {} {} {}", bootstrapHost, protocol, tenantId);
-    getClusterApiProperties(tenantId);
+    String clusterConnUrl = getClusterApiProperties(tenantId);
 
     List<Map<String, String>> aclListOriginal;
     try {
@@ -329,7 +348,7 @@ public class ClusterApiService {
       }
 
       ResponseEntity<Set<Map<String, String>>> resultBody =
-          getRestTemplate()
+          getRestTemplate(clusterConnUrl)
               .exchange(
                   uri, HttpMethod.GET, getHttpEntity(), new ParameterizedTypeReference<>() {});
       aclListOriginal = new ArrayList<>(Objects.requireNonNull(resultBody.getBody()));
@@ -347,18 +366,34 @@ public class ClusterApiService {
       String kafkaFlavors,
       int tenantId)
       throws Exception {
-    log.info("getAllTopics {} {}", bootstrapHost, protocol);
-    getClusterApiProperties(tenantId);
-    List<TopicConfig> topicsList;
+    return getAllTopics(
+        bootstrapHost, protocol, clusterIdentification, kafkaFlavors, null, tenantId);
+  }
+
+  /**
+   * Topics of the cluster, fetched per {@link #TOPICS_PAGE_SIZE} topics. With a topic name pattern,
+   * the cluster api returns only the topics whose name matches the regex entirely.
+   */
+  public List<TopicConfig> getAllTopics(
+      String bootstrapHost,
+      KafkaSupportedProtocol protocol,
+      String clusterIdentification,
+      String kafkaFlavors,
+      String topicNamePattern,
+      int tenantId)
+      throws Exception {
+    log.info("getAllTopics {} {} {}", bootstrapHost, protocol, topicNamePattern);
+    String tenantClusterConnUrl = getClusterApiProperties(tenantId);
+    List<TopicConfig> topicsList = new ArrayList<>();
     String aclsNativeType = AclsNativeType.NATIVE.value;
 
     if (KafkaFlavors.CONFLUENT_CLOUD.value.equals(kafkaFlavors)) {
       aclsNativeType = AclsNativeType.CONFLUENT_CLOUD.value;
     }
     try {
-      String uriGetTopicsFull =
-          clusterConnUrl
-              + URI_GET_TOPICS
+      String uriGetTopicsPage =
+          tenantClusterConnUrl
+              + URI_GET_TOPICS_PAGE
               + bootstrapHost
               + URL_DELIMITER
               + String.join(
@@ -366,14 +401,32 @@ public class ClusterApiService {
                   protocol.getName(),
                   clusterIdentification,
                   "topicsNativeType",
-                  aclsNativeType);
+                  aclsNativeType)
+              + "?topicNamePattern={topicNamePattern}&pageToken={pageToken}&pageSize={pageSize}";
 
       HttpEntity<String> entity = getHttpEntity();
-      ResponseEntity<Set<TopicConfig>> s =
-          getRestTemplate()
-              .exchange(
-                  uriGetTopicsFull, HttpMethod.GET, entity, new ParameterizedTypeReference<>() {});
-      topicsList = new ArrayList<>(Objects.requireNonNull(s.getBody()));
+      String pageToken = "";
+      do {
+        Map<String, Object> params =
+            Map.of(
+                "topicNamePattern",
+                topicNamePattern == null ? "" : topicNamePattern,
+                "pageToken",
+                pageToken,
+                "pageSize",
+                TOPICS_PAGE_SIZE);
+        ResponseEntity<TopicsPage> s =
+            getRestTemplate(tenantClusterConnUrl)
+                .exchange(
+                    uriGetTopicsPage,
+                    HttpMethod.GET,
+                    entity,
+                    new ParameterizedTypeReference<>() {},
+                    params);
+        TopicsPage topicsPage = Objects.requireNonNull(s.getBody());
+        topicsList.addAll(topicsPage.getTopics());
+        pageToken = topicsPage.getNextPageToken();
+      } while (pageToken != null);
     } catch (Exception e) {
       log.error("Error from getAllTopics", e);
       throw new KlawException(CLUSTER_API_ERR_104);
@@ -392,7 +445,7 @@ public class ClusterApiService {
       int tenantId)
       throws KlawException {
     log.info("approveConnectorRequests {} {}", connectorConfig, kafkaConnectHost);
-    getClusterApiProperties(tenantId);
+    String clusterConnUrl = getClusterApiProperties(tenantId);
     ResponseEntity<Map<String, String>> response;
     try {
       ClusterConnectorRequest clusterConnectorRequest =
@@ -420,7 +473,7 @@ public class ClusterApiService {
       HttpEntity<ClusterConnectorRequest> request =
           new HttpEntity<>(clusterConnectorRequest, headers);
       response =
-          getRestTemplate()
+          getRestTemplate(clusterConnUrl)
               .exchange(uri, HttpMethod.POST, request, new ParameterizedTypeReference<>() {});
 
       if (ApiResultStatus.SUCCESS.value.equals(
@@ -451,74 +504,40 @@ public class ClusterApiService {
       Boolean deleteAssociatedSchema)
       throws KlawException {
     log.info("approveTopicRequests {} {}", topicName, topicEnvId);
-    getClusterApiProperties(tenantId);
+    String clusterConnUrl = getClusterApiProperties(tenantId);
     ResponseEntity<ApiResponse> response;
-    ClusterTopicRequest clusterTopicRequest;
     try {
       Env envSelected = manageDatabase.getHandleDbRequests().getEnvDetails(topicEnvId, tenantId);
       KwClusters kwClusters =
           manageDatabase
               .getClusters(KafkaClustersType.KAFKA, tenantId)
               .get(envSelected.getClusterId());
-      clusterTopicRequest =
-          ClusterTopicRequest.builder()
-              .env(kwClusters.getBootstrapServers())
-              .protocol(kwClusters.getProtocol())
-              .clusterName(kwClusters.getClusterName() + kwClusters.getClusterId())
-              .topicName(topicName)
-              .aclsNativeType(
-                  (Objects.equals(kwClusters.getKafkaFlavor(), KafkaFlavors.CONFLUENT_CLOUD.value))
-                      ? AclsNativeType.CONFLUENT_CLOUD
-                      : AclsNativeType.NATIVE)
-              .build();
+      ClusterTopicRequest clusterTopicRequest =
+          getClusterTopicRequest(
+              topicName,
+              topicRequestType,
+              topicPartitions,
+              replicationFactor,
+              advancedTopicConfiguration,
+              deleteAssociatedSchema,
+              envSelected,
+              kwClusters,
+              tenantId);
 
       String uri;
       if (RequestOperationType.CREATE.value.equals(topicRequestType)
           || RequestOperationType.PROMOTE.value.equals(topicRequestType)) {
         uri = clusterConnUrl + URI_CREATE_TOPICS;
-        clusterTopicRequest =
-            clusterTopicRequest.toBuilder()
-                .partitions(topicPartitions)
-                .replicationFactor(Short.parseShort(replicationFactor))
-                .advancedTopicConfiguration(advancedTopicConfiguration)
-                .build();
       } else if (RequestOperationType.UPDATE.value.equals(topicRequestType)) {
         uri = clusterConnUrl + URI_UPDATE_TOPICS;
-        clusterTopicRequest =
-            clusterTopicRequest.toBuilder()
-                .partitions(topicPartitions)
-                .replicationFactor(Short.parseShort(replicationFactor))
-                .build();
       } else {
         uri = clusterConnUrl + URI_DELETE_TOPICS;
-        if (deleteAssociatedSchema) {
-          // get associated schema env
-          Env schemaEnvSelected =
-              manageDatabase
-                  .getHandleDbRequests()
-                  .getEnvDetails(envSelected.getAssociatedEnv().getId(), tenantId);
-          KwClusters kwClustersSchemaEnv =
-              manageDatabase
-                  .getClusters(KafkaClustersType.SCHEMA_REGISTRY, tenantId)
-                  .get(schemaEnvSelected.getClusterId());
-          clusterTopicRequest =
-              clusterTopicRequest.toBuilder()
-                  .deleteAssociatedSchema(true)
-                  .schemaClusterIdentification(
-                      kwClustersSchemaEnv.getClusterName() + kwClustersSchemaEnv.getClusterId())
-                  .schemaEnv(kwClustersSchemaEnv.getBootstrapServers())
-                  .schemaEnvProtocol(kwClustersSchemaEnv.getProtocol())
-                  .build();
-        } else {
-          clusterTopicRequest =
-              clusterTopicRequest.toBuilder().deleteAssociatedSchema(false).build();
-        }
       }
 
       HttpHeaders headers = createHeaders(clusterApiUser);
       headers.setContentType(MediaType.APPLICATION_JSON);
       HttpEntity<ClusterTopicRequest> request = new HttpEntity<>(clusterTopicRequest, headers);
-      response = getRestTemplate().postForEntity(uri, request, ApiResponse.class);
+      response = getRestTemplate(clusterConnUrl).postForEntity(uri, request, ApiResponse.class);
     } catch (Exception e) {
       log.error("approveTopicRequests {}", topicName, e);
       if (e.getMessage().contains(CLUSTER_API_ERR_120)
@@ -536,97 +555,180 @@ public class ClusterApiService {
     return response;
   }
 
+  /**
+   * Creates (or promotes) or deletes topics of one env in batches, with one call to the cluster api
+   * per {@link #TOPIC_BATCH_SIZE} topics. Updates are not batched.
+   *
+   * @param advancedTopicConfigurations advanced configuration of the topics to create, by topic
+   *     name
+   * @return result of each topic by topic name, {@link ApiResultStatus#SUCCESS} or the error. All
+   *     topics of a batch get the error of the batch when the cluster could not be reached.
+   */
+  public Map<String, String> approveTopicRequests(
+      String topicEnvId,
+      String topicRequestType,
+      List<TopicRequest> topicRequests,
+      Map<String, Map<String, String>> advancedTopicConfigurations,
+      int tenantId)
+      throws KlawException {
+    log.info(
+        "approveTopicRequests {} topics {} {}", topicRequests.size(), topicEnvId, topicRequestType);
+    String clusterApiUrl = getClusterApiProperties(tenantId);
+    Map<String, String> results = new LinkedHashMap<>();
+    try {
+      Env envSelected = manageDatabase.getHandleDbRequests().getEnvDetails(topicEnvId, tenantId);
+      KwClusters kwClusters =
+          manageDatabase
+              .getClusters(KafkaClustersType.KAFKA, tenantId)
+              .get(envSelected.getClusterId());
+      String uri =
+          clusterApiUrl
+              + (RequestOperationType.DELETE.value.equals(topicRequestType)
+                  ? URI_DELETE_TOPICS_BATCH
+                  : URI_CREATE_TOPICS_BATCH);
+
+      for (int from = 0; from < topicRequests.size(); from += TOPIC_BATCH_SIZE) {
+        List<TopicRequest> batch =
+            topicRequests.subList(from, Math.min(from + TOPIC_BATCH_SIZE, topicRequests.size()));
+        List<ClusterTopicRequest> clusterTopicRequests = new ArrayList<>();
+        for (TopicRequest topicRequest : batch) {
+          clusterTopicRequests.add(
+              getClusterTopicRequest(
+                  topicRequest.getTopicname(),
+                  topicRequestType,
+                  topicRequest.getTopicpartitions(),
+                  topicRequest.getReplicationfactor(),
+                  advancedTopicConfigurations.get(topicRequest.getTopicname()),
+                  Boolean.TRUE.equals(topicRequest.getDeleteAssociatedSchema()),
+                  envSelected,
+                  kwClusters,
+                  tenantId));
+        }
+        results.putAll(postTopicsBatch(uri, batch, clusterTopicRequests));
+      }
+    } catch (Exception e) {
+      log.error("approveTopicRequests {} {}", topicEnvId, topicRequestType, e);
+      throw new KlawException(CLUSTER_API_ERR_106);
+    }
+    return results;
+  }
+
+  private Map<String, String> postTopicsBatch(
+      String uri, List<TopicRequest> batch, List<ClusterTopicRequest> clusterTopicRequests) {
+    Map<String, String> results = new LinkedHashMap<>();
+    String batchError;
+    try {
+      HttpHeaders headers = createHeaders(clusterApiUser);
+      headers.setContentType(MediaType.APPLICATION_JSON);
+      HttpEntity<List<ClusterTopicRequest>> request =
+          new HttpEntity<>(clusterTopicRequests, headers);
+      ApiResponse response =
+          getRestTemplate(uri).postForEntity(uri, request, ApiResponse.class).getBody();
+      if (response != null && response.getData() instanceof Map<?, ?> topicResults) {
+        topicResults.forEach((topic, result) -> results.put((String) topic, (String) result));
+      }
+      batchError = response == null ? CLUSTER_API_ERR_106 : response.getMessage();
+    } catch (Exception e) {
+      log.error("approveTopicRequests {} topics", batch.size(), e);
+      if (e.getMessage().contains(CLUSTER_API_ERR_120)
+          || e.getMessage().contains(CLUSTER_API_ERR_121)) {
+        batchError = CLUSTER_API_ERR_118;
+      } else if (e.getMessage().contains("Cannot connect to cluster.")) {
+        batchError = CLUSTER_API_ERR_119;
+      } else {
+        batchError = CLUSTER_API_ERR_106;
+      }
+    }
+    // topics without a result failed with the batch
+    for (TopicRequest topicRequest : batch) {
+      results.putIfAbsent(topicRequest.getTopicname(), batchError);
+    }
+    return results;
+  }
+
+  private ClusterTopicRequest getClusterTopicRequest(
+      String topicName,
+      String topicRequestType,
+      int topicPartitions,
+      String replicationFactor,
+      Map<String, String> advancedTopicConfiguration,
+      Boolean deleteAssociatedSchema,
+      Env envSelected,
+      KwClusters kwClusters,
+      int tenantId) {
+    ClusterTopicRequest clusterTopicRequest =
+        ClusterTopicRequest.builder()
+            .env(kwClusters.getBootstrapServers())
+            .protocol(kwClusters.getProtocol())
+            .clusterName(kwClusters.getClusterName() + kwClusters.getClusterId())
+            .topicName(topicName)
+            .aclsNativeType(
+                (Objects.equals(kwClusters.getKafkaFlavor(), KafkaFlavors.CONFLUENT_CLOUD.value))
+                    ? AclsNativeType.CONFLUENT_CLOUD
+                    : AclsNativeType.NATIVE)
+            .build();
+
+    if (RequestOperationType.CREATE.value.equals(topicRequestType)
+        || RequestOperationType.PROMOTE.value.equals(topicRequestType)) {
+      clusterTopicRequest =
+          clusterTopicRequest.toBuilder()
+              .partitions(topicPartitions)
+              .replicationFactor(Short.parseShort(replicationFactor))
+              .advancedTopicConfiguration(advancedTopicConfiguration)
+              .build();
+    } else if (RequestOperationType.UPDATE.value.equals(topicRequestType)) {
+      clusterTopicRequest =
+          clusterTopicRequest.toBuilder()
+              .partitions(topicPartitions)
+              .replicationFactor(Short.parseShort(replicationFactor))
+              .build();
+    } else {
+      if (deleteAssociatedSchema) {
+        // get associated schema env
+        Env schemaEnvSelected =
+            manageDatabase
+                .getHandleDbRequests()
+                .getEnvDetails(envSelected.getAssociatedEnv().getId(), tenantId);
+        KwClusters kwClustersSchemaEnv =
+            manageDatabase
+                .getClusters(KafkaClustersType.SCHEMA_REGISTRY, tenantId)
+                .get(schemaEnvSelected.getClusterId());
+        clusterTopicRequest =
+            clusterTopicRequest.toBuilder()
+                .deleteAssociatedSchema(true)
+                .schemaClusterIdentification(
+                    kwClustersSchemaEnv.getClusterName() + kwClustersSchemaEnv.getClusterId())
+                .schemaEnv(kwClustersSchemaEnv.getBootstrapServers())
+                .schemaEnvProtocol(kwClustersSchemaEnv.getProtocol())
+                .build();
+      } else {
+        clusterTopicRequest = clusterTopicRequest.toBuilder().deleteAssociatedSchema(false).build();
+      }
+    }
+    return clusterTopicRequest;
+  }
+
   public ResponseEntity<ApiResponse> approveAclRequests(AclRequests aclReq, int tenantId)
       throws KlawException {
     log.info("approveAclRequests {}", aclReq);
-    getClusterApiProperties(tenantId);
+    String clusterConnUrl = getClusterApiProperties(tenantId);
     ResponseEntity<ApiResponse> response;
 
     try {
       String env = aclReq.getEnvironment();
       String uri;
 
-      ClusterAclRequest clusterAclRequest;
       Env envSelected = manageDatabase.getHandleDbRequests().getEnvDetails(env, tenantId);
       KwClusters kwClusters =
           manageDatabase
               .getClusters(KafkaClustersType.KAFKA, tenantId)
               .get(envSelected.getClusterId());
-
-      // aiven config
-      if (Objects.equals(KafkaFlavors.AIVEN_FOR_APACHE_KAFKA.value, kwClusters.getKafkaFlavor())) {
-        clusterAclRequest =
-            ClusterAclRequest.builder()
-                .aclNativeType(AclsNativeType.AIVEN.name())
-                .projectName(kwClusters.getProjectName())
-                .serviceName(kwClusters.getServiceName())
-                .topicName(aclReq.getTopicname())
-                .username(aclReq.getAcl_ssl())
-                .build();
-
-        if (Objects.equals(aclReq.getAclType(), AclType.PRODUCER.value)) {
-          clusterAclRequest = clusterAclRequest.toBuilder().permission("write").build();
-        } else {
-          clusterAclRequest = clusterAclRequest.toBuilder().permission("read").build();
-        }
-
-        if (Objects.equals(RequestOperationType.DELETE.value, aclReq.getRequestOperationType())
-            && null != aclReq.getJsonParams()) {
-          Map<String, String> jsonObj =
-              OBJECT_MAPPER.readValue(aclReq.getJsonParams(), new TypeReference<>() {});
-          String aivenAclKey = "aivenaclid";
-          if (jsonObj.containsKey(aivenAclKey)) {
-            clusterAclRequest =
-                clusterAclRequest.toBuilder().aivenAclKey(jsonObj.get(aivenAclKey)).build();
-          } else {
-            log.error("Error from approveAclRequests : AclId - aivenaclid not found");
-            throw new KlawException(CLUSTER_API_ERR_107);
-          }
-        }
-      } else if (Objects.equals(KafkaFlavors.CONFLUENT_CLOUD.value, kwClusters.getKafkaFlavor())) {
-        String aclPatternType = aclReq.getAclPatternType();
-        clusterAclRequest =
-            ClusterAclRequest.builder()
-                .aclNativeType(AclsNativeType.CONFLUENT_CLOUD.name())
-                .env(kwClusters.getBootstrapServers())
-                .protocol(kwClusters.getProtocol())
-                .clusterName(kwClusters.getClusterName() + kwClusters.getClusterId())
-                .topicName(aclReq.getTopicname())
-                .consumerGroup(aclReq.getConsumergroup())
-                .aclType(aclReq.getAclType())
-                .aclIp(aclReq.getAcl_ip())
-                .aclSsl(aclReq.getAcl_ssl())
-                .transactionalId(aclReq.getTransactionalId())
-                .aclIpPrincipleType(aclReq.getAclIpPrincipleType().name())
-                .isPrefixAcl(AclPatternType.PREFIXED.value.equals(aclPatternType))
-                .build();
-      } else {
-        String aclPatternType = aclReq.getAclPatternType();
-        clusterAclRequest =
-            ClusterAclRequest.builder()
-                .aclNativeType(AclsNativeType.NATIVE.name())
-                .env(kwClusters.getBootstrapServers())
-                .protocol(kwClusters.getProtocol())
-                .clusterName(kwClusters.getClusterName() + kwClusters.getClusterId())
-                .topicName(aclReq.getTopicname())
-                .consumerGroup(aclReq.getConsumergroup())
-                .aclType(aclReq.getAclType())
-                .aclIp(aclReq.getAcl_ip())
-                .aclSsl(aclReq.getAcl_ssl())
-                .transactionalId(aclReq.getTransactionalId())
-                .aclIpPrincipleType(aclReq.getAclIpPrincipleType().name())
-                .isPrefixAcl(AclPatternType.PREFIXED.value.equals(aclPatternType))
-                .build();
-      }
+      ClusterAclRequest clusterAclRequest = getClusterAclRequest(aclReq, kwClusters);
 
       if (RequestOperationType.CREATE.value.equals(aclReq.getRequestOperationType())) {
         uri = clusterConnUrl + URI_CREATE_ACLS;
-        clusterAclRequest =
-            clusterAclRequest.toBuilder().requestOperationType(RequestOperationType.CREATE).build();
       } else {
         uri = clusterConnUrl + URI_DELETE_ACLS;
-        clusterAclRequest =
-            clusterAclRequest.toBuilder().requestOperationType(RequestOperationType.DELETE).build();
       }
 
       HttpHeaders headers = createHeaders(clusterApiUser);
@@ -634,7 +736,7 @@ public class ClusterApiService {
 
       HttpEntity<ClusterAclRequest> request = new HttpEntity<>(clusterAclRequest, headers);
       response =
-          getRestTemplate()
+          getRestTemplate(clusterConnUrl)
               .exchange(uri, HttpMethod.POST, request, new ParameterizedTypeReference<>() {});
       return response;
     } catch (Exception e) {
@@ -649,9 +751,165 @@ public class ClusterApiService {
     }
   }
 
+  /**
+   * Creates or deletes the acls of several requests of one env in batches, with one call to the
+   * cluster api per {@link #ACL_BATCH_SIZE} requests. Each ip or principal of a request is applied
+   * as an acl of its own. Aiven clusters are not supported, their acls are approved one by one.
+   *
+   * @return result of each request in the order of the requests, {@link ApiResultStatus#SUCCESS} or
+   *     the first error of its acls. All requests of a batch get the error of the batch when the
+   *     cluster could not be reached.
+   */
+  public List<String> approveAclRequests(
+      String aclEnvId, List<AclRequests> aclRequests, int tenantId) throws KlawException {
+    log.info("approveAclRequests {} requests {}", aclRequests.size(), aclEnvId);
+    String clusterApiUrl = getClusterApiProperties(tenantId);
+    List<String> results = new ArrayList<>();
+    try {
+      Env envSelected = manageDatabase.getHandleDbRequests().getEnvDetails(aclEnvId, tenantId);
+      KwClusters kwClusters =
+          manageDatabase
+              .getClusters(KafkaClustersType.KAFKA, tenantId)
+              .get(envSelected.getClusterId());
+      if (Objects.equals(KafkaFlavors.AIVEN_FOR_APACHE_KAFKA.value, kwClusters.getKafkaFlavor())) {
+        throw new KlawException(CLUSTER_API_ERR_108);
+      }
+
+      for (int from = 0; from < aclRequests.size(); from += ACL_BATCH_SIZE) {
+        List<AclRequests> batch =
+            aclRequests.subList(from, Math.min(from + ACL_BATCH_SIZE, aclRequests.size()));
+        // acls of all requests of the batch, with the index of their request
+        List<ClusterAclRequest> clusterAclRequests = new ArrayList<>();
+        List<Integer> requestIndexes = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+          AclRequests aclReq = batch.get(i);
+          ClusterAclRequest clusterAclRequest = getClusterAclRequest(aclReq, kwClusters);
+          if (AclIPPrincipleType.IP_ADDRESS == aclReq.getAclIpPrincipleType()) {
+            for (String aclIp : aclReq.getAcl_ip().split(AclControllerService.SEPARATOR_ACL)) {
+              clusterAclRequests.add(clusterAclRequest.toBuilder().aclIp(aclIp).build());
+              requestIndexes.add(i);
+            }
+          } else {
+            for (String aclSsl : aclReq.getAcl_ssl().split(AclControllerService.SEPARATOR_ACL)) {
+              clusterAclRequests.add(clusterAclRequest.toBuilder().aclSsl(aclSsl).build());
+              requestIndexes.add(i);
+            }
+          }
+        }
+
+        List<String> aclResults = postAclsBatch(clusterApiUrl + URI_ACLS_BATCH, clusterAclRequests);
+        String[] batchResults = new String[batch.size()];
+        Arrays.fill(batchResults, ApiResultStatus.SUCCESS.value);
+        for (int j = 0; j < aclResults.size(); j++) {
+          int i = requestIndexes.get(j);
+          if (ApiResultStatus.SUCCESS.value.equals(batchResults[i])) {
+            batchResults[i] = aclResults.get(j);
+          }
+        }
+        results.addAll(Arrays.asList(batchResults));
+      }
+    } catch (Exception e) {
+      log.error("Error from approveAclRequests {}", aclEnvId, e);
+      throw new KlawException(CLUSTER_API_ERR_108);
+    }
+    return results;
+  }
+
+  // result of each acl, or the error of the batch for all acls when it failed
+  private List<String> postAclsBatch(String uri, List<ClusterAclRequest> clusterAclRequests) {
+    String batchError;
+    try {
+      HttpHeaders headers = createHeaders(clusterApiUser);
+      headers.setContentType(MediaType.APPLICATION_JSON);
+      HttpEntity<List<ClusterAclRequest>> request = new HttpEntity<>(clusterAclRequests, headers);
+      ApiResponse response =
+          getRestTemplate(uri).postForEntity(uri, request, ApiResponse.class).getBody();
+      if (response != null
+          && response.getData() instanceof List<?> aclResults
+          && aclResults.size() == clusterAclRequests.size()) {
+        return aclResults.stream().map(String::valueOf).collect(Collectors.toList());
+      }
+      batchError = response == null ? CLUSTER_API_ERR_108 : response.getMessage();
+    } catch (Exception e) {
+      log.error("approveAclRequests {} acls", clusterAclRequests.size(), e);
+      if (e.getMessage().contains(CLUSTER_API_ERR_120)
+          || e.getMessage().contains(CLUSTER_API_ERR_121)) {
+        batchError = CLUSTER_API_ERR_118;
+      } else if (e.getMessage().contains("Cannot connect to cluster.")) {
+        batchError = CLUSTER_API_ERR_119;
+      } else {
+        batchError = CLUSTER_API_ERR_108;
+      }
+    }
+    return Collections.nCopies(clusterAclRequests.size(), batchError);
+  }
+
+  private ClusterAclRequest getClusterAclRequest(AclRequests aclReq, KwClusters kwClusters)
+      throws KlawException, JsonProcessingException {
+    ClusterAclRequest clusterAclRequest;
+    // aiven config
+    if (Objects.equals(KafkaFlavors.AIVEN_FOR_APACHE_KAFKA.value, kwClusters.getKafkaFlavor())) {
+      clusterAclRequest =
+          ClusterAclRequest.builder()
+              .aclNativeType(AclsNativeType.AIVEN.name())
+              .projectName(kwClusters.getProjectName())
+              .serviceName(kwClusters.getServiceName())
+              .topicName(aclReq.getTopicname())
+              .username(aclReq.getAcl_ssl())
+              .build();
+
+      if (Objects.equals(aclReq.getAclType(), AclType.PRODUCER.value)) {
+        clusterAclRequest = clusterAclRequest.toBuilder().permission("write").build();
+      } else {
+        clusterAclRequest = clusterAclRequest.toBuilder().permission("read").build();
+      }
+
+      if (Objects.equals(RequestOperationType.DELETE.value, aclReq.getRequestOperationType())
+          && null != aclReq.getJsonParams()) {
+        Map<String, String> jsonObj =
+            OBJECT_MAPPER.readValue(aclReq.getJsonParams(), new TypeReference<>() {});
+        String aivenAclKey = "aivenaclid";
+        if (jsonObj.containsKey(aivenAclKey)) {
+          clusterAclRequest =
+              clusterAclRequest.toBuilder().aivenAclKey(jsonObj.get(aivenAclKey)).build();
+        } else {
+          log.error("Error from approveAclRequests : AclId - aivenaclid not found");
+          throw new KlawException(CLUSTER_API_ERR_107);
+        }
+      }
+    } else {
+      String aclPatternType = aclReq.getAclPatternType();
+      clusterAclRequest =
+          ClusterAclRequest.builder()
+              .aclNativeType(
+                  Objects.equals(KafkaFlavors.CONFLUENT_CLOUD.value, kwClusters.getKafkaFlavor())
+                      ? AclsNativeType.CONFLUENT_CLOUD.name()
+                      : AclsNativeType.NATIVE.name())
+              .env(kwClusters.getBootstrapServers())
+              .protocol(kwClusters.getProtocol())
+              .clusterName(kwClusters.getClusterName() + kwClusters.getClusterId())
+              .topicName(aclReq.getTopicname())
+              .consumerGroup(aclReq.getConsumergroup())
+              .aclType(aclReq.getAclType())
+              .aclIp(aclReq.getAcl_ip())
+              .aclSsl(aclReq.getAcl_ssl())
+              .transactionalId(aclReq.getTransactionalId())
+              .aclIpPrincipleType(aclReq.getAclIpPrincipleType().name())
+              .isPrefixAcl(AclPatternType.PREFIXED.value.equals(aclPatternType))
+              .build();
+    }
+
+    return clusterAclRequest.toBuilder()
+        .requestOperationType(
+            RequestOperationType.CREATE.value.equals(aclReq.getRequestOperationType())
+                ? RequestOperationType.CREATE
+                : RequestOperationType.DELETE)
+        .build();
+  }
+
   public ServiceAccountDetails getAivenServiceAccountDetails(
       String projectName, String serviceName, String userName, int tenantId) throws KlawException {
-    getClusterApiProperties(tenantId);
+    String clusterConnUrl = getClusterApiProperties(tenantId);
     try {
       String uriGetServiceAccountDetails = clusterConnUrl + URI_AIVEN_SERVICE_ACCOUNT_DETAIL;
       uriGetServiceAccountDetails =
@@ -662,7 +920,7 @@ public class ClusterApiService {
 
       HttpEntity<String> entity = getHttpEntity();
       ResponseEntity<ServiceAccountDetails> apiResponseResponseEntity =
-          getRestTemplate()
+          getRestTemplate(clusterConnUrl)
               .exchange(
                   uriGetServiceAccountDetails,
                   HttpMethod.GET,
@@ -677,7 +935,7 @@ public class ClusterApiService {
 
   public ApiResponse getAivenServiceAccounts(String projectName, String serviceName, int tenantId)
       throws KlawException {
-    getClusterApiProperties(tenantId);
+    String clusterConnUrl = getClusterApiProperties(tenantId);
     try {
       String uriGetServiceAccounts = clusterConnUrl + URI_AIVEN_SERVICE_ACCOUNTS;
       uriGetServiceAccounts =
@@ -687,7 +945,7 @@ public class ClusterApiService {
 
       HttpEntity<String> entity = getHttpEntity();
       ResponseEntity<ApiResponse> apiResponseResponseEntity =
-          getRestTemplate()
+          getRestTemplate(clusterConnUrl)
               .exchange(
                   uriGetServiceAccounts,
                   HttpMethod.GET,
@@ -704,7 +962,7 @@ public class ClusterApiService {
       SchemaRequest schemaRequest, String env, String topicName, int tenantId)
       throws KlawException {
     log.info("postSchema {} {}", topicName, env);
-    getClusterApiProperties(tenantId);
+    String clusterConnUrl = getClusterApiProperties(tenantId);
     ResponseEntity<ApiResponse> response;
     try {
       boolean forceReg = Objects.requireNonNullElse(schemaRequest.getForceRegister(), false);
@@ -730,7 +988,7 @@ public class ClusterApiService {
       headers.setContentType(MediaType.APPLICATION_JSON);
 
       HttpEntity<ClusterSchemaRequest> request = new HttpEntity<>(clusterSchemaRequest, headers);
-      response = getRestTemplate().postForEntity(uri, request, ApiResponse.class);
+      response = getRestTemplate(clusterConnUrl).postForEntity(uri, request, ApiResponse.class);
     } catch (Exception e) {
       log.error("Error from postSchema ", e);
       if (e.getMessage().contains(CLUSTER_API_ERR_120)
@@ -747,7 +1005,7 @@ public class ClusterApiService {
   ResponseEntity<ApiResponse> validateSchema(
       String fullSchema, String env, String topicName, int tenantId) throws KlawException {
     log.info("postSchema {} {}", topicName, env);
-    getClusterApiProperties(tenantId);
+    String clusterConnUrl = getClusterApiProperties(tenantId);
     try {
 
       String uri = clusterConnUrl + URI_VALIDATE_SCHEMA;
@@ -771,7 +1029,7 @@ public class ClusterApiService {
       headers.setContentType(MediaType.APPLICATION_JSON);
 
       HttpEntity<ClusterSchemaRequest> request = new HttpEntity<>(clusterSchemaRequest, headers);
-      return getRestTemplate().postForEntity(uri, request, ApiResponse.class);
+      return getRestTemplate(clusterConnUrl).postForEntity(uri, request, ApiResponse.class);
     } catch (Exception e) {
       log.error("Error from Validating Schema. ", e);
       throw new KlawException(CLUSTER_API_ERR_112);
@@ -786,7 +1044,7 @@ public class ClusterApiService {
       int tenantId)
       throws Exception {
     log.info("getAvroSchema {} {}", schemaRegistryHost, topicName);
-    getClusterApiProperties(tenantId);
+    String clusterConnUrl = getClusterApiProperties(tenantId);
     TreeMap<Integer, Map<String, Object>> allVersionSchemas =
         new TreeMap<>(Collections.reverseOrder());
     try {
@@ -798,7 +1056,7 @@ public class ClusterApiService {
               + String.join(URL_DELIMITER, protocol.getName(), clusterIdentification, topicName);
 
       ResponseEntity<TreeMap<String, Map<String, Object>>> treeMapResponseEntity =
-          getRestTemplate()
+          getRestTemplate(clusterConnUrl)
               .exchange(
                   uriGetTopicsFull,
                   HttpMethod.GET,
@@ -826,7 +1084,7 @@ public class ClusterApiService {
       int tenantId)
       throws KlawException {
     log.info("getConnectorDetails {} {}", connectorName, kafkaConnectHost);
-    getClusterApiProperties(tenantId);
+    String clusterConnUrl = getClusterApiProperties(tenantId);
     try {
       String uriGetTopics =
           String.join(
@@ -839,7 +1097,7 @@ public class ClusterApiService {
       String uriGetConnectorsFull = clusterConnUrl + uriGetTopics;
 
       ResponseEntity<Map<String, Object>> s =
-          getRestTemplate()
+          getRestTemplate(clusterConnUrl)
               .exchange(
                   uriGetConnectorsFull,
                   HttpMethod.GET,
@@ -857,14 +1115,14 @@ public class ClusterApiService {
       String kafkaConnectHost, String protocol, String clusterIdentification, int tenantId)
       throws KlawException {
     log.info("getAllKafkaConnectors {}", kafkaConnectHost);
-    getClusterApiProperties(tenantId);
+    String clusterConnUrl = getClusterApiProperties(tenantId);
     try {
       String uriGetTopics =
           URI_GET_ALL_CONNECTORS + kafkaConnectHost + "/" + protocol + "/" + clusterIdentification;
       String uriGetConnectorsFull = clusterConnUrl + uriGetTopics;
 
       ResponseEntity<ArrayList<String>> s =
-          getRestTemplate()
+          getRestTemplate(clusterConnUrl)
               .exchange(
                   uriGetConnectorsFull,
                   HttpMethod.GET,
@@ -881,14 +1139,14 @@ public class ClusterApiService {
   public Map<String, String> retrieveMetrics(String jmxUrl, String objectName)
       throws KlawException {
     log.info("retrieveMetrics {} {}", jmxUrl, objectName);
-    getClusterApiProperties(101);
+    String clusterConnUrl = getClusterApiProperties(101);
     try {
       MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
       params.add("jmxUrl", jmxUrl);
       params.add("objectName", objectName);
 
       String uriGetTopicsFull = clusterConnUrl + URI_GET_METRICS;
-      RestTemplate restTemplate = getRestTemplate();
+      RestTemplate restTemplate = getRestTemplate(clusterConnUrl);
 
       HttpHeaders headers = createHeaders(clusterApiUser);
       headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
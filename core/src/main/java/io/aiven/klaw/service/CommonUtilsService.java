@@ -1,21 +1,28 @@
 package io.aiven.klaw.service;
 
 import static io.aiven.klaw.helpers.KwConstants.ORDER_OF_TOPIC_ENVS;
+import static org.springframework.beans.BeanUtils.copyProperties;
 
+import io.aiven.klaw.cache.TopicCatalog;
 import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.Acl;
 import io.aiven.klaw.dao.Env;
 import io.aiven.klaw.dao.Topic;
 import io.aiven.klaw.dao.UserInfo;
 import io.aiven.klaw.helpers.UtilMethods;
 import io.aiven.klaw.model.KwMetadataUpdates;
 import io.aiven.klaw.model.KwTenantConfigModel;
+import io.aiven.klaw.model.PrincipalContext;
 import io.aiven.klaw.model.charts.ChartsJsOverview;
 import io.aiven.klaw.model.charts.Options;
 import io.aiven.klaw.model.charts.Title;
+import io.aiven.klaw.model.enums.AclType;
 import io.aiven.klaw.model.enums.EntityType;
 import io.aiven.klaw.model.enums.MetadataOperationType;
 import io.aiven.klaw.model.enums.PermissionType;
 import java.io.*;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
@@ -23,19 +30,25 @@ import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -43,6 +56,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @Service
@@ -67,8 +82,18 @@ public class CommonUtilsService {
   @Value("${klaw.saas.ssl.clusterapi.truststore.pwd:./tmp}")
   private String trustStorePwd;
 
+  private static final String PRINCIPAL_CONTEXT_ATTRIBUTE =
+      CommonUtilsService.class.getName() + ".principalContext";
+
   @Autowired ManageDatabase manageDatabase;
 
+  @Autowired private MetadataChangeFeedService metadataChangeFeedService;
+
+  @Autowired private MetadataReloadScheduler metadataReloadScheduler;
+
+  @Value("${klaw.metadata.reload.await.timeout:PT30S}")
+  private Duration metadataReloadTimeout;
+
   private static HttpComponentsClientHttpRequestFactory requestFactory =
       ClusterApiService.requestFactory;
 
@@ -139,21 +164,53 @@ public class CommonUtilsService {
 
   public boolean isNotAuthorizedUser(Object principal, PermissionType permissionType) {
     try {
-      return !manageDatabase
-          .getRolesPermissionsPerTenant(getTenantId(getUserName(principal)))
-          .get(getAuthority(principal))
-          .contains(permissionType.name());
+      return !getPrincipalContext(principal).hasPermission(permissionType);
     } catch (Exception e) {
       log.debug(
-          "Error isNotAuthorizedUser / Check if role exists. {} {} {}",
+          "Error isNotAuthorizedUser / Check if role exists. {} {}",
           getUserName(principal),
           permissionType.name(),
-          getAuthority(getUserName(principal)),
           e);
       return true;
     }
   }
 
+  /**
+   * Returns the user name, tenant, team, role and permissions of the principal. Within an http
+   * request they are resolved on the first call and kept as a request attribute, so the role is
+   * read from the database once per request. Outside of a request they are resolved on each call.
+   */
+  public PrincipalContext getPrincipalContext(Object principal) {
+    String userName = getUserName(principal);
+    RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+    if (requestAttributes != null) {
+      Object principalContext =
+          requestAttributes.getAttribute(
+              PRINCIPAL_CONTEXT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+      if (principalContext instanceof PrincipalContext
+          && Objects.equals(((PrincipalContext) principalContext).getUserName(), userName)) {
+        return (PrincipalContext) principalContext;
+      }
+    }
+
+    int tenantId = getTenantId(userName);
+    String role = getAuthority(principal);
+    PrincipalContext principalContext =
+        PrincipalContext.builder()
+            .userName(userName)
+            .tenantId(tenantId)
+            .teamId(getTeamId(userName))
+            .role(role)
+            .permissions(manageDatabase.getPermissionTypesOfRole(tenantId, role))
+            .build();
+
+    if (requestAttributes != null) {
+      requestAttributes.setAttribute(
+          PRINCIPAL_CONTEXT_ATTRIBUTE, principalContext, RequestAttributes.SCOPE_REQUEST);
+    }
+    return principalContext;
+  }
+
   public ChartsJsOverview getChartsJsOverview(
       List<Map<String, String>> activityCountList,
       String title,
@@ -282,14 +339,46 @@ public class CommonUtilsService {
 
   public void updateMetadata(
       int tenantId, EntityType entityType, MetadataOperationType operationType) {
+    updateMetadata(tenantId, entityType, operationType, null);
+  }
+
+  /*
+  entityValue identifies the changed entity (ex : topic name), so that only that entity is
+  reloaded in cache. If null, all entities of the given type are reloaded for the tenant.
+  Waits until the cache of this instance is reloaded, so that the caller reads its own writes.
+   */
+  public void updateMetadata(
+      int tenantId,
+      EntityType entityType,
+      MetadataOperationType operationType,
+      String entityValue) {
+    awaitCacheVersion(updateMetadataAsync(tenantId, entityType, operationType, entityValue));
+  }
+
+  /*
+  Same as updateMetadata, without waiting for the reload. The returned future completes with the
+  cache version once the cache of this instance is reloaded.
+   */
+  public CompletableFuture<Long> updateMetadataAsync(
+      int tenantId,
+      EntityType entityType,
+      MetadataOperationType operationType,
+      String entityValue) {
     KwMetadataUpdates kwMetadataUpdates =
         KwMetadataUpdates.builder()
             .tenantId(tenantId)
             .entityType(entityType.name())
             .operationType(operationType.name())
+            .entityValue(entityValue)
             .createdTime(new Timestamp(System.currentTimeMillis()))
             .build();
-    updateMetadata(kwMetadataUpdates);
+    CompletableFuture<Long> reloaded = updateMetadata(kwMetadataUpdates);
+
+    if (metadataChangeFeedService.isEnabled()) {
+      // other instances apply the change when they poll the feed
+      metadataChangeFeedService.publish(kwMetadataUpdates);
+      return reloaded;
+    }
 
     try {
       CompletableFuture.runAsync(
@@ -300,48 +389,48 @@ public class CommonUtilsService {
     } catch (InterruptedException | ExecutionException e) {
       log.error("Exception:", e);
     }
+    return reloaded;
   }
 
-  public synchronized void updateMetadata(KwMetadataUpdates kwMetadataUpdates) {
-    final EntityType entityType = EntityType.of(kwMetadataUpdates.getEntityType());
-    if (entityType == null) {
+  public void awaitCacheVersion(CompletableFuture<Long> reloaded) {
+    if (reloaded == null) {
       return;
     }
-    final MetadataOperationType operationType =
-        MetadataOperationType.of(kwMetadataUpdates.getOperationType());
-    if (entityType == EntityType.USERS) {
-      manageDatabase.loadUsersForAllTenants();
-    } else if (entityType == EntityType.TEAM) {
-      manageDatabase.loadEnvsForOneTenant(kwMetadataUpdates.getTenantId());
-      manageDatabase.loadTenantTeamsForOneTenant(null, kwMetadataUpdates.getTenantId());
-    } else if (entityType == EntityType.CLUSTER && operationType == MetadataOperationType.DELETE) {
-      manageDatabase.deleteCluster(kwMetadataUpdates.getTenantId());
-    } else if (entityType == EntityType.CLUSTER && operationType == MetadataOperationType.CREATE) {
-      manageDatabase.loadClustersForOneTenant(null, null, null, kwMetadataUpdates.getTenantId());
-    } else if (entityType == EntityType.ENVIRONMENT
-        && operationType == MetadataOperationType.CREATE) {
-      manageDatabase.loadEnvsForOneTenant(kwMetadataUpdates.getTenantId());
-      manageDatabase.loadEnvMapForOneTenant(kwMetadataUpdates.getTenantId());
-      manageDatabase.loadTenantTeamsForOneTenant(null, kwMetadataUpdates.getTenantId());
-    } else if (entityType == EntityType.ENVIRONMENT
-        && operationType == MetadataOperationType.DELETE) {
-      manageDatabase.loadEnvMapForOneTenant(kwMetadataUpdates.getTenantId());
-      manageDatabase.loadEnvsForOneTenant(kwMetadataUpdates.getTenantId());
-    } else if (entityType == EntityType.TENANT && operationType == MetadataOperationType.CREATE) {
-      manageDatabase.updateStaticDataForTenant(kwMetadataUpdates.getTenantId());
-    } else if (entityType == EntityType.TENANT && operationType == MetadataOperationType.DELETE) {
-      manageDatabase.deleteTenant(kwMetadataUpdates.getTenantId());
-    } else if (entityType == EntityType.TENANT && operationType == MetadataOperationType.UPDATE) {
-      manageDatabase.loadOneTenant(kwMetadataUpdates.getTenantId());
-    } else if (entityType == EntityType.ROLES_PERMISSIONS) {
-      manageDatabase.loadRolesPermissionsOneTenant(null, kwMetadataUpdates.getTenantId());
-    } else if (entityType == EntityType.PROPERTIES) {
-      manageDatabase.loadKwPropsPerOneTenant(null, kwMetadataUpdates.getTenantId());
-    } else if (entityType == EntityType.TOPICS) {
-      manageDatabase.loadTopicsForOneTenant(kwMetadataUpdates.getTenantId());
+    try {
+      reloaded.get(metadataReloadTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.error("Interrupted waiting for metadata reload", e);
+    } catch (ExecutionException | TimeoutException e) {
+      log.error("Error waiting for metadata reload ", e);
+    }
+  }
+
+  @Scheduled(
+      fixedDelayString = "${klaw.metadata.changefeed.poll.interval:PT5S}",
+      initialDelayString = "${klaw.metadata.changefeed.poll.interval:PT5S}")
+  public void applyMetadataChangeFeed() {
+    if (!metadataChangeFeedService.isEnabled()) {
+      return;
+    }
+    try {
+      for (KwMetadataUpdates kwMetadataUpdates : metadataChangeFeedService.pollChanges()) {
+        log.debug("Applying metadata change {}", kwMetadataUpdates);
+        updateMetadata(kwMetadataUpdates);
+      }
+    } catch (Exception e) {
+      log.error("Error applying metadata change feed ", e);
     }
   }
 
+  /*
+  Queues the cache reload of this instance for the given update. Reloads of the same tenant and
+  entity type are coalesced and run on a background worker.
+   */
+  public CompletableFuture<Long> updateMetadata(KwMetadataUpdates kwMetadataUpdates) {
+    return metadataReloadScheduler.submit(kwMetadataUpdates);
+  }
+
   public String getLoginUrl() {
     return ServletUriComponentsBuilder.fromCurrentContextPath().build().toUriString() + "/login";
   }
@@ -387,6 +476,12 @@ public class CommonUtilsService {
                   + kwMetadataUpdates.getEntityType()
                   + "/"
                   + kwMetadataUpdates.getOperationType();
+          if (kwMetadataUpdates.getEntityValue() != null) {
+            uri =
+                uri
+                    + "?entityValue="
+                    + URLEncoder.encode(kwMetadataUpdates.getEntityValue(), StandardCharsets.UTF_8);
+          }
           RestTemplate restTemplate = getRestTemplate();
 
           HttpHeaders headers = new HttpHeaders();
@@ -429,19 +524,13 @@ public class CommonUtilsService {
   }
 
   public int getTenantId(String userId) {
-    return manageDatabase.selectAllCachedUserInfo().stream()
-        .filter(userInfo -> userInfo.getUsername().equals(userId))
-        .findFirst()
-        .map(UserInfo::getTenantId)
-        .orElse(0);
+    UserInfo userInfo = manageDatabase.getCachedUserInfo(userId);
+    return userInfo == null ? 0 : userInfo.getTenantId();
   }
 
   public Integer getTeamId(String userName) {
-    return manageDatabase.selectAllCachedUserInfo().stream()
-        .filter(userInfo -> userInfo.getUsername().equals(userName))
-        .findFirst()
-        .map(UserInfo::getTeamId)
-        .orElse(0);
+    UserInfo userInfo = manageDatabase.getCachedUserInfo(userName);
+    return userInfo == null || userInfo.getTeamId() == null ? 0 : userInfo.getTeamId();
   }
 
   public Object getPrincipal() {
@@ -455,7 +544,9 @@ public class CommonUtilsService {
         topicsFromSOT.stream().collect(Collectors.groupingBy(Topic::getTopicname));
     groupedList.forEach(
         (k, v) -> {
-          Topic t = v.get(0);
+          // topics can be the cached entities shared by all requests, so they are not modified
+          Topic t = new Topic();
+          copyProperties(v.get(0), t);
           List<String> tmpEnvList = new ArrayList<>();
           for (Topic topic : v) {
             tmpEnvList.add(topic.getEnvironment());
@@ -540,63 +631,59 @@ public class CommonUtilsService {
   }
 
   public List<Topic> getTopicsForTopicName(String topicName, int tenantId) {
+    TopicCatalog topicCatalog = manageDatabase.getTopicCatalog(tenantId);
     if (topicName != null) {
-      return manageDatabase.getTopicsForTenant(tenantId).stream()
-          .filter(topic -> topic.getTopicname().equals(topicName))
-          .toList();
+      return topicCatalog.getTopicsByName(topicName);
     } else {
-      return manageDatabase.getTopicsForTenant(tenantId);
+      return topicCatalog.getAllTopics();
     }
   }
 
+  /*
+  Topics of the producer or consumer acls of the team, from the acl cache of the tenant. Prefixed
+  acls are returned with their prefix suffixed with --PREFIXED--.
+   */
+  public List<Topic> getTopicsFromTeamAcls(String aclType, Integer teamId, int tenantId) {
+    String topicType =
+        AclType.PRODUCER.value.equals(aclType) ? AclType.PRODUCER.value : AclType.CONSUMER.value;
+    List<Acl> teamAcls =
+        manageDatabase.getAclCatalog(tenantId).getAclsByTeam(teamId).stream()
+            .filter(acl -> topicType.equals(acl.getAclType()))
+            .toList();
+    return UtilMethods.getTopicsFromAcls(teamAcls);
+  }
+
   public List<Topic> getTopics(String env, Integer teamId, int tenantId) {
     log.debug("getSyncTopics {} {}", env, teamId);
-    List<Topic> allTopicsList = manageDatabase.getTopicsForTenant(tenantId);
+    TopicCatalog topicCatalog = manageDatabase.getTopicCatalog(tenantId);
     if (teamId == null || teamId.equals(1)) {
       if (env == null || env.equals("ALL")) {
-        return allTopicsList;
+        return topicCatalog.getAllTopics();
       } else {
         Set<String> uniqueTopicNamesList =
-            new HashSet<>(
-                allTopicsList.stream()
-                    .filter(
-                        topic -> {
-                          return topic.getEnvironment().equals(env);
-                        })
-                    .map(Topic::getTopicname)
-                    .toList());
-        return getSubTopics(allTopicsList, uniqueTopicNamesList);
+            topicCatalog.getTopicsByEnv(env).stream()
+                .map(Topic::getTopicname)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return getSubTopics(topicCatalog, uniqueTopicNamesList);
       }
     } else {
       if (env == null || "ALL".equals(env)) {
-        return allTopicsList.stream().filter(topic -> topic.getTeamId().equals(teamId)).toList();
+        return topicCatalog.getTopicsByTeam(teamId);
       } else {
         Set<String> uniqueTopicNamesList =
-            new HashSet<>(
-                allTopicsList.stream()
-                    .filter(
-                        topic -> {
-                          return topic.getEnvironment().equals(env)
-                              && topic.getTeamId().equals(teamId);
-                        })
-                    .map(Topic::getTopicname)
-                    .toList());
-        return getSubTopics(allTopicsList, uniqueTopicNamesList);
+            topicCatalog.getTopicsByEnv(env).stream()
+                .filter(topic -> teamId.equals(topic.getTeamId()))
+                .map(Topic::getTopicname)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return getSubTopics(topicCatalog, uniqueTopicNamesList);
       }
     }
   }
 
-  private List<Topic> getSubTopics(List<Topic> allTopicsList, Set<String> uniqueTopicNamesList) {
+  private List<Topic> getSubTopics(TopicCatalog topicCatalog, Set<String> uniqueTopicNamesList) {
     List<Topic> subTopicsList = new ArrayList<>();
     uniqueTopicNamesList.forEach(
-        topicName -> {
-          allTopicsList.forEach(
-              topic -> {
-                if (topic.getTopicname().equals(topicName)) {
-                  subTopicsList.add(topic);
-                }
-              });
-        });
+        topicName -> subTopicsList.addAll(topicCatalog.getTopicsByName(topicName)));
     return subTopicsList;
   }
 }
@@ -22,6 +22,7 @@ import io.aiven.klaw.model.enums.ApiResultStatus;
 import io.aiven.klaw.model.enums.KafkaClustersType;
 import io.aiven.klaw.model.enums.PermissionType;
 import io.aiven.klaw.model.response.KafkaConnectorModelResponse;
+import io.aiven.klaw.model.response.SyncWriteSummary;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -100,9 +101,6 @@ public class KafkaConnectSyncControllerService {
 
     StringBuilder erroredTopicsExist = new StringBuilder();
     boolean topicsDontExistInMainCluster = false;
-    int topicId =
-        manageDatabase.getHandleDbRequests().getNextConnectorRequestId("CONNECTOR_ID", tenantId);
-
     List<Integer> updatedSyncTopicsDelete = new ArrayList<>();
     updatedSyncTopics = handleConnectorDeletes(updatedSyncTopics, updatedSyncTopicsDelete);
 
@@ -155,8 +153,10 @@ public class KafkaConnectSyncControllerService {
         if (existingTopics == null) {
           t = new KwKafkaConnector();
 
-          topicId = topicId + 1;
-          t.setConnectorId(topicId);
+          t.setConnectorId(
+              manageDatabase
+                  .getHandleDbRequests()
+                  .getNextConnectorRequestId("CONNECTOR_ID", tenantId));
           t.setConnectorName(topicUpdate.getConnectorName());
           t.setConnectorConfig(connectorConfig);
           t.setEnvironment(topicUpdate.getEnvSelected());
@@ -207,8 +207,10 @@ public class KafkaConnectSyncControllerService {
           }
           if (!envFound && !topicAdded) {
             t = new KwKafkaConnector();
-            topicId = topicId + 1;
-            t.setConnectorId(topicId);
+            t.setConnectorId(
+                manageDatabase
+                    .getHandleDbRequests()
+                    .getNextConnectorRequestId("CONNECTOR_ID", tenantId));
             t.setConnectorName(topicUpdate.getConnectorName());
             t.setConnectorConfig(connectorConfig);
             t.setEnvironment(topicUpdate.getEnvSelected());
@@ -250,11 +252,16 @@ public class KafkaConnectSyncControllerService {
 
     if (kafkaConnectorList.size() > 0) {
       try {
+        long startNanos = System.nanoTime();
         String result =
             manageDatabase.getHandleDbRequests().addToSyncConnectors(kafkaConnectorList);
+        SyncWriteSummary syncWriteSummary =
+            SyncWriteSummary.of(kafkaConnectorList.size(), startNanos);
+        log.info("Synced connectors of tenant {} : {}", tenantId, syncWriteSummary);
         return ApiResponse.builder()
             .success((result.equals(ApiResultStatus.SUCCESS.value)))
             .message(result)
+            .data(syncWriteSummary)
             .build();
       } catch (Exception e) {
         throw new KlawException(e.getMessage());
@@ -296,7 +296,7 @@ public class MailUtils {
     this.superUserMailId = manageDatabase.getKwPropertyValue(SUPERUSER_MAILID_KEY, tenantId);
     String reconMailContent =
         manageDatabase.getKwPropertyValue(RECONCILIATION_TOPICS_KEY, tenantId);
-    String formattedStr = String.format(reconMailContent, tenantName);
+    String formattedStr = String.format(reconMailContent, tenantName, reconTopicsContent);
 
     try {
       CompletableFuture.runAsync(
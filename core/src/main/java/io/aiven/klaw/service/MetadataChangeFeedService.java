@@ -0,0 +1,139 @@
+package io.aiven.klaw.service;
+
+import io.aiven.klaw.dao.KwMetadataChange;
+import io.aiven.klaw.model.KwMetadataUpdates;
+import io.aiven.klaw.repository.KwMetadataChangeRepo;
+import jakarta.annotation.PostConstruct;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Change feed of metadata updates, shared by all klaw instances through the database. Every
+ * instance appends the updates it makes to the kwmetadatachanges table, and polls the table to
+ * apply the updates made by the other instances to its own cache.
+ */
+@Service
+@Slf4j
+public class MetadataChangeFeedService {
+
+  public static final String SYNC_MODE_CHANGE_FEED = "changefeed";
+
+  // identifies this instance, to skip the changes it published itself
+  private final String instanceId = UUID.randomUUID().toString();
+
+  @Value("${klaw.metadata.sync.mode:http}")
+  private String syncMode;
+
+  @Value("${klaw.metadata.changefeed.retention:P1D}")
+  private Duration retention;
+
+  // versions are assigned on insert but rows may be committed out of order, so a poll also reads
+  // back this many versions before the last seen one to pick up late commits.
+  @Value("${klaw.metadata.changefeed.version.lookback:100}")
+  private long versionLookback;
+
+  @Autowired private KwMetadataChangeRepo metadataChangeRepo;
+
+  // highest version read from the feed
+  private long lastVersion;
+
+  // versions read from the feed within the lookback window of lastVersion
+  private final NavigableSet<Long> seenVersions = new TreeSet<>();
+
+  @PostConstruct
+  public void init() {
+    if (!isEnabled()) {
+      return;
+    }
+    // the cache is loaded from the database at startup, so existing changes are not replayed
+    KwMetadataChange latestChange = metadataChangeRepo.findTopByOrderByVersionDesc();
+    synchronized (this) {
+      lastVersion = latestChange == null ? 0 : latestChange.getVersion();
+      metadataChangeRepo
+          .findAllByVersionGreaterThanOrderByVersionAsc(lastVersion - versionLookback)
+          .forEach(change -> seenVersions.add(change.getVersion()));
+    }
+    log.info(
+        "Metadata change feed enabled on instance {} from version {}", instanceId, lastVersion);
+  }
+
+  public boolean isEnabled() {
+    return SYNC_MODE_CHANGE_FEED.equalsIgnoreCase(syncMode);
+  }
+
+  public void publish(KwMetadataUpdates kwMetadataUpdates) {
+    try {
+      KwMetadataChange metadataChange = new KwMetadataChange();
+      metadataChange.setTenantId(kwMetadataUpdates.getTenantId());
+      metadataChange.setEntityType(kwMetadataUpdates.getEntityType());
+      metadataChange.setOperationType(kwMetadataUpdates.getOperationType());
+      metadataChange.setEntityValue(kwMetadataUpdates.getEntityValue());
+      metadataChange.setInstanceId(instanceId);
+      metadataChange.setCreatedTime(
+          kwMetadataUpdates.getCreatedTime() == null
+              ? new Timestamp(System.currentTimeMillis())
+              : kwMetadataUpdates.getCreatedTime());
+      metadataChangeRepo.save(metadataChange);
+    } catch (Exception e) {
+      log.error("Error publishing metadata change {}", kwMetadataUpdates, e);
+    }
+  }
+
+  /** Returns the changes published by other instances since the previous poll, oldest first. */
+  public synchronized List<KwMetadataUpdates> pollChanges() {
+    if (!isEnabled()) {
+      return Collections.emptyList();
+    }
+
+    List<KwMetadataUpdates> updates = new ArrayList<>();
+    for (KwMetadataChange change :
+        metadataChangeRepo.findAllByVersionGreaterThanOrderByVersionAsc(
+            lastVersion - versionLookback)) {
+      if (!seenVersions.add(change.getVersion())) {
+        continue;
+      }
+      lastVersion = Math.max(lastVersion, change.getVersion());
+      if (instanceId.equals(change.getInstanceId())) {
+        continue;
+      }
+      updates.add(
+          KwMetadataUpdates.builder()
+              .tenantId(change.getTenantId())
+              .entityType(change.getEntityType())
+              .operationType(change.getOperationType())
+              .entityValue(change.getEntityValue())
+              .createdTime(change.getCreatedTime())
+              .build());
+    }
+    seenVersions.headSet(lastVersion - versionLookback, true).clear();
+    return updates;
+  }
+
+  @Scheduled(
+      fixedRateString = "${klaw.metadata.changefeed.prune.interval:PT1H}",
+      initialDelayString = "${klaw.metadata.changefeed.prune.interval:PT1H}")
+  public void pruneChanges() {
+    if (!isEnabled()) {
+      return;
+    }
+    Timestamp before = new Timestamp(System.currentTimeMillis() - retention.toMillis());
+    // versions increase with time, so all changes up to the last expired one are deleted at once
+    KwMetadataChange lastExpiredChange =
+        metadataChangeRepo.findTopByCreatedTimeBeforeOrderByVersionDesc(before);
+    if (lastExpiredChange != null) {
+      int pruned = metadataChangeRepo.deleteAllUpToVersion(lastExpiredChange.getVersion());
+      log.info("Pruned {} metadata changes older than {}", pruned, before);
+    }
+  }
+}
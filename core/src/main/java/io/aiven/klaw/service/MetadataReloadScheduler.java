@@ -0,0 +1,185 @@
+package io.aiven.klaw.service;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.model.KwMetadataUpdates;
+import io.aiven.klaw.model.enums.EntityType;
+import io.aiven.klaw.model.enums.MetadataOperationType;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Reloads the cache of ManageDatabase for metadata updates on a single background worker. Updates
+ * of the same tenant and entity type received within the coalescing window are merged, so a burst
+ * of identical updates results in one reload. Each reload increments the cache version, which is
+ * returned to the submitter once its update is applied.
+ */
+@Service
+@Slf4j
+public class MetadataReloadScheduler {
+
+  // above this number of changed topics of a tenant, all topics of the tenant are reloaded
+  private static final int MAX_TOPICS_RELOADED_BY_NAME = 50;
+
+  @Value("${klaw.metadata.reload.coalesce.window:PT0.1S}")
+  private Duration coalesceWindow;
+
+  @Autowired private ManageDatabase manageDatabase;
+
+  private final ScheduledExecutorService reloadExecutor =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "klaw-metadata-reload");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private final AtomicLong cacheVersion = new AtomicLong();
+
+  // reloads waiting for the coalescing window to end, guarded by itself
+  private final Map<ReloadKey, PendingReload> pendingReloads = new HashMap<>();
+
+  /**
+   * Queues the reload for the given update. The returned future completes with the cache version
+   * once the reload is done, and can be awaited by callers which need to read their own writes.
+   */
+  public CompletableFuture<Long> submit(KwMetadataUpdates kwMetadataUpdates) {
+    final EntityType entityType = EntityType.of(kwMetadataUpdates.getEntityType());
+    if (entityType == null) {
+      return CompletableFuture.completedFuture(cacheVersion.get());
+    }
+
+    ReloadKey reloadKey = new ReloadKey(kwMetadataUpdates.getTenantId(), entityType);
+    synchronized (pendingReloads) {
+      PendingReload pendingReload = pendingReloads.get(reloadKey);
+      if (pendingReload == null) {
+        pendingReload = new PendingReload();
+        pendingReloads.put(reloadKey, pendingReload);
+        reloadExecutor.schedule(
+            () -> runReload(reloadKey), coalesceWindow.toMillis(), TimeUnit.MILLISECONDS);
+      }
+      pendingReload.add(kwMetadataUpdates);
+      return pendingReload.reloaded;
+    }
+  }
+
+  public long getCacheVersion() {
+    return cacheVersion.get();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    reloadExecutor.shutdown();
+  }
+
+  private void runReload(ReloadKey reloadKey) {
+    PendingReload pendingReload;
+    synchronized (pendingReloads) {
+      // updates submitted from now on are queued for the next reload
+      pendingReload = pendingReloads.remove(reloadKey);
+    }
+    if (pendingReload == null) {
+      return;
+    }
+
+    try {
+      reload(reloadKey, pendingReload);
+      pendingReload.reloaded.complete(cacheVersion.incrementAndGet());
+    } catch (Exception e) {
+      log.error("Error reloading {} of tenant {}", reloadKey.entityType, reloadKey.tenantId, e);
+      pendingReload.reloaded.completeExceptionally(e);
+    }
+  }
+
+  private void reload(ReloadKey reloadKey, PendingReload pendingReload) {
+    int tenantId = reloadKey.tenantId;
+    if (reloadKey.entityType == EntityType.TOPICS) {
+      if (pendingReload.allTopics
+          || pendingReload.topicNames.size() > MAX_TOPICS_RELOADED_BY_NAME) {
+        manageDatabase.loadTopicsForOneTenant(tenantId);
+      } else {
+        for (String topicName : pendingReload.topicNames) {
+          manageDatabase.loadTopicsForOneTenant(tenantId, topicName);
+        }
+      }
+      return;
+    }
+
+    for (MetadataOperationType operationType : pendingReload.operationTypes) {
+      reload(tenantId, reloadKey.entityType, operationType);
+    }
+  }
+
+  private void reload(int tenantId, EntityType entityType, MetadataOperationType operationType) {
+    if (entityType == EntityType.USERS) {
+      manageDatabase.loadUsersForAllTenants();
+    } else if (entityType == EntityType.TEAM) {
+      manageDatabase.loadEnvsForOneTenant(tenantId);
+      manageDatabase.loadTenantTeamsForOneTenant(null, tenantId);
+    } else if (entityType == EntityType.CLUSTER && operationType == MetadataOperationType.DELETE) {
+      manageDatabase.deleteCluster(tenantId);
+    } else if (entityType == EntityType.CLUSTER && operationType == MetadataOperationType.CREATE) {
+      manageDatabase.loadClustersForOneTenant(null, null, null, tenantId);
+    } else if (entityType == EntityType.ENVIRONMENT
+        && operationType == MetadataOperationType.CREATE) {
+      manageDatabase.loadEnvsForOneTenant(tenantId);
+      manageDatabase.loadEnvMapForOneTenant(tenantId);
+      manageDatabase.loadTenantTeamsForOneTenant(null, tenantId);
+    } else if (entityType == EntityType.ENVIRONMENT
+        && operationType == MetadataOperationType.DELETE) {
+      manageDatabase.loadEnvMapForOneTenant(tenantId);
+      manageDatabase.loadEnvsForOneTenant(tenantId);
+    } else if (entityType == EntityType.TENANT && operationType == MetadataOperationType.CREATE) {
+      manageDatabase.updateStaticDataForTenant(tenantId);
+    } else if (entityType == EntityType.TENANT && operationType == MetadataOperationType.DELETE) {
+      manageDatabase.deleteTenant(tenantId);
+    } else if (entityType == EntityType.TENANT && operationType == MetadataOperationType.UPDATE) {
+      manageDatabase.loadOneTenant(tenantId);
+    } else if (entityType == EntityType.ROLES_PERMISSIONS) {
+      manageDatabase.loadRolesPermissionsOneTenant(null, tenantId);
+    } else if (entityType == EntityType.PROPERTIES) {
+      manageDatabase.loadKwPropsPerOneTenant(null, tenantId);
+    } else if (entityType == EntityType.ACLS) {
+      manageDatabase.loadAclsForOneTenant(tenantId);
+    }
+  }
+
+  @EqualsAndHashCode
+  @AllArgsConstructor
+  private static final class ReloadKey {
+    private final int tenantId;
+    private final EntityType entityType;
+  }
+
+  // merged updates of one tenant and entity type
+  private static final class PendingReload {
+    // operations in the order they were first submitted
+    private final Set<MetadataOperationType> operationTypes = new LinkedHashSet<>();
+    private final Set<String> topicNames = new LinkedHashSet<>();
+    private boolean allTopics;
+    private final CompletableFuture<Long> reloaded = new CompletableFuture<>();
+
+    private void add(KwMetadataUpdates kwMetadataUpdates) {
+      operationTypes.add(MetadataOperationType.of(kwMetadataUpdates.getOperationType()));
+      if (kwMetadataUpdates.getEntityValue() == null) {
+        allTopics = true;
+      } else {
+        topicNames.add(kwMetadataUpdates.getEntityValue());
+      }
+    }
+  }
+}
@@ -27,6 +27,12 @@ public class RequestService {
   @Autowired private AclControllerService aclControllerService;
 
   public List<ApiResponse> processApprovalRequests(RequestVerdict requestVerdict) {
+    // topic and acl requests are executed on the cluster in batches
+    if (RequestEntityType.TOPIC == requestVerdict.getRequestEntityType()) {
+      return topicControllerService.approveTopicRequests(requestVerdict.getReqIds());
+    } else if (RequestEntityType.ACL == requestVerdict.getRequestEntityType()) {
+      return aclControllerService.approveAclRequests(requestVerdict.getReqIds());
+    }
     return requestVerdict.getReqIds().stream()
         .map(req -> processApprovalRequests(req, requestVerdict.getRequestEntityType()))
         .collect(Collectors.toList());
@@ -1,6 +1,7 @@
 package io.aiven.klaw.service;
 
 import static io.aiven.klaw.error.KlawErrorMessages.REQ_ERR_101;
+import static io.aiven.klaw.error.KlawErrorMessages.REQ_SER_ERR_101;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_108;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_ERR_101;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_ERR_102;
@@ -31,6 +32,7 @@ import io.aiven.klaw.dao.UserInfo;
 import io.aiven.klaw.error.KlawException;
 import io.aiven.klaw.error.KlawNotAuthorizedException;
 import io.aiven.klaw.helpers.HandleDbRequests;
+import io.aiven.klaw.helpers.UtilMethods;
 import io.aiven.klaw.model.ApiResponse;
 import io.aiven.klaw.model.TopicConfigEntry;
 import io.aiven.klaw.model.TopicConfiguration;
@@ -54,11 +56,13 @@ import io.aiven.klaw.model.response.TopicRequestsResponseModel;
 import io.aiven.klaw.model.response.TopicTeamResponse;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -66,9 +70,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -224,8 +228,9 @@ public class TopicControllerService {
     if (topicOb.isPresent()) {
       // Check if any existing subscriptions for this topic
       List<Acl> acls =
-          dbHandle.getSyncAcls(
-              topicRequestReq.getEnvironment(), topicRequestReq.getTopicname(), tenantId);
+          manageDatabase
+              .getAclCatalog(tenantId)
+              .getAcls(topicRequestReq.getEnvironment(), topicRequestReq.getTopicname());
       if (!acls.isEmpty()) {
         return ApiResponse.builder().success(false).message(TOPICS_ERR_105).build();
       }
@@ -442,21 +447,15 @@ public class TopicControllerService {
     List<Topic> topics;
 
     if (AclPatternType.PREFIXED == patternType) {
-      topics = manageDatabase.getHandleDbRequests().getAllTopics(tenantId);
+      topics = manageDatabase.getTopicCatalog(tenantId).getTopicsWithPrefix(topicName);
 
       // tenant filtering
       Set<String> allowedEnvIdSet = new HashSet<>(commonUtilsService.getEnvsFromUserId(userName));
-      List<Topic> allTopicsStartingWithPattern = new ArrayList<>();
-
-      topics.stream()
-          .filter(topicRequest -> allowedEnvIdSet.contains(topicRequest.getEnvironment()))
-          .distinct()
-          .forEach(
-              topic -> {
-                if (topic.getTopicname().startsWith(topicName)) {
-                  allTopicsStartingWithPattern.add(topic);
-                }
-              });
+      List<Topic> allTopicsStartingWithPattern =
+          topics.stream()
+              .filter(topicRequest -> allowedEnvIdSet.contains(topicRequest.getEnvironment()))
+              .distinct()
+              .collect(Collectors.toList());
 
       if (allTopicsStartingWithPattern.isEmpty()) {
         topicTeamResponse.setError(TOPICS_ERR_109);
@@ -720,33 +719,211 @@ public class TopicControllerService {
         updateTopicReqStatus = dbHandle.updateTopicRequestStatus(topicRequest, userName);
       }
     } else {
-      Map<String, String> topicConfig = null;
+      updateTopicReqStatus =
+          invokeClusterApiForTopicRequest(
+              userName,
+              tenantId,
+              topicRequest,
+              dbHandle,
+              getAdvancedTopicConfiguration(topicRequest));
+    }
+
+    return getApprovalResponse(tenantId, topicRequest, updateTopicReqStatus);
+  }
+
+  /**
+   * Approves several topic requests. Creates, promotions and deletes are executed on the cluster
+   * with one batch per env, claims and updates are approved one by one.
+   *
+   * @return response of each request, in the order of the topic ids
+   */
+  public List<ApiResponse> approveTopicRequests(List<String> topicIds) {
+    log.info("approveTopicRequests {}", topicIds);
+    if (commonUtilsService.isNotAuthorizedUser(getPrincipal(), PermissionType.APPROVE_TOPICS)) {
+      ApiResponse notAuthorized =
+          ApiResponse.builder()
+              .success(false)
+              .message(ApiResultStatus.NOT_AUTHORIZED.value)
+              .build();
+      return topicIds.stream().map(topicId -> notAuthorized).collect(Collectors.toList());
+    }
+
+    String userName = getUserName();
+    int tenantId = commonUtilsService.getTenantId(userName);
+    HandleDbRequests dbHandle = manageDatabase.getHandleDbRequests();
+
+    ApiResponse[] responses = new ApiResponse[topicIds.size()];
+    // requests to execute in a batch by env and operation, with the index of their response
+    Map<Pair<String, String>, Map<Integer, TopicRequest>> batches = new LinkedHashMap<>();
+    // requests approved one by one after the batches, by the index of their response
+    Map<Integer, String> singleRequests = new LinkedHashMap<>();
+    for (int i = 0; i < topicIds.size(); i++) {
+      String topicId = topicIds.get(i);
       try {
-        if (null != topicRequest.getJsonParams()) {
-          topicConfig =
-              OBJECT_MAPPER
-                  .readValue(topicRequest.getJsonParams(), TopicConfigurationRequest.class)
-                  .getAdvancedTopicConfiguration();
+        TopicRequest topicRequest =
+            dbHandle.getTopicRequestsForTopic(Integer.parseInt(topicId), tenantId);
+        String batchOperation = getBatchOperation(topicRequest.getRequestOperationType());
+        Map<Integer, TopicRequest> batch =
+            batches.getOrDefault(
+                Pair.of(topicRequest.getEnvironment(), batchOperation), Collections.emptyMap());
+        // a topic is executed once per batch, other requests of it are approved one by one
+        boolean topicInBatch =
+            batch.values().stream()
+                .anyMatch(request -> request.getTopicname().equals(topicRequest.getTopicname()));
+        if (batchOperation == null || topicInBatch) {
+          singleRequests.put(i, topicId);
+          continue;
         }
-      } catch (JsonProcessingException e) {
-        // ignore this error while executing the req. should have been raised earlier in the
-        // process.
-        log.error("Error in parsing topic config ", e);
+
+        ApiResponse validationResponse = validateTopicRequest(topicRequest, userName);
+        if (validationResponse.isSuccess()) {
+          batches
+              .computeIfAbsent(
+                  Pair.of(topicRequest.getEnvironment(), batchOperation),
+                  k -> new LinkedHashMap<>())
+              .put(i, topicRequest);
+        } else {
+          responses[i] = validationResponse;
+        }
+      } catch (Exception e) {
+        log.error("approveTopicRequests {}", topicId, e);
+        responses[i] = getApprovalFailure(topicId);
       }
-      updateTopicReqStatus =
-          invokeClusterApiForTopicRequest(userName, tenantId, topicRequest, dbHandle, topicConfig);
     }
 
-    if (updateTopicReqStatus.equals(ApiResultStatus.SUCCESS.value)) {
-      commonUtilsService.updateMetadata(tenantId, EntityType.TOPICS, MetadataOperationType.CREATE);
+    batches.forEach(
+        (envAndOperation, batch) ->
+            approveTopicRequestsInBatch(
+                userName,
+                tenantId,
+                dbHandle,
+                envAndOperation.getLeft(),
+                envAndOperation.getRight(),
+                batch,
+                responses));
+    singleRequests.forEach(
+        (i, topicId) -> {
+          try {
+            responses[i] = approveTopicRequests(topicId);
+          } catch (Exception e) {
+            log.error("approveTopicRequests {}", topicId, e);
+            responses[i] = getApprovalFailure(topicId);
+          }
+        });
+    return Arrays.asList(responses);
+  }
+
+  private void approveTopicRequestsInBatch(
+      String userName,
+      int tenantId,
+      HandleDbRequests dbHandle,
+      String envId,
+      String batchOperation,
+      Map<Integer, TopicRequest> batch,
+      ApiResponse[] responses) {
+    Map<String, Map<String, String>> advancedTopicConfigurations = new HashMap<>();
+    for (TopicRequest topicRequest : batch.values()) {
+      Map<String, String> topicConfig = getAdvancedTopicConfiguration(topicRequest);
+      if (topicConfig != null) {
+        advancedTopicConfigurations.put(topicRequest.getTopicname(), topicConfig);
+      }
+    }
+
+    Map<String, String> results;
+    try {
+      results =
+          clusterApiService.approveTopicRequests(
+              envId,
+              batchOperation,
+              new ArrayList<>(batch.values()),
+              advancedTopicConfigurations,
+              tenantId);
+    } catch (KlawException e) {
+      log.error("approveTopicRequests {} {}", envId, batchOperation, e);
+      batch.forEach(
+          (i, topicRequest) ->
+              responses[i] = getApprovalFailure(String.valueOf(topicRequest.getTopicid())));
+      return;
+    }
+
+    List<String> approvedTopicNames = new ArrayList<>();
+    batch.forEach(
+        (i, topicRequest) -> {
+          try {
+            String updateTopicReqStatus = results.get(topicRequest.getTopicname());
+            if (ApiResultStatus.SUCCESS.value.equals(updateTopicReqStatus)) {
+              updateTopicReqStatus =
+                  completeTopicRequest(userName, tenantId, topicRequest, dbHandle);
+            }
+            if (ApiResultStatus.SUCCESS.value.equals(updateTopicReqStatus)) {
+              approvedTopicNames.add(topicRequest.getTopicname());
+            }
+            responses[i] = getApprovalResponse(updateTopicReqStatus);
+          } catch (Exception e) {
+            log.error("approveTopicRequests {}", topicRequest.getTopicid(), e);
+            responses[i] = getApprovalFailure(String.valueOf(topicRequest.getTopicid()));
+          }
+        });
+
+    // one reload of the topics of the batch, instead of waiting for a reload per topic
+    if (!approvedTopicNames.isEmpty()) {
+      commonUtilsService.updateMetadata(
+          tenantId,
+          EntityType.TOPICS,
+          MetadataOperationType.CREATE,
+          approvedTopicNames.size() == 1 ? approvedTopicNames.get(0) : null);
+    }
+  }
+
+  // creates and promotions are executed as creates, updates and claims are not batched
+  private static String getBatchOperation(String requestOperationType) {
+    if (RequestOperationType.CREATE.value.equals(requestOperationType)
+        || RequestOperationType.PROMOTE.value.equals(requestOperationType)) {
+      return RequestOperationType.CREATE.value;
+    } else if (RequestOperationType.DELETE.value.equals(requestOperationType)) {
+      return RequestOperationType.DELETE.value;
+    }
+    return null;
+  }
+
+  private static ApiResponse getApprovalFailure(String topicId) {
+    return ApiResponse.builder()
+        .success(false)
+        .message(String.format(REQ_SER_ERR_101, topicId))
+        .build();
+  }
+
+  private ApiResponse getApprovalResponse(
+      int tenantId, TopicRequest topicRequest, String updateTopicReqStatus) {
+    if (ApiResultStatus.SUCCESS.value.equals(updateTopicReqStatus)) {
+      commonUtilsService.updateMetadata(
+          tenantId, EntityType.TOPICS, MetadataOperationType.CREATE, topicRequest.getTopicname());
     }
+    return getApprovalResponse(updateTopicReqStatus);
+  }
 
+  private static ApiResponse getApprovalResponse(String updateTopicReqStatus) {
     return ApiResponse.builder()
-        .success((updateTopicReqStatus.equals(ApiResultStatus.SUCCESS.value)))
+        .success(ApiResultStatus.SUCCESS.value.equals(updateTopicReqStatus))
         .message(updateTopicReqStatus)
         .build();
   }
 
+  private Map<String, String> getAdvancedTopicConfiguration(TopicRequest topicRequest) {
+    try {
+      if (null != topicRequest.getJsonParams()) {
+        return OBJECT_MAPPER
+            .readValue(topicRequest.getJsonParams(), TopicConfigurationRequest.class)
+            .getAdvancedTopicConfiguration();
+      }
+    } catch (JsonProcessingException e) {
+      // ignore this error while executing the req. should have been raised earlier in the
+      // process.
+      log.error("Error in parsing topic config ", e);
+    }
+    return null;
+  }
+
   private String invokeClusterApiForTopicRequest(
       String userName,
       int tenantId,
@@ -769,20 +946,27 @@ public class TopicControllerService {
     updateTopicReqStatus = Objects.requireNonNull(response.getBody()).getMessage();
 
     if (response.getBody().isSuccess()) {
-      setTopicHistory(topicRequest, userName, tenantId);
-      updateTopicReqStatus = dbHandle.updateTopicRequest(topicRequest, userName);
-      mailService.sendMail(
-          topicRequest.getTopicname(),
-          null,
-          "",
-          topicRequest.getRequestor(),
-          dbHandle,
-          TOPIC_REQUEST_APPROVED,
-          commonUtilsService.getLoginUrl());
+      updateTopicReqStatus = completeTopicRequest(userName, tenantId, topicRequest, dbHandle);
     }
     return updateTopicReqStatus;
   }
 
+  // records the approval of a request executed on the cluster
+  private String completeTopicRequest(
+      String userName, int tenantId, TopicRequest topicRequest, HandleDbRequests dbHandle) {
+    setTopicHistory(topicRequest, userName, tenantId);
+    String updateTopicReqStatus = dbHandle.updateTopicRequest(topicRequest, userName);
+    mailService.sendMail(
+        topicRequest.getTopicname(),
+        null,
+        "",
+        topicRequest.getRequestor(),
+        dbHandle,
+        TOPIC_REQUEST_APPROVED,
+        commonUtilsService.getLoginUrl());
+    return updateTopicReqStatus;
+  }
+
   private ApiResponse validateTopicRequest(TopicRequest topicRequest, String userName) {
     if (Objects.equals(topicRequest.getRequestor(), userName)) {
       return ApiResponse.builder().success(false).message(TOPICS_ERR_112).build();
@@ -930,10 +1114,13 @@ public class TopicControllerService {
           commonUtilsService.getFilteredTopicsForTenant(topicsSearchList).get(0).getTeamId();
       Integer loggedInUserTeamId = commonUtilsService.getTeamId(userName);
       if (Objects.equals(topicOwnerTeamId, loggedInUserTeamId)) {
-        return ApiResponse.builder()
-            .success(true)
-            .message(manageDatabase.getHandleDbRequests().updateTopicDocumentation(topic))
-            .build();
+        String result = manageDatabase.getHandleDbRequests().updateTopicDocumentation(topic);
+        if (ApiResultStatus.SUCCESS.value.equals(result)) {
+          // documentation is searched through the topic cache
+          commonUtilsService.updateMetadata(
+              tenantId, EntityType.TOPICS, MetadataOperationType.UPDATE, topicInfo.getTopicName());
+        }
+        return ApiResponse.builder().success(true).message(result).build();
       } else {
         return ApiResponse.builder().success(false).message(ApiResultStatus.FAILURE.value).build();
       }
@@ -1069,7 +1256,7 @@ public class TopicControllerService {
     if ((AclType.PRODUCER.value.equals(topicType) || AclType.CONSUMER.value.equals(topicType))
         && teamId != 0) {
       producerConsumerTopics =
-          handleDbRequests.getAllTopicsByTopictypeAndTeamname(topicType, teamId, tenantId);
+          commonUtilsService.getTopicsFromTeamAcls(topicType, teamId, tenantId);
 
       // tenant filtering, not really necessary though, as based on team is searched.
       producerConsumerTopics =
@@ -1089,15 +1276,11 @@ public class TopicControllerService {
     String orderOfEnvs = commonUtilsService.getEnvProperty(tenantId, "ORDER_OF_ENVS");
 
     topicsFromSOT = commonUtilsService.groupTopicsByEnv(topicsFromSOT);
-    List<Topic> filterProducerConsumerList = new ArrayList<>();
-
     topicsFromSOT =
-        getProducerConsumerFilterTopics(
-            producerConsumerTopics, topicsFromSOT, filterProducerConsumerList);
+        UtilMethods.filterTopicsMatchingAclTopics(producerConsumerTopics, topicsFromSOT);
 
-    List<Topic> topicFilteredList = topicsFromSOT;
-    topicFilteredList =
-        getTopicsFromTopicSearchFilters(topicNameSearch, topicsFromSOT, topicFilteredList);
+    List<Topic> topicFilteredList =
+        getTopicsFromTopicSearchFilters(topicNameSearch, topicsFromSOT, tenantId);
 
     topicsFromSOT =
         topicFilteredList.stream().sorted(new TopicNameComparator()).collect(Collectors.toList());
@@ -1105,75 +1288,29 @@ public class TopicControllerService {
     return getTopicInfoList(topicsFromSOT, pageNo, currentPage, listAllEnvs, orderOfEnvs, tenantId);
   }
 
-  private static List<Topic> getTopicsFromTopicSearchFilters(
-      String topicNameSearch, List<Topic> topicsFromSOT, List<Topic> topicFilteredList) {
-    // Filter topics on topic name for search
-    if (topicNameSearch != null && topicNameSearch.length() > 0) {
-      final String topicSearchFilter = topicNameSearch;
-      topicFilteredList =
-          topicsFromSOT.stream()
-              .filter(
-                  topic ->
-                      topic.getTopicname().toLowerCase().contains(topicSearchFilter.toLowerCase()))
-              .collect(Collectors.toList());
-
-      // searching documentation
-      List<Topic> searchDocList =
-          topicsFromSOT.stream()
-              .filter(
-                  topic ->
-                      (topic.getDocumentation() != null
-                          && topic
-                              .getDocumentation()
-                              .toLowerCase()
-                              .contains(topicSearchFilter.toLowerCase())))
-              .toList();
-
-      topicFilteredList.addAll(searchDocList);
-      topicFilteredList =
-          new ArrayList<>(
-              topicFilteredList.stream()
-                  .collect(
-                      Collectors.toConcurrentMap(
-                          Topic::getTopicname, Function.identity(), (p, q) -> p))
-                  .values());
+  private List<Topic> getTopicsFromTopicSearchFilters(
+      String topicNameSearch, List<Topic> topicsFromSOT, int tenantId) {
+    // Filter topics on topic name and documentation for search
+    if (topicNameSearch == null || topicNameSearch.length() == 0) {
+      return topicsFromSOT;
     }
-    return topicFilteredList;
-  }
 
-  private static List<Topic> getProducerConsumerFilterTopics(
-      List<Topic> producerConsumerTopics,
-      List<Topic> topicsFromSOT,
-      List<Topic> filterProducerConsumerList) {
-    String tmpTopicFull;
-    String tmpTopicSub;
-    if (!producerConsumerTopics.isEmpty()) {
-      for (Topic topicInfo : topicsFromSOT) {
-        for (Topic producerConsumerTopic : producerConsumerTopics) {
-          tmpTopicFull = producerConsumerTopic.getTopicname();
-
-          String prefixVar = "--";
-          if (tmpTopicFull.endsWith(
-              prefixVar + AclPatternType.PREFIXED + prefixVar)) { // has prefixed acl
-            tmpTopicSub =
-                tmpTopicFull.replaceAll(prefixVar + AclPatternType.PREFIXED + prefixVar, "");
-            if (topicInfo.getTopicname().startsWith(tmpTopicSub)
-                && topicInfo
-                    .getEnvironmentsList()
-                    .contains(producerConsumerTopic.getEnvironment())) {
-              topicInfo.setEnvironmentsList(producerConsumerTopic.getEnvironmentsList());
-              filterProducerConsumerList.add(topicInfo);
-            }
-          } else if (Objects.equals(producerConsumerTopic.getTopicname(), topicInfo.getTopicname())
-              && topicInfo.getEnvironmentsList().contains(producerConsumerTopic.getEnvironment())) {
-            topicInfo.setEnvironmentsList(producerConsumerTopic.getEnvironmentsList());
-            filterProducerConsumerList.add(topicInfo);
-          }
-        }
+    // names of the topics having all trigrams of the search, or null if the search is too short
+    Set<String> candidateTopicNames =
+        manageDatabase.getTopicCatalog(tenantId).getCandidateTopicNames(topicNameSearch);
+    final String topicSearchFilter = topicNameSearch.toLowerCase();
+    Map<String, Topic> topicFilteredMap = new LinkedHashMap<>();
+    for (Topic topic : topicsFromSOT) {
+      if (candidateTopicNames != null && !candidateTopicNames.contains(topic.getTopicname())) {
+        continue;
+      }
+      if (topic.getTopicname().toLowerCase().contains(topicSearchFilter)
+          || (topic.getDocumentation() != null
+              && topic.getDocumentation().toLowerCase().contains(topicSearchFilter))) {
+        topicFilteredMap.putIfAbsent(topic.getTopicname(), topic);
       }
-      topicsFromSOT = filterProducerConsumerList;
     }
-    return topicsFromSOT;
+    return new ArrayList<>(topicFilteredMap.values());
   }
 
   private List<List<TopicInfo>> getPagedList(List<TopicInfo> topicsList) {
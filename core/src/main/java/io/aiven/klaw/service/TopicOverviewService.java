@@ -4,6 +4,7 @@ import static io.aiven.klaw.error.KlawErrorMessages.TOPIC_OVW_ERR_101;
 import static io.aiven.klaw.helpers.KwConstants.ORDER_OF_TOPIC_ENVS;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import io.aiven.klaw.cache.AclCatalog;
 import io.aiven.klaw.dao.Acl;
 import io.aiven.klaw.dao.Env;
 import io.aiven.klaw.dao.Topic;
@@ -179,7 +180,6 @@ public class TopicOverviewService extends BaseOverviewService {
       Integer topicOwnerTeamId) {
     List<Acl> prefixedAcls = new ArrayList<>();
     List<Acl> aclsFromSOT = new ArrayList<>();
-    List<Acl> allPrefixedAcls;
     List<AclInfo> tmpAclPrefixed;
     List<AclInfo> tmpAcl;
 
@@ -195,13 +195,10 @@ public class TopicOverviewService extends BaseOverviewService {
         aclInfo.addAll(tmpAcl);
       }
 
-      allPrefixedAcls = handleDb.getPrefixedAclsSOT(topicInfo.getEnvId(), tenantId);
-      if (allPrefixedAcls != null && allPrefixedAcls.size() > 0) {
-        for (Acl allPrefixedAcl : allPrefixedAcls) {
-          if (topicNameSearch.startsWith(allPrefixedAcl.getTopicname())) {
-            prefixedAcls.add(allPrefixedAcl);
-          }
-        }
+      AclCatalog aclCatalog = manageDatabase.getAclCatalog(tenantId);
+      if (!aclCatalog.getPrefixedAclsByEnv(topicInfo.getEnvId()).isEmpty()) {
+        prefixedAcls.addAll(
+            aclCatalog.getPrefixedAclsMatching(topicInfo.getEnvId(), topicNameSearch));
         tmpAclPrefixed = applyFiltersAclsForSOT(loggedInUserTeam, prefixedAcls, tenantId);
         prefixedAclsInfo.addAll(tmpAclPrefixed);
       }
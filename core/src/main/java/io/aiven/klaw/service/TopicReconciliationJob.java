@@ -0,0 +1,323 @@
+package io.aiven.klaw.service;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.Env;
+import io.aiven.klaw.dao.KwClusters;
+import io.aiven.klaw.dao.Topic;
+import io.aiven.klaw.dao.TopicReconResult;
+import io.aiven.klaw.helpers.Reconciliation;
+import io.aiven.klaw.helpers.db.rdbms.SchedulerLocks;
+import io.aiven.klaw.model.enums.ApiResultStatus;
+import io.aiven.klaw.model.enums.KafkaClustersType;
+import io.aiven.klaw.model.enums.ReconStatus;
+import io.aiven.klaw.model.response.TopicConfig;
+import io.aiven.klaw.repository.TopicReconResultRepo;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Reconciles the topics of the kafka clusters of all tenants with the topics stored in klaw, in the
+ * background and without a user session. Envs are reconciled in parallel on a bounded pool, with at
+ * most klaw.recontopics.cluster.concurrency envs of the same cluster at a time. The result of each
+ * env is stored in kwtopicrecon, and the superadmin of each tenant receives one mail with the
+ * topics to reconcile of all its envs.
+ */
+@Service
+@Slf4j
+public class TopicReconciliationJob {
+
+  private static final String RECON_MAIL_SUBJECT = "Reconciliation of Topics";
+
+  private static final String RECON_LOCK_NAME = "TopicReconciliationJob";
+
+  // topics listed per env in the mail, all topics are stored with the result
+  private static final int MAX_MAIL_TOPICS_PER_ENV = 100;
+
+  @Value("${klaw.recontopics.enabled:false}")
+  private boolean reconEnabled;
+
+  @Value("${klaw.recontopics.threads:4}")
+  private int reconThreads;
+
+  @Value("${klaw.recontopics.cluster.concurrency:1}")
+  private int clusterConcurrency;
+
+  @Value("${klaw.recontopics.lock.atmost:PT2H}")
+  private Duration lockAtMostFor;
+
+  @Value("${klaw.recontopics.lock.atleast:PT5M}")
+  private Duration lockAtLeastFor;
+
+  @Value("${klaw.uiapi.servers:}")
+  private String uiApiServers;
+
+  @Value("${server.servlet.context-path:}")
+  private String contextPath;
+
+  @Autowired private ManageDatabase manageDatabase;
+
+  @Autowired private ClusterApiService clusterApiService;
+
+  @Autowired private MailUtils mailService;
+
+  @Autowired private SchedulerLocks schedulerLocks;
+
+  @Autowired(required = false)
+  private TopicReconResultRepo topicReconResultRepo;
+
+  private ExecutorService reconExecutor;
+
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  @PostConstruct
+  public void init() {
+    AtomicInteger threadCount = new AtomicInteger();
+    reconExecutor =
+        Executors.newFixedThreadPool(
+            reconThreads,
+            runnable -> {
+              Thread thread = new Thread(runnable, "klaw-recon-" + threadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    reconExecutor.shutdownNow();
+  }
+
+  // default at 7 am everyday. The job is scheduled on every instance, and run on the one which
+  // takes the lock, so the results are mailed once
+  @Scheduled(cron = "${klaw.recontopics.cron:0 0 7 * * ?}")
+  public void reconcileTopicsScheduler() {
+    if (!reconEnabled) {
+      return;
+    }
+    try {
+      schedulerLocks.runLocked(
+          RECON_LOCK_NAME, lockAtMostFor, lockAtLeastFor, this::reconcileTopics);
+    } catch (Exception e) {
+      log.error("Error reconciling topics", e);
+    }
+  }
+
+  /**
+   * Reconciles the topics of all kafka envs of all tenants, stores the results and mails them to
+   * the superadmin of each tenant. Does nothing when a reconciliation is already running.
+   *
+   * @return results of all envs, empty when a reconciliation is already running
+   */
+  public List<TopicReconResult> reconcileTopics() {
+    if (!running.compareAndSet(false, true)) {
+      log.warn("Reconciliation of topics is already running");
+      return Collections.emptyList();
+    }
+
+    try {
+      // envs are grouped by bootstrap servers, envs of several tenants may share a cluster
+      Map<String, Queue<EnvRecon>> envsOfClusters = new LinkedHashMap<>();
+      for (Integer tenantId : new ArrayList<>(manageDatabase.getTenantMap().keySet())) {
+        Map<Integer, KwClusters> clusters =
+            manageDatabase.getClusters(KafkaClustersType.KAFKA, tenantId);
+        for (Env env : manageDatabase.getKafkaEnvList(tenantId)) {
+          KwClusters kwClusters = clusters.get(env.getClusterId());
+          if (kwClusters != null) {
+            envsOfClusters
+                .computeIfAbsent(
+                    kwClusters.getBootstrapServers(), k -> new ConcurrentLinkedQueue<>())
+                .add(new EnvRecon(tenantId, env, kwClusters));
+          }
+        }
+      }
+
+      // each worker of a cluster reconciles its envs one after the other
+      List<TopicReconResult> results = Collections.synchronizedList(new ArrayList<>());
+      List<CompletableFuture<Void>> workers = new ArrayList<>();
+      for (Queue<EnvRecon> envsOfCluster : envsOfClusters.values()) {
+        int workersOfCluster = Math.min(Math.max(1, clusterConcurrency), envsOfCluster.size());
+        for (int i = 0; i < workersOfCluster; i++) {
+          workers.add(
+              CompletableFuture.runAsync(
+                  () -> {
+                    EnvRecon envRecon;
+                    while ((envRecon = envsOfCluster.poll()) != null) {
+                      results.add(reconcileEnv(envRecon));
+                    }
+                  },
+                  reconExecutor));
+        }
+      }
+      CompletableFuture.allOf(workers.toArray(new CompletableFuture[0])).join();
+
+      Map<Integer, List<TopicReconResult>> resultsOfTenants =
+          results.stream()
+              .sorted(Comparator.comparing(TopicReconResult::getEnv))
+              .collect(Collectors.groupingBy(TopicReconResult::getTenantId));
+      resultsOfTenants.forEach(this::storeAndMailResults);
+      return new ArrayList<>(results);
+    } finally {
+      running.set(false);
+    }
+  }
+
+  public List<TopicReconResult> getReconResults(int tenantId) {
+    return topicReconResultRepo.findAllByTenantId(tenantId);
+  }
+
+  private TopicReconResult reconcileEnv(EnvRecon envRecon) {
+    TopicReconResult reconResult = new TopicReconResult();
+    reconResult.setTenantId(envRecon.tenantId);
+    reconResult.setEnv(envRecon.env.getId());
+    reconResult.setReconTime(new Timestamp(System.currentTimeMillis()));
+
+    try {
+      KwClusters kwClusters = envRecon.kwClusters;
+      List<TopicConfig> clusterTopics =
+          clusterApiService.getAllTopics(
+              kwClusters.getBootstrapServers(),
+              kwClusters.getProtocol(),
+              kwClusters.getClusterName() + kwClusters.getClusterId(),
+              kwClusters.getKafkaFlavor(),
+              envRecon.tenantId);
+      List<Topic> topicsFromSOT =
+          manageDatabase
+              .getHandleDbRequests()
+              .getSyncTopics(envRecon.env.getId(), null, envRecon.tenantId);
+
+      Reconciliation<TopicConfig, Topic> reconciliation =
+          TopicSyncControllerService.reconcileTopics(clusterTopics, topicsFromSOT);
+
+      List<String> details = new ArrayList<>();
+      for (Reconciliation.Result<TopicConfig, Topic> result :
+          reconciliation.getResults(ReconStatus.ADDED)) {
+        details.add(ReconStatus.ADDED + " " + result.getClusterEntity().getTopicName());
+      }
+      for (Reconciliation.Result<TopicConfig, Topic> result :
+          reconciliation.getResults(ReconStatus.CHANGED)) {
+        TopicConfig clusterTopic = result.getClusterEntity();
+        Topic storedTopic = result.getStoredEntity();
+        details.add(
+            String.format(
+                "%s %s partitions %s/%s replication factor %s/%s",
+                ReconStatus.CHANGED,
+                clusterTopic.getTopicName(),
+                clusterTopic.getPartitions(),
+                storedTopic.getNoOfPartitions(),
+                clusterTopic.getReplicationFactor(),
+                storedTopic.getNoOfReplicas()));
+      }
+      for (Topic topic : reconciliation.getDeleted()) {
+        details.add(ReconStatus.DELETED + " " + topic.getTopicname());
+      }
+
+      reconResult.setStatus(ApiResultStatus.SUCCESS.value);
+      reconResult.setAddedCount(reconciliation.count(ReconStatus.ADDED));
+      reconResult.setDeletedCount(reconciliation.count(ReconStatus.DELETED));
+      reconResult.setChangedCount(reconciliation.count(ReconStatus.CHANGED));
+      reconResult.setMatchedCount(reconciliation.count(ReconStatus.MATCHED));
+      reconResult.setDetails(String.join("\n", details));
+    } catch (Exception e) {
+      log.error(
+          "Error reconciling topics of env {} of tenant {}",
+          envRecon.env.getName(),
+          envRecon.tenantId,
+          e);
+      reconResult.setStatus(ApiResultStatus.FAILURE.value);
+      reconResult.setDetails(e.getMessage());
+    }
+    return reconResult;
+  }
+
+  private void storeAndMailResults(int tenantId, List<TopicReconResult> reconResults) {
+    try {
+      topicReconResultRepo.saveAll(reconResults);
+    } catch (Exception e) {
+      log.error("Error storing the reconciliation of topics of tenant {}", tenantId, e);
+    }
+
+    StringBuilder reconStr = new StringBuilder();
+    for (TopicReconResult reconResult : reconResults) {
+      boolean failed = ApiResultStatus.FAILURE.value.equals(reconResult.getStatus());
+      if (!failed && reconResult.getDetails().isEmpty()) {
+        continue;
+      }
+
+      // mail content is html, \n sequences of the text are replaced with line breaks
+      reconStr.append("\\n Environment : ").append(getEnvName(tenantId, reconResult.getEnv()));
+      if (failed) {
+        reconStr.append("\\n Reconciliation failed : ").append(reconResult.getDetails());
+      } else {
+        List<String> details = List.of(reconResult.getDetails().split("\n"));
+        details.stream()
+            .limit(MAX_MAIL_TOPICS_PER_ENV)
+            .forEach(detail -> reconStr.append("\\n ").append(detail));
+        if (details.size() > MAX_MAIL_TOPICS_PER_ENV) {
+          reconStr
+              .append("\\n ... and ")
+              .append(details.size() - MAX_MAIL_TOPICS_PER_ENV)
+              .append(" more topics");
+        }
+      }
+      reconStr.append("\\n");
+    }
+
+    if (reconStr.length() > 0) {
+      try {
+        mailService.sendReconMailToAdmin(
+            RECON_MAIL_SUBJECT,
+            reconStr.toString(),
+            manageDatabase.getTenantMap().get(tenantId),
+            tenantId,
+            getLoginUrl());
+      } catch (Exception e) {
+        log.error("Error mailing the reconciliation of topics of tenant {}", tenantId, e);
+      }
+    }
+  }
+
+  private String getEnvName(int tenantId, String envId) {
+    return manageDatabase.getKafkaEnvList(tenantId).stream()
+        .filter(env -> envId.equals(env.getId()))
+        .map(Env::getName)
+        .findFirst()
+        .orElse(envId);
+  }
+
+  // there is no request to derive the url from, the first klaw server is linked
+  private String getLoginUrl() {
+    String server = uiApiServers.split(",")[0].trim();
+    return server + contextPath + "/login";
+  }
+
+  @AllArgsConstructor
+  private static final class EnvRecon {
+    private final int tenantId;
+
+    private final Env env;
+
+    private final KwClusters kwClusters;
+  }
+}
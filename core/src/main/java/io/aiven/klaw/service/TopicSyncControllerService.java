@@ -8,14 +8,19 @@ import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_SYNC_ERR_103;
 import static io.aiven.klaw.error.KlawErrorMessages.TOPICS_SYNC_ERR_104;
 import static org.springframework.beans.BeanUtils.copyProperties;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.aiven.klaw.config.ManageDatabase;
 import io.aiven.klaw.dao.Env;
 import io.aiven.klaw.dao.KwClusters;
 import io.aiven.klaw.dao.Team;
 import io.aiven.klaw.dao.Topic;
+import io.aiven.klaw.dao.TopicReconResult;
 import io.aiven.klaw.dao.TopicRequest;
 import io.aiven.klaw.error.KlawException;
 import io.aiven.klaw.helpers.HandleDbRequests;
+import io.aiven.klaw.helpers.Reconciliation;
+import io.aiven.klaw.helpers.UtilMethods;
 import io.aiven.klaw.model.ApiResponse;
 import io.aiven.klaw.model.SyncBackTopics;
 import io.aiven.klaw.model.SyncTopicUpdates;
@@ -25,24 +30,32 @@ import io.aiven.klaw.model.enums.AclType;
 import io.aiven.klaw.model.enums.ApiResultStatus;
 import io.aiven.klaw.model.enums.KafkaClustersType;
 import io.aiven.klaw.model.enums.PermissionType;
+import io.aiven.klaw.model.enums.ReconStatus;
 import io.aiven.klaw.model.enums.RequestOperationType;
 import io.aiven.klaw.model.response.SyncTopicsList;
+import io.aiven.klaw.model.response.SyncWriteSummary;
 import io.aiven.klaw.model.response.TopicConfig;
+import io.aiven.klaw.model.response.TopicReconResultResponse;
 import io.aiven.klaw.model.response.TopicRequestsResponseModel;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -60,51 +73,49 @@ public class TopicSyncControllerService {
 
   @Autowired private CommonUtilsService commonUtilsService;
 
+  @Autowired private TopicReconciliationJob topicReconciliationJob;
+
+  // tenants and envs whose cluster topics are cached
+  private static final int CLUSTER_TOPICS_CACHE_SIZE = 200;
+
   private int topicCounter = 0;
 
-  // default at 7 am everyday
-  //    @Scheduled(cron = "${klaw.recontopics.fixedtime:0 7 * * ?}")
-  public void getReconTopicsScheduledAsync() {
-    CompletableFuture.runAsync(this::getReconTopicsScheduled);
+  // how long the topics of a cluster, and their reconciliation, are reused by the sync pages
+  @Value("${klaw.sync.topics.cache.ttl:PT2M}")
+  private Duration clusterTopicsCacheTtl;
+
+  // key is tenant id and env id
+  private Cache<String, ClusterTopicsSnapshot> clusterTopicsCache;
+
+  @PostConstruct
+  public void init() {
+    clusterTopicsCache =
+        Caffeine.newBuilder()
+            .expireAfterWrite(clusterTopicsCacheTtl)
+            .maximumSize(CLUSTER_TOPICS_CACHE_SIZE)
+            .build();
   }
 
-  public void getReconTopicsScheduled() {
-    Map<Integer, List<String>> envTenantMap = manageDatabase.getEnvsOfTenantsMap();
-    Map<Integer, String> tenantMap = manageDatabase.getTenantMap();
-    List<Integer> tenants = new ArrayList<>(envTenantMap.keySet());
-
-    for (Integer tenantId : tenants) {
-      List<String> envsStrList = envTenantMap.get(tenantId);
-      StringBuilder reconStr = new StringBuilder();
-      reconStr.append("Tenant : ").append(tenantMap.get(tenantId)).append("\n");
-
-      for (String envStr : envsStrList) {
-        reconStr = new StringBuilder();
-        try {
-          List<TopicRequestsResponseModel> results =
-              getReconTopics(envStr, "-1", "", null, "false", false).getResultSet();
-
-          for (TopicRequestsResponseModel topicRequestModel : results) {
-            reconStr
-                .append(topicRequestModel.getTopicname())
-                .append(topicRequestModel.getEnvironmentName())
-                .append(topicRequestModel.getRemarks())
-                .append("\n");
-          }
+  /** Results of the last scheduled reconciliation of the envs of the tenant of the user. */
+  public List<TopicReconResultResponse> getTopicReconResults() {
+    if (commonUtilsService.isNotAuthorizedUser(getPrincipal(), PermissionType.SYNC_TOPICS)) {
+      return new ArrayList<>();
+    }
+    int tenantId = commonUtilsService.getTenantId(getUserName());
+    Set<String> allowedEnvIdSet = commonUtilsService.getEnvsFromUserId(getUserName());
 
-          if (!results.isEmpty()) {
-            mailService.sendReconMailToAdmin(
-                "Reconciliation of Topics",
-                reconStr.toString(),
-                tenantMap.get(tenantId),
-                tenantId,
-                commonUtilsService.getLoginUrl());
-          }
-        } catch (Exception e) {
-          log.error("Exception:", e);
-        }
+    List<TopicReconResultResponse> reconResults = new ArrayList<>();
+    for (TopicReconResult reconResult : topicReconciliationJob.getReconResults(tenantId)) {
+      if (!allowedEnvIdSet.contains(reconResult.getEnv())) {
+        continue;
       }
+      TopicReconResultResponse reconResultResponse = new TopicReconResultResponse();
+      copyProperties(reconResult, reconResultResponse);
+      reconResultResponse.setEnvId(reconResult.getEnv());
+      reconResultResponse.setEnvName(getEnvDetails(reconResult.getEnv()).getName());
+      reconResults.add(reconResultResponse);
     }
+    return reconResults;
   }
 
   public SyncTopicsList getReconTopics(
@@ -126,7 +137,7 @@ public class TopicSyncControllerService {
             .filter(
                 topicRequestModel ->
                     topicRequestModel != null
-                        && ("DELETED".equals(topicRequestModel.getRemarks())
+                        && (ReconStatus.DELETED.name().equals(topicRequestModel.getRemarks())
                             || topicRequestModel.getTeamname() == null
                             || topicRequestModel.getTeamname().equals("")))
             .collect(Collectors.toList());
@@ -167,13 +178,9 @@ public class TopicSyncControllerService {
       }
     }
 
-    List<TopicConfig> topicFilteredList = getTopicsFromKafkaCluster(env, topicNameSearch);
-    List<TopicConfig> topicsList;
-
-    topicsList =
-        topicFilteredList.stream()
-            .sorted(new TopicControllerService.TopicNameSyncComparator())
-            .collect(Collectors.toList());
+    Reconciliation<TopicConfig, Topic> reconciliation =
+        filterOnTopicName(getReconciliation(env, tenantId), topicNameSearch);
+    topicCounter = 0;
 
     List<TopicRequestsResponseModel> deletedTopicsFromClusterList = new ArrayList<>();
     List<Integer> sizeOfTopics = new ArrayList<>();
@@ -181,16 +188,15 @@ public class TopicSyncControllerService {
     if (isReconciliation) {
       syncTopicsList.setResultSet(
           getSyncTopicListRecon(
-              topicsList, deletedTopicsFromClusterList, env, isBulkOption, tenantId));
-      syncTopicsList.setAllTopicsCount(topicsList.size());
+              reconciliation, deletedTopicsFromClusterList, isBulkOption, tenantId));
+      syncTopicsList.setAllTopicsCount(reconciliation.getClusterResults().size());
     } else {
       syncTopicsList.setResultSet(
           getSyncTopicList(
-              topicsList,
+              reconciliation,
               deletedTopicsFromClusterList,
               pageNo,
               currentPage,
-              env,
               isBulkOption,
               sizeOfTopics,
               tenantId));
@@ -201,35 +207,28 @@ public class TopicSyncControllerService {
   }
 
   private List<TopicRequestsResponseModel> getSyncTopicList(
-      List<TopicConfig> topicsList,
+      Reconciliation<TopicConfig, Topic> reconciliation,
       List<TopicRequestsResponseModel> deletedTopicsFromClusterList,
       String pageNo,
       String currentPage,
-      String env,
       boolean isBulkOption,
       List<Integer> sizeOfTopics,
       int tenantId) {
-    // Get Sync topics
-    List<Topic> topicsFromSOT =
-        manageDatabase.getHandleDbRequests().getSyncTopics(env, null, tenantId);
-
-    // tenant filtering
-    topicsFromSOT = commonUtilsService.getFilteredTopicsForTenant(topicsFromSOT);
     int counterInc;
     List<String> teamList = new ArrayList<>();
     teamList = tenantFilterTeams(teamList);
 
     if (!isBulkOption) {
       updateClusterDeletedTopicsList(
-          topicsList, deletedTopicsFromClusterList, topicsFromSOT, teamList, tenantId);
+          reconciliation.getDeleted(), deletedTopicsFromClusterList, teamList, tenantId);
     }
 
     List<TopicRequest> topicsListMap = new ArrayList<>();
 
-    for (int i = 0; i < topicsList.size(); i++) {
+    for (Reconciliation.Result<TopicConfig, Topic> result : reconciliation.getClusterResults()) {
       counterInc = counterIncrement();
       TopicRequest mp = new TopicRequest();
-      if (createTopicRequest(topicsList, topicsFromSOT, teamList, i, counterInc, mp, tenantId)) {
+      if (createTopicRequest(result, teamList, counterInc, mp, tenantId)) {
         topicsListMap.add(mp);
       }
     }
@@ -279,17 +278,10 @@ public class TopicSyncControllerService {
   }
 
   private List<TopicRequestsResponseModel> getSyncTopicListRecon(
-      List<TopicConfig> clusterTopicsList,
+      Reconciliation<TopicConfig, Topic> reconciliation,
       List<TopicRequestsResponseModel> deletedTopicsFromClusterList,
-      String env,
       boolean isBulkOption,
       int tenantId) {
-    // Get Sync topics
-    List<Topic> topicsFromSOT =
-        manageDatabase.getHandleDbRequests().getSyncTopics(env, null, tenantId);
-
-    // tenant filtering
-    topicsFromSOT = commonUtilsService.getFilteredTopicsForTenant(topicsFromSOT);
     List<TopicRequest> topicsListMap = new ArrayList<>();
 
     List<String> teamList = new ArrayList<>();
@@ -298,14 +290,13 @@ public class TopicSyncControllerService {
 
     if (!isBulkOption) {
       updateClusterDeletedTopicsList(
-          clusterTopicsList, deletedTopicsFromClusterList, topicsFromSOT, teamList, tenantId);
+          reconciliation.getDeleted(), deletedTopicsFromClusterList, teamList, tenantId);
     }
 
-    for (int i = 0; i < clusterTopicsList.size(); i++) {
+    for (Reconciliation.Result<TopicConfig, Topic> result : reconciliation.getClusterResults()) {
       counterInc = counterIncrement();
       TopicRequest mp = new TopicRequest();
-      if (createTopicRequest(
-          clusterTopicsList, topicsFromSOT, teamList, i, counterInc, mp, tenantId)) {
+      if (createTopicRequest(result, teamList, counterInc, mp, tenantId)) {
         if (mp.getTeamId().equals(0) || mp.getTeamId() == null) {
           topicsListMap.add(mp);
         }
@@ -331,38 +322,41 @@ public class TopicSyncControllerService {
     return topicRequestModelList;
   }
 
+  /**
+   * Topics on the cluster compared with the topics stored for the env, by topic name. A topic is
+   * CHANGED when its partitions or replication factor differ.
+   */
+  static Reconciliation<TopicConfig, Topic> reconcileTopics(
+      List<TopicConfig> clusterTopics, List<Topic> topicsFromSOT) {
+    return Reconciliation.reconcile(
+        clusterTopics,
+        TopicConfig::getTopicName,
+        topicsFromSOT,
+        Topic::getTopicname,
+        (clusterTopic, sotTopic) ->
+            !Objects.equals(
+                    clusterTopic.getPartitions(), String.valueOf(sotTopic.getNoOfPartitions()))
+                || !Objects.equals(
+                    clusterTopic.getReplicationFactor(), sotTopic.getNoOfReplicas()));
+  }
+
   private boolean createTopicRequest(
-      List<TopicConfig> topicsList,
-      List<Topic> topicsFromSOT,
+      Reconciliation.Result<TopicConfig, Topic> result,
       List<String> teamList,
-      int i,
       int counterInc,
       TopicRequest mp,
       int tenantId) {
-    TopicConfig topicMap;
     mp.setSequence(counterInc + "");
 
-    topicMap = topicsList.get(i);
-    final String tmpTopicName = topicMap.getTopicName();
-
-    mp.setTopicname(tmpTopicName);
+    TopicConfig topicMap = result.getClusterEntity();
+    mp.setTopicname(topicMap.getTopicName());
     mp.setTopicpartitions(Integer.parseInt(topicMap.getPartitions()));
     mp.setReplicationfactor(topicMap.getReplicationFactor());
 
     String teamUpdated = null;
-
-    try {
-      Optional<Topic> teamUpdatedFirst =
-          topicsFromSOT.stream()
-              .filter(a -> Objects.equals(a.getTopicname(), tmpTopicName))
-              .findFirst();
-
-      if (teamUpdatedFirst.isPresent()) {
-        teamUpdated =
-            manageDatabase.getTeamNameFromTeamId(tenantId, teamUpdatedFirst.get().getTeamId());
-      }
-    } catch (Exception e) {
-      log.error("Error from getSyncTopicList ", e);
+    if (result.getStoredEntity() != null) {
+      teamUpdated =
+          manageDatabase.getTeamNameFromTeamId(tenantId, result.getStoredEntity().getTeamId());
     }
 
     if (teamUpdated != null && !teamUpdated.equals("undefined")) {
@@ -375,32 +369,24 @@ public class TopicSyncControllerService {
     } else {
       mp.setPossibleTeams(teamList);
       mp.setTeamId(0);
-      mp.setRemarks("ADDED");
+      mp.setRemarks(ReconStatus.ADDED.name());
     }
 
     return true;
   }
 
+  // stored topics which are not on the cluster, of the teams of the tenant
   private void updateClusterDeletedTopicsList(
-      List<TopicConfig> clusterTopicsList,
+      List<Topic> deletedTopics,
       List<TopicRequestsResponseModel> deletedTopicsFromClusterList,
-      List<Topic> topicsFromSOT,
       List<String> teamList,
       int tenantId) {
     try {
-      List<String> clusterTopicStringList = new ArrayList<>();
-      clusterTopicsList.forEach(
-          hashMapTopicObj -> clusterTopicStringList.add(hashMapTopicObj.getTopicName()));
-
-      Map<String, TopicRequestsResponseModel> sotTopics = new HashMap<>();
-
-      List<String> sotTopicStringList = new ArrayList<>();
-      for (Topic topicObj : topicsFromSOT) {
+      for (Topic topicObj : deletedTopics) {
         List<String> possibleTeams = new ArrayList<>();
         possibleTeams.add(manageDatabase.getTeamNameFromTeamId(tenantId, topicObj.getTeamId()));
         possibleTeams.add(SYNC_102);
 
-        sotTopicStringList.add(topicObj.getTopicname());
         TopicRequestsResponseModel topicRequestModel = new TopicRequestsResponseModel();
         topicRequestModel.setTopicname(topicObj.getTopicname());
         topicRequestModel.setEnvironment(topicObj.getEnvironment());
@@ -411,21 +397,14 @@ public class TopicSyncControllerService {
             manageDatabase.getTeamNameFromTeamId(tenantId, topicObj.getTeamId()));
         topicRequestModel.setPossibleTeams(possibleTeams);
         topicRequestModel.setSequence("" + topicObj.getTopicid());
-        topicRequestModel.setRemarks("DELETED");
+        topicRequestModel.setRemarks(ReconStatus.DELETED.name());
 
         // tenant teams
         if (teamList.contains(
             manageDatabase.getTeamNameFromTeamId(tenantId, topicObj.getTeamId()))) {
-          sotTopics.put(topicObj.getTopicname(), topicRequestModel);
+          deletedTopicsFromClusterList.add(topicRequestModel);
         }
       }
-
-      List<String> deletedTopicsFromClusterListTmp =
-          sotTopicStringList.stream()
-              .filter(topicName -> !clusterTopicStringList.contains(topicName))
-              .toList();
-      deletedTopicsFromClusterListTmp.forEach(
-          topicName -> deletedTopicsFromClusterList.add(sotTopics.get(topicName)));
     } catch (Exception e) {
       log.error("Error from updateClusterDeletedTopicsList ", e);
     }
@@ -473,27 +452,25 @@ public class TopicSyncControllerService {
     resultStatus.add(ApiResultStatus.SUCCESS.value);
     resultMap.put("result", resultStatus);
 
+    List<Topic> topics;
     if ("SELECTED_TOPICS".equals(syncBackTopics.getTypeOfSync())) {
+      topics = new ArrayList<>();
       for (String topicId : syncBackTopics.getTopicIds()) {
-        Optional<Topic> topicFoundOptional =
-            manageDatabase
-                .getHandleDbRequests()
-                .getTopicFromId(Integer.parseInt(topicId), tenantId);
-        Topic topicFound;
-        if (topicFoundOptional.isPresent()) {
-          topicFound = topicFoundOptional.get();
-          approveSyncBackTopics(syncBackTopics, resultMap, logArray, topicFound, tenantId);
-        }
+        manageDatabase
+            .getHandleDbRequests()
+            .getTopicFromId(Integer.parseInt(topicId), tenantId)
+            .ifPresent(topics::add);
       }
     } else {
-      List<Topic> topics =
+      topics =
           manageDatabase
               .getHandleDbRequests()
               .getTopicsFromEnv(syncBackTopics.getSourceEnv(), tenantId);
-      for (Topic topicFound : topics) {
-        approveSyncBackTopics(syncBackTopics, resultMap, logArray, topicFound, tenantId);
-      }
     }
+    approveSyncBackTopics(syncBackTopics, resultMap, logArray, topics, tenantId);
+    // topics were created on the cluster of the target env
+    clusterTopicsCache.invalidate(
+        getClusterTopicsCacheKey(tenantId, syncBackTopics.getTargetEnv()));
 
     String result = resultMap.get("result").get(0);
     return ApiResponse.builder()
@@ -503,48 +480,57 @@ public class TopicSyncControllerService {
         .build();
   }
 
+  // topics are created on the cluster of the target env in batches
   private void approveSyncBackTopics(
       SyncBackTopics syncBackTopics,
       Map<String, List<String>> resultMap,
       List<String> logUpdateSyncBackTopics,
-      Topic topicFound,
+      List<Topic> topics,
       int tenantId) {
+    List<TopicRequest> topicRequests = new ArrayList<>();
+    for (Topic topic : topics) {
+      TopicRequest topicRequest = new TopicRequest();
+      topicRequest.setTopicname(topic.getTopicname());
+      topicRequest.setTopicpartitions(topic.getNoOfPartitions());
+      topicRequest.setReplicationfactor(topic.getNoOfReplicas());
+      topicRequests.add(topicRequest);
+    }
+
+    Map<String, String> results;
     try {
-      ResponseEntity<ApiResponse> response =
+      results =
           clusterApiService.approveTopicRequests(
-              topicFound.getTopicname(),
-              RequestOperationType.CREATE.value,
-              topicFound.getNoOfPartitions(),
-              topicFound.getNoOfReplicas(),
               syncBackTopics.getTargetEnv(),
-              null,
-              tenantId,
-              false);
-
-      if (!Objects.equals(
-          Objects.requireNonNull(response.getBody()).getMessage(), ApiResultStatus.SUCCESS.value)) {
-        log.error("Error in creating topic {} {}", topicFound, response.getBody());
-        if (Objects.requireNonNull(response.getBody())
-            .getMessage()
-            .contains("TopicExistsException")) {
+              RequestOperationType.CREATE.value,
+              topicRequests,
+              Collections.emptyMap(),
+              tenantId);
+    } catch (KlawException e) {
+      log.error("Error in creating topics {}", topics, e);
+      List<String> resultStatus = new ArrayList<>();
+      resultStatus.add("Error :" + e.getMessage());
+      resultMap.put("result", resultStatus);
+      return;
+    }
+
+    for (Topic topicFound : topics) {
+      String result = results.get(topicFound.getTopicname());
+      if (!ApiResultStatus.SUCCESS.value.equals(result)) {
+        log.error("Error in creating topic {} {}", topicFound, result);
+        if (result != null && result.contains("TopicExistsException")) {
           logUpdateSyncBackTopics.add(
               TOPICS_SYNC_ERR_101
                   + topicFound.getTopicname()
                   + " already exists. TopicExistsException");
         } else {
           logUpdateSyncBackTopics.add(
-              TOPICS_SYNC_ERR_101 + topicFound.getTopicname() + " " + response.getBody());
+              TOPICS_SYNC_ERR_101 + topicFound.getTopicname() + " " + result);
         }
       } else {
         logUpdateSyncBackTopics.add("Topic created " + topicFound.getTopicname());
         if (!Objects.equals(syncBackTopics.getSourceEnv(), syncBackTopics.getTargetEnv()))
           createAndApproveTopicRequest(syncBackTopics, topicFound, tenantId);
       }
-    } catch (KlawException e) {
-      log.error("Error in creating topic {}", topicFound, e);
-      List<String> resultStatus = new ArrayList<>();
-      resultStatus.add("Error :" + e.getMessage());
-      resultMap.put("result", resultStatus);
     }
   }
 
@@ -612,7 +598,7 @@ public class TopicSyncControllerService {
     if ((AclType.PRODUCER.value.equals(topicType) || AclType.CONSUMER.value.equals(topicType))
         && teamId != 0) {
       producerConsumerTopics =
-          handleDbRequests.getAllTopicsByTopictypeAndTeamname(topicType, teamId, tenantId);
+          commonUtilsService.getTopicsFromTeamAcls(topicType, teamId, tenantId);
 
       // tenant filtering, not really necessary though, as based on team is searched.
       producerConsumerTopics =
@@ -632,32 +618,8 @@ public class TopicSyncControllerService {
     String orderOfEnvs = commonUtilsService.getEnvProperty(tenantId, "ORDER_OF_ENVS");
 
     topicsFromSOT = commonUtilsService.groupTopicsByEnv(topicsFromSOT);
-    List<Topic> filterProducerConsumerList = new ArrayList<>();
-    String tmpTopicFull, tmpTopicSub;
-
-    if (producerConsumerTopics.size() > 0) {
-      for (Topic topicInfo : topicsFromSOT) {
-        for (Topic producerConsumerTopic : producerConsumerTopics) {
-          tmpTopicFull = producerConsumerTopic.getTopicname();
-
-          if (tmpTopicFull.endsWith("--PREFIXED--")) { // has prefixed acl
-            tmpTopicSub = tmpTopicFull.replaceAll("--PREFIXED--", "");
-            if (topicInfo.getTopicname().startsWith(tmpTopicSub)
-                && topicInfo
-                    .getEnvironmentsList()
-                    .contains(producerConsumerTopic.getEnvironment())) {
-              topicInfo.setEnvironmentsList(producerConsumerTopic.getEnvironmentsList());
-              filterProducerConsumerList.add(topicInfo);
-            }
-          } else if (Objects.equals(producerConsumerTopic.getTopicname(), topicInfo.getTopicname())
-              && topicInfo.getEnvironmentsList().contains(producerConsumerTopic.getEnvironment())) {
-            topicInfo.setEnvironmentsList(producerConsumerTopic.getEnvironmentsList());
-            filterProducerConsumerList.add(topicInfo);
-          }
-        }
-      }
-      topicsFromSOT = filterProducerConsumerList;
-    }
+    topicsFromSOT =
+        UtilMethods.filterTopicsMatchingAclTopics(producerConsumerTopics, topicsFromSOT);
 
     List<Topic> topicFilteredList = topicsFromSOT;
     // Filter topics on topic name for search
@@ -851,33 +813,140 @@ public class TopicSyncControllerService {
       topicNameSearch = topicNameSearch.trim();
     }
     int tenantId = commonUtilsService.getTenantId(getUserName());
+
+    topicCounter = 0;
+
+    if (topicNameSearch == null || topicNameSearch.length() == 0) {
+      return getClusterTopicsSnapshot(env, tenantId).clusterTopics;
+    }
+    final String topicSearchFilter = topicNameSearch;
+    ClusterTopicsSnapshot snapshot =
+        clusterTopicsCache.getIfPresent(getClusterTopicsCacheKey(tenantId, env));
+    if (snapshot == null) {
+      // only the searched topics are fetched, the cluster api filters them on their names
+      return getClusterTopics(env, ".*" + Pattern.quote(topicSearchFilter) + ".*", tenantId);
+    }
+    // Filter topics on topic name for search
+    return snapshot.clusterTopics.stream()
+        .filter(topic -> topic.getTopicName().contains(topicSearchFilter))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Topics of the cluster of the env, sorted by name. They are fetched from the cluster once per
+   * cache ttl, so that the pages, searches and bulk selections of the sync views reuse them.
+   */
+  private ClusterTopicsSnapshot getClusterTopicsSnapshot(String env, int tenantId)
+      throws Exception {
+    String cacheKey = getClusterTopicsCacheKey(tenantId, env);
+    ClusterTopicsSnapshot snapshot = clusterTopicsCache.getIfPresent(cacheKey);
+    if (snapshot != null) {
+      return snapshot;
+    }
+
+    snapshot = new ClusterTopicsSnapshot(getClusterTopics(env, null, tenantId));
+    clusterTopicsCache.put(cacheKey, snapshot);
+    return snapshot;
+  }
+
+  // topics of the cluster of the env whose name matches the pattern, all of them without one
+  private List<TopicConfig> getClusterTopics(String env, String topicNamePattern, int tenantId)
+      throws Exception {
     Env envSelected = getEnvDetails(env);
     KwClusters kwClusters =
         manageDatabase
             .getClusters(KafkaClustersType.KAFKA, tenantId)
             .get(envSelected.getClusterId());
 
-    List<TopicConfig> topicsList =
-        clusterApiService.getAllTopics(
+    return clusterApiService
+        .getAllTopics(
             kwClusters.getBootstrapServers(),
             kwClusters.getProtocol(),
             kwClusters.getClusterName() + kwClusters.getClusterId(),
             kwClusters.getKafkaFlavor(),
-            tenantId);
+            topicNamePattern,
+            tenantId)
+        .stream()
+        .sorted(new TopicControllerService.TopicNameSyncComparator())
+        .collect(Collectors.toList());
+  }
 
-    topicCounter = 0;
+  // cluster topics of the env reconciled with the stored topics the user may see. The
+  // reconciliation with all stored topics of the env is computed once per snapshot and shared by
+  // the users of the tenant, so the filter on the envs of the team is applied on every request.
+  private Reconciliation<TopicConfig, Topic> getReconciliation(String env, int tenantId)
+      throws Exception {
+    ClusterTopicsSnapshot snapshot = getClusterTopicsSnapshot(env, tenantId);
+    StoredTopicsReconciliation storedReconciliation = snapshot.storedReconciliation;
+    if (storedReconciliation == null) {
+      List<Topic> topicsFromSOT =
+          manageDatabase.getHandleDbRequests().getSyncTopics(env, null, tenantId);
+      storedReconciliation =
+          new StoredTopicsReconciliation(
+              topicsFromSOT, reconcileTopics(snapshot.clusterTopics, topicsFromSOT));
+      snapshot.storedReconciliation = storedReconciliation;
+    }
 
-    List<TopicConfig> topicFilteredList = topicsList;
-    // Filter topics on topic name for search
+    // tenant filtering
+    List<Topic> topicsFromSOT =
+        commonUtilsService.getFilteredTopicsForTenant(storedReconciliation.topicsFromSOT);
+    if (topicsFromSOT.size() == storedReconciliation.topicsFromSOT.size()) {
+      return storedReconciliation.reconciliation;
+    }
+    return reconcileTopics(snapshot.clusterTopics, topicsFromSOT);
+  }
 
-    if (topicNameSearch != null && topicNameSearch.length() > 0) {
-      final String topicSearchFilter = topicNameSearch;
-      topicFilteredList =
-          topicsList.stream()
-              .filter(topic -> topic.getTopicName().contains(topicSearchFilter))
-              .collect(Collectors.toList());
+  private static Reconciliation<TopicConfig, Topic> filterOnTopicName(
+      Reconciliation<TopicConfig, Topic> reconciliation, String topicNameSearch) {
+    if (topicNameSearch == null || topicNameSearch.trim().isEmpty()) {
+      return reconciliation;
+    }
+    final String topicSearchFilter = topicNameSearch.trim();
+    return reconciliation.filter(
+        topic -> topic.getTopicName().contains(topicSearchFilter),
+        topic -> topic.getTopicname().contains(topicSearchFilter));
+  }
+
+  /** Topics of the env are fetched again from the cluster on the next sync page. */
+  public void refreshClusterTopics(String env) {
+    int tenantId = commonUtilsService.getTenantId(getUserName());
+    clusterTopicsCache.invalidate(getClusterTopicsCacheKey(tenantId, env));
+  }
+
+  // stored topics of the env were updated, the cluster topics are still valid
+  private void resetReconciliation(String env, int tenantId) {
+    ClusterTopicsSnapshot snapshot =
+        clusterTopicsCache.getIfPresent(getClusterTopicsCacheKey(tenantId, env));
+    if (snapshot != null) {
+      snapshot.storedReconciliation = null;
+    }
+  }
+
+  private static String getClusterTopicsCacheKey(int tenantId, String env) {
+    return tenantId + "-" + env;
+  }
+
+  private static final class ClusterTopicsSnapshot {
+    private final List<TopicConfig> clusterTopics;
+
+    private volatile StoredTopicsReconciliation storedReconciliation;
+
+    private ClusterTopicsSnapshot(List<TopicConfig> clusterTopics) {
+      this.clusterTopics = Collections.unmodifiableList(clusterTopics);
+    }
+  }
+
+  // all stored topics of the env, not filtered for a team, and their reconciliation
+  private static final class StoredTopicsReconciliation {
+    private final List<Topic> topicsFromSOT;
+
+    private final Reconciliation<TopicConfig, Topic> reconciliation;
+
+    private StoredTopicsReconciliation(
+        List<Topic> topicsFromSOT, Reconciliation<TopicConfig, Topic> reconciliation) {
+      this.topicsFromSOT = Collections.unmodifiableList(topicsFromSOT);
+      this.reconciliation = reconciliation;
     }
-    return topicFilteredList;
   }
 
   private void invokeUpdateSync(
@@ -935,7 +1004,6 @@ public class TopicSyncControllerService {
 
     StringBuilder erroredTopicsExist = new StringBuilder();
     boolean topicsDontExistInMainCluster = false;
-    int topicId = manageDatabase.getHandleDbRequests().getNextTopicRequestId("TOPIC_ID", tenantId);
 
     // remove duplicates
     updatedSyncTopics =
@@ -986,8 +1054,8 @@ public class TopicSyncControllerService {
         if (existingTopics == null) {
           t = new Topic();
 
-          topicId = topicId + 1;
-          t.setTopicid(topicId);
+          t.setTopicid(
+              manageDatabase.getHandleDbRequests().getNextTopicRequestId("TOPIC_ID", tenantId));
           t.setTopicname(topicUpdate.getTopicName());
           t.setNoOfPartitions(topicUpdate.getPartitions());
           t.setNoOfReplicas(topicUpdate.getReplicationFactor());
@@ -1037,8 +1105,8 @@ public class TopicSyncControllerService {
           }
           if (!envFound && !topicAdded) {
             t = new Topic();
-            topicId = topicId + 1;
-            t.setTopicid(topicId);
+            t.setTopicid(
+                manageDatabase.getHandleDbRequests().getNextTopicRequestId("TOPIC_ID", tenantId));
             t.setTopicname(topicUpdate.getTopicName());
             t.setNoOfPartitions(topicUpdate.getPartitions());
             t.setNoOfReplicas(topicUpdate.getReplicationFactor());
@@ -1056,7 +1124,6 @@ public class TopicSyncControllerService {
     }
 
     if (updatedSyncTopics.size() == 0 && updatedSyncTopicsDelete.size() > 0) {
-      manageDatabase.loadTopicsForOneTenant(tenantId);
       return ApiResponse.builder().success(true).message(ApiResultStatus.SUCCESS.value).build();
     }
 
@@ -1076,9 +1143,20 @@ public class TopicSyncControllerService {
 
     if (listTopics.size() > 0) {
       try {
+        long startNanos = System.nanoTime();
         String statusSync = manageDatabase.getHandleDbRequests().addToSynctopics(listTopics);
-        manageDatabase.loadTopicsForOneTenant(tenantId);
-        return ApiResponse.builder().success(true).message(statusSync).build();
+        SyncWriteSummary syncWriteSummary = SyncWriteSummary.of(listTopics.size(), startNanos);
+        log.info("Synced topics of tenant {} : {}", tenantId, syncWriteSummary);
+        manageDatabase.updateTopicsForOneTenant(tenantId, listTopics, Collections.emptyList());
+        listTopics.stream()
+            .map(Topic::getEnvironment)
+            .distinct()
+            .forEach(env -> resetReconciliation(env, tenantId));
+        return ApiResponse.builder()
+            .success(true)
+            .message(statusSync)
+            .data(syncWriteSummary)
+            .build();
       } catch (Exception e) {
         log.error(e.getMessage());
         throw new KlawException(e.getMessage());
@@ -1093,9 +1171,11 @@ public class TopicSyncControllerService {
       List<Integer> updatedSyncTopicsDelete,
       int tenantId) {
     List<SyncTopicUpdates> updatedSyncTopicsUpdated = new ArrayList<>();
+    Set<String> envsOfDeletes = new HashSet<>();
     for (SyncTopicUpdates updatedSyncTopic : updatedSyncTopics) {
       if (SYNC_102.equals(updatedSyncTopic.getTeamSelected())) {
         updatedSyncTopicsDelete.add(Integer.parseInt(updatedSyncTopic.getSequence()));
+        envsOfDeletes.add(updatedSyncTopic.getEnvSelected());
       } else {
         updatedSyncTopicsUpdated.add(updatedSyncTopic);
       }
@@ -1105,6 +1185,11 @@ public class TopicSyncControllerService {
     for (Integer topicId : updatedSyncTopicsDelete) {
       manageDatabase.getHandleDbRequests().deleteTopic(topicId, tenantId);
     }
+    if (!updatedSyncTopicsDelete.isEmpty()) {
+      manageDatabase.updateTopicsForOneTenant(
+          tenantId, Collections.emptyList(), updatedSyncTopicsDelete);
+      envsOfDeletes.forEach(env -> resetReconciliation(env, tenantId));
+    }
 
     return updatedSyncTopicsUpdated;
   }
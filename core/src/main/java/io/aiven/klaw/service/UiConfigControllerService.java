@@ -1,19 +1,28 @@
 package io.aiven.klaw.service;
 
+import static io.aiven.klaw.error.KlawErrorMessages.UI_CONFIG_ERR_101;
+import static io.aiven.klaw.error.KlawErrorMessages.UI_CONFIG_ERR_102;
 import static io.aiven.klaw.model.enums.AuthenticationType.DATABASE;
 
 import io.aiven.klaw.config.ManageDatabase;
 import io.aiven.klaw.dao.ActivityLog;
 import io.aiven.klaw.dao.Env;
+import io.aiven.klaw.error.KlawValidationException;
+import io.aiven.klaw.helpers.HandleDbRequests;
 import io.aiven.klaw.model.ApiResponse;
 import io.aiven.klaw.model.enums.ApiResultStatus;
 import io.aiven.klaw.model.enums.PermissionType;
+import io.aiven.klaw.model.response.ActivityLogPage;
 import io.aiven.klaw.model.response.DbAuthInfo;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.util.*;
-import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
@@ -21,6 +30,13 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class UiConfigControllerService {
 
+  private static final int ACTIVITY_LOG_RECS_PER_PAGE = 20;
+
+  private static final int MAX_ACTIVITY_LOG_PAGE_SIZE = 500;
+
+  // lower bound of the activity log queries without a from date
+  private static final Timestamp MIN_ACTIVITY_TIME = Timestamp.valueOf("1970-01-02 00:00:00");
+
   @Value("${klaw.login.authentication.type}")
   private String authenticationType;
 
@@ -47,63 +63,140 @@ public class UiConfigControllerService {
   public List<ActivityLog> showActivityLog(String env, String pageNo, String currentPage) {
     log.debug("showActivityLog {} {}", env, pageNo);
     String userName = getUserName();
-    List<ActivityLog> origActivityList;
     int tenantId = commonUtilsService.getTenantId(getUserName());
-
-    if (commonUtilsService.isNotAuthorizedUser(getPrincipal(), PermissionType.ALL_TEAMS_REPORTS)) {
-      origActivityList =
-          manageDatabase
-              .getHandleDbRequests()
-              .getActivityLog(userName, env, false, tenantId); // only your team reqs
-    } else {
-      origActivityList =
-          manageDatabase
-              .getHandleDbRequests()
-              .getActivityLog(userName, env, true, tenantId); // all teams reqs
+    boolean allReqs = isAllTeamsActivityLogAllowed();
+    HandleDbRequests handleDbRequests = manageDatabase.getHandleDbRequests();
+
+    // the page and the number of pages are counted in the same time range
+    Timestamp toTime = new Timestamp(System.currentTimeMillis());
+    long totalRecs =
+        handleDbRequests.countActivityLog(
+            userName, env, allReqs, MIN_ACTIVITY_TIME, toTime, tenantId);
+    List<ActivityLog> newList = new ArrayList<>();
+    if (totalRecs == 0) {
+      return newList;
     }
 
-    return getActivityLogsPaginated(pageNo, origActivityList, currentPage, tenantId);
+    int totalPages =
+        (int) ((totalRecs + ACTIVITY_LOG_RECS_PER_PAGE - 1) / ACTIVITY_LOG_RECS_PER_PAGE);
+    List<String> numList = new ArrayList<>();
+    pageNo = commonUtilsService.deriveCurrentPage(pageNo, currentPage, totalPages);
+    int requestPageNo = Integer.parseInt(pageNo);
+    commonUtilsService.getAllPagesList(pageNo, currentPage, totalPages, numList);
+
+    List<ActivityLog> activityLogs =
+        handleDbRequests.getActivityLog(
+            userName,
+            env,
+            allReqs,
+            MIN_ACTIVITY_TIME,
+            toTime,
+            Integer.MIN_VALUE,
+            PageRequest.of(requestPageNo - 1, ACTIVITY_LOG_RECS_PER_PAGE),
+            tenantId);
+    for (ActivityLog activityLog : activityLogs) {
+      setActivityLogDetails(activityLog, tenantId);
+      activityLog.setAllPageNos(numList);
+      activityLog.setTotalNoPages("" + totalPages);
+      activityLog.setCurrentPage(pageNo);
+      newList.add(activityLog);
+    }
+    return newList;
   }
 
-  private List<ActivityLog> getActivityLogsPaginated(
-      String pageNo, List<ActivityLog> origActivityList, String currentPage, int tenantId) {
-    List<ActivityLog> newList = new ArrayList<>();
+  /**
+   * Returns the activity log from the from date to the to date (both included, and both optional),
+   * newest first, in pages read with keyset pagination. The token of the next page is returned with
+   * each page but the last one. Activity logs moved to the archive by retention are read when
+   * archived is set.
+   */
+  public ActivityLogPage getActivityLogPage(
+      String env,
+      LocalDate fromDate,
+      LocalDate toDate,
+      boolean archived,
+      String pageToken,
+      int pageSize)
+      throws KlawValidationException {
+    log.debug("getActivityLogPage {} {} {} {}", env, fromDate, toDate, pageToken);
+    String userName = getUserName();
+    int tenantId = commonUtilsService.getTenantId(userName);
+
+    Timestamp fromTime =
+        fromDate == null ? MIN_ACTIVITY_TIME : Timestamp.valueOf(fromDate.atStartOfDay());
+    Timestamp toTime =
+        toDate == null
+            ? new Timestamp(System.currentTimeMillis())
+            : Timestamp.valueOf(toDate.plusDays(1).atStartOfDay());
+    if (!fromTime.before(toTime)) {
+      throw new KlawValidationException(UI_CONFIG_ERR_102);
+    }
 
-    if (origActivityList != null && origActivityList.size() > 0) {
-      int totalRecs = origActivityList.size();
-      int recsPerPage = 20;
-      int totalPages = totalRecs / recsPerPage + (totalRecs % recsPerPage > 0 ? 1 : 0);
-      List<String> numList = new ArrayList<>();
-
-      pageNo = commonUtilsService.deriveCurrentPage(pageNo, currentPage, totalPages);
-
-      int requestPageNo = Integer.parseInt(pageNo);
-      int startVar = (requestPageNo - 1) * recsPerPage;
-      int lastVar = (requestPageNo) * (recsPerPage);
-
-      commonUtilsService.getAllPagesList(pageNo, currentPage, totalPages, numList);
-
-      for (int i = 0; i < totalRecs; i++) {
-        ActivityLog activityLog = origActivityList.get(i);
-        if (i >= startVar && i < lastVar) {
-          activityLog.setEnvName(
-              getEnvName(activityLog.getEnv(), activityLog.getActivityName(), tenantId));
-          activityLog.setDetails(activityLog.getDetails().replaceAll("null", ""));
-          activityLog.setAllPageNos(numList);
-          activityLog.setTotalNoPages("" + totalPages);
-          activityLog.setCurrentPage(pageNo);
-          activityLog.setTeam(
-              manageDatabase.getTeamNameFromTeamId(tenantId, activityLog.getTeamId()));
-
-          newList.add(activityLog);
-        }
+    Timestamp beforeTime = toTime;
+    int beforeReqNo = Integer.MIN_VALUE;
+    if (pageToken != null && !pageToken.isBlank()) {
+      ActivityLog lastOfPreviousPage = decodeActivityLogPageToken(pageToken);
+      if (lastOfPreviousPage.getActivityTime().before(toTime)) {
+        beforeTime = lastOfPreviousPage.getActivityTime();
+        beforeReqNo = lastOfPreviousPage.getReq_no();
       }
     }
-    newList =
-        newList.stream()
-            .sorted(Collections.reverseOrder(Comparator.comparing(ActivityLog::getActivityTime)))
-            .collect(Collectors.toList());
-    return newList;
+
+    int limit = Math.max(1, Math.min(pageSize, MAX_ACTIVITY_LOG_PAGE_SIZE));
+    // one more row than the page is read, to know whether there is a next page
+    HandleDbRequests handleDbRequests = manageDatabase.getHandleDbRequests();
+    boolean allReqs = isAllTeamsActivityLogAllowed();
+    Pageable pageable = PageRequest.of(0, limit + 1);
+    List<ActivityLog> activityLogs =
+        archived
+            ? handleDbRequests.getArchivedActivityLog(
+                userName, env, allReqs, fromTime, beforeTime, beforeReqNo, pageable, tenantId)
+            : handleDbRequests.getActivityLog(
+                userName, env, allReqs, fromTime, beforeTime, beforeReqNo, pageable, tenantId);
+
+    ActivityLogPage activityLogPage = new ActivityLogPage();
+    if (activityLogs.size() > limit) {
+      activityLogs = new ArrayList<>(activityLogs.subList(0, limit));
+      activityLogPage.setNextPageToken(
+          encodeActivityLogPageToken(activityLogs.get(activityLogs.size() - 1)));
+    }
+    activityLogs.forEach(activityLog -> setActivityLogDetails(activityLog, tenantId));
+    activityLogPage.setEntries(activityLogs);
+    return activityLogPage;
+  }
+
+  private boolean isAllTeamsActivityLogAllowed() {
+    return !commonUtilsService.isNotAuthorizedUser(
+        getPrincipal(), PermissionType.ALL_TEAMS_REPORTS);
+  }
+
+  private void setActivityLogDetails(ActivityLog activityLog, int tenantId) {
+    activityLog.setEnvName(
+        getEnvName(activityLog.getEnv(), activityLog.getActivityName(), tenantId));
+    activityLog.setDetails(activityLog.getDetails().replaceAll("null", ""));
+    activityLog.setTeam(manageDatabase.getTeamNameFromTeamId(tenantId, activityLog.getTeamId()));
+  }
+
+  // the token is the key (activity time, request number) of the last row of a page
+  private static String encodeActivityLogPageToken(ActivityLog activityLog) {
+    String key = activityLog.getActivityTime().getTime() + ":" + activityLog.getReq_no();
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(key.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static ActivityLog decodeActivityLogPageToken(String pageToken)
+      throws KlawValidationException {
+    try {
+      String key = new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+      String[] keyParts = key.split(":");
+      ActivityLog activityLog = new ActivityLog();
+      activityLog.setActivityTime(new Timestamp(Long.parseLong(keyParts[0])));
+      activityLog.setReq_no(Integer.parseInt(keyParts[1]));
+      return activityLog;
+    } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+      throw new KlawValidationException(UI_CONFIG_ERR_101);
+    }
   }
 
   public String getEnvName(String envId, String activityName, int tenantId) {
@@ -207,18 +207,18 @@ public class UsersTeamsControllerService {
     try {
       PasswordEncoder encoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
       if (DATABASE.value.equals(authenticationType)) {
-        if (inMemoryUserDetailsManager.userExists(newUser.getUsername())) {
-          inMemoryUserDetailsManager.updateUser(
+        // not created when db users are authenticated on login, from the database
+        if (inMemoryUserDetailsManager != null) {
+          UserDetails updatedUserDetails =
               User.withUsername(newUser.getUsername())
                   .password(encoder.encode(newUser.getUserPassword()))
                   .roles(newUser.getRole())
-                  .build());
-        } else {
-          inMemoryUserDetailsManager.createUser(
-              User.withUsername(newUser.getUsername())
-                  .password(encoder.encode(newUser.getUserPassword()))
-                  .roles(newUser.getRole())
-                  .build());
+                  .build();
+          if (inMemoryUserDetailsManager.userExists(newUser.getUsername())) {
+            inMemoryUserDetailsManager.updateUser(updatedUserDetails);
+          } else {
+            inMemoryUserDetailsManager.createUser(updatedUserDetails);
+          }
         }
         newUser.setUserPassword(encodePwd(newUser.getUserPassword()));
       }
@@ -297,9 +297,11 @@ public class UsersTeamsControllerService {
       String newGeneratedPwd = generateRandomWord(15);
       PasswordEncoder encoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
 
-      UserDetails updatePwdUserDetails = inMemoryUserDetailsManager.loadUserByUsername(username);
-      inMemoryUserDetailsManager.updatePassword(
-          updatePwdUserDetails, encoder.encode(newGeneratedPwd));
+      if (inMemoryUserDetailsManager != null) {
+        UserDetails updatePwdUserDetails = inMemoryUserDetailsManager.loadUserByUsername(username);
+        inMemoryUserDetailsManager.updatePassword(
+            updatePwdUserDetails, encoder.encode(newGeneratedPwd));
+      }
       String pwdUpdated = dbHandle.updatePassword(username, encodePwd(newGeneratedPwd));
       if (ApiResultStatus.SUCCESS.value.equals(pwdUpdated)) {
         resetPasswordInfo.setPasswordSent("true");
@@ -486,7 +488,9 @@ public class UsersTeamsControllerService {
     }
 
     try {
-      inMemoryUserDetailsManager.deleteUser(userIdToDelete);
+      if (inMemoryUserDetailsManager != null) {
+        inMemoryUserDetailsManager.deleteUser(userIdToDelete);
+      }
       String result = manageDatabase.getHandleDbRequests().deleteUserRequest(userIdToDelete);
       return ApiResponse.builder()
           .success(result.equals(ApiResultStatus.SUCCESS.value))
@@ -547,11 +551,13 @@ public class UsersTeamsControllerService {
       PasswordEncoder encoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
 
       if (DATABASE.value.equals(authenticationType)) {
-        inMemoryUserDetailsManager.createUser(
-            User.withUsername(newUser.getUsername())
-                .password(encoder.encode(newUser.getUserPassword()))
-                .roles(newUser.getRole())
-                .build());
+        if (inMemoryUserDetailsManager != null) {
+          inMemoryUserDetailsManager.createUser(
+              User.withUsername(newUser.getUsername())
+                  .password(encoder.encode(newUser.getUserPassword()))
+                  .roles(newUser.getRole())
+                  .build());
+        }
         newUser.setUserPassword(encodePwd(newUser.getUserPassword()));
       }
 
@@ -726,8 +732,11 @@ public class UsersTeamsControllerService {
     try {
       PasswordEncoder encoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
 
-      UserDetails updatePwdUserDetails = inMemoryUserDetailsManager.loadUserByUsername(userDetails);
-      inMemoryUserDetailsManager.updatePassword(updatePwdUserDetails, encoder.encode(pwdChange));
+      if (inMemoryUserDetailsManager != null) {
+        UserDetails updatePwdUserDetails =
+            inMemoryUserDetailsManager.loadUserByUsername(userDetails);
+        inMemoryUserDetailsManager.updatePassword(updatePwdUserDetails, encoder.encode(pwdChange));
+      }
 
       String result =
           manageDatabase.getHandleDbRequests().updatePassword(userDetails, encodePwd(pwdChange));
@@ -29,8 +29,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -652,7 +650,8 @@ public class UtilControllerService {
     return ssoProviders;
   }
 
-  public void resetCache(String tenantName, String entityType, String operationType) {
+  public void resetCache(
+      String tenantName, String entityType, String operationType, String entityValue) {
     int tenantId = 0;
     try {
       tenantId =
@@ -671,17 +670,11 @@ public class UtilControllerService {
             .tenantId(tenantId)
             .entityType(entityType)
             .operationType(operationType)
+            .entityValue(entityValue)
             .createdTime(new Timestamp(System.currentTimeMillis()))
             .build();
-    try {
-      CompletableFuture.runAsync(
-              () -> {
-                commonUtilsService.updateMetadata(kwMetadataUpdates);
-              })
-          .get();
-    } catch (InterruptedException | ExecutionException e) {
-      log.error("Error from resetCache ", e);
-    }
+    // reloaded in the background, the calling instance does not wait for it
+    commonUtilsService.updateMetadata(kwMetadataUpdates);
   }
 
   public Map<String, String> getRegistration() {
@@ -0,0 +1,113 @@
+package io.aiven.klaw.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.UserInfo;
+import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
+import org.jasypt.util.text.BasicTextEncryptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(SpringExtension.class)
+public class KwDbAuthenticationProviderTest {
+
+  private static final String SECRET_KEY = "kw2021secretkey";
+
+  @Mock private ManageDatabase manageDatabase;
+
+  @Mock private HandleDbRequestsJdbc handleDbRequests;
+
+  private KwDbAuthenticationProvider kwDbAuthenticationProvider;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    kwDbAuthenticationProvider = new KwDbAuthenticationProvider();
+    ReflectionTestUtils.setField(kwDbAuthenticationProvider, "manageDatabase", manageDatabase);
+    ReflectionTestUtils.setField(kwDbAuthenticationProvider, "encryptorSecretKey", SECRET_KEY);
+    ReflectionTestUtils.setField(kwDbAuthenticationProvider, "credentialsCacheSize", 1);
+    kwDbAuthenticationProvider.afterPropertiesSet();
+    when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequests);
+  }
+
+  @Test
+  public void authenticatesWithStoredPassword() {
+    when(handleDbRequests.getUsersInfo("kwusera")).thenReturn(getUserInfo("kwusera", "secret1"));
+
+    Authentication authentication = authenticate("kwusera", "secret1");
+
+    assertThat(authentication.isAuthenticated()).isTrue();
+    assertThat(authentication.getAuthorities())
+        .extracting(Object::toString)
+        .containsExactly("USER");
+    assertThat(kwDbAuthenticationProvider.getVerifiedCredentialsCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void rejectsWrongPasswordAfterVerifiedLogin() {
+    when(handleDbRequests.getUsersInfo("kwusera")).thenReturn(getUserInfo("kwusera", "secret1"));
+    authenticate("kwusera", "secret1");
+
+    assertThatThrownBy(() -> authenticate("kwusera", "secret2"))
+        .isInstanceOf(BadCredentialsException.class);
+  }
+
+  @Test
+  public void passwordChangeInvalidatesVerifiedCredential() {
+    when(handleDbRequests.getUsersInfo("kwusera")).thenReturn(getUserInfo("kwusera", "secret1"));
+    authenticate("kwusera", "secret1");
+
+    when(handleDbRequests.getUsersInfo("kwusera")).thenReturn(getUserInfo("kwusera", "secret2"));
+    assertThatThrownBy(() -> authenticate("kwusera", "secret1"))
+        .isInstanceOf(BadCredentialsException.class);
+    assertThat(authenticate("kwusera", "secret2").isAuthenticated()).isTrue();
+  }
+
+  @Test
+  public void rejectsUnknownUsersAndUsersWithoutPassword() {
+    UserInfo userWithoutPwd = getUserInfo("kwuserb", "secret1");
+    userWithoutPwd.setPwd("");
+    when(handleDbRequests.getUsersInfo("kwuserb")).thenReturn(userWithoutPwd);
+
+    assertThatThrownBy(() -> authenticate("unknown", "secret1"))
+        .isInstanceOf(BadCredentialsException.class);
+    assertThatThrownBy(() -> authenticate("kwuserb", ""))
+        .isInstanceOf(BadCredentialsException.class);
+  }
+
+  @Test
+  public void verifiedCredentialsCacheIsBounded() {
+    when(handleDbRequests.getUsersInfo("kwusera")).thenReturn(getUserInfo("kwusera", "secret1"));
+    when(handleDbRequests.getUsersInfo("kwuserb")).thenReturn(getUserInfo("kwuserb", "secret2"));
+
+    authenticate("kwusera", "secret1");
+    authenticate("kwuserb", "secret2");
+
+    assertThat(kwDbAuthenticationProvider.getVerifiedCredentialsCount()).isEqualTo(1);
+  }
+
+  private Authentication authenticate(String username, String pwd) {
+    return kwDbAuthenticationProvider.authenticate(
+        new UsernamePasswordAuthenticationToken(username, pwd));
+  }
+
+  private UserInfo getUserInfo(String username, String pwd) {
+    BasicTextEncryptor textEncryptor = new BasicTextEncryptor();
+    textEncryptor.setPasswordCharArray(SECRET_KEY.toCharArray());
+    UserInfo userInfo = new UserInfo();
+    userInfo.setUsername(username);
+    userInfo.setPwd(textEncryptor.encrypt(pwd));
+    userInfo.setRole("USER");
+    userInfo.setTenantId(101);
+    return userInfo;
+  }
+}
@@ -0,0 +1,85 @@
+package io.aiven.klaw.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.aiven.klaw.dao.Acl;
+import io.aiven.klaw.model.enums.AclPatternType;
+import io.aiven.klaw.model.enums.AclType;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class AclCatalogTest {
+
+  @Test
+  public void emptyCatalog() {
+    AclCatalog aclCatalog = AclCatalog.of(null);
+    assertThat(aclCatalog.size()).isZero();
+    assertThat(aclCatalog.getAclsByEnv("1")).isEmpty();
+    assertThat(aclCatalog.getAcls("1", "testtopic")).isEmpty();
+    assertThat(aclCatalog.getPrefixedAclsByEnv("1")).isEmpty();
+    assertThat(aclCatalog.getAclsByConsumerGroup("mygrp")).isEmpty();
+    assertThat(aclCatalog.getAclsByTeam(101)).isEmpty();
+    assertThat(aclCatalog.getAclsByPrincipal("CN=host")).isEmpty();
+  }
+
+  @Test
+  public void indexesByEnvTopicConsumerGroupTeamAndPrincipal() {
+    List<Acl> acls = new ArrayList<>();
+    acls.add(getAcl("1", "testtopic", AclPatternType.LITERAL, "mygrp1", 101, "CN=host1", null));
+    acls.add(getAcl("1", "testtopic", AclPatternType.LITERAL, null, 102, null, "10.1.1.1"));
+    acls.add(getAcl("1", "test", AclPatternType.PREFIXED, "mygrp1", 101, "CN=host1", null));
+    acls.add(getAcl("2", "testtopic", AclPatternType.LITERAL, "mygrp2", 102, "CN=host2", null));
+    AclCatalog aclCatalog = AclCatalog.of(acls);
+
+    assertThat(aclCatalog.size()).isEqualTo(4);
+    assertThat(aclCatalog.getAclsByEnv("1")).hasSize(3);
+    assertThat(aclCatalog.getAcls("1", "testtopic")).hasSize(2);
+    assertThat(aclCatalog.getAcls("2", "testtopic")).hasSize(1);
+    assertThat(aclCatalog.getAcls("3", "testtopic")).isEmpty();
+    assertThat(aclCatalog.getPrefixedAclsByEnv("1")).containsExactly(acls.get(2));
+    assertThat(aclCatalog.getPrefixedAclsByEnv("2")).isEmpty();
+    assertThat(aclCatalog.getAclsByConsumerGroup("mygrp1")).hasSize(2);
+    assertThat(aclCatalog.getAclsByTeam(102)).hasSize(2);
+    assertThat(aclCatalog.getAclsByPrincipal("CN=host1")).hasSize(2);
+    assertThat(aclCatalog.getAclsByPrincipal("10.1.1.1")).containsExactly(acls.get(1));
+  }
+
+  @Test
+  public void matchesPrefixedAclsOfTopicName() {
+    List<Acl> acls = new ArrayList<>();
+    acls.add(getAcl("1", "test", AclPatternType.PREFIXED, "mygrp1", 101, "CN=host1", null));
+    acls.add(getAcl("1", "testtop", AclPatternType.PREFIXED, null, 102, "CN=host2", null));
+    acls.add(getAcl("1", "other", AclPatternType.PREFIXED, null, 102, "CN=host2", null));
+    acls.add(getAcl("1", "testtopic", AclPatternType.LITERAL, null, 102, "CN=host2", null));
+    acls.add(getAcl("2", "test", AclPatternType.PREFIXED, "mygrp2", 101, "CN=host1", null));
+    AclCatalog aclCatalog = AclCatalog.of(acls);
+
+    assertThat(aclCatalog.getPrefixedAclsMatching("1", "testtopic"))
+        .containsExactly(acls.get(0), acls.get(1));
+    assertThat(aclCatalog.getPrefixedAclsMatching("1", "tes")).isEmpty();
+    assertThat(aclCatalog.getPrefixedAclsMatching("2", "testtopic")).containsExactly(acls.get(4));
+    assertThat(aclCatalog.getPrefixedAclsMatching("3", "testtopic")).isEmpty();
+  }
+
+  private Acl getAcl(
+      String env,
+      String topicName,
+      AclPatternType patternType,
+      String consumerGroup,
+      int teamId,
+      String aclSsl,
+      String aclIp) {
+    Acl acl = new Acl();
+    acl.setEnvironment(env);
+    acl.setTopicname(topicName);
+    acl.setAclPatternType(patternType.value);
+    acl.setConsumergroup(consumerGroup);
+    acl.setAclType(consumerGroup == null ? AclType.PRODUCER.value : AclType.CONSUMER.value);
+    acl.setTeamId(teamId);
+    acl.setAclssl(aclSsl);
+    acl.setAclip(aclIp);
+    acl.setTenantId(101);
+    return acl;
+  }
+}
@@ -0,0 +1,33 @@
+package io.aiven.klaw.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+  @Test
+  public void emptyTrie() {
+    PrefixTrie<String> prefixTrie = new PrefixTrie<>();
+    assertThat(prefixTrie.isEmpty()).isTrue();
+    assertThat(prefixTrie.getValuesOfPrefixesOf("testtopic")).isEmpty();
+    assertThat(prefixTrie.getValuesOfPrefixesOf(null)).isEmpty();
+  }
+
+  @Test
+  public void getValuesOfPrefixesOfName() {
+    PrefixTrie<String> prefixTrie = new PrefixTrie<>();
+    prefixTrie.put("test", "acl1");
+    prefixTrie.put("testtopic", "acl2");
+    prefixTrie.put("test", "acl3");
+    prefixTrie.put("other", "acl4");
+    prefixTrie.put("", "acl5");
+
+    assertThat(prefixTrie.size()).isEqualTo(5);
+    assertThat(prefixTrie.getValuesOfPrefixesOf("testtopic1"))
+        .containsExactly("acl5", "acl1", "acl3", "acl2");
+    assertThat(prefixTrie.getValuesOfPrefixesOf("testtop")).containsExactly("acl5", "acl1", "acl3");
+    assertThat(prefixTrie.getValuesOfPrefixesOf("tes")).containsExactly("acl5");
+    assertThat(prefixTrie.getValuesOfPrefixesOf("othertopic")).containsExactly("acl5", "acl4");
+  }
+}
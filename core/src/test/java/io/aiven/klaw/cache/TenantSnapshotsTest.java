@@ -0,0 +1,63 @@
+package io.aiven.klaw.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.aiven.klaw.dao.KwTenants;
+import io.aiven.klaw.model.KwTenantConfigModel;
+import org.junit.jupiter.api.Test;
+
+public class TenantSnapshotsTest {
+
+  @Test
+  public void emptySnapshots() {
+    TenantSnapshots tenantSnapshots = TenantSnapshots.empty();
+    assertThat(tenantSnapshots.get(101)).isNull();
+    assertThat(tenantSnapshots.getTenantSnapshots()).isEmpty();
+    assertThat(tenantSnapshots.getTenantMap()).isEmpty();
+    assertThat(tenantSnapshots.getTenantConfig()).isEmpty();
+  }
+
+  @Test
+  public void derivesTenantMapAndConfigOfLoadedTenants() {
+    KwTenantConfigModel tenantConfig = new KwTenantConfigModel();
+    TenantSnapshots tenantSnapshots =
+        TenantSnapshots.empty()
+            .with(getTenantSnapshot(101, "default").toBuilder().tenantConfig(tenantConfig).build())
+            .with(getTenantSnapshot(102, "tenant2"))
+            // tenant not loaded yet
+            .with(TenantSnapshot.empty(103));
+
+    assertThat(tenantSnapshots.get(103)).isNotNull();
+    assertThat(tenantSnapshots.getTenantSnapshots())
+        .extracting(TenantSnapshot::getTenantId)
+        .containsExactlyInAnyOrder(101, 102);
+    assertThat(tenantSnapshots.getTenantMap())
+        .containsOnlyKeys(101, 102)
+        .containsEntry(102, "tenant2");
+    assertThat(tenantSnapshots.getTenantConfig()).containsOnlyKeys(101);
+    assertThat(tenantSnapshots.getTenantConfig().get(101)).isSameAs(tenantConfig);
+    // derived once per set of snapshots
+    assertThat(tenantSnapshots.getTenantMap()).isSameAs(tenantSnapshots.getTenantMap());
+  }
+
+  @Test
+  public void updatesReturnNewSnapshots() {
+    TenantSnapshots tenantSnapshots =
+        TenantSnapshots.empty().with(getTenantSnapshot(101, "default"));
+
+    TenantSnapshots updated = tenantSnapshots.with(getTenantSnapshot(101, "renamed"));
+    TenantSnapshots removed = updated.without(101);
+
+    assertThat(tenantSnapshots.getTenantMap()).containsEntry(101, "default");
+    assertThat(updated.getTenantMap()).containsEntry(101, "renamed");
+    assertThat(removed.get(101)).isNull();
+    assertThat(removed.getTenantMap()).isEmpty();
+  }
+
+  private TenantSnapshot getTenantSnapshot(int tenantId, String tenantName) {
+    KwTenants tenant = new KwTenants();
+    tenant.setTenantId(tenantId);
+    tenant.setTenantName(tenantName);
+    return TenantSnapshot.builder().tenantId(tenantId).tenant(tenant).build();
+  }
+}
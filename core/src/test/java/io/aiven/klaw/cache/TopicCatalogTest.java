@@ -0,0 +1,115 @@
+package io.aiven.klaw.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.aiven.klaw.UtilMethods;
+import io.aiven.klaw.dao.Topic;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TopicCatalogTest {
+
+  private UtilMethods utilMethods;
+
+  @BeforeEach
+  public void setUp() {
+    utilMethods = new UtilMethods();
+  }
+
+  @Test
+  public void emptyCatalog() {
+    TopicCatalog topicCatalog = TopicCatalog.of(null);
+    assertThat(topicCatalog.size()).isZero();
+    assertThat(topicCatalog.getTopicsByName("test")).isEmpty();
+    assertThat(topicCatalog.getTopicsByEnv("1")).isEmpty();
+    assertThat(topicCatalog.getTopicsByTeam(101)).isEmpty();
+    assertThat(topicCatalog.getEnvsForTopicName("test")).isEmpty();
+  }
+
+  @Test
+  public void indexesByNameEnvAndTeam() {
+    List<Topic> topicList = utilMethods.getMultipleTopics("test", 10, "1", 101);
+    topicList.addAll(utilMethods.getMultipleTopics("test", 5, "2", 102));
+    TopicCatalog topicCatalog = TopicCatalog.of(topicList);
+
+    assertThat(topicCatalog.size()).isEqualTo(15);
+    assertThat(topicCatalog.getTopicNames()).hasSize(10);
+    assertThat(topicCatalog.getTopicsByName("test3")).hasSize(2);
+    assertThat(topicCatalog.getTopicsByName("test7")).hasSize(1);
+    assertThat(topicCatalog.getTopicsByEnv("1")).hasSize(10);
+    assertThat(topicCatalog.getTopicsByEnv("2")).hasSize(5);
+    assertThat(topicCatalog.getTopicsByTeam(102)).hasSize(5);
+    assertThat(topicCatalog.getEnvsForTopicName("test3")).containsExactly("1", "2");
+    assertThat(topicCatalog.getEnvsForTopicName("test7")).containsExactly("1");
+  }
+
+  @Test
+  public void getTopicsWithPrefix() {
+    List<Topic> topicList = utilMethods.getMultipleTopics("test", 12, "1", 101);
+    topicList.addAll(utilMethods.getMultipleTopics("test1", 2, "2", 102));
+    topicList.addAll(utilMethods.getMultipleTopics("other", 3, "1", 101));
+    TopicCatalog topicCatalog = TopicCatalog.of(topicList);
+
+    // test1, test10, test11 on env 1 and test10, test11 on env 2
+    assertThat(topicCatalog.getTopicsWithPrefix("test1")).hasSize(5);
+    assertThat(topicCatalog.getTopicsWithPrefix("test")).hasSize(14);
+    assertThat(topicCatalog.getTopicsWithPrefix("")).hasSize(17);
+    assertThat(topicCatalog.getTopicsWithPrefix("tes_")).isEmpty();
+  }
+
+  @Test
+  public void searchIndexIsCarriedOverToUpdatedCatalog() {
+    List<Topic> topicList = utilMethods.getMultipleTopics("test", 3, "1", 101);
+    TopicCatalog topicCatalog = TopicCatalog.of(topicList);
+    assertThat(topicCatalog.getCandidateTopicNames("test"))
+        .containsExactlyInAnyOrder("test0", "test1", "test2");
+
+    Topic documentedTopic = utilMethods.getMultipleTopics("test", 2, "1", 101).get(1);
+    documentedTopic.setDocumentation("Customer orders");
+    TopicCatalog updatedCatalog =
+        topicCatalog
+            .withTopicsForName("test1", List.of(documentedTopic))
+            .withTopics(null, List.of(2));
+
+    assertThat(updatedCatalog.getCandidateTopicNames("customer")).containsExactly("test1");
+    assertThat(updatedCatalog.getCandidateTopicNames("test"))
+        .containsExactlyInAnyOrder("test0", "test1");
+    assertThat(topicCatalog.getCandidateTopicNames("customer")).isEmpty();
+  }
+
+  @Test
+  public void withTopicsUpsertsAndDeletesById() {
+    List<Topic> topicList = utilMethods.getMultipleTopics("test", 10, "1", 101);
+    TopicCatalog topicCatalog = TopicCatalog.of(topicList);
+
+    Topic updatedTopic = utilMethods.getMultipleTopics("test", 1, "1", 102).get(0);
+    Topic newTopic = utilMethods.getMultipleTopics("newtopic", 1, "2", 102).get(0);
+    newTopic.setTopicid(20);
+    TopicCatalog updatedCatalog =
+        topicCatalog.withTopics(List.of(updatedTopic, newTopic), List.of(5, 6));
+
+    assertThat(topicCatalog.size()).isEqualTo(10);
+    assertThat(updatedCatalog.size()).isEqualTo(9);
+    assertThat(updatedCatalog.getTopicsByName("test5")).isEmpty();
+    assertThat(updatedCatalog.getTopicsByName("test0")).containsExactly(updatedTopic);
+    assertThat(updatedCatalog.getTopicsByTeam(102)).containsExactly(updatedTopic, newTopic);
+    assertThat(updatedCatalog.getTopicsByEnv("2")).containsExactly(newTopic);
+  }
+
+  @Test
+  public void withTopicsForNameReplacesAllEnvs() {
+    List<Topic> topicList = utilMethods.getMultipleTopics("test", 10, "1", 101);
+    topicList.addAll(utilMethods.getMultipleTopics("test", 10, "2", 101));
+    TopicCatalog topicCatalog = TopicCatalog.of(topicList);
+
+    Topic topic = utilMethods.getMultipleTopics("test", 1, "3", 101).get(0);
+    TopicCatalog updatedCatalog = topicCatalog.withTopicsForName("test0", List.of(topic));
+    assertThat(updatedCatalog.size()).isEqualTo(19);
+    assertThat(updatedCatalog.getEnvsForTopicName("test0")).containsExactly("3");
+
+    updatedCatalog = updatedCatalog.withTopicsForName("test0", List.of());
+    assertThat(updatedCatalog.size()).isEqualTo(18);
+    assertThat(updatedCatalog.getTopicNames()).doesNotContain("test0");
+  }
+}
@@ -0,0 +1,58 @@
+package io.aiven.klaw.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.aiven.klaw.UtilMethods;
+import io.aiven.klaw.dao.Topic;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+  private final UtilMethods utilMethods = new UtilMethods();
+
+  @Test
+  public void candidatesContainAllTrigramsOfSearch() {
+    List<Topic> topics = utilMethods.getMultipleTopics("orders", 3, "1", 101);
+    topics.addAll(utilMethods.getMultipleTopics("Payments", 2, "1", 101));
+    topics.get(0).setDocumentation("Created ORDERS of the web shop");
+    topics.get(3).setDocumentation("settled invoices");
+    TrigramIndex trigramIndex = TrigramIndex.of(topics);
+
+    assertThat(trigramIndex.getCandidateTopicNames("ORDER"))
+        .containsExactlyInAnyOrder("orders0", "orders1", "orders2");
+    assertThat(trigramIndex.getCandidateTopicNames("payments1")).containsExactly("Payments1");
+    assertThat(trigramIndex.getCandidateTopicNames("web shop")).containsExactly("orders0");
+    assertThat(trigramIndex.getCandidateTopicNames("invoice")).containsExactly("Payments0");
+    assertThat(trigramIndex.getCandidateTopicNames("refunds")).isEmpty();
+    // too short to be looked up
+    assertThat(trigramIndex.getCandidateTopicNames("or")).isNull();
+  }
+
+  @Test
+  public void withTopicsOfNamesReplacesChangedTopicsOnly() {
+    List<Topic> topics = utilMethods.getMultipleTopics("orders", 3, "1", 101);
+    topics.get(1).setDocumentation("old documentation");
+    TrigramIndex trigramIndex = TrigramIndex.of(topics);
+
+    Topic updatedTopic = utilMethods.getMultipleTopics("orders", 2, "1", 101).get(1);
+    updatedTopic.setDocumentation("new documentation");
+    Topic newTopic = utilMethods.getMultipleTopics("refunds", 1, "1", 101).get(0);
+    TrigramIndex updatedIndex =
+        trigramIndex.withTopicsOfNames(
+            Set.of("orders1", "orders2", "refunds0"), List.of(updatedTopic, newTopic));
+
+    assertThat(updatedIndex.getCandidateTopicNames("old doc")).isEmpty();
+    assertThat(updatedIndex.getCandidateTopicNames("new doc")).containsExactly("orders1");
+    assertThat(updatedIndex.getCandidateTopicNames("orders"))
+        .containsExactlyInAnyOrder("orders0", "orders1");
+    assertThat(updatedIndex.getCandidateTopicNames("refunds")).containsExactly("refunds0");
+
+    // the previous index is not modified
+    assertThat(trigramIndex.getCandidateTopicNames("old doc")).containsExactly("orders1");
+    assertThat(trigramIndex.getCandidateTopicNames("orders"))
+        .containsExactlyInAnyOrder("orders0", "orders1", "orders2");
+    assertThat(trigramIndex.getCandidateTopicNames("refunds")).isEmpty();
+  }
+}
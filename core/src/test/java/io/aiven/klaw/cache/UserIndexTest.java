@@ -0,0 +1,42 @@
+package io.aiven.klaw.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.aiven.klaw.UtilMethods;
+import io.aiven.klaw.dao.UserInfo;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class UserIndexTest {
+
+  private UtilMethods utilMethods;
+
+  @BeforeEach
+  public void setUp() {
+    utilMethods = new UtilMethods();
+  }
+
+  @Test
+  public void emptyIndex() {
+    UserIndex userIndex = UserIndex.of(null);
+    assertThat(userIndex.size()).isZero();
+    assertThat(userIndex.getUser("kwusera")).isNull();
+    assertThat(userIndex.getUser(null)).isNull();
+  }
+
+  @Test
+  public void indexesUsersByName() {
+    List<UserInfo> userInfoList = new ArrayList<>();
+    userInfoList.add(utilMethods.getUserInfoMockDao());
+    userInfoList.addAll(utilMethods.getUserInfoList("kwuserb", "ADMIN"));
+    UserIndex userIndex = UserIndex.of(userInfoList);
+
+    assertThat(userIndex.size()).isEqualTo(2);
+    assertThat(userIndex.getUser("kwusera").getTenantId()).isEqualTo(101);
+    assertThat(userIndex.getUser("kwuserb").getRole()).isEqualTo("ADMIN");
+    assertThat(userIndex.getUser("kwuserc")).isNull();
+    assertThat(userIndex.getAllUsers()).containsExactlyElementsOf(userInfoList);
+  }
+}
@@ -0,0 +1,68 @@
+package io.aiven.klaw.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.aiven.klaw.model.enums.ReconStatus;
+import java.util.List;
+import java.util.Objects;
+import org.junit.jupiter.api.Test;
+
+public class ReconciliationTest {
+
+  private record Entity(String name, int partitions) {}
+
+  @Test
+  public void reconcileReturnsStatusOfEachEntity() {
+    List<Entity> clusterEntities =
+        List.of(new Entity("topic1", 1), new Entity("topic2", 3), new Entity("topic3", 1));
+    List<Entity> storedEntities =
+        List.of(new Entity("topic4", 1), new Entity("topic2", 2), new Entity("topic1", 1));
+
+    Reconciliation<Entity, Entity> reconciliation = reconcile(clusterEntities, storedEntities);
+
+    assertThat(reconciliation.getClusterResults())
+        .extracting(Reconciliation.Result::getStatus)
+        .containsExactly(ReconStatus.MATCHED, ReconStatus.CHANGED, ReconStatus.ADDED);
+    assertThat(reconciliation.getResults(ReconStatus.CHANGED).get(0).getStoredEntity())
+        .isEqualTo(new Entity("topic2", 2));
+    assertThat(reconciliation.getResults(ReconStatus.ADDED).get(0).getStoredEntity()).isNull();
+    assertThat(reconciliation.getDeleted()).containsExactly(new Entity("topic4", 1));
+    assertThat(reconciliation.count(ReconStatus.DELETED)).isEqualTo(1);
+    assertThat(reconciliation.count(ReconStatus.MATCHED)).isEqualTo(1);
+  }
+
+  @Test
+  public void reconcileMatchesFirstStoredEntityOfDuplicateKeys() {
+    List<Entity> storedEntities = List.of(new Entity("topic1", 2), new Entity("topic1", 1));
+
+    Reconciliation<Entity, Entity> reconciliation =
+        reconcile(List.of(new Entity("topic1", 1)), storedEntities);
+
+    assertThat(reconciliation.getClusterResults().get(0).getStatus())
+        .isEqualTo(ReconStatus.CHANGED);
+    assertThat(reconciliation.getDeleted()).isEmpty();
+  }
+
+  @Test
+  public void reconcileEmptyCluster() {
+    Reconciliation<Entity, Entity> reconciliation =
+        reconcile(List.of(), List.of(new Entity("topic1", 1), new Entity("topic2", 1)));
+
+    assertThat(reconciliation.getClusterResults()).isEmpty();
+    assertThat(reconciliation.getResults(ReconStatus.ADDED)).isEmpty();
+    assertThat(reconciliation.getDeleted())
+        .extracting(Entity::name)
+        .containsExactly("topic1", "topic2");
+  }
+
+  private Reconciliation<Entity, Entity> reconcile(
+      List<Entity> clusterEntities, List<Entity> storedEntities) {
+    return Reconciliation.reconcile(
+        clusterEntities,
+        Entity::name,
+        storedEntities,
+        Entity::name,
+        (clusterEntity, storedEntity) ->
+            !Objects.equals(clusterEntity.partitions(), storedEntity.partitions()));
+  }
+}
@@ -0,0 +1,77 @@
+package io.aiven.klaw.helpers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.aiven.klaw.dao.Acl;
+import io.aiven.klaw.dao.Topic;
+import io.aiven.klaw.model.enums.AclPatternType;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class UtilMethodsTest {
+
+  @Test
+  public void filterTopicsMatchingLiteralAndPrefixedAclTopics() {
+    List<Topic> aclTopics =
+        UtilMethods.getTopicsFromAcls(
+            List.of(
+                getAcl("orders", AclPatternType.PREFIXED, "1"),
+                getAcl("payments", AclPatternType.LITERAL, "1"),
+                getAcl("payments", AclPatternType.LITERAL, "2"),
+                getAcl("users", AclPatternType.LITERAL, "2")));
+
+    List<Topic> topics = new ArrayList<>();
+    topics.add(getTopic("orders.created", "1", "2"));
+    topics.add(getTopic("orders.deleted", "2"));
+    topics.add(getTopic("payments", "1"));
+    topics.add(getTopic("users", "1"));
+    topics.add(getTopic("invoices", "1"));
+
+    List<Topic> matchingTopics = UtilMethods.filterTopicsMatchingAclTopics(aclTopics, topics);
+
+    assertThat(matchingTopics)
+        .extracting(Topic::getTopicname)
+        .containsExactly("orders.created", "payments");
+    assertThat(matchingTopics.get(0).getEnvironmentsList()).containsExactly("1");
+    assertThat(matchingTopics.get(1).getEnvironmentsList()).containsExactly("1", "2");
+  }
+
+  @Test
+  public void filterTopicsDoesNotModifyGivenTopics() {
+    List<Topic> aclTopics =
+        UtilMethods.getTopicsFromAcls(List.of(getAcl("orders", AclPatternType.LITERAL, "1")));
+    Topic topic = getTopic("orders", "1", "2");
+
+    List<Topic> matchingTopics =
+        UtilMethods.filterTopicsMatchingAclTopics(aclTopics, List.of(topic));
+
+    assertThat(matchingTopics).hasSize(1);
+    assertThat(matchingTopics.get(0)).isNotSameAs(topic);
+    assertThat(matchingTopics.get(0).getEnvironmentsList()).containsExactly("1");
+    assertThat(topic.getEnvironmentsList()).containsExactly("1", "2");
+  }
+
+  @Test
+  public void filterTopicsWithoutAclTopicsReturnsAllTopics() {
+    List<Topic> topics = List.of(getTopic("orders", "1"));
+    assertThat(UtilMethods.filterTopicsMatchingAclTopics(new ArrayList<>(), topics))
+        .isSameAs(topics);
+  }
+
+  private Acl getAcl(String topicName, AclPatternType patternType, String env) {
+    Acl acl = new Acl();
+    acl.setTopicname(topicName);
+    acl.setAclPatternType(patternType.value);
+    acl.setEnvironment(env);
+    return acl;
+  }
+
+  private Topic getTopic(String topicName, String... envs) {
+    Topic topic = new Topic();
+    topic.setTopicname(topicName);
+    topic.setEnvironment(envs[0]);
+    topic.setEnvironmentsList(new ArrayList<>(List.of(envs)));
+    return topic;
+  }
+}
@@ -0,0 +1,192 @@
+package io.aiven.klaw.helpers.db.rdbms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.aiven.klaw.dao.ActivityLog;
+import io.aiven.klaw.repository.ActivityLogRepo;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(SpringExtension.class)
+public class ActivityLogWriterTest {
+
+  @Mock private ActivityLogRepo activityLogRepo;
+
+  @Mock private BatchEntityWriter batchEntityWriter;
+
+  @TempDir Path fallbackDir;
+
+  private ActivityLogWriter activityLogWriter;
+
+  private final List<List<ActivityLog>> insertedBatches = new ArrayList<>();
+
+  @BeforeEach
+  public void setUp() {
+    when(batchEntityWriter.insertAll(anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<ActivityLog> batch = invocation.getArgument(0);
+              insertedBatches.add(new ArrayList<>(batch));
+              return batch.size();
+            });
+    activityLogWriter = newActivityLogWriter(3);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    activityLogWriter.shutdown();
+  }
+
+  @Test
+  public void writeQueuesAndFlushInsertsInBatches() {
+    for (int i = 0; i < 3; i++) {
+      activityLogWriter.write(getActivityLog(1001 + i));
+    }
+    assertThat(activityLogWriter.getQueueDepth()).isEqualTo(3);
+    verify(activityLogRepo, never()).save(any());
+
+    activityLogWriter.flush();
+
+    assertThat(activityLogWriter.getQueueDepth()).isZero();
+    assertThat(insertedBatches).hasSize(2);
+    assertThat(insertedBatches.get(0)).hasSize(2);
+    assertThat(insertedBatches.get(1)).hasSize(1);
+  }
+
+  @Test
+  public void fullQueueWritesSynchronously() {
+    for (int i = 0; i < 4; i++) {
+      activityLogWriter.write(getActivityLog(1001 + i));
+    }
+
+    assertThat(activityLogWriter.getQueueDepth()).isEqualTo(3);
+    ArgumentCaptor<ActivityLog> saved = ArgumentCaptor.forClass(ActivityLog.class);
+    verify(activityLogRepo).save(saved.capture());
+    assertThat(saved.getValue().getReq_no()).isEqualTo(1004);
+  }
+
+  @Test
+  public void shutdownFlushesQueuedEntries() {
+    activityLogWriter.write(getActivityLog(1001));
+
+    activityLogWriter.shutdown();
+
+    assertThat(insertedBatches).hasSize(1);
+    assertThat(activityLogWriter.getQueueDepth()).isZero();
+  }
+
+  @Test
+  public void shutdownWaitsForEntriesBeingQueued() throws Exception {
+    CountDownLatch offerStarted = new CountDownLatch(1);
+    CountDownLatch releaseOffer = new CountDownLatch(1);
+    // the queue holds the writer in the middle of queueing its entry
+    ReflectionTestUtils.setField(
+        activityLogWriter,
+        "queue",
+        new ArrayBlockingQueue<ActivityLog>(3) {
+          @Override
+          public boolean offer(ActivityLog activityLog) {
+            offerStarted.countDown();
+            try {
+              releaseOffer.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            return super.offer(activityLog);
+          }
+        });
+    ExecutorService executorService = Executors.newFixedThreadPool(2);
+    try {
+      Future<?> write = executorService.submit(() -> activityLogWriter.write(getActivityLog(1001)));
+      assertThat(offerStarted.await(5, TimeUnit.SECONDS)).isTrue();
+      Future<?> shutdown = executorService.submit(activityLogWriter::shutdown);
+
+      Thread.sleep(200);
+      assertThat(shutdown.isDone()).isFalse();
+
+      releaseOffer.countDown();
+      write.get(5, TimeUnit.SECONDS);
+      shutdown.get(5, TimeUnit.SECONDS);
+    } finally {
+      executorService.shutdownNow();
+    }
+
+    // queued before the flag was set, and inserted by the final flush
+    assertThat(insertedBatches).hasSize(1);
+    assertThat(insertedBatches.get(0)).extracting(ActivityLog::getReq_no).containsExactly(1001);
+    verify(activityLogRepo, never()).save(any());
+  }
+
+  @Test
+  public void failedInsertIsWrittenToFallbackFileAndReplayedOnStartup() throws Exception {
+    when(batchEntityWriter.insertAll(anyList())).thenThrow(new RuntimeException("db down"));
+    activityLogWriter.write(getActivityLog(1001));
+    activityLogWriter.write(getActivityLog(1002));
+    activityLogWriter.shutdown();
+
+    Path fallbackFile = fallbackDir.resolve(ActivityLogWriter.FALLBACK_FILE_NAME);
+    assertThat(Files.readAllLines(fallbackFile)).hasSize(2);
+
+    ActivityLogWriter restarted = newActivityLogWriter(3);
+    restarted.shutdown();
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<ActivityLog>> replayed = ArgumentCaptor.forClass(List.class);
+    verify(activityLogRepo).saveAll(replayed.capture());
+    assertThat(replayed.getValue()).extracting(ActivityLog::getReq_no).containsExactly(1001, 1002);
+    assertThat(replayed.getValue().get(0).getActivityTime()).isEqualTo(new Timestamp(1000L));
+    assertThat(fallbackFile).doesNotExist();
+  }
+
+  private ActivityLogWriter newActivityLogWriter(int queueCapacity) {
+    ActivityLogWriter writer = new ActivityLogWriter();
+    ReflectionTestUtils.setField(writer, "activityLogRepo", activityLogRepo);
+    ReflectionTestUtils.setField(writer, "batchEntityWriter", batchEntityWriter);
+    ReflectionTestUtils.setField(writer, "writeBehindEnabled", true);
+    ReflectionTestUtils.setField(writer, "queueCapacity", queueCapacity);
+    ReflectionTestUtils.setField(writer, "flushBatchSize", 2);
+    // long enough for the scheduled flush not to run during a test
+    ReflectionTestUtils.setField(writer, "flushInterval", Duration.ofHours(1));
+    ReflectionTestUtils.setField(writer, "fallbackFilePath", fallbackDir.toString());
+    writer.init();
+    return writer;
+  }
+
+  private ActivityLog getActivityLog(int reqNo) {
+    ActivityLog activityLog = new ActivityLog();
+    activityLog.setReq_no(reqNo);
+    activityLog.setTenantId(101);
+    activityLog.setActivityName("TopicRequest");
+    activityLog.setActivityType("Create");
+    activityLog.setActivityTime(new Timestamp(1000L));
+    activityLog.setDetails("testtopic");
+    activityLog.setUser("uiuser1");
+    activityLog.setTeamId(1001);
+    activityLog.setEnv("1");
+    return activityLog;
+  }
+}
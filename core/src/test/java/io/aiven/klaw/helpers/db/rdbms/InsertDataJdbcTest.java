@@ -1,28 +1,37 @@
 package io.aiven.klaw.helpers.db.rdbms;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.aiven.klaw.UtilMethods;
 import io.aiven.klaw.dao.Acl;
+import io.aiven.klaw.dao.ActivityLog;
+import io.aiven.klaw.dao.KwRolesPermissions;
 import io.aiven.klaw.dao.MessageSchema;
 import io.aiven.klaw.dao.SchemaRequest;
 import io.aiven.klaw.dao.Topic;
 import io.aiven.klaw.dao.TopicRequest;
 import io.aiven.klaw.dao.UserInfo;
 import io.aiven.klaw.model.enums.ApiResultStatus;
+import io.aiven.klaw.model.enums.SequenceType;
 import io.aiven.klaw.repository.AclRepo;
 import io.aiven.klaw.repository.AclRequestsRepo;
 import io.aiven.klaw.repository.ActivityLogRepo;
 import io.aiven.klaw.repository.EnvRepo;
+import io.aiven.klaw.repository.KwRolesPermsRepo;
 import io.aiven.klaw.repository.MessageSchemaRepo;
 import io.aiven.klaw.repository.SchemaRequestRepo;
 import io.aiven.klaw.repository.TeamRepo;
 import io.aiven.klaw.repository.TopicRepo;
 import io.aiven.klaw.repository.TopicRequestsRepo;
 import io.aiven.klaw.repository.UserInfoRepo;
+import jakarta.persistence.EntityManager;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +40,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
 
 @ExtendWith(SpringExtension.class)
 public class InsertDataJdbcTest {
@@ -43,6 +54,8 @@ public class InsertDataJdbcTest {
 
   @Mock private ActivityLogRepo activityLogRepo;
 
+  @Mock private ActivityLogWriter activityLogWriter;
+
   @Mock private AclRequestsRepo aclRequestsRepo;
 
   @Mock private TopicRepo topicRepo;
@@ -57,8 +70,16 @@ public class InsertDataJdbcTest {
 
   @Mock private SchemaRequestRepo schemaRequestRepo;
 
+  @Mock private KwRolesPermsRepo kwRolesPermsRepo;
+
   @Mock SelectDataJdbc jdbcSelectHelper;
 
+  @Mock KwSequenceGenerator kwSequenceGenerator;
+
+  @Mock private EntityManager entityManager;
+
+  @Mock private PlatformTransactionManager transactionManager;
+
   private InsertDataJdbc insertData;
 
   private UtilMethods utilMethods;
@@ -73,11 +94,22 @@ public class InsertDataJdbcTest {
     ReflectionTestUtils.setField(insertData, "teamRepo", teamRepo);
     ReflectionTestUtils.setField(insertData, "userInfoRepo", userInfoRepo);
     ReflectionTestUtils.setField(insertData, "activityLogRepo", activityLogRepo);
+    ReflectionTestUtils.setField(insertData, "activityLogWriter", activityLogWriter);
     ReflectionTestUtils.setField(insertData, "jdbcSelectHelper", jdbcSelectHelper);
     ReflectionTestUtils.setField(insertData, "aclRepo", aclRepo);
     ReflectionTestUtils.setField(insertData, "schemaRequestRepo", schemaRequestRepo);
     ReflectionTestUtils.setField(insertData, "aclRequestsRepo", aclRequestsRepo);
     ReflectionTestUtils.setField(insertData, "envRepo", envRepo);
+    ReflectionTestUtils.setField(insertData, "kwRolesPermsRepo", kwRolesPermsRepo);
+    ReflectionTestUtils.setField(insertData, "kwSequenceGenerator", kwSequenceGenerator);
+
+    BatchEntityWriter batchEntityWriter = new BatchEntityWriter();
+    ReflectionTestUtils.setField(batchEntityWriter, "chunkSize", 2);
+    ReflectionTestUtils.setField(batchEntityWriter, "entityManager", entityManager);
+    ReflectionTestUtils.setField(batchEntityWriter, "transactionManager", transactionManager);
+    batchEntityWriter.init();
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    ReflectionTestUtils.setField(insertData, "batchEntityWriter", batchEntityWriter);
   }
 
   @Test
@@ -86,25 +118,56 @@ public class InsertDataJdbcTest {
     UserInfo userInfo = utilMethods.getUserInfoMockDao();
     TopicRequest topicRequest = utilMethods.getTopicRequest(topicName);
     when(jdbcSelectHelper.selectUserInfo(topicRequest.getRequestor())).thenReturn(userInfo);
-    when(topicRequestsRepo.getNextTopicRequestId(anyInt())).thenReturn(101);
-    when(activityLogRepo.getNextActivityLogRequestId(anyInt())).thenReturn(101);
+    when(kwSequenceGenerator.nextId(anyInt(), eq(SequenceType.TOPIC_REQUEST), any()))
+        .thenReturn(101);
+    when(kwSequenceGenerator.nextId(anyInt(), eq(SequenceType.ACTIVITY_LOG), any()))
+        .thenReturn(101);
 
     Map<String, String> result = insertData.insertIntoRequestTopic(topicRequest);
     assertThat(result).containsEntry("result", ApiResultStatus.SUCCESS.value);
+    assertThat(result).containsEntry("topicId", "101");
+    verify(activityLogWriter).write(any(ActivityLog.class));
   }
 
   @Test
   public void insertIntoTopicSOT() {
     List<Topic> topics = utilMethods.getTopics();
-    when(topicRepo.getNextTopicRequestId(anyInt())).thenReturn(101);
+    when(kwSequenceGenerator.nextId(anyInt(), eq(SequenceType.TOPIC), any())).thenReturn(101);
+    String result = insertData.insertIntoTopicSOT(topics, true);
+    assertThat(result).isEqualTo(ApiResultStatus.SUCCESS.value);
+  }
+
+  @Test
+  public void insertIntoTopicSOTReassignsIdsOfNewTopicsAlreadyStored() {
+    List<Topic> topics = utilMethods.getMultipleTopics("testtopic", 3, "1", 3);
+    for (int i = 0; i < topics.size(); i++) {
+      topics.get(i).setTopicid(1001 + i);
+      topics.get(i).setTenantId(101);
+    }
+    topics.get(2).setExistingTopic(true);
+    // topics 1001 and 1003 are stored, 1003 is the existing topic which is updated
+    when(topicRepo.findAllByTenantIdAndTopicidIn(101, List.of(1001, 1002)))
+        .thenReturn(List.of(topics.get(0)));
+    when(topicRepo.findAllByTenantIdAndTopicidIn(101, List.of(1003)))
+        .thenReturn(List.of(topics.get(2)));
+    when(kwSequenceGenerator.nextId(eq(101), eq(SequenceType.TOPIC), any())).thenReturn(1050);
+
     String result = insertData.insertIntoTopicSOT(topics, true);
+
     assertThat(result).isEqualTo(ApiResultStatus.SUCCESS.value);
+    assertThat(topics).extracting(Topic::getTopicid).containsExactly(1050, 1002, 1003);
+    verify(entityManager).persist(topics.get(0));
+    verify(entityManager).persist(topics.get(1));
+    verify(entityManager).merge(topics.get(2));
+    // one transaction and flush per chunk of 2 topics
+    verify(entityManager, times(2)).flush();
+    verify(transactionManager, times(2)).commit(any());
   }
 
   @Test
   public void insertIntoRequestAcl() {
     when(jdbcSelectHelper.selectUserInfo("uiuser1")).thenReturn(utilMethods.getUserInfoMockDao());
-    when(aclRequestsRepo.getNextAclRequestId(anyInt())).thenReturn(101);
+    when(kwSequenceGenerator.nextId(anyInt(), eq(SequenceType.ACL_REQUEST), any())).thenReturn(101);
     when(userInfo.getTeamId()).thenReturn(101);
     when(jdbcSelectHelper.selectUserInfo(anyString())).thenReturn(userInfo, userInfo);
     String result =
@@ -115,7 +178,7 @@ public class InsertDataJdbcTest {
   @Test
   public void insertIntoAclsSOT() {
     List<Acl> acls = utilMethods.getAcls();
-    when(aclRepo.getNextAclId(anyInt())).thenReturn(101);
+    when(kwSequenceGenerator.nextId(anyInt(), eq(SequenceType.ACL), any())).thenReturn(101);
     String result = insertData.insertIntoAclsSOT(acls, true);
     assertThat(result).isEqualTo(ApiResultStatus.SUCCESS.value);
   }
@@ -124,7 +187,8 @@ public class InsertDataJdbcTest {
   public void insertIntoRequestSchema() {
     SchemaRequest schemaRequest = utilMethods.getSchemaRequestsDao().get(0);
 
-    when(schemaRequestRepo.getNextSchemaRequestId(anyInt())).thenReturn(101);
+    when(kwSequenceGenerator.nextId(anyInt(), eq(SequenceType.SCHEMA_REQUEST), any()))
+        .thenReturn(101);
     when(userInfo.getTeamId()).thenReturn(101);
     when(jdbcSelectHelper.selectUserInfo(anyString())).thenReturn(userInfo, userInfo);
 
@@ -135,11 +199,30 @@ public class InsertDataJdbcTest {
   @Test
   public void insertIntoMessageSchemaSOT() {
     List<MessageSchema> schemas = utilMethods.getMSchemas();
-    when(messageSchemaRepo.getNextSchemaId(anyInt())).thenReturn(101);
+    when(kwSequenceGenerator.nextId(anyInt(), eq(SequenceType.SCHEMA), any())).thenReturn(101);
     String result = insertData.insertIntoMessageSchemaSOT(schemas);
     assertThat(result).isEqualTo(ApiResultStatus.SUCCESS.value);
   }
 
+  @Test
+  public void insertDefaultRolesPermissionsReadsMaxIdOncePerTenant() {
+    when(kwRolesPermsRepo.getMaxRolePermissionId(101)).thenReturn(10);
+    when(kwRolesPermsRepo.getMaxRolePermissionId(102)).thenReturn(null);
+    List<KwRolesPermissions> kwRolesPermissions =
+        List.of(
+            new KwRolesPermissions(0, 101, "USER", "REQUEST_CREATE_TOPICS", ""),
+            new KwRolesPermissions(0, 101, "USER", "REQUEST_CREATE_ACLS", ""),
+            new KwRolesPermissions(0, 102, "USER", "REQUEST_CREATE_TOPICS", ""));
+
+    String result = insertData.insertDefaultRolesPermissions(kwRolesPermissions);
+
+    assertThat(result).isEqualTo(ApiResultStatus.SUCCESS.value);
+    assertThat(kwRolesPermissions).extracting(KwRolesPermissions::getId).containsExactly(11, 12, 2);
+    verify(kwRolesPermsRepo).getMaxRolePermissionId(101);
+    verify(kwRolesPermsRepo).getMaxRolePermissionId(102);
+    verify(entityManager, times(3)).persist(any());
+  }
+
   @Test
   public void insertIntoUsers() {
     String result = insertData.insertIntoUsers(utilMethods.getUserInfoMockDao());
@@ -0,0 +1,125 @@
+package io.aiven.klaw.helpers.db.rdbms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.aiven.klaw.model.enums.SequenceType;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(SpringExtension.class)
+public class KwSequenceGeneratorTest {
+
+  private static final int BLOCK_SIZE = 3;
+
+  private KwSequenceGenerator kwSequenceGenerator;
+
+  // sequence rows stored in the in-memory database
+  private JdbcTemplate sequences;
+
+  @BeforeEach
+  public void setUp() {
+    JdbcDataSource dataSource = new JdbcDataSource();
+    dataSource.setURL("jdbc:h2:mem:kwsequences;DB_CLOSE_DELAY=-1");
+    sequences = new JdbcTemplate(dataSource);
+    sequences.execute("drop table if exists kwsequences");
+    sequences.execute(
+        "create table kwsequences (tenantid int not null, sequencename varchar(50) not null,"
+            + " nextvalue int not null, primary key (tenantid, sequencename))");
+
+    kwSequenceGenerator = new KwSequenceGenerator();
+    ReflectionTestUtils.setField(kwSequenceGenerator, "blockSize", BLOCK_SIZE);
+    ReflectionTestUtils.setField(kwSequenceGenerator, "dataSource", dataSource);
+    kwSequenceGenerator.init();
+  }
+
+  @Test
+  public void startsAfterMaxIdAndReservesBlocks() {
+    AtomicInteger maxIdReads = new AtomicInteger();
+    for (int expectedId = 1006; expectedId < 1013; expectedId++) {
+      assertThat(
+              kwSequenceGenerator.nextId(
+                  101,
+                  SequenceType.TOPIC_REQUEST,
+                  () -> {
+                    maxIdReads.incrementAndGet();
+                    return 1005;
+                  }))
+          .isEqualTo(expectedId);
+    }
+
+    // 7 ids are handed out of 3 blocks
+    assertThat(maxIdReads.get()).isEqualTo(3);
+    assertThat(nextValue(101, SequenceType.TOPIC_REQUEST)).isEqualTo(1015);
+  }
+
+  @Test
+  public void startsAtFirstIdWithoutRows() {
+    assertThat(kwSequenceGenerator.nextId(101, SequenceType.ACL, () -> null)).isEqualTo(1001);
+    assertThat(kwSequenceGenerator.nextId(101, SequenceType.ACL, () -> null)).isEqualTo(1002);
+  }
+
+  @Test
+  public void sequencesAreSeparatePerTenantAndType() {
+    assertThat(kwSequenceGenerator.nextId(101, SequenceType.TOPIC, () -> null)).isEqualTo(1001);
+    assertThat(kwSequenceGenerator.nextId(102, SequenceType.TOPIC, () -> null)).isEqualTo(1001);
+    assertThat(kwSequenceGenerator.nextId(101, SequenceType.ACL, () -> 2000)).isEqualTo(2001);
+    assertThat(kwSequenceGenerator.nextId(101, SequenceType.TOPIC, () -> null)).isEqualTo(1002);
+  }
+
+  @Test
+  public void skipsBlocksReservedByOtherInstances() {
+    sequences.update(
+        "insert into kwsequences values (?, ?, ?)", 101, SequenceType.SCHEMA.name(), 1100);
+
+    assertThat(kwSequenceGenerator.nextId(101, SequenceType.SCHEMA, () -> 1010)).isEqualTo(1100);
+    assertThat(nextValue(101, SequenceType.SCHEMA)).isEqualTo(1103);
+  }
+
+  @Test
+  public void continuesAfterIdsAssignedWithoutSequence() {
+    assertThat(kwSequenceGenerator.nextId(101, SequenceType.CONNECTOR, () -> null)).isEqualTo(1001);
+    kwSequenceGenerator.nextId(101, SequenceType.CONNECTOR, () -> null);
+    kwSequenceGenerator.nextId(101, SequenceType.CONNECTOR, () -> null);
+
+    // rows up to 1050 were inserted meanwhile without the sequence
+    assertThat(kwSequenceGenerator.nextId(101, SequenceType.CONNECTOR, () -> 1050)).isEqualTo(1051);
+  }
+
+  @Test
+  public void retriesWhenSequenceIsCreatedConcurrently() {
+    JdbcTemplate jdbcTemplate =
+        spy((JdbcTemplate) ReflectionTestUtils.getField(kwSequenceGenerator, "jdbcTemplate"));
+    ReflectionTestUtils.setField(kwSequenceGenerator, "jdbcTemplate", jdbcTemplate);
+    // the sequence row was created by another instance after it was looked up
+    doThrow(new DuplicateKeyException("duplicate key"))
+        .doCallRealMethod()
+        .when(jdbcTemplate)
+        .update(startsWith("insert"), any(), any(), any());
+
+    assertThat(kwSequenceGenerator.nextId(101, SequenceType.ACTIVITY_LOG, () -> 1001))
+        .isEqualTo(1002);
+    assertThat(nextValue(101, SequenceType.ACTIVITY_LOG)).isEqualTo(1005);
+    verify(jdbcTemplate, times(2)).update(startsWith("insert"), any(), any(), any());
+  }
+
+  private Integer nextValue(int tenantId, SequenceType sequenceType) {
+    return sequences.queryForObject(
+        "select nextvalue from kwsequences where tenantid = ? and sequencename = ?",
+        Integer.class,
+        tenantId,
+        sequenceType.name());
+  }
+}
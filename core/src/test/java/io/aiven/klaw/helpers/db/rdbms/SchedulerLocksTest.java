@@ -0,0 +1,122 @@
+package io.aiven.klaw.helpers.db.rdbms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.aiven.klaw.repository.KwSchedulerLockRepo;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+@ExtendWith(SpringExtension.class)
+public class SchedulerLocksTest {
+
+  private static final String LOCK_NAME = "job";
+
+  private static final Duration AT_MOST = Duration.ofHours(1);
+
+  private static final Duration AT_LEAST = Duration.ofMinutes(5);
+
+  @Mock private KwSchedulerLockRepo kwSchedulerLockRepo;
+
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private SchedulerLocks schedulerLocks;
+
+  private final AtomicInteger runs = new AtomicInteger();
+
+  @BeforeEach
+  public void setUp() {
+    schedulerLocks = new SchedulerLocks();
+    ReflectionTestUtils.setField(schedulerLocks, "kwSchedulerLockRepo", kwSchedulerLockRepo);
+    ReflectionTestUtils.setField(schedulerLocks, "transactionManager", transactionManager);
+    schedulerLocks.init();
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+  }
+
+  @Test
+  public void runsTaskWhenLockIsFree() {
+    when(kwSchedulerLockRepo.lockIfFree(eq(LOCK_NAME), any(), any(), anyString())).thenReturn(1);
+
+    long before = System.currentTimeMillis();
+    assertThat(schedulerLocks.runLocked(LOCK_NAME, AT_MOST, AT_LEAST, runs::incrementAndGet))
+        .isTrue();
+
+    assertThat(runs.get()).isEqualTo(1);
+    // the lock is kept for at least the minimum duration after the task
+    ArgumentCaptor<Timestamp> lockedUntil = ArgumentCaptor.forClass(Timestamp.class);
+    verify(kwSchedulerLockRepo).unlock(eq(LOCK_NAME), lockedUntil.capture(), anyString());
+    assertThat(lockedUntil.getValue().getTime())
+        .isGreaterThanOrEqualTo(before + AT_LEAST.toMillis());
+  }
+
+  @Test
+  public void createsLockOnFirstRun() {
+    when(kwSchedulerLockRepo.lockIfFree(eq(LOCK_NAME), any(), any(), anyString())).thenReturn(0);
+    when(kwSchedulerLockRepo.existsById(LOCK_NAME)).thenReturn(false);
+
+    assertThat(schedulerLocks.runLocked(LOCK_NAME, AT_MOST, AT_LEAST, runs::incrementAndGet))
+        .isTrue();
+
+    assertThat(runs.get()).isEqualTo(1);
+    verify(kwSchedulerLockRepo).insertLock(eq(LOCK_NAME), any(), any(), anyString());
+  }
+
+  @Test
+  public void skipsTaskWhenLockIsHeld() {
+    when(kwSchedulerLockRepo.lockIfFree(eq(LOCK_NAME), any(), any(), anyString())).thenReturn(0);
+    when(kwSchedulerLockRepo.existsById(LOCK_NAME)).thenReturn(true);
+
+    assertThat(schedulerLocks.runLocked(LOCK_NAME, AT_MOST, AT_LEAST, runs::incrementAndGet))
+        .isFalse();
+
+    assertThat(runs.get()).isZero();
+    verify(kwSchedulerLockRepo, never()).insertLock(any(), any(), any(), any());
+    verify(kwSchedulerLockRepo, never()).unlock(any(), any(), any());
+  }
+
+  @Test
+  public void skipsTaskWhenLockIsCreatedConcurrently() {
+    when(kwSchedulerLockRepo.lockIfFree(eq(LOCK_NAME), any(), any(), anyString())).thenReturn(0);
+    when(kwSchedulerLockRepo.existsById(LOCK_NAME)).thenReturn(false);
+    when(kwSchedulerLockRepo.insertLock(eq(LOCK_NAME), any(), any(), anyString()))
+        .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+    assertThat(schedulerLocks.runLocked(LOCK_NAME, AT_MOST, AT_LEAST, runs::incrementAndGet))
+        .isFalse();
+    assertThat(runs.get()).isZero();
+  }
+
+  @Test
+  public void releasesLockWhenTaskFails() {
+    when(kwSchedulerLockRepo.lockIfFree(eq(LOCK_NAME), any(), any(), anyString())).thenReturn(1);
+
+    assertThatThrownBy(
+            () ->
+                schedulerLocks.runLocked(
+                    LOCK_NAME,
+                    AT_MOST,
+                    AT_LEAST,
+                    () -> {
+                      throw new IllegalStateException("failed");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+    verify(kwSchedulerLockRepo).unlock(eq(LOCK_NAME), any(), anyString());
+  }
+}
@@ -3,7 +3,8 @@ package io.aiven.klaw.helpers.db.rdbms;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -29,6 +30,7 @@ import io.aiven.klaw.repository.TeamRepo;
 import io.aiven.klaw.repository.TopicRepo;
 import io.aiven.klaw.repository.TopicRequestsRepo;
 import io.aiven.klaw.repository.UserInfoRepo;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -39,6 +41,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -269,12 +273,30 @@ public class SelectDataJdbcTest {
     userInfo.setRole("ADMIN");
     when(userInfoRepo.findByUsernameIgnoreCase(username))
         .thenReturn(java.util.Optional.of(userInfo));
-    when(activityLogRepo.findAllByEnvAndTenantId(anyString(), anyInt()))
+    Timestamp toTime = new Timestamp(System.currentTimeMillis());
+    when(activityLogRepo.findActivityLogPage(
+            eq(1),
+            eq(env),
+            isNull(),
+            any(Timestamp.class),
+            eq(toTime),
+            eq(Integer.MIN_VALUE),
+            eq(PageRequest.of(0, 20))))
         .thenReturn(utilMethods.getLogs());
 
-    List<ActivityLog> activityLogs = selectData.selectActivityLog(username, env, true, 1);
+    List<ActivityLog> activityLogs =
+        selectData.selectActivityLog(
+            username,
+            env,
+            true,
+            new Timestamp(0),
+            toTime,
+            Integer.MIN_VALUE,
+            PageRequest.of(0, 20),
+            1);
 
     assertThat(activityLogs).hasSize(1);
+    assertThat(activityLogs.get(0).getActivityTimeString()).isNotNull();
   }
 
   @Test
@@ -286,11 +308,26 @@ public class SelectDataJdbcTest {
     userInfo.setRole("SUPERUSER");
     when(userInfoRepo.findByUsernameIgnoreCase(username))
         .thenReturn(java.util.Optional.of(userInfo));
-    when(activityLogRepo.findAllByEnvAndTenantId(env, 1)).thenReturn(utilMethods.getLogs());
+    Timestamp toTime = new Timestamp(System.currentTimeMillis());
+    // activities of the team of the user, in all environments
+    when(activityLogRepo.findActivityLogPage(
+            eq(1),
+            isNull(),
+            eq(1),
+            any(Timestamp.class),
+            any(Timestamp.class),
+            eq(1005),
+            any(Pageable.class)))
+        .thenReturn(utilMethods.getLogs());
+    when(activityLogRepo.countActivityLog(1, null, 1, new Timestamp(0), toTime)).thenReturn(1L);
 
-    List<ActivityLog> activityLogs = selectData.selectActivityLog(username, env, true, 1);
+    List<ActivityLog> activityLogs =
+        selectData.selectActivityLog(
+            username, "", false, new Timestamp(0), toTime, 1005, PageRequest.of(0, 20), 1);
 
     assertThat(activityLogs).hasSize(1);
+    assertThat(selectData.countActivityLog(username, " ", false, new Timestamp(0), toTime, 1))
+        .isEqualTo(1L);
   }
 
   @Test
@@ -0,0 +1,201 @@
+package io.aiven.klaw.helpers.db.rdbms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.aiven.klaw.model.enums.RequestEntityType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Slf4j
+public class TenantEntityLocksTest {
+
+  private static final int TENANTS = 8;
+
+  private static final int WRITES_PER_TENANT = 20;
+
+  private static final long WRITE_MILLIS = 2;
+
+  private TenantEntityLocks tenantEntityLocks;
+
+  private ExecutorService executorService;
+
+  @BeforeEach
+  public void setUp() {
+    tenantEntityLocks = new TenantEntityLocks(64);
+    executorService = Executors.newFixedThreadPool(TENANTS);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  public void writesOfOtherTenantsAreNotBlocked() throws Exception {
+    // each write waits inside its locks for the other writes, which only pass when all of them
+    // hold their locks at the same time
+    CyclicBarrier allLocked = new CyclicBarrier(3);
+    Future<String> tenant101Write = submitWrite(Set.of(101), RequestEntityType.TOPIC, allLocked);
+    Future<String> tenant102Write = submitWrite(Set.of(102), RequestEntityType.TOPIC, allLocked);
+    Future<String> tenant101AclWrite = submitWrite(Set.of(101), RequestEntityType.ACL, allLocked);
+
+    assertThat(tenant101Write.get(5, TimeUnit.SECONDS)).isEqualTo("[101]-TOPIC");
+    assertThat(tenant102Write.get(5, TimeUnit.SECONDS)).isEqualTo("[102]-TOPIC");
+    assertThat(tenant101AclWrite.get(5, TimeUnit.SECONDS)).isEqualTo("[101]-ACL");
+  }
+
+  @Test
+  public void writesOfSameTenantAndEntityTypeAreSerialised() throws Exception {
+    CountDownLatch tenant101Locked = new CountDownLatch(1);
+    CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+    CountDownLatch secondWriteEntered = new CountDownLatch(1);
+    Future<String> firstWrite =
+        executorService.submit(
+            () ->
+                tenantEntityLocks.callWithLocks(
+                    Set.of(101),
+                    RequestEntityType.TOPIC,
+                    () -> {
+                      tenant101Locked.countDown();
+                      awaitLatch(releaseFirstWrite);
+                      return "first";
+                    }));
+    assertThat(tenant101Locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+    Future<String> secondWrite =
+        executorService.submit(
+            () ->
+                tenantEntityLocks.callWithLocks(
+                    Set.of(101, 102),
+                    RequestEntityType.TOPIC,
+                    () -> {
+                      secondWriteEntered.countDown();
+                      return "second";
+                    }));
+
+    // the second write waits as long as the first one holds the lock of tenant 101
+    assertThat(secondWriteEntered.await(200, TimeUnit.MILLISECONDS)).isFalse();
+    assertThat(secondWrite.isDone()).isFalse();
+
+    releaseFirstWrite.countDown();
+    assertThat(firstWrite.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+    assertThat(secondWrite.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+    assertThat(secondWriteEntered.getCount()).isZero();
+  }
+
+  /**
+   * Contention benchmark : tenants write concurrently, each write holding the lock for a simulated
+   * database round trip. With one monitor for all tenants (as with synchronized write methods) the
+   * writes of all tenants are serialised, with the tenant locks only the writes of each tenant are.
+   * It depends on timings, so it is excluded from the default build, run it with {@code mvn test
+   * -Dsurefire.excludedGroups= -Dgroups=benchmark}.
+   */
+  @Test
+  @Tag("benchmark")
+  public void multiTenantWriteThroughput() throws Exception {
+    Object globalMonitor = new Object();
+    double globalWritesPerSecond =
+        runWrites(
+            tenantId ->
+                () -> {
+                  synchronized (globalMonitor) {
+                    return simulateWrite();
+                  }
+                });
+    double tenantWritesPerSecond =
+        runWrites(
+            tenantId ->
+                () ->
+                    tenantEntityLocks.callWithLocks(
+                        Set.of(tenantId), RequestEntityType.TOPIC, this::simulateWrite));
+
+    log.info(
+        "{} tenants, {} writes of {} ms each : global lock {} writes/s, tenant locks {} writes/s",
+        TENANTS,
+        TENANTS * WRITES_PER_TENANT,
+        WRITE_MILLIS,
+        Math.round(globalWritesPerSecond),
+        Math.round(tenantWritesPerSecond));
+    assertThat(tenantWritesPerSecond).isGreaterThan(2 * globalWritesPerSecond);
+  }
+
+  private double runWrites(TenantWrite tenantWrite) throws Exception {
+    long startNanos = System.nanoTime();
+    List<Future<?>> futures = new ArrayList<>();
+    for (int tenantId = 101; tenantId < 101 + TENANTS; tenantId++) {
+      Supplier<Integer> write = tenantWrite.forTenant(tenantId);
+      futures.add(
+          executorService.submit(
+              () -> {
+                for (int i = 0; i < WRITES_PER_TENANT; i++) {
+                  write.get();
+                }
+              }));
+    }
+    for (Future<?> future : futures) {
+      future.get(60, TimeUnit.SECONDS);
+    }
+    double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+    return TENANTS * WRITES_PER_TENANT / elapsedSeconds;
+  }
+
+  private Integer simulateWrite() {
+    try {
+      Thread.sleep(WRITE_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return 1;
+  }
+
+  private Future<String> submitWrite(
+      Set<Integer> tenantIds, RequestEntityType entityType, CyclicBarrier allLocked) {
+    return executorService.submit(
+        () ->
+            tenantEntityLocks.callWithLocks(
+                tenantIds,
+                entityType,
+                () -> {
+                  awaitBarrier(allLocked);
+                  return tenantIds + "-" + entityType.name();
+                }));
+  }
+
+  private static void awaitBarrier(CyclicBarrier barrier) {
+    try {
+      barrier.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    } catch (BrokenBarrierException | TimeoutException e) {
+      throw new IllegalStateException("writes did not hold their locks at the same time", e);
+    }
+  }
+
+  private static void awaitLatch(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private interface TenantWrite {
+    Supplier<Integer> forTenant(int tenantId);
+  }
+}
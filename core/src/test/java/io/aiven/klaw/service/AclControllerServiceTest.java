@@ -4,14 +4,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.beans.BeanUtils.copyProperties;
 
 import io.aiven.klaw.UtilMethods;
+import io.aiven.klaw.cache.AclCatalog;
 import io.aiven.klaw.config.ManageDatabase;
 import io.aiven.klaw.dao.Acl;
 import io.aiven.klaw.dao.AclRequests;
@@ -27,7 +30,9 @@ import io.aiven.klaw.model.enums.AclIPPrincipleType;
 import io.aiven.klaw.model.enums.AclPatternType;
 import io.aiven.klaw.model.enums.AclType;
 import io.aiven.klaw.model.enums.ApiResultStatus;
+import io.aiven.klaw.model.enums.EntityType;
 import io.aiven.klaw.model.enums.KafkaFlavors;
+import io.aiven.klaw.model.enums.MetadataOperationType;
 import io.aiven.klaw.model.enums.RequestOperationType;
 import io.aiven.klaw.model.enums.RequestStatus;
 import io.aiven.klaw.model.requests.AclRequestsModel;
@@ -92,6 +97,7 @@ public class AclControllerServiceTest {
         "rolesPermissionsControllerService",
         rolesPermissionsControllerService);
     when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequests);
+    when(manageDatabase.getAclCatalog(anyInt())).thenReturn(AclCatalog.empty());
     loginMock();
   }
 
@@ -238,8 +244,7 @@ public class AclControllerServiceTest {
     acl.setConsumergroup(aclRequestsModel.getConsumergroup());
 
     when(commonUtilsService.getTopicsForTopicName(anyString(), anyInt())).thenReturn(topicList);
-    when(handleDbRequests.getUniqueConsumerGroups(anyInt()))
-        .thenReturn(Collections.singletonList(acl));
+    when(manageDatabase.getAclCatalog(anyInt())).thenReturn(AclCatalog.of(List.of(acl)));
     stubUserInfo();
     mockKafkaFlavor();
 
@@ -498,6 +503,92 @@ public class AclControllerServiceTest {
     assertThat(apiResp.isSuccess()).isTrue();
   }
 
+  @Test
+  @Order(16)
+  public void approveAclRequestsOfSeveralRequestsInBatch() throws KlawException {
+    AclRequests aclReq1 = getAclRequestDao();
+    AclRequests aclReq2 = getAclRequestDao();
+    aclReq2.setReq_no(113);
+    aclReq2.setTopicname("testtopic2");
+
+    stubUserInfo();
+    mockKafkaFlavor();
+    when(handleDbRequests.getAcl(eq(112), anyInt())).thenReturn(aclReq1);
+    when(handleDbRequests.getAcl(eq(113), anyInt())).thenReturn(aclReq2);
+    when(clusterApiService.approveAclRequests(eq("1"), anyList(), anyInt()))
+        .thenReturn(List.of(ApiResultStatus.SUCCESS.value, "No authorizer"));
+    when(handleDbRequests.updateAclRequest(any(), any(), anyString()))
+        .thenReturn(ApiResultStatus.SUCCESS.value);
+    when(commonUtilsService.getEnvsFromUserId(anyString()))
+        .thenReturn(new HashSet<>(Collections.singletonList("1")));
+
+    List<ApiResponse> apiResponses = aclControllerService.approveAclRequests(List.of("112", "113"));
+
+    assertThat(apiResponses).extracting(ApiResponse::isSuccess).containsExactly(true, false);
+    // one batch for both requests, only the applied request is approved
+    verify(clusterApiService, times(1)).approveAclRequests(anyString(), anyList(), anyInt());
+    verify(clusterApiService, never()).approveAclRequests(any(AclRequests.class), anyInt());
+    verify(handleDbRequests, times(1)).updateAclRequest(eq(aclReq1), any(), anyString());
+  }
+
+  @Test
+  @Order(15)
+  public void approveAclRequestsInBatchReloadsAclsOncePerBatch() throws KlawException {
+    AclRequests aclReq1 = getAclRequestDao();
+    AclRequests aclReq2 = getAclRequestDao();
+    aclReq2.setReq_no(113);
+    aclReq2.setTopicname("testtopic2");
+    AclRequests aclReq3 = getAclRequestDao();
+    aclReq3.setReq_no(114);
+    aclReq3.setTopicname("testtopic3");
+
+    stubUserInfo();
+    mockKafkaFlavor();
+    when(handleDbRequests.getAcl(eq(112), anyInt())).thenReturn(aclReq1);
+    when(handleDbRequests.getAcl(eq(113), anyInt())).thenReturn(aclReq2);
+    when(handleDbRequests.getAcl(eq(114), anyInt())).thenReturn(aclReq3);
+    when(clusterApiService.approveAclRequests(eq("1"), anyList(), anyInt()))
+        .thenReturn(
+            List.of(
+                ApiResultStatus.SUCCESS.value,
+                ApiResultStatus.SUCCESS.value,
+                ApiResultStatus.SUCCESS.value));
+    when(handleDbRequests.updateAclRequest(any(), any(), anyString()))
+        .thenReturn(ApiResultStatus.SUCCESS.value);
+    when(commonUtilsService.getEnvsFromUserId(anyString()))
+        .thenReturn(new HashSet<>(Collections.singletonList("1")));
+
+    List<ApiResponse> apiResponses =
+        aclControllerService.approveAclRequests(List.of("112", "113", "114"));
+
+    assertThat(apiResponses).extracting(ApiResponse::isSuccess).containsOnly(true);
+    verify(commonUtilsService, times(1))
+        .updateMetadata(anyInt(), eq(EntityType.ACLS), eq(MetadataOperationType.UPDATE));
+  }
+
+  @Test
+  @Order(16)
+  public void approveAclRequestsOfAivenClusterOneByOne() throws KlawException {
+    AclRequests aclReq = getAclRequestDao();
+
+    stubUserInfo();
+    mockKafkaFlavorAiven();
+    when(handleDbRequests.getAcl(anyInt(), anyInt())).thenReturn(aclReq);
+    ApiResponse apiResponse =
+        ApiResponse.builder().success(true).message(ApiResultStatus.SUCCESS.value).build();
+    when(clusterApiService.approveAclRequests(any(AclRequests.class), anyInt()))
+        .thenReturn(new ResponseEntity<>(apiResponse, HttpStatus.OK));
+    when(handleDbRequests.updateAclRequest(any(), any(), anyString()))
+        .thenReturn(ApiResultStatus.SUCCESS.value);
+    when(commonUtilsService.getEnvsFromUserId(anyString()))
+        .thenReturn(new HashSet<>(Collections.singletonList("1")));
+
+    List<ApiResponse> apiResponses = aclControllerService.approveAclRequests(List.of("112"));
+
+    assertThat(apiResponses).extracting(ApiResponse::isSuccess).containsExactly(true);
+    verify(clusterApiService, never()).approveAclRequests(anyString(), anyList(), anyInt());
+  }
+
   @Test
   @Order(17)
   public void approveAclRequestsWithAivenAcl() throws KlawException {
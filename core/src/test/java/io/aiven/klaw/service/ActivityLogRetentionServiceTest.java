@@ -0,0 +1,89 @@
+package io.aiven.klaw.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.ActivityLog;
+import io.aiven.klaw.repository.ActivityLogRepo;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+@ExtendWith(SpringExtension.class)
+public class ActivityLogRetentionServiceTest {
+
+  @Mock private ActivityLogRepo activityLogRepo;
+
+  @Mock private ManageDatabase manageDatabase;
+
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private ActivityLogRetentionService activityLogRetentionService;
+
+  @BeforeEach
+  public void setUp() {
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    when(manageDatabase.getTenantMap()).thenReturn(Map.of(101, "default"));
+
+    activityLogRetentionService = new ActivityLogRetentionService();
+    ReflectionTestUtils.setField(activityLogRetentionService, "activityLogRepo", activityLogRepo);
+    ReflectionTestUtils.setField(activityLogRetentionService, "manageDatabase", manageDatabase);
+    ReflectionTestUtils.setField(
+        activityLogRetentionService, "transactionManager", transactionManager);
+    ReflectionTestUtils.setField(activityLogRetentionService, "retentionDays", 30);
+    ReflectionTestUtils.setField(activityLogRetentionService, "chunkSize", 2);
+    activityLogRetentionService.init();
+  }
+
+  @Test
+  public void archivesExpiredActivityLogsInChunks() {
+    Timestamp beforeTime = Timestamp.valueOf(LocalDate.now().minusDays(30).atStartOfDay());
+    when(activityLogRepo.findActivityLogBeforeForUpdate(101, beforeTime, PageRequest.of(0, 2)))
+        .thenReturn(getActivityLogs(1001, 1002), getActivityLogs(1003), new ArrayList<>());
+
+    assertThat(activityLogRetentionService.archiveActivityLog()).isEqualTo(3);
+
+    verify(activityLogRepo).copyToArchive(101, List.of(1001, 1002));
+    verify(activityLogRepo).deleteByTenantIdAndReqNos(101, List.of(1001, 1002));
+    verify(activityLogRepo).copyToArchive(101, List.of(1003));
+    verify(activityLogRepo).deleteByTenantIdAndReqNos(101, List.of(1003));
+  }
+
+  @Test
+  public void retentionDisabledByDefault() {
+    ReflectionTestUtils.setField(activityLogRetentionService, "retentionDays", 0);
+
+    activityLogRetentionService.archiveActivityLogScheduler();
+
+    verify(activityLogRepo, never()).findActivityLogBeforeForUpdate(anyInt(), any(), any());
+    verify(activityLogRepo, never()).copyToArchive(eq(101), any());
+  }
+
+  private List<ActivityLog> getActivityLogs(int... reqNos) {
+    List<ActivityLog> activityLogs = new ArrayList<>();
+    for (int reqNo : reqNos) {
+      ActivityLog activityLog = new ActivityLog();
+      activityLog.setReq_no(reqNo);
+      activityLog.setTenantId(101);
+      activityLogs.add(activityLog);
+    }
+    return activityLogs;
+  }
+}
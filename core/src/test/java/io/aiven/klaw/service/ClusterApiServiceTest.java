@@ -1,5 +1,9 @@
 package io.aiven.klaw.service;
 
+import static io.aiven.klaw.error.KlawErrorMessages.CLUSTER_API_ERR_119;
+import static io.aiven.klaw.helpers.KwConstants.URI_ACLS_BATCH;
+import static io.aiven.klaw.helpers.KwConstants.URI_CREATE_TOPICS_BATCH;
+import static io.aiven.klaw.helpers.KwConstants.URI_DELETE_TOPICS_BATCH;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
@@ -17,16 +21,21 @@ import io.aiven.klaw.dao.TopicRequest;
 import io.aiven.klaw.error.KlawException;
 import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
 import io.aiven.klaw.model.ApiResponse;
+import io.aiven.klaw.model.cluster.ClusterAclRequest;
 import io.aiven.klaw.model.cluster.ClusterSchemaRequest;
+import io.aiven.klaw.model.cluster.ClusterTopicRequest;
 import io.aiven.klaw.model.enums.AclIPPrincipleType;
+import io.aiven.klaw.model.enums.AclType;
 import io.aiven.klaw.model.enums.ApiResultStatus;
 import io.aiven.klaw.model.enums.ClusterStatus;
 import io.aiven.klaw.model.enums.KafkaClustersType;
 import io.aiven.klaw.model.enums.KafkaSupportedProtocol;
 import io.aiven.klaw.model.enums.RequestOperationType;
 import io.aiven.klaw.model.response.TopicConfig;
+import io.aiven.klaw.model.response.TopicsPage;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -171,19 +180,28 @@ public class ClusterApiServiceTest {
   @Test
   @Order(5)
   public void getAllTopicsSuccess() throws Exception {
-    Set<String> topicsList = getTopics();
-    ResponseEntity response = new ResponseEntity<>(topicsList, HttpStatus.OK);
+    TopicsPage firstPage = getTopicsPage("dG9waWMx", "topic1");
+    TopicsPage lastPage = getTopicsPage(null, "topic2");
 
     when(restTemplate.exchange(
             Mockito.anyString(),
             eq(HttpMethod.GET),
             Mockito.any(),
-            (ParameterizedTypeReference<Object>) any()))
-        .thenReturn(response);
+            (ParameterizedTypeReference<Object>) any(),
+            Mockito.anyMap()))
+        .thenReturn(new ResponseEntity<>(firstPage, HttpStatus.OK))
+        .thenReturn(new ResponseEntity<>(lastPage, HttpStatus.OK));
 
     List<TopicConfig> result =
         clusterApiService.getAllTopics("", KafkaSupportedProtocol.PLAINTEXT, "", "", 1);
-    assertThat(result).isEqualTo(new ArrayList<>(topicsList));
+    assertThat(result).extracting(TopicConfig::getTopicName).containsExactly("topic1", "topic2");
+    verify(restTemplate)
+        .exchange(
+            Mockito.anyString(),
+            eq(HttpMethod.GET),
+            Mockito.any(),
+            (ParameterizedTypeReference<Object>) any(),
+            eq(Map.of("topicNamePattern", "", "pageSize", 2000, "pageToken", "dG9waWMx")));
   }
 
   @Test
@@ -441,6 +459,134 @@ public class ClusterApiServiceTest {
         .isInstanceOf(KlawException.class);
   }
 
+  @Test
+  @Order(14)
+  public void approveTopicRequestsInBatches() throws KlawException {
+    mockKafkaCluster();
+    int topicCount = ClusterApiService.TOPIC_BATCH_SIZE + 50;
+    List<TopicRequest> topicRequests = new ArrayList<>();
+    for (int i = 0; i < topicCount; i++) {
+      topicRequests.add(getTopicRequest("testtopic" + i));
+    }
+    when(restTemplate.postForEntity(Mockito.anyString(), Mockito.any(), eq(ApiResponse.class)))
+        .thenAnswer(
+            invocation -> {
+              HttpEntity<List<ClusterTopicRequest>> request = invocation.getArgument(1);
+              Map<String, String> topicResults = new LinkedHashMap<>();
+              for (ClusterTopicRequest clusterTopicRequest : request.getBody()) {
+                String topicName =
+                    (String) ReflectionTestUtils.getField(clusterTopicRequest, "topicName");
+                topicResults.put(
+                    topicName,
+                    "testtopic1".equals(topicName)
+                        ? "Topic already exists."
+                        : ApiResultStatus.SUCCESS.value);
+              }
+              return new ResponseEntity<>(
+                  ApiResponse.builder()
+                      .success(false)
+                      .message("1 of " + topicResults.size() + " topics failed.")
+                      .data(topicResults)
+                      .build(),
+                  HttpStatus.OK);
+            });
+
+    Map<String, String> results =
+        clusterApiService.approveTopicRequests(
+            "1", RequestOperationType.CREATE.value, topicRequests, Map.of(), 1);
+
+    verify(restTemplate, times(2))
+        .postForEntity(
+            eq("http://cluster" + URI_CREATE_TOPICS_BATCH), any(), eq(ApiResponse.class));
+    assertThat(results).hasSize(topicCount);
+    assertThat(results.get("testtopic0")).isEqualTo(ApiResultStatus.SUCCESS.value);
+    assertThat(results.get("testtopic1")).isEqualTo("Topic already exists.");
+  }
+
+  @Test
+  @Order(15)
+  public void approveTopicRequestsBatchFailureIsResultOfAllTopics() throws KlawException {
+    mockKafkaCluster();
+    when(restTemplate.postForEntity(Mockito.anyString(), Mockito.any(), eq(ApiResponse.class)))
+        .thenThrow(
+            new RuntimeException("Cannot connect to cluster. Please contact Administrator."));
+
+    Map<String, String> results =
+        clusterApiService.approveTopicRequests(
+            "1",
+            RequestOperationType.DELETE.value,
+            List.of(getTopicRequest("testtopic1"), getTopicRequest("testtopic2")),
+            Map.of(),
+            1);
+
+    verify(restTemplate)
+        .postForEntity(
+            eq("http://cluster" + URI_DELETE_TOPICS_BATCH), any(), eq(ApiResponse.class));
+    assertThat(results)
+        .containsOnlyKeys("testtopic1", "testtopic2")
+        .containsValues(CLUSTER_API_ERR_119);
+  }
+
+  @Test
+  @Order(16)
+  public void approveAclRequestsInBatchReportsFirstErrorOfEachRequest() throws KlawException {
+    mockKafkaCluster();
+    AclRequests aclRequest1 = getAclRequest("testtopic1");
+    aclRequest1.setAcl_ip("1.2.3.4" + AclControllerService.SEPARATOR_ACL + "5.6.7.8");
+    AclRequests aclRequest2 = getAclRequest("testtopic2");
+    when(restTemplate.postForEntity(Mockito.anyString(), Mockito.any(), eq(ApiResponse.class)))
+        .thenReturn(
+            new ResponseEntity<>(
+                ApiResponse.builder()
+                    .success(false)
+                    .message("1 of 3 acl requests failed.")
+                    .data(List.of(ApiResultStatus.SUCCESS.value, "No authorizer", "success"))
+                    .build(),
+                HttpStatus.OK));
+
+    List<String> results =
+        clusterApiService.approveAclRequests("1", List.of(aclRequest1, aclRequest2), 1);
+
+    // each ip of a request is an acl of its own
+    ArgumentCaptor<HttpEntity<List<ClusterAclRequest>>> requestCaptor =
+        ArgumentCaptor.forClass(HttpEntity.class);
+    verify(restTemplate)
+        .postForEntity(
+            eq("http://cluster" + URI_ACLS_BATCH), requestCaptor.capture(), eq(ApiResponse.class));
+    assertThat(requestCaptor.getValue().getBody()).hasSize(3);
+    assertThat(results).containsExactly("No authorizer", ApiResultStatus.SUCCESS.value);
+  }
+
+  private AclRequests getAclRequest(String topicName) {
+    AclRequests aclRequest = new AclRequests();
+    aclRequest.setTopicname(topicName);
+    aclRequest.setEnvironment("1");
+    aclRequest.setAclType(AclType.PRODUCER.value);
+    aclRequest.setAcl_ip("1.2.3.4");
+    aclRequest.setAclIpPrincipleType(AclIPPrincipleType.IP_ADDRESS);
+    aclRequest.setRequestOperationType(RequestOperationType.CREATE.value);
+    return aclRequest;
+  }
+
+  private void mockKafkaCluster() {
+    when(handleDbRequests.getEnvDetails(anyString(), anyInt())).thenReturn(this.env);
+    when(manageDatabase.getClusters(any(KafkaClustersType.class), anyInt()))
+        .thenReturn(clustersHashMap);
+    when(clustersHashMap.get(any())).thenReturn(kwClusters);
+    when(kwClusters.getBootstrapServers()).thenReturn(BOOTSRAP_SERVERS);
+    when(kwClusters.getProtocol()).thenReturn(KafkaSupportedProtocol.PLAINTEXT);
+    when(kwClusters.getClusterName()).thenReturn("cluster");
+  }
+
+  private TopicRequest getTopicRequest(String topicName) {
+    TopicRequest topicRequest = new TopicRequest();
+    topicRequest.setTopicname(topicName);
+    topicRequest.setEnvironment("1");
+    topicRequest.setTopicpartitions(2);
+    topicRequest.setReplicationfactor("1");
+    return topicRequest;
+  }
+
   private Set<String> getTopics() {
     Set<String> topicsList = new HashSet<>();
     topicsList.add("topic1");
@@ -448,4 +594,13 @@ public class ClusterApiServiceTest {
 
     return topicsList;
   }
+
+  private TopicsPage getTopicsPage(String nextPageToken, String topicName) {
+    TopicConfig topicConfig = new TopicConfig();
+    topicConfig.setTopicName(topicName);
+    TopicsPage topicsPage = new TopicsPage();
+    topicsPage.setTopics(List.of(topicConfig));
+    topicsPage.setNextPageToken(nextPageToken);
+    return topicsPage;
+  }
 }
@@ -1,11 +1,19 @@
 package io.aiven.klaw.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.aiven.klaw.UtilMethods;
+import io.aiven.klaw.cache.TopicCatalog;
 import io.aiven.klaw.config.ManageDatabase;
 import io.aiven.klaw.dao.Topic;
+import io.aiven.klaw.dao.UserInfo;
+import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
+import io.aiven.klaw.model.PrincipalContext;
+import io.aiven.klaw.model.enums.PermissionType;
+import java.util.EnumSet;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.MethodOrderer;
@@ -13,8 +21,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 @ExtendWith(SpringExtension.class)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -24,6 +35,8 @@ public class CommonUtilsServiceTest {
 
   @Mock private ManageDatabase manageDatabase;
 
+  @Mock private HandleDbRequestsJdbc handleDbRequests;
+
   private CommonUtilsService commonUtilsService;
 
   @BeforeEach
@@ -38,7 +51,7 @@ public class CommonUtilsServiceTest {
     List<Topic> topicList1 = utilMethods.getMultipleTopics("test1", 20, "1", 101);
     List<Topic> topicList2 = utilMethods.getMultipleTopics("test2", 20, "2", 101);
     topicList1.addAll(topicList2);
-    when(manageDatabase.getTopicsForTenant(1)).thenReturn(topicList1);
+    when(manageDatabase.getTopicCatalog(1)).thenReturn(TopicCatalog.of(topicList1));
     List<Topic> topicList = commonUtilsService.getTopicsForTopicName("test10", 1);
     assertThat(topicList).hasSize(1);
   }
@@ -48,7 +61,7 @@ public class CommonUtilsServiceTest {
     List<Topic> topicList1 = utilMethods.getMultipleTopics("test1", 20, "1", 101);
     List<Topic> topicList2 = utilMethods.getMultipleTopics("test2", 20, "2", 101);
     topicList1.addAll(topicList2);
-    when(manageDatabase.getTopicsForTenant(1)).thenReturn(topicList1);
+    when(manageDatabase.getTopicCatalog(1)).thenReturn(TopicCatalog.of(topicList1));
     List<Topic> topicList = commonUtilsService.getTopics(null, null, 1);
     assertThat(topicList).hasSize(40);
   }
@@ -56,8 +69,8 @@ public class CommonUtilsServiceTest {
   @Test
   public void getSyncTopicsFilterEnvAll() {
     String env = "1";
-    when(manageDatabase.getTopicsForTenant(1))
-        .thenReturn(utilMethods.getMultipleTopics("test", 20, "1", 101));
+    when(manageDatabase.getTopicCatalog(1))
+        .thenReturn(TopicCatalog.of(utilMethods.getMultipleTopics("test", 20, "1", 101)));
     List<Topic> topicList = commonUtilsService.getTopics(env, null, 1);
     assertThat(topicList).hasSize(20);
   }
@@ -65,16 +78,16 @@ public class CommonUtilsServiceTest {
   @Test
   public void getSyncTopicsFilterEnvNone() {
     String env = "1";
-    when(manageDatabase.getTopicsForTenant(1))
-        .thenReturn(utilMethods.getMultipleTopics("test", 20, "2", 101));
+    when(manageDatabase.getTopicCatalog(1))
+        .thenReturn(TopicCatalog.of(utilMethods.getMultipleTopics("test", 20, "2", 101)));
     List<Topic> topicList = commonUtilsService.getTopics(env, null, 1);
     assertThat(topicList).hasSize(0);
   }
 
   @Test
   public void getSyncTopicsFilterTeam() {
-    when(manageDatabase.getTopicsForTenant(1))
-        .thenReturn(utilMethods.getMultipleTopics("test", 20, "2", 102));
+    when(manageDatabase.getTopicCatalog(1))
+        .thenReturn(TopicCatalog.of(utilMethods.getMultipleTopics("test", 20, "2", 102)));
     List<Topic> topicList = commonUtilsService.getTopics(null, 101, 1);
     assertThat(topicList).hasSize(0);
   }
@@ -84,7 +97,7 @@ public class CommonUtilsServiceTest {
     List<Topic> topicList1 = utilMethods.getMultipleTopics("test", 20, "1", 101);
     List<Topic> topicList2 = utilMethods.getMultipleTopics("test", 5, "2", 102);
     topicList1.addAll(topicList2);
-    when(manageDatabase.getTopicsForTenant(1)).thenReturn(topicList1);
+    when(manageDatabase.getTopicCatalog(1)).thenReturn(TopicCatalog.of(topicList1));
     List<Topic> topicList = commonUtilsService.getTopics(null, 102, 1);
     assertThat(topicList).hasSize(5);
   }
@@ -96,7 +109,7 @@ public class CommonUtilsServiceTest {
     List<Topic> topicList3 = utilMethods.getMultipleTopics("test3", 10, "3", 102);
     topicList1.addAll(topicList2);
     topicList1.addAll(topicList3);
-    when(manageDatabase.getTopicsForTenant(1)).thenReturn(topicList1);
+    when(manageDatabase.getTopicCatalog(1)).thenReturn(TopicCatalog.of(topicList1));
     List<Topic> topicList = commonUtilsService.getTopics("3", 102, 1);
     assertThat(topicList).hasSize(10);
   }
@@ -108,8 +121,58 @@ public class CommonUtilsServiceTest {
     List<Topic> topicList3 = utilMethods.getMultipleTopics("test2", 10, "3", 102);
     topicList1.addAll(topicList2);
     topicList1.addAll(topicList3);
-    when(manageDatabase.getTopicsForTenant(1)).thenReturn(topicList1);
+    when(manageDatabase.getTopicCatalog(1)).thenReturn(TopicCatalog.of(topicList1));
     List<Topic> topicList = commonUtilsService.getTopics("3", 102, 1);
     assertThat(topicList).hasSize(15);
   }
+
+  @Test
+  public void getTenantIdAndTeamIdFromCachedUser() {
+    when(manageDatabase.getCachedUserInfo("kwusera")).thenReturn(utilMethods.getUserInfoMockDao());
+    assertThat(commonUtilsService.getTenantId("kwusera")).isEqualTo(101);
+    assertThat(commonUtilsService.getTeamId("kwusera")).isEqualTo(3);
+    assertThat(commonUtilsService.getTenantId("unknown")).isZero();
+    assertThat(commonUtilsService.getTeamId("unknown")).isZero();
+  }
+
+  @Test
+  public void isNotAuthorizedUserChecksPermissionsOfRole() {
+    UserInfo userInfo = utilMethods.getUserInfoMockDao();
+    when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequests);
+    when(handleDbRequests.getUsersInfo("kwusera")).thenReturn(userInfo);
+    when(manageDatabase.getCachedUserInfo("kwusera")).thenReturn(userInfo);
+    when(manageDatabase.getPermissionTypesOfRole(101, "USER"))
+        .thenReturn(EnumSet.of(PermissionType.REQUEST_CREATE_TOPICS));
+
+    assertThat(
+            commonUtilsService.isNotAuthorizedUser("kwusera", PermissionType.REQUEST_CREATE_TOPICS))
+        .isFalse();
+    assertThat(commonUtilsService.isNotAuthorizedUser("kwusera", PermissionType.APPROVE_TOPICS))
+        .isTrue();
+  }
+
+  @Test
+  public void principalContextResolvedOncePerRequest() {
+    UserInfo userInfo = utilMethods.getUserInfoMockDao();
+    when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequests);
+    when(handleDbRequests.getUsersInfo("kwusera")).thenReturn(userInfo);
+    when(manageDatabase.getCachedUserInfo("kwusera")).thenReturn(userInfo);
+    when(manageDatabase.getPermissionTypesOfRole(101, "USER"))
+        .thenReturn(EnumSet.of(PermissionType.APPROVE_TOPICS));
+
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+    try {
+      commonUtilsService.isNotAuthorizedUser("kwusera", PermissionType.APPROVE_TOPICS);
+      commonUtilsService.isNotAuthorizedUser("kwusera", PermissionType.APPROVE_SCHEMAS);
+      PrincipalContext principalContext = commonUtilsService.getPrincipalContext("kwusera");
+
+      assertThat(principalContext.getTenantId()).isEqualTo(101);
+      assertThat(principalContext.getTeamId()).isEqualTo(3);
+      assertThat(principalContext.getRole()).isEqualTo("USER");
+      verify(handleDbRequests, times(1)).getUsersInfo("kwusera");
+    } finally {
+      RequestContextHolder.resetRequestAttributes();
+    }
+  }
 }
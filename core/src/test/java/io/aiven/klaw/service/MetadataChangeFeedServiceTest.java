@@ -0,0 +1,133 @@
+package io.aiven.klaw.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.aiven.klaw.dao.KwMetadataChange;
+import io.aiven.klaw.model.KwMetadataUpdates;
+import io.aiven.klaw.model.enums.EntityType;
+import io.aiven.klaw.model.enums.MetadataOperationType;
+import io.aiven.klaw.repository.KwMetadataChangeRepo;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(SpringExtension.class)
+public class MetadataChangeFeedServiceTest {
+
+  @Mock private KwMetadataChangeRepo metadataChangeRepo;
+
+  private MetadataChangeFeedService metadataChangeFeedService;
+
+  @BeforeEach
+  public void setUp() {
+    metadataChangeFeedService = new MetadataChangeFeedService();
+    ReflectionTestUtils.setField(
+        metadataChangeFeedService, "metadataChangeRepo", metadataChangeRepo);
+    ReflectionTestUtils.setField(
+        metadataChangeFeedService, "syncMode", MetadataChangeFeedService.SYNC_MODE_CHANGE_FEED);
+    ReflectionTestUtils.setField(metadataChangeFeedService, "versionLookback", 100L);
+    ReflectionTestUtils.setField(metadataChangeFeedService, "retention", Duration.ofDays(1));
+  }
+
+  @Test
+  public void disabledInHttpMode() {
+    ReflectionTestUtils.setField(metadataChangeFeedService, "syncMode", "http");
+    metadataChangeFeedService.init();
+
+    assertThat(metadataChangeFeedService.isEnabled()).isFalse();
+    assertThat(metadataChangeFeedService.pollChanges()).isEmpty();
+    verify(metadataChangeRepo, never()).findAllByVersionGreaterThanOrderByVersionAsc(anyLong());
+  }
+
+  @Test
+  public void publishStoresChangeOfThisInstance() {
+    metadataChangeFeedService.publish(getMetadataUpdates("testtopic"));
+
+    ArgumentCaptor<KwMetadataChange> captor = ArgumentCaptor.forClass(KwMetadataChange.class);
+    verify(metadataChangeRepo).save(captor.capture());
+    assertThat(captor.getValue().getTenantId()).isEqualTo(101);
+    assertThat(captor.getValue().getEntityType()).isEqualTo(EntityType.TOPICS.name());
+    assertThat(captor.getValue().getEntityValue()).isEqualTo("testtopic");
+    assertThat(captor.getValue().getInstanceId())
+        .isEqualTo(ReflectionTestUtils.getField(metadataChangeFeedService, "instanceId"));
+  }
+
+  @Test
+  public void pollReturnsChangesOfOtherInstancesOnce() {
+    when(metadataChangeRepo.findTopByOrderByVersionDesc()).thenReturn(getChange(10, "other"));
+    metadataChangeFeedService.init();
+    String instanceId =
+        (String) ReflectionTestUtils.getField(metadataChangeFeedService, "instanceId");
+
+    when(metadataChangeRepo.findAllByVersionGreaterThanOrderByVersionAsc(anyLong()))
+        .thenReturn(List.of(getChange(11, "other"), getChange(12, instanceId)));
+    List<KwMetadataUpdates> updates = metadataChangeFeedService.pollChanges();
+    assertThat(updates).hasSize(1);
+    assertThat(updates.get(0).getEntityValue()).isEqualTo("topic11");
+
+    // version 9 committed late, version 11 was already applied
+    when(metadataChangeRepo.findAllByVersionGreaterThanOrderByVersionAsc(anyLong()))
+        .thenReturn(
+            List.of(getChange(9, "other"), getChange(11, "other"), getChange(12, instanceId)));
+    updates = metadataChangeFeedService.pollChanges();
+    assertThat(updates).hasSize(1);
+    assertThat(updates.get(0).getEntityValue()).isEqualTo("topic9");
+
+    assertThat(metadataChangeFeedService.pollChanges()).isEmpty();
+  }
+
+  @Test
+  public void pruneDeletesExpiredChangesInOneStatement() {
+    when(metadataChangeRepo.findTopByCreatedTimeBeforeOrderByVersionDesc(any()))
+        .thenReturn(getChange(42, "other"));
+
+    metadataChangeFeedService.pruneChanges();
+
+    verify(metadataChangeRepo).deleteAllUpToVersion(42);
+    verify(metadataChangeRepo, never()).deleteAll(any());
+  }
+
+  @Test
+  public void pruneWithoutExpiredChangesDeletesNothing() {
+    metadataChangeFeedService.pruneChanges();
+
+    verify(metadataChangeRepo, never()).deleteAllUpToVersion(anyLong());
+  }
+
+  @Test
+  public void publishFailureIsNotPropagated() {
+    when(metadataChangeRepo.save(any())).thenThrow(new RuntimeException("db down"));
+    metadataChangeFeedService.publish(getMetadataUpdates("testtopic"));
+  }
+
+  private KwMetadataUpdates getMetadataUpdates(String topicName) {
+    return KwMetadataUpdates.builder()
+        .tenantId(101)
+        .entityType(EntityType.TOPICS.name())
+        .operationType(MetadataOperationType.CREATE.name())
+        .entityValue(topicName)
+        .build();
+  }
+
+  private KwMetadataChange getChange(long version, String instanceId) {
+    KwMetadataChange change = new KwMetadataChange();
+    change.setVersion(version);
+    change.setTenantId(101);
+    change.setEntityType(EntityType.TOPICS.name());
+    change.setOperationType(MetadataOperationType.CREATE.name());
+    change.setEntityValue("topic" + version);
+    change.setInstanceId(instanceId);
+    return change;
+  }
+}
@@ -0,0 +1,124 @@
+package io.aiven.klaw.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.model.KwMetadataUpdates;
+import io.aiven.klaw.model.enums.EntityType;
+import io.aiven.klaw.model.enums.MetadataOperationType;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(SpringExtension.class)
+public class MetadataReloadSchedulerTest {
+
+  @Mock private ManageDatabase manageDatabase;
+
+  private MetadataReloadScheduler metadataReloadScheduler;
+
+  @BeforeEach
+  public void setUp() {
+    metadataReloadScheduler = new MetadataReloadScheduler();
+    ReflectionTestUtils.setField(metadataReloadScheduler, "manageDatabase", manageDatabase);
+    ReflectionTestUtils.setField(metadataReloadScheduler, "coalesceWindow", Duration.ofMillis(200));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    metadataReloadScheduler.shutdown();
+  }
+
+  @Test
+  public void coalescesUpdatesOfSameTenantAndEntityType() throws Exception {
+    List<CompletableFuture<Long>> reloads = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      reloads.add(
+          metadataReloadScheduler.submit(
+              getMetadataUpdates(101, EntityType.TEAM, MetadataOperationType.UPDATE, null)));
+    }
+    CompletableFuture<Long> otherTenantReload =
+        metadataReloadScheduler.submit(
+            getMetadataUpdates(102, EntityType.TEAM, MetadataOperationType.UPDATE, null));
+
+    long version = reloads.get(0).get(5, TimeUnit.SECONDS);
+    otherTenantReload.get(5, TimeUnit.SECONDS);
+    for (CompletableFuture<Long> reload : reloads) {
+      assertThat(reload.get()).isEqualTo(version);
+    }
+    verify(manageDatabase, times(1)).loadTenantTeamsForOneTenant(null, 101);
+    verify(manageDatabase, times(1)).loadTenantTeamsForOneTenant(null, 102);
+    assertThat(metadataReloadScheduler.getCacheVersion()).isEqualTo(2);
+  }
+
+  @Test
+  public void reloadsChangedTopicsByName() throws Exception {
+    metadataReloadScheduler.submit(
+        getMetadataUpdates(101, EntityType.TOPICS, MetadataOperationType.CREATE, "topic1"));
+    metadataReloadScheduler.submit(
+        getMetadataUpdates(101, EntityType.TOPICS, MetadataOperationType.CREATE, "topic2"));
+    metadataReloadScheduler
+        .submit(getMetadataUpdates(101, EntityType.TOPICS, MetadataOperationType.CREATE, "topic1"))
+        .get(5, TimeUnit.SECONDS);
+
+    verify(manageDatabase, times(1)).loadTopicsForOneTenant(101, "topic1");
+    verify(manageDatabase, times(1)).loadTopicsForOneTenant(101, "topic2");
+    verify(manageDatabase, never()).loadTopicsForOneTenant(101);
+  }
+
+  @Test
+  public void fullTopicReloadReplacesReloadsByName() throws Exception {
+    metadataReloadScheduler.submit(
+        getMetadataUpdates(101, EntityType.TOPICS, MetadataOperationType.CREATE, "topic1"));
+    metadataReloadScheduler
+        .submit(getMetadataUpdates(101, EntityType.TOPICS, MetadataOperationType.UPDATE, null))
+        .get(5, TimeUnit.SECONDS);
+
+    verify(manageDatabase, times(1)).loadTopicsForOneTenant(101);
+    verify(manageDatabase, never()).loadTopicsForOneTenant(anyInt(), anyString());
+  }
+
+  @Test
+  public void failedReloadCompletesExceptionally() throws Exception {
+    doThrow(new RuntimeException("db down")).when(manageDatabase).loadUsersForAllTenants();
+    CompletableFuture<Long> reload =
+        metadataReloadScheduler.submit(
+            getMetadataUpdates(101, EntityType.USERS, MetadataOperationType.CREATE, null));
+
+    try {
+      reload.get(5, TimeUnit.SECONDS);
+    } catch (ExecutionException e) {
+      assertThat(e.getCause()).hasMessage("db down");
+    }
+    assertThat(reload).isCompletedExceptionally();
+  }
+
+  private KwMetadataUpdates getMetadataUpdates(
+      int tenantId,
+      EntityType entityType,
+      MetadataOperationType operationType,
+      String entityValue) {
+    return KwMetadataUpdates.builder()
+        .tenantId(tenantId)
+        .entityType(entityType.name())
+        .operationType(operationType.name())
+        .entityValue(entityValue)
+        .build();
+  }
+}
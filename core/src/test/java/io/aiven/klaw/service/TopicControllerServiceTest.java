@@ -5,14 +5,21 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.aiven.klaw.UtilMethods;
+import io.aiven.klaw.cache.AclCatalog;
+import io.aiven.klaw.cache.TopicCatalog;
 import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.Acl;
 import io.aiven.klaw.dao.Env;
 import io.aiven.klaw.dao.KwClusters;
 import io.aiven.klaw.dao.Topic;
@@ -29,6 +36,8 @@ import io.aiven.klaw.model.TopicInfo;
 import io.aiven.klaw.model.enums.AclPatternType;
 import io.aiven.klaw.model.enums.AclType;
 import io.aiven.klaw.model.enums.ApiResultStatus;
+import io.aiven.klaw.model.enums.EntityType;
+import io.aiven.klaw.model.enums.MetadataOperationType;
 import io.aiven.klaw.model.enums.PermissionType;
 import io.aiven.klaw.model.enums.RequestOperationType;
 import io.aiven.klaw.model.enums.RequestStatus;
@@ -287,8 +296,13 @@ public class TopicControllerServiceTest {
         .thenReturn(List.of(getTopic(topicName)));
     when(commonUtilsService.getFilteredTopicsForTenant(any()))
         .thenReturn(List.of(getTopic(topicName)));
-    when(handleDbRequests.getSyncAcls(anyString(), anyString(), anyInt()))
-        .thenReturn(utilMethods.getAcls());
+    List<Acl> acls = utilMethods.getAcls();
+    acls.forEach(
+        acl -> {
+          acl.setEnvironment(envId);
+          acl.setTopicname(topicName);
+        });
+    when(manageDatabase.getAclCatalog(anyInt())).thenReturn(AclCatalog.of(acls));
     try {
       ApiResponse apiResponse =
           topicControllerService.createTopicDeleteRequest(topicName, envId, false);
@@ -344,8 +358,7 @@ public class TopicControllerServiceTest {
         .thenReturn(List.of(getTopic(topicName)));
     when(commonUtilsService.getFilteredTopicsForTenant(any()))
         .thenReturn(List.of(getTopic(topicName)));
-    when(handleDbRequests.getSyncAcls(anyString(), anyString(), anyInt()))
-        .thenReturn(Collections.emptyList());
+    when(manageDatabase.getAclCatalog(anyInt())).thenReturn(AclCatalog.empty());
     Map<String, String> deleteReqResult = new HashMap<>();
     deleteReqResult.put("result", ApiResultStatus.SUCCESS.value);
     when(handleDbRequests.requestForTopic(any())).thenReturn(deleteReqResult);
@@ -499,6 +512,7 @@ public class TopicControllerServiceTest {
     String topicName = "testtopic";
     stubUserInfo();
     when(commonUtilsService.getTenantId(anyString())).thenReturn(101);
+    when(manageDatabase.getTopicCatalog(anyInt())).thenReturn(TopicCatalog.empty());
     TopicTeamResponse topicTeamMap =
         topicControllerService.getTopicTeamOnly(topicName, AclPatternType.PREFIXED);
     assertThat(topicTeamMap.getError()).contains("There are no topics found with this prefix.");
@@ -516,7 +530,7 @@ public class TopicControllerServiceTest {
 
     stubUserInfo();
     when(commonUtilsService.getTenantId(anyString())).thenReturn(101);
-    when(handleDbRequests.getAllTopics(anyInt())).thenReturn(topicList);
+    when(manageDatabase.getTopicCatalog(anyInt())).thenReturn(TopicCatalog.of(topicList));
     when(commonUtilsService.getEnvsFromUserId(anyString()))
         .thenReturn(new HashSet<>(Collections.singletonList("1")));
     TopicTeamResponse topicTeamMap =
@@ -532,7 +546,8 @@ public class TopicControllerServiceTest {
     String teamName = "TestTeam";
     stubUserInfo();
     when(commonUtilsService.getTenantId(anyString())).thenReturn(101);
-    when(handleDbRequests.getAllTopics(anyInt())).thenReturn(utilMethods.getTopics());
+    when(manageDatabase.getTopicCatalog(anyInt()))
+        .thenReturn(TopicCatalog.of(utilMethods.getTopics()));
     when(commonUtilsService.getEnvsFromUserId(anyString()))
         .thenReturn(new HashSet<>(Collections.singletonList("1")));
     when(manageDatabase.getTeamNameFromTeamId(anyInt(), anyInt())).thenReturn(teamName);
@@ -679,6 +694,79 @@ public class TopicControllerServiceTest {
     assertThat(apiResponse1.getMessage()).isEqualTo(ApiResultStatus.SUCCESS.value);
   }
 
+  @Test
+  @Order(23)
+  public void approveTopicRequestsOfSeveralTopicsInBatch() throws KlawException {
+    TopicRequest topicRequest1 = getTopicRequest("topic1");
+    topicRequest1.setTopicid(1001);
+    TopicRequest topicRequest2 = getTopicRequest("topic2");
+    topicRequest2.setTopicid(1002);
+
+    stubUserInfo();
+    when(handleDbRequests.getTopicRequestsForTopic(eq(1001), anyInt())).thenReturn(topicRequest1);
+    when(handleDbRequests.getTopicRequestsForTopic(eq(1002), anyInt())).thenReturn(topicRequest2);
+    when(handleDbRequests.updateTopicRequest(any(), anyString()))
+        .thenReturn(ApiResultStatus.SUCCESS.value);
+    when(clusterApiService.approveTopicRequests(
+            anyString(), eq(RequestOperationType.CREATE.value), anyList(), anyMap(), anyInt()))
+        .thenReturn(
+            Map.of("topic1", ApiResultStatus.SUCCESS.value, "topic2", "Topic already exists."));
+    when(commonUtilsService.getEnvsFromUserId(anyString()))
+        .thenReturn(new HashSet<>(Collections.singletonList("1")));
+
+    List<ApiResponse> apiResponses =
+        topicControllerService.approveTopicRequests(List.of("1001", "1002"));
+
+    assertThat(apiResponses)
+        .extracting(ApiResponse::getMessage)
+        .containsExactly(ApiResultStatus.SUCCESS.value, "Topic already exists.");
+    // one batch for both topics, only the created topic is approved
+    verify(clusterApiService, times(1))
+        .approveTopicRequests(anyString(), anyString(), anyList(), anyMap(), anyInt());
+    verify(handleDbRequests, times(1)).updateTopicRequest(eq(topicRequest1), anyString());
+    verify(handleDbRequests, never()).updateTopicRequest(eq(topicRequest2), anyString());
+  }
+
+  @Test
+  @Order(23)
+  public void approveTopicRequestsInBatchUpdatesMetadataOncePerBatch() throws KlawException {
+    TopicRequest topicRequest1 = getTopicRequest("topic1");
+    topicRequest1.setTopicid(1001);
+    TopicRequest topicRequest2 = getTopicRequest("topic2");
+    topicRequest2.setTopicid(1002);
+    TopicRequest topicRequest3 = getTopicRequest("topic3");
+    topicRequest3.setTopicid(1003);
+
+    stubUserInfo();
+    when(handleDbRequests.getTopicRequestsForTopic(eq(1001), anyInt())).thenReturn(topicRequest1);
+    when(handleDbRequests.getTopicRequestsForTopic(eq(1002), anyInt())).thenReturn(topicRequest2);
+    when(handleDbRequests.getTopicRequestsForTopic(eq(1003), anyInt())).thenReturn(topicRequest3);
+    when(handleDbRequests.updateTopicRequest(any(), anyString()))
+        .thenReturn(ApiResultStatus.SUCCESS.value);
+    when(clusterApiService.approveTopicRequests(
+            anyString(), eq(RequestOperationType.CREATE.value), anyList(), anyMap(), anyInt()))
+        .thenReturn(
+            Map.of(
+                "topic1",
+                ApiResultStatus.SUCCESS.value,
+                "topic2",
+                ApiResultStatus.SUCCESS.value,
+                "topic3",
+                ApiResultStatus.SUCCESS.value));
+    when(commonUtilsService.getEnvsFromUserId(anyString()))
+        .thenReturn(new HashSet<>(Collections.singletonList("1")));
+
+    List<ApiResponse> apiResponses =
+        topicControllerService.approveTopicRequests(List.of("1001", "1002", "1003"));
+
+    assertThat(apiResponses).extracting(ApiResponse::isSuccess).containsOnly(true);
+    verify(commonUtilsService, times(1))
+        .updateMetadata(anyInt(), any(EntityType.class), any(MetadataOperationType.class), any());
+    verify(commonUtilsService, times(1))
+        .updateMetadata(
+            anyInt(), eq(EntityType.TOPICS), eq(MetadataOperationType.CREATE), isNull());
+  }
+
   @Test
   @Order(24)
   public void approveTopicClaimRequests() throws KlawException {
@@ -840,6 +928,9 @@ public class TopicControllerServiceTest {
 
     ApiResponse apiResponse = topicControllerService.saveTopicDocumentation(topicInfo);
     assertThat(apiResponse.getMessage()).isEqualTo(ApiResultStatus.SUCCESS.value);
+    verify(commonUtilsService)
+        .updateMetadata(
+            101, EntityType.TOPICS, MetadataOperationType.UPDATE, topicInfo.getTopicName());
   }
 
   @Test
@@ -924,6 +1015,8 @@ public class TopicControllerServiceTest {
     when(commonUtilsService.deriveCurrentPage(anyString(), anyString(), anyInt())).thenReturn("1");
     when(commonUtilsService.getTopics(any(), any(), anyInt()))
         .thenReturn(getSyncTopics("topic", 4));
+    when(manageDatabase.getTopicCatalog(anyInt()))
+        .thenReturn(TopicCatalog.of(getSyncTopics("topic", 4)));
     when(manageDatabase.getKafkaEnvList(anyInt())).thenReturn(utilMethods.getEnvLists());
     when(manageDatabase.getTeamNameFromTeamId(anyInt(), anyInt()))
         .thenReturn(
@@ -951,6 +1044,8 @@ public class TopicControllerServiceTest {
     when(commonUtilsService.deriveCurrentPage(anyString(), anyString(), anyInt())).thenReturn("1");
     when(commonUtilsService.getTopics(any(), any(), anyInt()))
         .thenReturn(getSyncTopics("topic", 4));
+    when(manageDatabase.getTopicCatalog(anyInt()))
+        .thenReturn(TopicCatalog.of(getSyncTopics("topic", 4)));
     when(manageDatabase.getKafkaEnvList(anyInt())).thenReturn(utilMethods.getEnvLists());
     when(manageDatabase.getTeamNameFromTeamId(anyInt(), anyInt()))
         .thenReturn(
@@ -958,7 +1053,7 @@ public class TopicControllerServiceTest {
             KwConstants.INFRATEAM,
             KwConstants.INFRATEAM,
             KwConstants.INFRATEAM);
-    when(handleDbRequests.getAllTopicsByTopictypeAndTeamname(anyString(), anyInt(), anyInt()))
+    when(commonUtilsService.getTopicsFromTeamAcls(anyString(), anyInt(), anyInt()))
         .thenReturn(getSyncTopics("topic", 4));
     when(commonUtilsService.getEnvProperty(anyInt(), anyString())).thenReturn("1");
     when(commonUtilsService.groupTopicsByEnv(any())).thenReturn(getSyncTopics("topic", 4));
@@ -982,6 +1077,8 @@ public class TopicControllerServiceTest {
     when(commonUtilsService.deriveCurrentPage(anyString(), anyString(), anyInt())).thenReturn("1");
     when(commonUtilsService.getTopics(any(), any(), anyInt()))
         .thenReturn(getSyncTopics("topic", 4));
+    when(manageDatabase.getTopicCatalog(anyInt()))
+        .thenReturn(TopicCatalog.of(getSyncTopics("topic", 4)));
     when(manageDatabase.getKafkaEnvList(anyInt())).thenReturn(utilMethods.getEnvLists());
     when(manageDatabase.getTeamNameFromTeamId(anyInt(), anyInt()))
         .thenReturn(
@@ -992,7 +1089,7 @@ public class TopicControllerServiceTest {
     List<Topic> syncTopics = getSyncTopics("topic", 4);
     syncTopics.get(0).setEnvironmentsList(List.of("1", "2"));
     syncTopics.get(0).setTopicname("testtopic");
-    when(handleDbRequests.getAllTopicsByTopictypeAndTeamname(anyString(), anyInt(), anyInt()))
+    when(commonUtilsService.getTopicsFromTeamAcls(anyString(), anyInt(), anyInt()))
         .thenReturn(getSyncTopics("topic", 4));
     when(commonUtilsService.getEnvProperty(anyInt(), anyString())).thenReturn("1");
     when(commonUtilsService.groupTopicsByEnv(any())).thenReturn(getSyncTopics("topic", 4));
@@ -1017,6 +1114,8 @@ public class TopicControllerServiceTest {
         .thenReturn(Collections.singletonList("1"));
     when(commonUtilsService.deriveCurrentPage(anyString(), anyString(), anyInt())).thenReturn("1");
     when(commonUtilsService.getTopics(envSel, null, 1)).thenReturn(getSyncTopics("topic", 4));
+    when(manageDatabase.getTopicCatalog(anyInt()))
+        .thenReturn(TopicCatalog.of(getSyncTopics("topic", 4)));
 
     List<List<TopicInfo>> topicsList =
         topicControllerService.getTopics(envSel, pageNo, "", topicNameSearch, 0, null);
@@ -12,6 +12,7 @@ import static org.mockito.Mockito.when;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.aiven.klaw.UtilMethods;
+import io.aiven.klaw.cache.AclCatalog;
 import io.aiven.klaw.config.ManageDatabase;
 import io.aiven.klaw.dao.Acl;
 import io.aiven.klaw.dao.Env;
@@ -90,6 +91,7 @@ public class TopicOverviewServiceTest {
     ReflectionTestUtils.setField(topicOverviewService, "commonUtilsService", commonUtilsService);
     ReflectionTestUtils.setField(topicOverviewService, "clusterApiService", clusterApiService);
     when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequests);
+    when(manageDatabase.getAclCatalog(anyInt())).thenReturn(AclCatalog.empty());
     loginMock();
   }
 
@@ -113,8 +115,7 @@ public class TopicOverviewServiceTest {
     when(manageDatabase.getKafkaEnvList(anyInt())).thenReturn(utilMethods.getEnvLists());
     when(handleDbRequests.getAllTeamsOfUsers(anyString(), anyInt()))
         .thenReturn(utilMethods.getTeams());
-    when(handleDbRequests.getSyncAcls(anyString(), anyString(), anyInt()))
-        .thenReturn(getAclsSOT(TESTTOPIC));
+    when(manageDatabase.getAclCatalog(anyInt())).thenReturn(AclCatalog.of(getAclsSOT(TESTTOPIC)));
     when(commonUtilsService.getTopicsForTopicName(anyString(), anyInt()))
         .thenReturn(utilMethods.getTopics(TESTTOPIC));
     when(commonUtilsService.getFilteredTopicsForTenant(any()))
@@ -149,8 +150,8 @@ public class TopicOverviewServiceTest {
     when(manageDatabase.getKafkaEnvList(anyInt())).thenReturn(utilMethods.getEnvLists());
     when(handleDbRequests.getAllTeamsOfUsers(anyString(), anyInt()))
         .thenReturn(utilMethods.getTeams());
-    when(handleDbRequests.getSyncAcls(anyString(), anyString(), anyInt()))
-        .thenReturn(getAclsSOT(topicNameSearch));
+    when(manageDatabase.getAclCatalog(anyInt()))
+        .thenReturn(AclCatalog.of(getAclsSOT(topicNameSearch)));
     when(commonUtilsService.getTopicsForTopicName(anyString(), anyInt()))
         .thenReturn(utilMethods.getTopics(topicNameSearch));
     when(commonUtilsService.getFilteredTopicsForTenant(any()))
@@ -246,8 +247,7 @@ public class TopicOverviewServiceTest {
     when(manageDatabase.getKafkaEnvList(anyInt())).thenReturn(utilMethods.getEnvLists());
     when(handleDbRequests.getAllTeamsOfUsers(anyString(), anyInt()))
         .thenReturn(utilMethods.getTeams());
-    when(handleDbRequests.getSyncAcls(anyString(), anyString(), anyInt()))
-        .thenReturn(getAclsSOT(TESTTOPIC));
+    when(manageDatabase.getAclCatalog(anyInt())).thenReturn(AclCatalog.of(getAclsSOT(TESTTOPIC)));
     when(commonUtilsService.getTopicsForTopicName(anyString(), anyInt()))
         .thenReturn(utilMethods.getTopics(TESTTOPIC));
     when(commonUtilsService.getFilteredTopicsForTenant(any()))
@@ -283,8 +283,7 @@ public class TopicOverviewServiceTest {
     when(commonUtilsService.getEnvProperty(eq(101), eq("ORDER_OF_ENVS"))).thenReturn("1");
     when(commonUtilsService.getTopicsForTopicName(eq(TESTTOPIC), eq(101)))
         .thenReturn(List.of(createTopic(TESTTOPIC)));
-    when(handleDbRequests.getSyncAcls(anyString(), eq(TESTTOPIC), eq(101)))
-        .thenReturn(createAcls(20));
+    when(manageDatabase.getAclCatalog(anyInt())).thenReturn(AclCatalog.of(createAcls(20)));
     when(manageDatabase.getAllEnvList(eq(101)))
         .thenReturn(createListOfEnvs(KafkaClustersType.KAFKA, 3));
     when(manageDatabase.getTeamNameFromTeamId(eq(101), anyInt()))
@@ -354,8 +353,7 @@ public class TopicOverviewServiceTest {
     assertThat(topicOverview.getTopicPromotionDetails().get("status"))
         .isEqualTo(ApiResultStatus.SUCCESS.value);
 
-    when(handleDbRequests.getSyncAcls(anyString(), anyString(), anyInt()))
-        .thenReturn(getAclsSOT(TESTTOPIC));
+    when(manageDatabase.getAclCatalog(anyInt())).thenReturn(AclCatalog.of(getAclsSOT(TESTTOPIC)));
     when(manageDatabase.getClusters(any(KafkaClustersType.class), anyInt()))
         .thenReturn(kwClustersHashMap);
     when(kwClustersHashMap.get(anyInt())).thenReturn(kwClusters);
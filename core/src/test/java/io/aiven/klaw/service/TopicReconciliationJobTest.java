@@ -0,0 +1,227 @@
+package io.aiven.klaw.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.Env;
+import io.aiven.klaw.dao.KwClusters;
+import io.aiven.klaw.dao.Topic;
+import io.aiven.klaw.dao.TopicReconResult;
+import io.aiven.klaw.error.KlawException;
+import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
+import io.aiven.klaw.helpers.db.rdbms.SchedulerLocks;
+import io.aiven.klaw.model.enums.ApiResultStatus;
+import io.aiven.klaw.model.enums.KafkaClustersType;
+import io.aiven.klaw.model.enums.KafkaSupportedProtocol;
+import io.aiven.klaw.model.response.TopicConfig;
+import io.aiven.klaw.repository.TopicReconResultRepo;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(SpringExtension.class)
+public class TopicReconciliationJobTest {
+
+  @Mock private ManageDatabase manageDatabase;
+
+  @Mock private ClusterApiService clusterApiService;
+
+  @Mock private MailUtils mailService;
+
+  @Mock private HandleDbRequestsJdbc handleDbRequests;
+
+  @Mock private TopicReconResultRepo topicReconResultRepo;
+
+  @Mock private SchedulerLocks schedulerLocks;
+
+  private TopicReconciliationJob topicReconciliationJob;
+
+  @BeforeEach
+  public void setUp() {
+    when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequests);
+    when(manageDatabase.getTenantMap()).thenReturn(Map.of(101, "default", 102, "tenant2"));
+
+    topicReconciliationJob = new TopicReconciliationJob();
+    ReflectionTestUtils.setField(topicReconciliationJob, "manageDatabase", manageDatabase);
+    ReflectionTestUtils.setField(topicReconciliationJob, "clusterApiService", clusterApiService);
+    ReflectionTestUtils.setField(topicReconciliationJob, "mailService", mailService);
+    ReflectionTestUtils.setField(
+        topicReconciliationJob, "topicReconResultRepo", topicReconResultRepo);
+    ReflectionTestUtils.setField(topicReconciliationJob, "schedulerLocks", schedulerLocks);
+    ReflectionTestUtils.setField(topicReconciliationJob, "reconEnabled", true);
+    ReflectionTestUtils.setField(topicReconciliationJob, "lockAtMostFor", Duration.ofHours(2));
+    ReflectionTestUtils.setField(topicReconciliationJob, "lockAtLeastFor", Duration.ofMinutes(5));
+    ReflectionTestUtils.setField(topicReconciliationJob, "reconThreads", 4);
+    ReflectionTestUtils.setField(topicReconciliationJob, "clusterConcurrency", 1);
+    ReflectionTestUtils.setField(topicReconciliationJob, "uiApiServers", "https://klaw:9097");
+    ReflectionTestUtils.setField(topicReconciliationJob, "contextPath", "");
+    topicReconciliationJob.init();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    topicReconciliationJob.shutdown();
+  }
+
+  @Test
+  public void reconcileTopicsStoresResultsAndMailsEachTenantOnce() throws Exception {
+    mockEnvs(101, Map.of("1", "DEV", "2", "TST"), "cluster1:9092");
+    mockEnvs(102, Map.of("3", "DEV"), "cluster2:9092");
+    when(clusterApiService.getAllTopics(anyString(), any(), anyString(), any(), anyInt()))
+        .thenReturn(List.of(getTopicConfig("topic1", "2"), getTopicConfig("topic2", "1")));
+    when(handleDbRequests.getSyncTopics(anyString(), any(), anyInt()))
+        .thenReturn(List.of(getTopic("topic1", 1), getTopic("topic3", 1)));
+
+    List<TopicReconResult> results = topicReconciliationJob.reconcileTopics();
+
+    assertThat(results).hasSize(3);
+    TopicReconResult reconResult =
+        results.stream().filter(result -> "1".equals(result.getEnv())).findFirst().orElseThrow();
+    assertThat(reconResult.getStatus()).isEqualTo(ApiResultStatus.SUCCESS.value);
+    assertThat(reconResult.getAddedCount()).isEqualTo(1);
+    assertThat(reconResult.getChangedCount()).isEqualTo(1);
+    assertThat(reconResult.getDeletedCount()).isEqualTo(1);
+    assertThat(reconResult.getMatchedCount()).isZero();
+    assertThat(reconResult.getDetails())
+        .isEqualTo(
+            "ADDED topic2\n"
+                + "CHANGED topic1 partitions 2/1 replication factor 1/1\n"
+                + "DELETED topic3");
+
+    verify(topicReconResultRepo, times(2)).saveAll(any());
+    ArgumentCaptor<String> mailContent = ArgumentCaptor.forClass(String.class);
+    verify(mailService)
+        .sendReconMailToAdmin(
+            anyString(),
+            mailContent.capture(),
+            eq("default"),
+            eq(101),
+            eq("https://klaw:9097/login"));
+    assertThat(mailContent.getValue()).contains("Environment : DEV", "Environment : TST");
+    verify(mailService)
+        .sendReconMailToAdmin(anyString(), anyString(), eq("tenant2"), eq(102), any());
+  }
+
+  @Test
+  public void scheduledReconciliationRunsUnderLock() {
+    topicReconciliationJob.reconcileTopicsScheduler();
+
+    verify(schedulerLocks)
+        .runLocked(
+            eq("TopicReconciliationJob"),
+            eq(Duration.ofHours(2)),
+            eq(Duration.ofMinutes(5)),
+            any(Runnable.class));
+    // the lock is held by another instance, which mails the results
+    verify(manageDatabase, never()).getKafkaEnvList(anyInt());
+    verify(mailService, never()).sendReconMailToAdmin(any(), any(), any(), anyInt(), any());
+  }
+
+  @Test
+  public void failedEnvIsStoredAndOtherEnvsAreReconciled() throws Exception {
+    mockEnvs(101, Map.of("1", "DEV"), "cluster1:9092");
+    mockEnvs(102, Map.of("3", "DEV"), "cluster2:9092");
+    when(clusterApiService.getAllTopics(eq("cluster1:9092"), any(), anyString(), any(), anyInt()))
+        .thenThrow(new KlawException("Could not load topics."));
+    when(clusterApiService.getAllTopics(eq("cluster2:9092"), any(), anyString(), any(), anyInt()))
+        .thenReturn(List.of(getTopicConfig("topic1", "1")));
+    when(handleDbRequests.getSyncTopics(anyString(), any(), anyInt()))
+        .thenReturn(List.of(getTopic("topic1", 1)));
+
+    List<TopicReconResult> results = topicReconciliationJob.reconcileTopics();
+    results.sort(Comparator.comparing(TopicReconResult::getEnv));
+
+    assertThat(results)
+        .extracting(TopicReconResult::getStatus)
+        .containsExactly(ApiResultStatus.FAILURE.value, ApiResultStatus.SUCCESS.value);
+    assertThat(results.get(1).getMatchedCount()).isEqualTo(1);
+    verify(mailService)
+        .sendReconMailToAdmin(
+            anyString(), contains("Reconciliation failed"), eq("default"), eq(101), any());
+    // nothing to reconcile in tenant2
+    verify(mailService, never())
+        .sendReconMailToAdmin(anyString(), anyString(), eq("tenant2"), eq(102), any());
+  }
+
+  @Test
+  public void envsOfSameClusterAreReconciledOneAtATime() throws Exception {
+    // envs of both tenants are on the same cluster
+    mockEnvs(101, Map.of("1", "DEV", "2", "TST"), "cluster1:9092");
+    mockEnvs(102, Map.of("3", "DEV", "4", "TST"), "cluster1:9092");
+    Map<String, AtomicInteger> activeCalls = new ConcurrentHashMap<>();
+    AtomicInteger maxActiveCalls = new AtomicInteger();
+    when(clusterApiService.getAllTopics(anyString(), any(), anyString(), any(), anyInt()))
+        .thenAnswer(
+            invocation -> {
+              AtomicInteger active =
+                  activeCalls.computeIfAbsent(invocation.getArgument(0), k -> new AtomicInteger());
+              maxActiveCalls.accumulateAndGet(active.incrementAndGet(), Math::max);
+              Thread.sleep(20);
+              active.decrementAndGet();
+              return new ArrayList<TopicConfig>();
+            });
+
+    assertThat(topicReconciliationJob.reconcileTopics()).hasSize(4);
+    assertThat(maxActiveCalls.get()).isEqualTo(1);
+  }
+
+  private void mockEnvs(int tenantId, Map<String, String> envNames, String bootstrapServers) {
+    KwClusters kwClusters = new KwClusters();
+    kwClusters.setClusterId(tenantId);
+    kwClusters.setClusterName("cluster");
+    kwClusters.setBootstrapServers(bootstrapServers);
+    kwClusters.setProtocol(KafkaSupportedProtocol.PLAINTEXT);
+    Map<Integer, KwClusters> clusters = new HashMap<>();
+    clusters.put(tenantId, kwClusters);
+    when(manageDatabase.getClusters(KafkaClustersType.KAFKA, tenantId)).thenReturn(clusters);
+
+    List<Env> envs = new ArrayList<>();
+    envNames.forEach(
+        (envId, envName) -> {
+          Env env = new Env();
+          env.setId(envId);
+          env.setName(envName);
+          env.setClusterId(tenantId);
+          envs.add(env);
+        });
+    when(manageDatabase.getKafkaEnvList(tenantId)).thenReturn(envs);
+  }
+
+  private TopicConfig getTopicConfig(String topicName, String partitions) {
+    TopicConfig topicConfig = new TopicConfig();
+    topicConfig.setTopicName(topicName);
+    topicConfig.setPartitions(partitions);
+    topicConfig.setReplicationFactor("1");
+    return topicConfig;
+  }
+
+  private Topic getTopic(String topicName, int partitions) {
+    Topic topic = new Topic();
+    topic.setTopicname(topicName);
+    topic.setNoOfPartitions(partitions);
+    topic.setNoOfReplicas("1");
+    return topic;
+  }
+}
@@ -2,10 +2,13 @@ package io.aiven.klaw.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -24,10 +27,13 @@ import io.aiven.klaw.model.ApiResponse;
 import io.aiven.klaw.model.KwTenantConfigModel;
 import io.aiven.klaw.model.SyncBackTopics;
 import io.aiven.klaw.model.SyncTopicUpdates;
+import io.aiven.klaw.model.SyncTopicsBulk;
 import io.aiven.klaw.model.enums.ApiResultStatus;
 import io.aiven.klaw.model.enums.KafkaClustersType;
 import io.aiven.klaw.model.enums.KafkaSupportedProtocol;
+import io.aiven.klaw.model.enums.RequestOperationType;
 import io.aiven.klaw.model.response.SyncTopicsList;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -45,8 +51,6 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -108,6 +112,9 @@ public class TopicSyncControllerServiceTest {
         topicSyncControllerService, "commonUtilsService", commonUtilsService);
     ReflectionTestUtils.setField(
         topicSyncControllerService, "clusterApiService", clusterApiService);
+    ReflectionTestUtils.setField(
+        topicSyncControllerService, "clusterTopicsCacheTtl", Duration.ofMinutes(2));
+    topicSyncControllerService.init();
 
     when(manageDatabase.getHandleDbRequests()).thenReturn(handleDbRequests);
     loginMock();
@@ -185,7 +192,12 @@ public class TopicSyncControllerServiceTest {
     stubUserInfo();
     when(manageDatabase.getKafkaEnvList(anyInt())).thenReturn(utilMethods.getEnvLists());
     when(clusterApiService.getAllTopics(
-            anyString(), any(KafkaSupportedProtocol.class), anyString(), anyString(), anyInt()))
+            anyString(),
+            any(KafkaSupportedProtocol.class),
+            anyString(),
+            anyString(),
+            isNull(),
+            anyInt()))
         .thenReturn(utilMethods.getClusterApiTopics("topic", 10));
     when(handleDbRequests.getAllTeamsOfUsers(anyString(), anyInt()))
         .thenReturn(getAvailableTeams());
@@ -210,17 +222,12 @@ public class TopicSyncControllerServiceTest {
     mockMultipleTopics();
     mockGetTopicsFromEnv();
     when(clusterApiService.approveTopicRequests(
-            any(),
-            anyString(),
-            anyInt(),
-            anyString(),
-            anyString(),
-            any(),
-            eq(TENANT_ID),
-            anyBoolean()))
-        .thenReturn(createAPIResponse(ApiResultStatus.SUCCESS.value))
+            anyString(), eq(RequestOperationType.CREATE.value), anyList(), anyMap(), eq(TENANT_ID)))
         .thenReturn(
-            createAPIResponse(
+            Map.of(
+                TOPIC_NAME_1,
+                ApiResultStatus.SUCCESS.value,
+                TOPIC_NAME_2,
                 "org.apache.kafka.common.errors.TopicExistsException: Topic 'testtopic' already exists."));
 
     // execute
@@ -256,15 +263,11 @@ public class TopicSyncControllerServiceTest {
     mockMultipleTopics();
     mockGetTopicsFromEnv();
     when(clusterApiService.approveTopicRequests(
-            any(),
-            anyString(),
-            anyInt(),
-            anyString(),
-            anyString(),
-            any(),
-            eq(TENANT_ID),
-            anyBoolean()))
-        .thenReturn(createAPIResponse(ApiResultStatus.SUCCESS.value));
+            anyString(), eq(RequestOperationType.CREATE.value), anyList(), anyMap(), eq(TENANT_ID)))
+        .thenReturn(
+            Map.of(
+                TOPIC_NAME_1, ApiResultStatus.SUCCESS.value,
+                TOPIC_NAME_2, ApiResultStatus.SUCCESS.value));
 
     // execute
     ApiResponse retval =
@@ -299,17 +302,12 @@ public class TopicSyncControllerServiceTest {
 
     mockSelectedOnlyTopics(2, TOPIC_NAME_2, test.getId());
     when(clusterApiService.approveTopicRequests(
-            any(),
-            anyString(),
-            anyInt(),
-            anyString(),
-            anyString(),
-            any(),
-            eq(TENANT_ID),
-            anyBoolean()))
-        .thenReturn(createAPIResponse(ApiResultStatus.SUCCESS.value))
+            anyString(), eq(RequestOperationType.CREATE.value), anyList(), anyMap(), eq(TENANT_ID)))
         .thenReturn(
-            createAPIResponse(
+            Map.of(
+                TOPIC_NAME_1,
+                ApiResultStatus.SUCCESS.value,
+                TOPIC_NAME_2,
                 "org.apache.kafka.common.errors.TopicExistsException: Topic 'testtopic' already exists."));
 
     ApiResponse retval =
@@ -345,15 +343,11 @@ public class TopicSyncControllerServiceTest {
 
     mockSelectedOnlyTopics(2, TOPIC_NAME_2, test.getId());
     when(clusterApiService.approveTopicRequests(
-            any(),
-            anyString(),
-            anyInt(),
-            anyString(),
-            anyString(),
-            any(),
-            eq(TENANT_ID),
-            anyBoolean()))
-        .thenReturn(createAPIResponse(ApiResultStatus.SUCCESS.value));
+            anyString(), eq(RequestOperationType.CREATE.value), anyList(), anyMap(), eq(TENANT_ID)))
+        .thenReturn(
+            Map.of(
+                TOPIC_NAME_1, ApiResultStatus.SUCCESS.value,
+                TOPIC_NAME_2, ApiResultStatus.SUCCESS.value));
 
     ApiResponse retval =
         topicSyncControllerService.updateSyncBackTopics(
@@ -388,15 +382,7 @@ public class TopicSyncControllerServiceTest {
 
     mockSelectedOnlyTopics(2, TOPIC_NAME_2, test.getId());
     when(clusterApiService.approveTopicRequests(
-            any(),
-            anyString(),
-            anyInt(),
-            anyString(),
-            anyString(),
-            any(),
-            eq(TENANT_ID),
-            anyBoolean()))
-        .thenReturn(createAPIResponse(ApiResultStatus.SUCCESS.value))
+            anyString(), eq(RequestOperationType.CREATE.value), anyList(), anyMap(), eq(TENANT_ID)))
         .thenThrow(
             new KlawException("Could not approve topic request. Please contact Administrator."));
 
@@ -404,24 +390,122 @@ public class TopicSyncControllerServiceTest {
         topicSyncControllerService.updateSyncBackTopics(
             createSyncBackTopic(SELECTED_TOPICS, new String[] {"1", "2"}));
 
-    // verfiy only 1 topic Request is sent to the manage database
-    verify(handleDbRequests).requestForTopic(topicRequestCaptor.capture());
-    verify(handleDbRequests).updateTopicRequest(updateTopicRequestCaptor.capture(), eq(USERNAME));
-
-    List<TopicRequest> req = topicRequestCaptor.getAllValues();
-    List<TopicRequest> update = updateTopicRequestCaptor.getAllValues();
-    // we have two topics but one already exists so only one should be added to the database.
-    assertThat(req.size()).isEqualTo(1);
-    assertThat(update.size()).isEqualTo(1);
-    // we expect all request to also be updated to approved
-    assertThat(req.size()).isEqualTo(update.size());
-
-    verifyCaptureContents(req, update, 0, 1, TOPIC_NAME_1);
+    // topics are created in one batch, no topic request is stored when the batch fails
+    verify(handleDbRequests, never()).requestForTopic(any());
+    verify(handleDbRequests, never()).updateTopicRequest(any(), anyString());
 
     assertThat(retval.getMessage())
         .isEqualTo("Error :Could not approve topic request. Please contact Administrator.");
   }
 
+  @Test
+  @Order(10)
+  public void getSyncTopicsReusesClusterTopicsForPagesAndSearches() throws Exception {
+    stubUserInfo();
+    mockClusterTopics();
+
+    SyncTopicsList firstPage =
+        topicSyncControllerService.getSyncTopics("1", "1", "", null, "true", false);
+    SyncTopicsList secondPage =
+        topicSyncControllerService.getSyncTopics("1", "2", "", null, "true", false);
+    SyncTopicsList searched =
+        topicSyncControllerService.getSyncTopics("1", "1", "", "topic1", "true", false);
+
+    assertThat(firstPage.getAllTopicsCount()).isEqualTo(30);
+    assertThat(firstPage.getResultSet()).hasSize(20);
+    assertThat(secondPage.getResultSet()).hasSize(10);
+    // topic1 and topic10 to topic19
+    assertThat(searched.getAllTopicsCount()).isEqualTo(11);
+    verify(clusterApiService, times(1))
+        .getAllTopics(
+            anyString(), any(KafkaSupportedProtocol.class), anyString(), any(), isNull(), anyInt());
+    verify(handleDbRequests, times(1)).getSyncTopics(eq("1"), any(), eq(TENANT_ID));
+  }
+
+  @Test
+  @Order(10)
+  public void getSyncTopicsFiltersSharedReconciliationForTeamOfUser() throws Exception {
+    stubUserInfo();
+    mockClusterTopics();
+    when(handleDbRequests.getSyncTopics(eq("1"), any(), eq(TENANT_ID)))
+        .thenReturn(List.of(createTopic(1, "topic0", "1"), createTopic(2, "topic1", "1")));
+    when(manageDatabase.getTeamNameFromTeamId(TENANT_ID, TENANT_ID)).thenReturn("Team1");
+    when(manageDatabase.getTeamIdFromTeamName(TENANT_ID, "Team1")).thenReturn(TENANT_ID);
+    // the team of the first user may access env 1, the team of the second user may not
+    when(commonUtilsService.getFilteredTopicsForTenant(any()))
+        .thenAnswer(invocation -> invocation.getArgument(0))
+        .thenReturn(List.of());
+
+    SyncTopicsList firstUserTopics =
+        topicSyncControllerService.getSyncTopics("1", "1", "", null, "false", false);
+    SyncTopicsList secondUserTopics =
+        topicSyncControllerService.getSyncTopics("1", "1", "", null, "false", false);
+
+    // topic0 and topic1 are stored for the first user, all cluster topics are new for the second
+    assertThat(firstUserTopics.getResultSet()).hasSize(28);
+    assertThat(secondUserTopics.getResultSet()).hasSize(30);
+    verify(handleDbRequests, times(1)).getSyncTopics(eq("1"), any(), eq(TENANT_ID));
+  }
+
+  @Test
+  @Order(11)
+  public void refreshClusterTopicsFetchesTopicsAgain() throws Exception {
+    stubUserInfo();
+    mockClusterTopics();
+
+    topicSyncControllerService.getSyncTopics("1", "1", "", null, "true", false);
+    topicSyncControllerService.refreshClusterTopics("1");
+    topicSyncControllerService.getSyncTopics("1", "1", "", null, "true", false);
+
+    verify(clusterApiService, times(2))
+        .getAllTopics(
+            anyString(), any(KafkaSupportedProtocol.class), anyString(), any(), isNull(), anyInt());
+  }
+
+  @Test
+  @Order(12)
+  public void updateSyncTopicsBulkFetchesOnlySearchedTopicsFromCluster() throws Exception {
+    stubUserInfo();
+    mockClusterTopics();
+    when(clusterApiService.getAllTopics(
+            anyString(),
+            any(KafkaSupportedProtocol.class),
+            anyString(),
+            any(),
+            eq(".*\\Qtopic1\\E.*"),
+            anyInt()))
+        .thenReturn(utilMethods.getClusterApiTopics("topic1", 1));
+    SyncTopicsBulk syncTopicsBulk = new SyncTopicsBulk();
+    syncTopicsBulk.setSourceEnv("1");
+    syncTopicsBulk.setSelectedTeam("Team1");
+    syncTopicsBulk.setTypeOfSync("ALL_TOPICS");
+    syncTopicsBulk.setTopicSearchFilter("topic1");
+
+    ApiResponse retval = topicSyncControllerService.updateSyncTopicsBulk(syncTopicsBulk);
+
+    assertThat(retval.isSuccess()).isTrue();
+    verify(clusterApiService, never())
+        .getAllTopics(
+            anyString(), any(KafkaSupportedProtocol.class), anyString(), any(), isNull(), anyInt());
+  }
+
+  private void mockClusterTopics() throws Exception {
+    when(manageDatabase.getKafkaEnvList(anyInt())).thenReturn(utilMethods.getEnvLists());
+    when(clusterApiService.getAllTopics(
+            anyString(), any(KafkaSupportedProtocol.class), anyString(), any(), isNull(), anyInt()))
+        .thenReturn(utilMethods.getClusterApiTopics("topic", 30));
+    when(handleDbRequests.getAllTeamsOfUsers(anyString(), anyInt()))
+        .thenReturn(getAvailableTeams());
+    when(manageDatabase.getClusters(any(KafkaClustersType.class), anyInt()))
+        .thenReturn(clustersHashMap);
+    when(clustersHashMap.get(any())).thenReturn(kwClusters);
+    when(kwClusters.getBootstrapServers()).thenReturn("clusters");
+    when(kwClusters.getProtocol()).thenReturn(KafkaSupportedProtocol.PLAINTEXT);
+    when(kwClusters.getClusterName()).thenReturn("cluster");
+    when(commonUtilsService.deriveCurrentPage(anyString(), anyString(), anyInt()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+  }
+
   private List<Team> getAvailableTeams() {
 
     Team team1 = new Team();
@@ -469,11 +553,6 @@ public class TopicSyncControllerServiceTest {
     return topic;
   }
 
-  private ResponseEntity<ApiResponse> createAPIResponse(String resultStatus) {
-    return ResponseEntity.status(HttpStatus.OK)
-        .body(ApiResponse.builder().message(resultStatus).build());
-  }
-
   private void mockMultipleTopics() {
 
     when(handleDbRequests.requestForTopic(any()))
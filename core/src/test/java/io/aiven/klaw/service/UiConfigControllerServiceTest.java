@@ -1,6 +1,9 @@
 package io.aiven.klaw.service;
 
+import static io.aiven.klaw.error.KlawErrorMessages.UI_CONFIG_ERR_101;
+import static io.aiven.klaw.error.KlawErrorMessages.UI_CONFIG_ERR_102;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -9,14 +12,19 @@ import static org.mockito.Mockito.when;
 
 import io.aiven.klaw.UtilMethods;
 import io.aiven.klaw.config.ManageDatabase;
+import io.aiven.klaw.dao.ActivityLog;
 import io.aiven.klaw.dao.Env;
 import io.aiven.klaw.dao.KwClusters;
 import io.aiven.klaw.dao.UserInfo;
+import io.aiven.klaw.error.KlawValidationException;
 import io.aiven.klaw.helpers.db.rdbms.HandleDbRequestsJdbc;
 import io.aiven.klaw.model.enums.KafkaClustersType;
 import io.aiven.klaw.model.requests.EnvModel;
 import io.aiven.klaw.model.requests.UserInfoModel;
+import io.aiven.klaw.model.response.ActivityLogPage;
 import io.aiven.klaw.model.response.EnvModelResponse;
+import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -29,6 +37,7 @@ import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -228,6 +237,130 @@ public class UiConfigControllerServiceTest {
     assertThat(envsList.size()).isEqualTo(2);
   }
 
+  @Test
+  @Order(10)
+  public void getActivityLogPageReturnsNextPageToken() throws Exception {
+    setUpUiConfigControllerService();
+    when(handleDbRequests.getActivityLog(
+            eq("kwusera"),
+            eq("1"),
+            eq(true),
+            eq(Timestamp.valueOf("2026-10-01 00:00:00")),
+            eq(Timestamp.valueOf("2026-10-18 00:00:00")),
+            eq(Integer.MIN_VALUE),
+            eq(PageRequest.of(0, 3)),
+            eq(101)))
+        .thenReturn(getActivityLogs(1003, 1002, 1001));
+
+    ActivityLogPage firstPage =
+        uiConfigControllerService.getActivityLogPage(
+            "1", LocalDate.of(2026, 10, 1), LocalDate.of(2026, 10, 17), false, null, 2);
+
+    assertThat(firstPage.getEntries())
+        .extracting(ActivityLog::getReq_no)
+        .containsExactly(1003, 1002);
+    assertThat(firstPage.getEntries().get(0).getTeam()).isEqualTo("Octopus");
+    assertThat(firstPage.getNextPageToken()).isNotNull();
+
+    // the next page starts after the last row of the first page
+    when(handleDbRequests.getActivityLog(
+            eq("kwusera"),
+            eq("1"),
+            eq(true),
+            any(Timestamp.class),
+            eq(new Timestamp(1002_000L)),
+            eq(1002),
+            eq(PageRequest.of(0, 3)),
+            eq(101)))
+        .thenReturn(getActivityLogs(1001));
+
+    ActivityLogPage secondPage =
+        uiConfigControllerService.getActivityLogPage(
+            "1",
+            LocalDate.of(2026, 10, 1),
+            LocalDate.of(2026, 10, 17),
+            false,
+            firstPage.getNextPageToken(),
+            2);
+
+    assertThat(secondPage.getEntries()).extracting(ActivityLog::getReq_no).containsExactly(1001);
+    assertThat(secondPage.getNextPageToken()).isNull();
+  }
+
+  @Test
+  @Order(11)
+  public void getActivityLogPageRejectsInvalidInput() {
+    setUpUiConfigControllerService();
+
+    assertThatThrownBy(
+            () ->
+                uiConfigControllerService.getActivityLogPage(
+                    "1", null, null, false, "not a token", 20))
+        .isInstanceOf(KlawValidationException.class)
+        .hasMessage(UI_CONFIG_ERR_101);
+    assertThatThrownBy(
+            () ->
+                uiConfigControllerService.getActivityLogPage(
+                    "1", LocalDate.of(2026, 10, 2), LocalDate.of(2026, 10, 1), false, null, 20))
+        .isInstanceOf(KlawValidationException.class)
+        .hasMessage(UI_CONFIG_ERR_102);
+  }
+
+  @Test
+  @Order(12)
+  public void showActivityLogReadsOnlyTheRequestedPage() {
+    setUpUiConfigControllerService();
+    when(commonUtilsService.isNotAuthorizedUser(any(), any())).thenReturn(true);
+    when(commonUtilsService.deriveCurrentPage("2", "", 3)).thenReturn("2");
+    when(handleDbRequests.countActivityLog(
+            eq("kwusera"), eq(""), eq(false), any(Timestamp.class), any(Timestamp.class), eq(101)))
+        .thenReturn(45L);
+    when(handleDbRequests.getActivityLog(
+            eq("kwusera"),
+            eq(""),
+            eq(false),
+            any(Timestamp.class),
+            any(Timestamp.class),
+            eq(Integer.MIN_VALUE),
+            eq(PageRequest.of(1, 20)),
+            eq(101)))
+        .thenReturn(getActivityLogs(1025, 1024));
+
+    List<ActivityLog> activityLogs = uiConfigControllerService.showActivityLog("", "2", "");
+
+    assertThat(activityLogs).extracting(ActivityLog::getReq_no).containsExactly(1025, 1024);
+    assertThat(activityLogs.get(0).getTotalNoPages()).isEqualTo("3");
+    assertThat(activityLogs.get(0).getCurrentPage()).isEqualTo("2");
+  }
+
+  private void setUpUiConfigControllerService() {
+    uiConfigControllerService = new UiConfigControllerService();
+    ReflectionTestUtils.setField(uiConfigControllerService, "manageDatabase", manageDatabase);
+    ReflectionTestUtils.setField(uiConfigControllerService, "mailService", mailService);
+    ReflectionTestUtils.setField(
+        uiConfigControllerService, "commonUtilsService", commonUtilsService);
+    when(mailService.getUserName(any())).thenReturn("kwusera");
+    when(commonUtilsService.getTenantId("kwusera")).thenReturn(101);
+    when(manageDatabase.getKafkaEnvList(101)).thenReturn(getAllEnvs());
+    when(manageDatabase.getTeamNameFromTeamId(101, 10)).thenReturn("Octopus");
+  }
+
+  private List<ActivityLog> getActivityLogs(int... reqNos) {
+    List<ActivityLog> activityLogs = new ArrayList<>();
+    for (int reqNo : reqNos) {
+      ActivityLog activityLog = new ActivityLog();
+      activityLog.setReq_no(reqNo);
+      activityLog.setTenantId(101);
+      activityLog.setActivityName("TopicRequest");
+      activityLog.setActivityTime(new Timestamp(reqNo * 1000L));
+      activityLog.setDetails("testtopic");
+      activityLog.setEnv("1");
+      activityLog.setTeamId(10);
+      activityLogs.add(activityLog);
+    }
+    return activityLogs;
+  }
+
   private Map<Integer, KwClusters> getSchemaRegistryClusters() {
     Map<Integer, KwClusters> map = new HashMap<>();
     UtilMethods util = new UtilMethods();